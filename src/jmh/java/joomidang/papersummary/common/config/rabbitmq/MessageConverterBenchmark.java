@@ -0,0 +1,91 @@
+package joomidang.papersummary.common.config.rabbitmq;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import joomidang.papersummary.common.config.rabbitmq.payload.SummaryRequestedPayload;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+/**
+ * RabbitMQ 메시지 변환 벤치마크
+ * <p>
+ * 기존 JSON 변환기(통계 이벤트는 Map)와 typed record + Smile 변환기의 메시지당 직렬화/역직렬화 시간을 비교한다. 메시지 크기(바이트)는 Setup에서
+ * 한 번 출력한다.
+ * <p>
+ * 실행: ./gradlew jmh -Pjmh.includes=MessageConverterBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MessageConverterBenchmark {
+    private static final Type SUMMARY_REQUESTED_TYPE =
+            new TypeReference<PaperEventEnvelop<SummaryRequestedPayload>>() {
+            }.getType();
+
+    @Param({"stats", "summaryRequested"})
+    private String event;
+
+    private final MessageConverter json = new Jackson2JsonMessageConverter();
+    private final MessageConverter smile = new SmileMessageConverter();
+
+    private Object legacyPayload;
+    private Object typedPayload;
+    private Type inferredType;
+    private Message jsonMessage;
+    private Message smileMessage;
+
+    @Setup
+    public void setUp() {
+        if ("stats".equals(event)) {
+            legacyPayload = Map.of("summaryId", 123_456L, "type", "VIEW");
+            typedPayload = new StatsEvent(123_456L, StatsType.VIEW);
+            inferredType = StatsEvent.class;
+        } else {
+            SummaryRequestedPayload payload = new SummaryRequestedPayload(123_456L,
+                    "https://paper-summary.s3.ap-northeast-2.amazonaws.com/parsed/123456/paper.md",
+                    "https://paper-summary.s3.ap-northeast-2.amazonaws.com/parsed/123456/content_list.json",
+                    "다음 논문을 한국어로 요약해 주세요.", "ko");
+            legacyPayload = new PaperEventEnvelop<>(PaperEventType.SUMMARY_REQUESTED, payload);
+            typedPayload = legacyPayload;
+            inferredType = SUMMARY_REQUESTED_TYPE;
+        }
+        jsonMessage = json.toMessage(legacyPayload, new MessageProperties());
+        smileMessage = smile.toMessage(typedPayload, new MessageProperties());
+        System.out.printf("%n[%s] message bytes: json=%d, smile=%d%n",
+                event, jsonMessage.getBody().length, smileMessage.getBody().length);
+    }
+
+    @Benchmark
+    public Message jsonSerialize() {
+        return json.toMessage(legacyPayload, new MessageProperties());
+    }
+
+    @Benchmark
+    public Message smileSerialize() {
+        return smile.toMessage(typedPayload, new MessageProperties());
+    }
+
+    @Benchmark
+    public Object jsonDeserialize() {
+        jsonMessage.getMessageProperties().setInferredArgumentType(inferredType);
+        return json.fromMessage(jsonMessage);
+    }
+
+    @Benchmark
+    public Object smileDeserialize() {
+        smileMessage.getMessageProperties().setInferredArgumentType(inferredType);
+        return smile.fromMessage(smileMessage);
+    }
+}
@@ -0,0 +1,127 @@
+package joomidang.papersummary.common.config.rabbitmq;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+
+/**
+ * 발행 확인 방식별 처리량 벤치마크
+ * <p>
+ * 실제 브로커 대신 confirmLatencyMicros 뒤에 별도 스레드에서 ack를 돌려주는 RabbitTemplate을 사용한다.
+ * <p>
+ * - noConfirm: 기존 convertAndSend (확인 없음, 유실 여부를 알 수 없음)
+ * <p>
+ * - syncConfirm: 메시지마다 confirm을 기다림
+ * <p>
+ * - asyncConfirm: ConfirmingRabbitPublisher (in-flight 창 안에서 비동기 확인)
+ * <p>
+ * 실행: ./gradlew jmh -Pjmh.includes=PublisherConfirmBenchmark (결과 단위는 메시지/초)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PublisherConfirmBenchmark {
+    private static final int MESSAGES = 1_000;
+
+    @Param({"200"})
+    private long confirmLatencyMicros;
+
+    @Param({"256"})
+    private int maxInFlight;
+
+    private ScheduledExecutorService broker;
+    private RabbitTemplate rabbitTemplate;
+    private ConfirmingRabbitPublisher publisher;
+    private Map<String, Object> payload;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        broker = Executors.newScheduledThreadPool(2);
+        rabbitTemplate = new StandInRabbitTemplate(broker, confirmLatencyMicros);
+        rabbitTemplate.setMessageConverter(new Jackson2JsonMessageConverter());
+
+        RabbitPublisherProperties properties = new RabbitPublisherProperties();
+        properties.setMaxInFlight(maxInFlight);
+        properties.setAcquireTimeout(Duration.ofSeconds(30));
+        publisher = new ConfirmingRabbitPublisher(rabbitTemplate, properties, new SimpleMeterRegistry());
+        payload = Map.of("summaryId", 1L, "type", "VIEW");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        publisher.shutdown();
+        broker.shutdownNow();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public void noConfirm() {
+        for (int i = 0; i < MESSAGES; i++) {
+            rabbitTemplate.convertAndSend(RabbitMQConfig.EXCHANGE, RabbitMQConfig.ROUTING_KEY_STATS, payload);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public void syncConfirm() throws Exception {
+        for (int i = 0; i < MESSAGES; i++) {
+            CorrelationData correlationData = new CorrelationData();
+            Message message = rabbitTemplate.getMessageConverter().toMessage(payload, new MessageProperties());
+            rabbitTemplate.send(RabbitMQConfig.EXCHANGE, RabbitMQConfig.ROUTING_KEY_STATS, message, correlationData);
+            correlationData.getFuture().get(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public void asyncConfirm() {
+        List<CompletableFuture<Void>> results = new ArrayList<>(MESSAGES);
+        for (int i = 0; i < MESSAGES; i++) {
+            results.add(publisher.publish(RabbitMQConfig.EXCHANGE, RabbitMQConfig.ROUTING_KEY_STATS, payload));
+        }
+        CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).join();
+    }
+
+    /**
+     * 메시지를 버리고 일정 지연 뒤 ack만 돌려주는 브로커 대역
+     */
+    private static final class StandInRabbitTemplate extends RabbitTemplate {
+        private final ScheduledExecutorService broker;
+        private final long confirmLatencyMicros;
+
+        private StandInRabbitTemplate(ScheduledExecutorService broker, long confirmLatencyMicros) {
+            this.broker = broker;
+            this.confirmLatencyMicros = confirmLatencyMicros;
+        }
+
+        @Override
+        public void send(String exchange, String routingKey, Message message, CorrelationData correlationData) {
+            if (correlationData != null) {
+                broker.schedule(() -> correlationData.getFuture().complete(new CorrelationData.Confirm(true, null)),
+                        confirmLatencyMicros, TimeUnit.MICROSECONDS);
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package joomidang.papersummary.common.config.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import joomidang.papersummary.common.util.VectorUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+/**
+ * 임베딩 벡터 파이프라인 벤치마크
+ * <p>
+ * 임베딩 캐시 저장/조회 후 ES 쿼리 벡터를 만드는 구간을 기존 방식(JSON 직렬화 → List 복원 → float[] 변환 → ArrayList 복사)과 float[]
+ * 파이프라인(바이너리 직렬화 → List 뷰)으로 나누어 비교한다.
+ * <p>
+ * 실행: ./gradlew jmh -Pjmh.includes=VectorPipelineBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class VectorPipelineBenchmark {
+
+    @Param({"384", "768"})
+    private int dimension;
+
+    // RedisConfig와 동일하게 타입 정보 없이 직렬화 (역직렬화 시 List<Double>로 복원)
+    private final GenericJackson2JsonRedisSerializer jsonSerializer =
+            new GenericJackson2JsonRedisSerializer(new ObjectMapper().deactivateDefaultTyping());
+    private final FloatArrayRedisSerializer binarySerializer = new FloatArrayRedisSerializer();
+
+    private float[] vector;
+    private byte[] jsonBytes;
+    private byte[] binaryBytes;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        vector = new float[dimension];
+        for (int i = 0; i < dimension; i++) {
+            vector[i] = random.nextFloat() * 2 - 1;
+        }
+        jsonBytes = jsonSerializer.serialize(vector);
+        binaryBytes = binarySerializer.serialize(vector);
+    }
+
+    @Benchmark
+    public List<Float> legacyPipeline() {
+        // 기존 방식: JSON 캐시 → Object(List<Double>) → float[] → ArrayList<Float>
+        byte[] stored = jsonSerializer.serialize(vector);
+        Object cached = jsonSerializer.deserialize(stored);
+        float[] embedding = toFloatArray(cached);
+
+        List<Float> queryVector = new ArrayList<>(embedding.length);
+        for (float f : embedding) {
+            queryVector.add(f);
+        }
+        return queryVector;
+    }
+
+    @Benchmark
+    public List<Float> floatArrayPipeline() {
+        byte[] stored = binarySerializer.serialize(vector);
+        float[] embedding = binarySerializer.deserialize(stored);
+        return VectorUtils.asList(embedding);
+    }
+
+    @Benchmark
+    public Object legacyCacheRead() {
+        return toFloatArray(jsonSerializer.deserialize(jsonBytes));
+    }
+
+    @Benchmark
+    public float[] binaryCacheRead() {
+        return binarySerializer.deserialize(binaryBytes);
+    }
+
+    private static float[] toFloatArray(Object cached) {
+        if (cached instanceof float[] floats) {
+            return floats;
+        }
+        List<?> list = (List<?>) cached;
+        float[] result = new float[list.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = ((Number) list.get(i)).floatValue();
+        }
+        return result;
+    }
+}
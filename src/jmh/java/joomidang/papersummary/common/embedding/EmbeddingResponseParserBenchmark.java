@@ -0,0 +1,99 @@
+package joomidang.papersummary.common.embedding;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 임베딩 응답 파싱 벤치마크
+ * <p>
+ * 기존 방식(String → JsonNode 트리 → List&lt;Float&gt;)과 스트리밍 파서(byte stream → float[])의 응답당 지연시간과 할당량을 비교한다.
+ * <p>
+ * 실행: ./gradlew jmh -Pjmh.includes=EmbeddingResponseParserBenchmark (gc.alloc.rate.norm 항목이 응답당 할당 바이트)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmbeddingResponseParserBenchmark {
+
+    @Param({"plain", "batch", "typed"})
+    private String shape;
+
+    @Param({"384"})
+    private int dimension;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private EmbeddingResponseParser parser;
+    private byte[] body;
+
+    @Setup
+    public void setUp() {
+        parser = new EmbeddingResponseParser(objectMapper.getFactory(), dimension);
+        body = buildResponse(shape, dimension).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public List<Float> treeParse() throws IOException {
+        // 기존 HuggingFaceEmbeddingClient 방식: 본문 전체를 String으로 만든 뒤 JsonNode 트리를 통해 박싱된 List 생성
+        String responseBody = new String(body, StandardCharsets.UTF_8);
+        JsonNode current = objectMapper.readTree(responseBody);
+        if (current.size() == 2 && current.get(0).isTextual() && current.get(1).isArray()) {
+            current = current.get(1);
+        }
+        while (current.isArray() && current.size() > 0 && current.get(0).isArray()
+                && !current.get(0).get(0).isTextual()) {
+            current = current.get(0);
+        }
+        List<Float> embedding = new ArrayList<>();
+        for (JsonNode elem : current) {
+            if (elem.isArray() && elem.size() == 2 && elem.get(1).isNumber()) {
+                embedding.add((float) elem.get(1).asDouble());
+            } else {
+                embedding.add((float) elem.asDouble());
+            }
+        }
+        return embedding;
+    }
+
+    @Benchmark
+    public float[] streamingParse() throws IOException {
+        return parser.parse(new ByteArrayInputStream(body));
+    }
+
+    private static String buildResponse(String shape, int dimension) {
+        Random random = new Random(42);
+        StringBuilder vector = new StringBuilder("[");
+        for (int i = 0; i < dimension; i++) {
+            if (i > 0) {
+                vector.append(',');
+            }
+            float value = random.nextFloat() * 2 - 1;
+            if ("typed".equals(shape)) {
+                vector.append("[\"java.lang.Float\",").append(value).append(']');
+            } else {
+                vector.append(value);
+            }
+        }
+        vector.append(']');
+
+        return switch (shape) {
+            case "batch" -> "[" + vector + "]";
+            case "typed" -> "[\"java.util.ArrayList\"," + vector + "]";
+            default -> vector.toString();
+        };
+    }
+}
@@ -0,0 +1,93 @@
+package joomidang.papersummary.common.service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 노드 하나가 유지하는 SSE 연결 수에 따른 하트비트/이벤트 전송 비용 벤치마크
+ * <p>
+ * 소켓 대신 이벤트를 직렬화만 하고 버리는 SseEmitter를 사용해, 연결 수가 늘어날 때 서버 쪽 처리 비용(타이밍 휠 순회, 이벤트 포맷팅, 동기화)이 어떻게
+ * 늘어나는지 본다. (Tomcat NIO는 비동기 연결에 스레드를 잡지 않으므로 연결 수 한계는 이 비용과 힙 사용량이 결정)
+ * <p>
+ * - heartbeatTick: 타이밍 휠 tick 한 번 (연결 수 / slots개에 핑). 하트비트 주기(15초) 동안 slots번 실행되므로 tick 시간 × slots가 주기당
+ * 하트비트 CPU 시간이다.
+ * <p>
+ * - heartbeatAllAtOnce: 휠 없이 모든 연결에 한 번에 핑 (비교용, 한 번에 몰리는 버스트 크기)
+ * <p>
+ * - fanOut: 회원 스트림 하나에 붙은 연결 수만큼 이벤트 한 건 전송
+ * <p>
+ * 실행: ./gradlew jmh -Pjmh.includes=SseConnectionBenchmark (-prof gc로 연결당 할당량 확인)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SseConnectionBenchmark {
+
+    @Param({"1000", "10000", "50000"})
+    private int connections;
+
+    @Param({"15"})
+    private int slots;
+
+    private SseHeartbeatWheel wheel;
+    private List<SseConnection> all;
+    private SseRelayMessage message;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        wheel = new SseHeartbeatWheel(slots);
+        all = new ArrayList<>(connections);
+        for (int i = 0; i < connections; i++) {
+            SseConnection connection = new SseConnection("paper:" + i, new DiscardingEmitter(), false);
+            wheel.add(connection);
+            all.add(connection);
+        }
+        message = new SseRelayMessage(1L, 1L, 1L, "parsing_completed",
+                Map.of("message", "논문 파싱이 완료되었습니다.", "paperId", 1L), false, "node", 0L);
+    }
+
+    @Benchmark
+    public List<SseConnection> heartbeatTick() {
+        return wheel.tick();
+    }
+
+    @Benchmark
+    public void heartbeatAllAtOnce(Blackhole blackhole) {
+        for (SseConnection connection : all) {
+            blackhole.consume(connection.heartbeat());
+        }
+    }
+
+    @Benchmark
+    public void fanOut() throws IOException {
+        for (SseConnection connection : all) {
+            connection.offer(message);
+        }
+    }
+
+    /**
+     * 이벤트를 SSE 형식으로 만들기만 하고 버리는 이미터
+     */
+    private static class DiscardingEmitter extends SseEmitter {
+        private int sink;
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            sink += builder.build().size();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package joomidang.papersummary.common.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import joomidang.papersummary.common.embedding.HeuristicTokenCounter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 마크다운 청커 벤치마크 (약 1MB 문서)
+ * <p>
+ * 기존 방식(split → StringBuilder → trim, length/4 토큰 추정)과 CharSequence 뷰 기반 청커를 비교한다. 청크 수 차이는 한글 토큰 수를 제대로 세면서 생기는
+ * 정상적인 차이다.
+ * <p>
+ * 실행: ./gradlew jmh -Pjmh.includes=MarkdownChunkerBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MarkdownChunkerBenchmark {
+    private static final int MAX_TOKENS = 512;
+
+    @Param({"1048576"})
+    private int documentChars;
+
+    @Param({"0", "64"})
+    private int overlapTokens;
+
+    private String markdown;
+    private MarkdownChunker chunker;
+
+    @Setup
+    public void setUp() {
+        markdown = buildDocument(documentChars);
+        chunker = new MarkdownChunker(new HeuristicTokenCounter(), MAX_TOKENS, overlapTokens);
+    }
+
+    @Benchmark
+    public List<String> legacyChunkBySection() {
+        // 기존 MarkdownChunker.chunkBySection 구현
+        List<String> chunks = new ArrayList<>();
+        String[] lines = markdown.split("\n");
+
+        StringBuilder currentChunk = new StringBuilder();
+        int currentTokenCount = 0;
+
+        for (String line : lines) {
+            int lineTokens = line.length() / 4;
+
+            if (line.trim().startsWith("#") && currentChunk.length() > 0) {
+                chunks.add(currentChunk.toString().trim());
+                currentChunk = new StringBuilder();
+                currentTokenCount = 0;
+            }
+
+            if (currentTokenCount + lineTokens > MAX_TOKENS) {
+                chunks.add(currentChunk.toString().trim());
+                currentChunk = new StringBuilder();
+                currentTokenCount = 0;
+            }
+
+            currentChunk.append(line).append("\n");
+            currentTokenCount += lineTokens;
+        }
+
+        if (currentChunk.length() > 0) {
+            chunks.add(currentChunk.toString().trim());
+        }
+        return chunks;
+    }
+
+    @Benchmark
+    public List<CharSequence> streamingChunk() {
+        return chunker.chunk(markdown);
+    }
+
+    /**
+     * 헤더, 한글/영문 문단, 코드 블록이 섞인 논문 요약 형태의 문서 생성
+     */
+    private static String buildDocument(int targetChars) {
+        Random random = new Random(42);
+        String[] korean = {"논문은", "트랜스포머", "기반의", "요약", "모델을", "제안하며", "실험", "결과", "성능이", "향상되었다."};
+        String[] english = {"attention", "model", "dataset", "baseline", "improves", "accuracy", "by", "large", "margin."};
+
+        StringBuilder document = new StringBuilder(targetChars + 1024);
+        int section = 0;
+        while (document.length() < targetChars) {
+            document.append("## ").append(++section).append(". 섹션 제목\n\n");
+            int paragraphs = 2 + random.nextInt(4);
+            for (int p = 0; p < paragraphs; p++) {
+                int words = 30 + random.nextInt(60);
+                for (int w = 0; w < words; w++) {
+                    String[] source = random.nextInt(3) == 0 ? english : korean;
+                    document.append(source[random.nextInt(source.length)]).append(' ');
+                }
+                document.append("\n\n");
+            }
+            if (section % 5 == 0) {
+                document.append("```python\n# 학습 루프\nfor batch in loader:\n    loss = model(batch)\n```\n\n");
+            }
+        }
+        return document.toString();
+    }
+}
@@ -0,0 +1,113 @@
+package joomidang.papersummary.common.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 벡터 연산 커널 벤치마크
+ * <p>
+ * 같은 입력으로 스칼라 커널과 VectorUtils가 선택한 커널(Vector API 사용 가능 시 SIMD)을 비교한다. 일대다 유사도는 후보 100개 기준.
+ * <p>
+ * 실행: ./gradlew jmh -Pjmh.includes=VectorUtilsBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class VectorUtilsBenchmark {
+
+    @Param({"384", "768"})
+    private int dimension;
+
+    @Param({"100"})
+    private int candidateCount;
+
+    private final VectorKernels scalar = new ScalarVectorKernels();
+    private final VectorKernels kernels = VectorUtils.loadKernels();
+
+    private float[] a;
+    private float[] b;
+    private List<float[]> candidates;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        a = randomVector(random, dimension);
+        b = randomVector(random, dimension);
+        candidates = new ArrayList<>(candidateCount);
+        for (int i = 0; i < candidateCount; i++) {
+            candidates.add(randomVector(random, dimension));
+        }
+    }
+
+    @Benchmark
+    public float scalarDot() {
+        return scalar.dot(a, b);
+    }
+
+    @Benchmark
+    public float vectorDot() {
+        return kernels.dot(a, b);
+    }
+
+    @Benchmark
+    public float scalarCosine() {
+        return scalar.cosine(a, b);
+    }
+
+    @Benchmark
+    public float vectorCosine() {
+        return kernels.cosine(a, b);
+    }
+
+    @Benchmark
+    public float[] scalarAverage() {
+        float[] avg = new float[dimension];
+        for (float[] candidate : candidates) {
+            scalar.add(avg, candidate);
+        }
+        scalar.scale(avg, 1f / candidates.size());
+        return avg;
+    }
+
+    @Benchmark
+    public float[] vectorAverage() {
+        return VectorUtils.average(candidates);
+    }
+
+    @Benchmark
+    public float[] scalarCosineAll() {
+        float[] scores = new float[candidates.size()];
+        for (int i = 0; i < scores.length; i++) {
+            scores[i] = scalar.cosine(a, candidates.get(i));
+        }
+        return scores;
+    }
+
+    @Benchmark
+    public float[] vectorCosineAll() {
+        return VectorUtils.cosineAll(a, candidates);
+    }
+
+    @Benchmark
+    public float[] normalize() {
+        return VectorUtils.normalize(a);
+    }
+
+    private static float[] randomVector(Random random, int dim) {
+        float[] vector = new float[dim];
+        for (int i = 0; i < dim; i++) {
+            vector[i] = random.nextFloat() * 2 - 1;
+        }
+        return vector;
+    }
+}
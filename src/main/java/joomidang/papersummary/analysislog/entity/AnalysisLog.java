@@ -59,6 +59,10 @@ public class AnalysisLog extends BaseTimeEntity {
     @Column(name = "completed_at")
     private LocalDateTime completedAt;
 
+    // 현재 단계로 들어온(생성/단계 전환) 시각, 단계가 처음 시작되면 비운다 (대기 시간을 단계마다 한 번만 기록)
+    @Column(name = "enqueued_at")
+    private LocalDateTime enqueuedAt;
+
     @Column(name = "error_message")
     private String errorMessage;
 
@@ -78,6 +82,7 @@ public class AnalysisLog extends BaseTimeEntity {
         this.startedAt = LocalDateTime.now();
         this.completedAt = null;
         this.errorMessage = null;
+        this.enqueuedAt = null;
     }
 
     /**
@@ -107,6 +112,7 @@ public class AnalysisLog extends BaseTimeEntity {
      */
     public void updateStage(AnalysisStage stage) {
         this.stage = stage;
+        this.enqueuedAt = LocalDateTime.now();
     }
 }
 
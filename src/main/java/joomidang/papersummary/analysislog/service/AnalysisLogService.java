@@ -1,9 +1,13 @@
 package joomidang.papersummary.analysislog.service;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import joomidang.papersummary.analysislog.entity.AnalysisLog;
 import joomidang.papersummary.analysislog.entity.AnalysisStage;
 import joomidang.papersummary.analysislog.exception.AnalysisLogNotFoundException;
 import joomidang.papersummary.analysislog.repository.AnalysisLogRepository;
+import joomidang.papersummary.common.metrics.PipelineLatencyMetrics;
+import joomidang.papersummary.paper.admission.AdmissionControl;
 import joomidang.papersummary.paper.service.PaperService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,8 +19,13 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 @RequiredArgsConstructor
 public class AnalysisLogService {
+    // 이 단계가 끝나면 분석 전체가 끝난 것으로 본다 (end-to-end 지연시간 기록)
+    private static final AnalysisStage FINAL_STAGE = AnalysisStage.GPT;
+
     private final PaperService paperService;
     private final AnalysisLogRepository analysisLogRepository;
+    private final PipelineLatencyMetrics latencyMetrics;
+    private final AdmissionControl admissionControl;
 
     public void updateAnalysisLogStage(Long paperId, AnalysisStage beforeStage, AnalysisStage afterStage) {
         log.info("AnalysisLog 단계 업데이트");
@@ -25,6 +34,7 @@ public class AnalysisLogService {
                 .orElseThrow(() -> new AnalysisLogNotFoundException(paperId, beforeStage));
 
         analysisLog.updateStage(afterStage);
+        latencyMetrics.recordTransition(beforeStage.name(), afterStage.name());
     }
 
     /**
@@ -35,6 +45,11 @@ public class AnalysisLogService {
         AnalysisLog analysisLog = analysisLogRepository
                 .findTopByPaperIdAndStageOrderByStartedAtDesc(paperId, stage)
                 .orElseThrow(() -> new AnalysisLogNotFoundException(paperId, stage));
+
+        // 이 단계로 들어온 뒤 처음 시작하는 경우만 대기 시간 기록 (pending()이 enqueuedAt을 비우므로 재시도 시에는 기록하지 않음)
+        if (analysisLog.getEnqueuedAt() != null) {
+            latencyMetrics.recordQueued(stage.name(), elapsedSince(analysisLog.getEnqueuedAt()));
+        }
         analysisLog.pending();
     }
 
@@ -48,6 +63,7 @@ public class AnalysisLogService {
                 .orElseThrow(() -> new AnalysisLogNotFoundException(paperId, stage));
 
         analysisLog.complete();
+        finishStage(paperId, analysisLog, stage, PipelineLatencyMetrics.OUTCOME_SUCCESS);
 
         log.info("분석 로그 성공 처리 완료 → paperId={}, stage={}", paperId, stage);
     }
@@ -62,7 +78,27 @@ public class AnalysisLogService {
                 .orElseThrow(() -> new AnalysisLogNotFoundException(paperId, stage));
 
         analysisLog.fail(errorMessage);
+        finishStage(paperId, analysisLog, stage, PipelineLatencyMetrics.OUTCOME_FAILURE);
 
         log.info("분석 로그 실패 처리 완료 → paperId={}, stage={}, error={}", paperId, stage, errorMessage);
     }
+
+    private void finishStage(Long paperId, AnalysisLog analysisLog, AnalysisStage stage, String outcome) {
+        latencyMetrics.recordStage(stage.name(),
+                Duration.between(analysisLog.getStartedAt(), analysisLog.getCompletedAt()), outcome);
+
+        // 실패는 어느 단계에서든 분석의 끝, 성공은 마지막 단계에서만
+        if (stage != FINAL_STAGE && !PipelineLatencyMetrics.OUTCOME_FAILURE.equals(outcome)) {
+            return;
+        }
+        admissionControl.releaseAnalysisSlot(paperId);
+        if (analysisLog.getCreatedAt() != null) {
+            latencyMetrics.recordEndToEnd(
+                    Duration.between(analysisLog.getCreatedAt(), analysisLog.getCompletedAt()), outcome);
+        }
+    }
+
+    private static Duration elapsedSince(LocalDateTime from) {
+        return Duration.between(from, LocalDateTime.now());
+    }
 }
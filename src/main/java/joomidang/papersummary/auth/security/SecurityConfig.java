@@ -2,7 +2,9 @@ package joomidang.papersummary.auth.security;
 
 import java.util.Arrays;
 import java.util.List;
+import joomidang.papersummary.member.entity.Role;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -34,7 +36,7 @@ public class SecurityConfig {
                 "https://ec2-43-202-9-100.ap-northeast-2.compute.amazonaws.com",
                 "https://paper-dev-test-magic-pdf-output.s3.ap-northeast-2.amazonaws.com"
         ));
-        configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS"));
+        configuration.setAllowedMethods(Arrays.asList("GET", "HEAD", "POST", "PUT", "DELETE", "PATCH", "OPTIONS"));
         configuration.setAllowedHeaders(Arrays.asList(
                 "Authorization", 
                 "Content-Type", 
@@ -42,10 +44,14 @@ public class SecurityConfig {
                 "Origin", 
                 "X-Requested-With", 
                 "Access-Control-Request-Method", 
-                "Access-Control-Request-Headers"));
+                "Access-Control-Request-Headers",
+                "Upload-Offset"));
         configuration.setExposedHeaders(Arrays.asList(
                 "Access-Control-Allow-Origin", 
-                "Access-Control-Allow-Credentials"));
+                "Access-Control-Allow-Credentials",
+                "Location",
+                "Upload-Offset",
+                "Upload-Length"));
         configuration.setAllowCredentials(true);
         configuration.setMaxAge(3600L);
 
@@ -77,6 +83,7 @@ public class SecurityConfig {
                                 "/swagger-ui/**",
                                 "/api-docs/**",
                                 "/api/debug/**",
+                                "/local-s3/**",
                                 "/v3/api-docs/**",
                                 "/favicon.ico",
                                 "/robots.txt")
@@ -93,6 +100,8 @@ public class SecurityConfig {
                                 "/sellers.json",
                                 "/geoserver/**"
                         ).denyAll()
+                        // 운영 상태를 바꾸거나 회원 정보가 드러나는 actuator 엔드포인트는 관리자만
+                        .requestMatchers(EndpointRequest.to("deadletters", "parsingqueue")).hasRole(Role.ADMIN.name())
                         .anyRequest().authenticated()
                 )
                 .addFilterBefore(new JwtAuthenticationFilter(tokenProvider),
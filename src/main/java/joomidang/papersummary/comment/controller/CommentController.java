@@ -22,6 +22,7 @@ import joomidang.papersummary.comment.controller.response.CommentSuccessCode;
 import joomidang.papersummary.comment.entity.Comment;
 import joomidang.papersummary.comment.service.CommentService;
 import joomidang.papersummary.common.controller.response.ApiResponse;
+import joomidang.papersummary.member.service.ProfileImageUrlResolver;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springdoc.core.annotations.ParameterObject;
@@ -47,6 +48,7 @@ import org.springframework.web.bind.annotation.RestController;
 @Tag(name = "Comment", description = "댓글 관련 API")
 public class CommentController {
     private final CommentService commentService;
+    private final ProfileImageUrlResolver profileImageUrlResolver;
 
     /**
      * 댓글 작성
@@ -113,7 +115,7 @@ public class CommentController {
         log.info("댓글 단건 조회 요청: commentId={}", commentId);
 
         Comment comment = commentService.getCommentById(commentId);
-        CommentResponse response = CommentResponse.from(comment);
+        CommentResponse response = CommentResponse.from(comment, profileImageUrlResolver);
 
         return ResponseEntity.ok(ApiResponse.successWithData(CommentSuccessCode.COMMENT_FETCHED, response));
     }
@@ -1,17 +1,19 @@
 package joomidang.papersummary.comment.controller.response;
 
 import joomidang.papersummary.member.entity.Member;
+import joomidang.papersummary.member.service.ProfileImageSize;
+import joomidang.papersummary.member.service.ProfileImageUrlResolver;
 import lombok.Builder;
 
 @Builder
 public record CommentAuthorResponse(Long id,
                                     String name,
                                     String profileImage) {
-    public static CommentAuthorResponse from(Member member) {
+    public static CommentAuthorResponse from(Member member, ProfileImageUrlResolver profileImageUrlResolver) {
         return CommentAuthorResponse.builder()
                 .id(member.getId())
                 .name(member.getName())
-                .profileImage(member.getProfileImage())
+                .profileImage(profileImageUrlResolver.resolve(member.getProfileImage(), ProfileImageSize.SMALL))
                 .build();
     }
 }
@@ -3,6 +3,7 @@ package joomidang.papersummary.comment.controller.response;
 import java.util.List;
 import java.util.stream.Collectors;
 import joomidang.papersummary.comment.entity.Comment;
+import joomidang.papersummary.member.service.ProfileImageUrlResolver;
 import lombok.Builder;
 import org.springframework.data.domain.Page;
 
@@ -13,9 +14,10 @@ public record CommentListResponse(List<CommentResponse> comments,
                                   long totalElements,
                                   boolean hasNext,
                                   boolean hasPrevious) {
-    public static CommentListResponse from(Page<Comment> commentsPage) {
+    public static CommentListResponse from(Page<Comment> commentsPage,
+                                           ProfileImageUrlResolver profileImageUrlResolver) {
         List<CommentResponse> comments = commentsPage.getContent().stream()
-                .map(CommentResponse::from)
+                .map(comment -> CommentResponse.from(comment, profileImageUrlResolver))
                 .collect(Collectors.toList());
 
         return CommentListResponse.builder()
@@ -5,6 +5,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 import joomidang.papersummary.comment.entity.Comment;
+import joomidang.papersummary.member.service.ProfileImageUrlResolver;
 import lombok.Builder;
 
 @Builder
@@ -17,11 +18,11 @@ public record CommentResponse(Long id,
                               Long parentId,
                               List<CommentResponse> children) {
 
-    public static CommentResponse from(Comment comment) {
+    public static CommentResponse from(Comment comment, ProfileImageUrlResolver profileImageUrlResolver) {
         List<Comment> children = comment.getChildren();
         List<CommentResponse> childrenResponse = children != null ? children.stream()
                 .filter(child -> !child.isDeleted())
-                .map(CommentResponse::from)
+                .map(child -> CommentResponse.from(child, profileImageUrlResolver))
                 .collect(Collectors.toList()) : Collections.emptyList();
         return CommentResponse.builder()
                 .id(comment.getId())
@@ -29,7 +30,7 @@ public record CommentResponse(Long id,
                 .createdAt(comment.getCreatedAt())
                 .updatedAt(comment.getUpdatedAt())
                 .likeCount(comment.getLikeCount())
-                .author(CommentAuthorResponse.from(comment.getMember()))
+                .author(CommentAuthorResponse.from(comment.getMember(), profileImageUrlResolver))
                 .parentId(comment.getParent() != null ? comment.getParent().getId() : null)
                 .children(childrenResponse)
                 .build();
@@ -23,6 +23,7 @@ import joomidang.papersummary.common.config.rabbitmq.StatsEventPublisher;
 import joomidang.papersummary.common.config.rabbitmq.StatsType;
 import joomidang.papersummary.member.entity.Member;
 import joomidang.papersummary.member.service.MemberService;
+import joomidang.papersummary.member.service.ProfileImageUrlResolver;
 import joomidang.papersummary.summary.entity.PublishStatus;
 import joomidang.papersummary.summary.entity.Summary;
 import joomidang.papersummary.summary.service.SummaryService;
@@ -44,6 +45,7 @@ public class CommentService {
     private final MemberService memberService;
     private final CommentLikeRepository commentLikeRepository;
     private final StatsEventPublisher statsEventPublisher;
+    private final ProfileImageUrlResolver profileImageUrlResolver;
 
     /**
      * 댓글 작성
@@ -61,7 +63,7 @@ public class CommentService {
         Comment savedComment = commentRepository.save(comment);
         statsEventPublisher.publish(summaryId, StatsType.COMMENT);
         log.debug("댓글 작성 완료 : commentId={}", savedComment.getContent());
-        return CommentResponse.from(savedComment);
+        return CommentResponse.from(savedComment, profileImageUrlResolver);
     }
 
     /**
@@ -89,7 +91,7 @@ public class CommentService {
         statsEventPublisher.publish(summaryId, StatsType.COMMENT);
         log.debug("대댓글 작성 완료 : replyCommentId={}", savedReplyComment.getId());
 
-        return CommentResponse.from(savedReplyComment);
+        return CommentResponse.from(savedReplyComment, profileImageUrlResolver);
     }
 
     /**
@@ -106,7 +108,7 @@ public class CommentService {
 
         comment.updateContent(content);
 
-        return CommentResponse.from(comment);
+        return CommentResponse.from(comment, profileImageUrlResolver);
     }
 
     /**
@@ -181,7 +183,7 @@ public class CommentService {
         log.info("요약본 댓글 페이징 조회 완료: summaryId={}, 조회된 댓글 수={}, 전체 페이지={}",
                 summaryId, rootCommentsPage.getNumberOfElements(), rootCommentsPage.getTotalPages());
 
-        return CommentListResponse.from(rootCommentsPage);
+        return CommentListResponse.from(rootCommentsPage, profileImageUrlResolver);
     }
 
     /**
@@ -213,7 +215,7 @@ public class CommentService {
         log.info("사용자 댓글 조회 완료: providerUid={}, 조회된 댓글 수={}, 전체 페이지={}",
                 providerUid, commentsPage.getNumberOfElements(), commentsPage.getTotalPages());
 
-        return CommentListResponse.from(commentsPage);
+        return CommentListResponse.from(commentsPage, profileImageUrlResolver);
     }
 
     /**
@@ -0,0 +1,12 @@
+package joomidang.papersummary.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 애플리케이션 전역 @Scheduled 작업(컨슈머 오토스케일링, 통계 이벤트 전송, S3 GC, 초안 플러시 등) 활성화
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -4,12 +4,16 @@ import static org.springframework.data.domain.PageRequest.of;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import co.elastic.clients.elasticsearch.core.SearchResponse;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PreDestroy;
 import java.io.IOException;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
@@ -20,9 +24,12 @@ import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import joomidang.papersummary.common.config.elasticsearch.entiy.SummaryDocument;
 import joomidang.papersummary.common.config.elasticsearch.repository.SummaryElasticsearchRepository;
+import joomidang.papersummary.common.embedding.ChunkEmbeddingStore;
 import joomidang.papersummary.common.embedding.HuggingFaceEmbeddingClient;
 import joomidang.papersummary.common.util.MarkdownChunker;
 import joomidang.papersummary.common.util.VectorUtils;
+import joomidang.papersummary.member.service.ProfileImageSize;
+import joomidang.papersummary.member.service.ProfileImageUrlResolver;
 import joomidang.papersummary.summary.controller.response.SummaryListResponse;
 import joomidang.papersummary.summary.controller.response.SummaryResponse;
 import joomidang.papersummary.summary.entity.PublishStatus;
@@ -48,7 +55,12 @@ public class ElasticsearchSummaryService {
     private final HuggingFaceEmbeddingClient embeddingClient;
     private final ElasticsearchClient elasticsearchClient;
     private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisTemplate<String, float[]> vectorRedisTemplate;
+    private final ChunkEmbeddingStore chunkEmbeddingStore;
+    private final MarkdownChunker markdownChunker;
+    private final MeterRegistry meterRegistry;
     private final TagService tagService;
+    private final ProfileImageUrlResolver profileImageUrlResolver;
 
     // 검색 관련 상수
     private static final int MIN_SEARCH_TERM_LENGTH = 2;
@@ -58,18 +70,21 @@ public class ElasticsearchSummaryService {
 
     // 캐시 관련 상수
     private static final String RECOMMENDATION_CACHE_PREFIX = "similar_summaries:";
-    private static final String EMBEDDING_CACHE_PREFIX = "embedding:";
+    private static final String EMBEDDING_CACHE_PREFIX = "embedding_vec:"; // float[] 바이너리 저장 (FloatArrayRedisSerializer)
     private static final Duration RECOMMENDATION_TTL = Duration.ofMinutes(30);
     private static final Duration EMBEDDING_TTL = Duration.ofDays(7);
 
     // 임베딩 관련 상수
     private static final String EMBEDDING_MODEL = "sentence-transformers/paraphrase-multilingual-MiniLM-L12-v2";
     private static final String EMBEDDING_PREFIX = "passage: ";
-    private static final int MAX_CHUNK_SIZE = 512;
     private static final int DEFAULT_SIMILAR_COUNT = 20;
     private static final int DEFAULT_TOP_K = 5;
     private static final int MAX_TOP_K = 20;
 
+    // 메트릭 이름
+    private static final String CHUNK_METRIC = "embedding.chunks";
+    private static final String CHUNK_REUSE_RATIO_METRIC = "embedding.chunk.reuse.ratio";
+
     // 병렬 처리를 위한 스레드 풀
     private static final ExecutorService embeddingExecutor = Executors.newFixedThreadPool(
             Math.max(2, Runtime.getRuntime().availableProcessors() / 2));
@@ -177,7 +192,7 @@ public class ElasticsearchSummaryService {
             if (summary != null && summary.getMember() != null) {
                 return new String[]{
                         summary.getMember().getName(),
-                        summary.getMember().getProfileImage()
+                        profileImageUrlResolver.resolve(summary.getMember().getProfileImage(), ProfileImageSize.MEDIUM)
                 };
             }
         } catch (Exception e) {
@@ -296,7 +311,9 @@ public class ElasticsearchSummaryService {
                         summary.getTitle(),
                         summary.getBrief(),
                         summary.getMember() != null ? summary.getMember().getName() : "Unknown", // 작성자 이름
-                        summary.getMember() != null ? summary.getMember().getProfileImage() : null, // 프로필 이미지
+                        summary.getMember() != null
+                                ? profileImageUrlResolver.resolve(summary.getMember().getProfileImage(),
+                                ProfileImageSize.MEDIUM) : null, // 프로필 이미지
                         summary.getCreatedAt(),
                         summary.getUpdatedAt(),
                         0, // 조회수 생략
@@ -353,30 +370,24 @@ public class ElasticsearchSummaryService {
      */
     private float[] getCachedOrFetchEmbedding(Long summaryId, SummaryDocument baseDoc) {
         String embeddingCacheKey = EMBEDDING_CACHE_PREFIX + summaryId;
-        Object cached = redisTemplate.opsForValue().get(embeddingCacheKey);
-
-        // 캐시된 데이터가 이미 float[]인 경우
-        if (cached instanceof float[]) {
-            return (float[]) cached;
-        }
-        if (cached != null) {
-            log.debug("임베딩 캐시 히트: summaryId={}", summaryId);
-            try {
-                // Jackson 직렬화로 인해 타입이 변경된 경우
-                return VectorUtils.toFloatArray(cached);
-            } catch (Exception e) {
-                log.warn("임베딩 역직렬화 실패, 캐시 제거 후 재생성: summaryId={}, error={}",
-                        summaryId, e.getMessage());
-                redisTemplate.delete(embeddingCacheKey); // 잘못된 캐시 제거
+        try {
+            float[] cached = vectorRedisTemplate.opsForValue().get(embeddingCacheKey);
+            if (cached != null && cached.length > 0) {
+                log.debug("임베딩 캐시 히트: summaryId={}", summaryId);
+                return cached;
             }
+        } catch (Exception e) {
+            log.warn("임베딩 역직렬화 실패, 캐시 제거 후 재생성: summaryId={}, error={}",
+                    summaryId, e.getMessage());
+            redisTemplate.delete(embeddingCacheKey); // 잘못된 캐시 제거
         }
 
         // 캐시 미스 시 문서에서 조회
         float[] embedding = validateAndGetEmbedding(baseDoc, summaryId);
 
         try {
-            // float[] 형태로 직접 캐싱
-            redisTemplate.opsForValue().set(embeddingCacheKey, embedding, EMBEDDING_TTL);
+            // float[] 바이너리로 직접 캐싱
+            vectorRedisTemplate.opsForValue().set(embeddingCacheKey, embedding, EMBEDDING_TTL);
             log.debug("임베딩 캐싱 완료: summaryId={}", summaryId);
         } catch (Exception e) {
             log.warn("임베딩 캐싱 실패: summaryId={}, error={}", summaryId, e.getMessage());
@@ -410,8 +421,8 @@ public class ElasticsearchSummaryService {
             // Elasticsearch KNN 검색 수행
             final int candidatesCount = Math.max(100, topK * 3);
 
-            // 최적화된 방식으로 float[]를 List<Float>로 변환
-            List<Float> queryVector = convertToQueryVector(embedding);
+            // ES 클라이언트는 List<Float>만 받으므로 복사 없이 float[] 뷰로 전달
+            List<Float> queryVector = VectorUtils.asList(embedding);
 
             // 검색 실행
             SearchResponse<SummaryDocument> response = executeKnnSearch(
@@ -475,18 +486,6 @@ public class ElasticsearchSummaryService {
         return list.stream().map(Ranking::response).collect(Collectors.toList());
     }
 
-    /**
-     * float[] 배열을 List<Float>로 효율적으로 변환
-     */
-    private List<Float> convertToQueryVector(float[] embedding) {
-        // 미리 크기가 지정된 ArrayList 생성으로 재할당 방지
-        List<Float> vectorList = new ArrayList<>(embedding.length);
-        for (float f : embedding) {
-            vectorList.add(f);
-        }
-        return vectorList;
-    }
-
     /**
      * Elasticsearch KNN 검색 실행
      */
@@ -681,22 +680,64 @@ public class ElasticsearchSummaryService {
 
     /**
      * 마크다운 내용을 청킹하여 임베딩 벡터 생성
+     * <p>
+     * 청크 내용 해시로 이전 발행 때 저장한 청크 벡터를 찾아 재사용하고, 새로 생기거나 바뀐 청크만 임베딩 API로 보낸다.
      */
     private float[] generateEmbeddingFromMarkdown(Summary summary, String markdownContent) {
         Long summaryId = summary.getId();
         log.info("마크다운 내용 청킹 및 임베딩 시작: summaryId={}", summaryId);
 
-        // 1. 마크다운을 섹션 단위로 나누기
-        List<String> chunks = MarkdownChunker.chunkBySection(markdownContent, MAX_CHUNK_SIZE);
+        // 1. 마크다운을 섹션 단위로 나누기 (모델 토큰 기준)
+        List<String> chunks = markdownChunker.chunk(markdownContent).stream()
+                .map(CharSequence::toString)
+                .collect(Collectors.toList());
         log.debug("마크다운 청킹 완료: summaryId={}, chunks={}", summaryId, chunks.size());
 
-        // 2. 각 청크를 임베딩
-        List<float[]> vectors = embedChunks(summaryId, chunks);
+        // 2. 저장된 청크 벡터 조회
+        List<String> chunkHashes = chunks.stream()
+                .map(chunk -> chunkEmbeddingStore.hash(EMBEDDING_MODEL, chunk))
+                .collect(Collectors.toList());
+        Map<String, float[]> storedVectors = chunkEmbeddingStore.findAll(summaryId, chunkHashes);
+
+        // 3. 저장된 벡터가 없는 청크만 임베딩 (같은 내용의 청크는 한 번만)
+        List<String> missingHashes = new ArrayList<>();
+        List<String> missingChunks = new ArrayList<>();
+        Set<String> seen = new HashSet<>(storedVectors.keySet());
+        for (int i = 0; i < chunks.size(); i++) {
+            if (seen.add(chunkHashes.get(i))) {
+                missingHashes.add(chunkHashes.get(i));
+                missingChunks.add(chunks.get(i));
+            }
+        }
+        List<float[]> embedded = embedChunks(summaryId, missingChunks);
+
+        Map<String, float[]> chunkVectors = new LinkedHashMap<>();
+        for (String hash : chunkHashes) {
+            float[] stored = storedVectors.get(hash);
+            if (stored != null) {
+                chunkVectors.put(hash, stored);
+            }
+        }
+        for (int i = 0; i < missingHashes.size(); i++) {
+            if (embedded.get(i) != null) {
+                chunkVectors.put(missingHashes.get(i), embedded.get(i));
+            }
+        }
+
+        // 4. 청크 순서대로 벡터 구성 (실패한 청크 제외)
+        List<float[]> vectors = chunkHashes.stream()
+                .map(chunkVectors::get)
+                .filter(vector -> vector != null)
+                .collect(Collectors.toList());
 
         if (vectors.isEmpty()) {
             throw new RuntimeException("모든 청크 임베딩이 실패했습니다.");
         }
 
+        chunkEmbeddingStore.replaceAll(summaryId, chunkVectors);
+        recordChunkReuse(summaryId, chunks.size(), chunks.size() - missingChunks.size(),
+                (int) embedded.stream().filter(vector -> vector == null).count());
+
         log.debug("청크 임베딩 완료: summaryId={}, totalVectors={}", summaryId, vectors.size());
 
         // 3. 평균 벡터 계산
@@ -706,8 +747,29 @@ public class ElasticsearchSummaryService {
         return avgVector;
     }
 
+    /**
+     * 청크 재사용 메트릭 기록
+     *
+     * @param total  전체 청크 수
+     * @param reused 저장된 벡터를 재사용한 청크 수
+     * @param failed 임베딩에 실패한 청크 수
+     */
+    private void recordChunkReuse(Long summaryId, int total, int reused, int failed) {
+        meterRegistry.counter(CHUNK_METRIC, "result", "reused").increment(reused);
+        meterRegistry.counter(CHUNK_METRIC, "result", "embedded").increment(total - reused - failed);
+        meterRegistry.counter(CHUNK_METRIC, "result", "failed").increment(failed);
+
+        double reuseRatio = total == 0 ? 0.0 : (double) reused / total;
+        meterRegistry.summary(CHUNK_REUSE_RATIO_METRIC).record(reuseRatio);
+
+        log.info("청크 임베딩 재사용: summaryId={}, reused={}/{}, failed={}, ratio={}",
+                summaryId, reused, total, failed, String.format("%.2f", reuseRatio));
+    }
+
     /**
      * 청크 목록을 임베딩하여 벡터 목록 반환 (병렬 처리)
+     * <p>
+     * 반환 목록은 입력 청크와 순서·크기가 같으며, 임베딩에 실패한 청크 위치는 null이다.
      */
     private List<float[]> embedChunks(Long summaryId, List<String> chunks) {
         if (chunks.isEmpty()) {
@@ -734,14 +796,11 @@ public class ElasticsearchSummaryService {
                     String embeddingInput = EMBEDDING_PREFIX + chunk;
 
                     // 임베딩 API 호출
-                    List<Float> embeddingResult = embeddingClient.embed(
+                    float[] vector = embeddingClient.embed(
                             EMBEDDING_MODEL,
                             embeddingInput
                     );
 
-                    // 안전한 타입 변환
-                    float[] vector = VectorUtils.toFloatArray(embeddingResult);
-
                     log.debug("청크 임베딩 성공 (병렬): summaryId={}, chunkIndex={}, vectorDim={}",
                             summaryId, chunkIndex, vector.length);
 
@@ -756,7 +815,7 @@ public class ElasticsearchSummaryService {
             futures.add(future);
         }
 
-        // 모든 Future 결과 수집
+        // 모든 Future 결과 수집 (실패한 위치는 null 유지)
         List<float[]> vectors = futures.stream()
                 .map(future -> {
                     try {
@@ -766,11 +825,10 @@ public class ElasticsearchSummaryService {
                         return null;
                     }
                 })
-                .filter(vector -> vector != null) // null 결과 필터링
                 .collect(Collectors.toList());
 
         log.debug("병렬 임베딩 완료: summaryId={}, 성공={}/{}",
-                summaryId, vectors.size(), chunks.size());
+                summaryId, vectors.stream().filter(vector -> vector != null).count(), chunks.size());
 
         return vectors;
     }
@@ -787,13 +845,10 @@ public class ElasticsearchSummaryService {
                 String embeddingInput = EMBEDDING_PREFIX + chunk;
 
                 // 임베딩 API 호출
-                List<Float> embeddingResult = embeddingClient.embed(
+                float[] vector = embeddingClient.embed(
                         EMBEDDING_MODEL,
                         embeddingInput
                 );
-
-                // 안전한 타입 변환
-                float[] vector = VectorUtils.toFloatArray(embeddingResult);
                 vectors.add(vector);
 
                 log.debug("청크 임베딩 성공 (순차): summaryId={}, chunkIndex={}, vectorDim={}",
@@ -802,7 +857,8 @@ public class ElasticsearchSummaryService {
             } catch (Exception e) {
                 log.error("청크 임베딩 실패 (순차): summaryId={}, chunkIndex={}, error={}",
                         summaryId, i, e.getMessage(), e);
-                // 개별 청크 실패는 무시하고 계속 진행
+                // 개별 청크 실패는 null로 남기고 계속 진행
+                vectors.add(null);
             }
         }
 
@@ -820,13 +876,11 @@ public class ElasticsearchSummaryService {
             String combinedText = summary.getTitle() + " " + summary.getBrief();
             String embeddingInput = EMBEDDING_PREFIX + combinedText;
 
-            Object embeddingResult = embeddingClient.embed(
+            return embeddingClient.embed(
                     EMBEDDING_MODEL,
                     embeddingInput
             );
 
-            return VectorUtils.toFloatArray(embeddingResult);
-
         } catch (Exception e) {
             log.error("기본 임베딩 실패: summaryId={}, error={}", summaryId, e.getMessage(), e);
             throw new RuntimeException("기본 임베딩 실패: " + e.getMessage(), e);
@@ -872,6 +926,7 @@ public class ElasticsearchSummaryService {
 
         // 캐시 무효화
         invalidateRecommendationCache(summaryId);
+        chunkEmbeddingStore.deleteAll(summaryId);
         log.info("삭제된 요약의 캐시 무효화 완료: summaryId={}", summaryId);
     }
 
@@ -1,7 +1,10 @@
 package joomidang.papersummary.common.config.embedding;
 
 import joomidang.papersummary.common.embedding.EmbeddingClient;
+import joomidang.papersummary.common.embedding.HeuristicTokenCounter;
 import joomidang.papersummary.common.embedding.HuggingFaceEmbeddingClient;
+import joomidang.papersummary.common.embedding.TokenCounter;
+import joomidang.papersummary.common.util.MarkdownChunker;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.Cacheable;
@@ -10,11 +13,13 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.springframework.web.client.RestTemplate;
 
-import java.util.List;
-
 @Slf4j
 @Configuration
 public class EmbeddingConfig {
+    // 문장 시작/끝 특수 토큰 (<s>, </s>)
+    private static final int SPECIAL_TOKENS = 2;
+    // ElasticsearchSummaryService가 청크 앞에 붙이는 접두사
+    private static final String PASSAGE_PREFIX = "passage: ";
 
     @Bean
     public HuggingFaceEmbeddingClient huggingFaceEmbeddingClient(@Value("${huggingface.api.key}") String apiKey,
@@ -28,6 +33,33 @@ public class EmbeddingConfig {
         return new CachedEmbeddingClient(huggingFaceEmbeddingClient);
     }
 
+    /**
+     * 문자 종류별 보수적 추정으로 토큰 수 계산
+     * <p>
+     * 모델의 SentencePiece 토큰 수와 정확히 같지 않은 근사치다. (청커에서 safety-margin만큼 여유를 둠)
+     */
+    @Bean
+    public TokenCounter tokenCounter() {
+        return new HeuristicTokenCounter();
+    }
+
+    /**
+     * 임베딩용 마크다운 청커 (특수 토큰과 접두사 토큰을 빼고, 토큰 수가 근사치인 만큼 safety-margin 비율을 더 남김)
+     */
+    @Bean
+    public MarkdownChunker markdownChunker(TokenCounter tokenCounter,
+                                           @Value("${embedding.chunk.max-tokens:512}") int maxTokens,
+                                           @Value("${embedding.chunk.overlap-tokens:64}") int overlapTokens,
+                                           @Value("${embedding.chunk.safety-margin:0.15}") double safetyMargin) {
+        if (safetyMargin < 0 || safetyMargin >= 1) {
+            throw new IllegalArgumentException("embedding.chunk.safety-margin은 0 이상 1 미만이어야 합니다: " + safetyMargin);
+        }
+        int budget = maxTokens - SPECIAL_TOKENS - tokenCounter.count(PASSAGE_PREFIX);
+        int contentTokens = (int) Math.floor(budget * (1 - safetyMargin));
+        log.info("임베딩 청크 토큰 한도: {} (모델 한도 {}, 여유 {}%)", contentTokens, maxTokens, Math.round(safetyMargin * 100));
+        return new MarkdownChunker(tokenCounter, contentTokens, Math.min(overlapTokens, contentTokens / 2));
+    }
+
     private static class CachedEmbeddingClient implements EmbeddingClient {
         private final HuggingFaceEmbeddingClient embeddingClient;
 
@@ -37,7 +69,7 @@ public class EmbeddingConfig {
 
         @Override
         @Cacheable(value = "embeddings", key = "#modelId + ':' + #input.hashCode()")
-        public List<Float> embed(String modelId, String input) {
+        public float[] embed(String modelId, String input) {
             log.info("Cache miss for embedding: modelId={}, input={}", modelId, 
                     input.substring(0, Math.min(50, input.length())));
             return embeddingClient.embed(modelId, input);
@@ -0,0 +1,228 @@
+package joomidang.papersummary.common.config.rabbitmq;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 발행 확인(publisher confirm)을 비동기로 처리하는 발행기
+ * <p>
+ * - 발행 호출은 채널에 쓰고 바로 반환하며, confirm은 CorrelationData future로 받는다.
+ * <p>
+ * - confirm을 기다리는 메시지 수를 maxInFlight로 제한한다. (가득 차면 호출자가 대기 → 브로커 속도에 맞춘 배압)
+ * <p>
+ * - nack, 채널 종료, confirm 타임아웃 시 maxResends까지 재전송하고, 라우팅되지 않은 메시지(returned)는 재전송하지 않고 기록만 한다.
+ * <p>
+ * 재전송은 confirm 콜백(커넥션 I/O 스레드)에서 바로 하지 않고 별도 스레드에서 수행한다.
+ * <p>
+ * 커넥션 팩토리에 publisher confirm이 켜져 있지 않으면(spring.rabbitmq.publisher-confirm-type: correlated 미설정) confirm이
+ * 오지 않으므로, 기동 시 경고를 남기고 확인 없이 바로 발행한다.
+ */
+@Slf4j
+@Component
+public class ConfirmingRabbitPublisher {
+    private final RabbitTemplate rabbitTemplate;
+    private final RabbitPublisherProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final boolean confirmsEnabled;
+
+    private final Semaphore inFlight;
+    private final Map<String, PendingMessage> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService resendExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "rabbit-confirm-resend");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ConfirmingRabbitPublisher(RabbitTemplate rabbitTemplate,
+                                     RabbitPublisherProperties properties,
+                                     MeterRegistry meterRegistry) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.inFlight = new Semaphore(Math.max(1, properties.getMaxInFlight()));
+        this.confirmsEnabled = rabbitTemplate.getConnectionFactory() != null
+                && rabbitTemplate.getConnectionFactory().isPublisherConfirms();
+        if (!confirmsEnabled) {
+            log.warn("publisher confirm이 꺼져 있어 발행 확인 없이 전송합니다. "
+                    + "(spring.rabbitmq.publisher-confirm-type: correlated 설정 필요)");
+        }
+
+        meterRegistry.gauge("rabbitmq.publisher.in_flight", pending, Map::size);
+
+        long sweepMillis = Math.max(100, properties.getConfirmTimeout().toMillis() / 2);
+        resendExecutor.scheduleWithFixedDelay(this::resendTimedOut, sweepMillis, sweepMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 객체를 메시지로 변환해 발행
+     *
+     * @return 브로커가 confirm 하면 완료, 재전송 한도를 넘기거나 라우팅되지 않으면 예외로 완료되는 future
+     */
+    public CompletableFuture<Void> publish(String exchange, String routingKey, Object payload) {
+        Message message = rabbitTemplate.getMessageConverter().toMessage(payload, new MessageProperties());
+        return send(exchange, routingKey, message);
+    }
+
+    /**
+     * 메시지 발행 (in-flight 한도가 차 있으면 acquireTimeout까지 대기)
+     */
+    public CompletableFuture<Void> send(String exchange, String routingKey, Message message) {
+        if (message.getMessageProperties().getTimestamp() == null) {
+            // 컨슈머 쪽 큐 대기 시간 측정용 (QueueWaitRecorder)
+            message.getMessageProperties().setTimestamp(new Date());
+        }
+        if (!confirmsEnabled) {
+            // confirm이 오지 않으므로 채널에 쓰면 완료로 봄
+            rabbitTemplate.send(exchange, routingKey, message);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        acquirePermit();
+        PendingMessage pendingMessage = new PendingMessage(exchange, routingKey, message);
+        try {
+            doSend(pendingMessage);
+        } catch (RuntimeException e) {
+            pending.remove(pendingMessage.correlationId);
+            complete(pendingMessage, e);
+            throw e;
+        }
+        return pendingMessage.result;
+    }
+
+    private void acquirePermit() {
+        Duration timeout = properties.getAcquireTimeout();
+        try {
+            if (!inFlight.tryAcquire(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                meterRegistry.counter("rabbitmq.publisher.rejected").increment();
+                throw new AmqpException("confirm 대기 메시지가 한도를 초과했습니다: maxInFlight=" + properties.getMaxInFlight());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AmqpException("발행 대기 중 인터럽트 발생", e);
+        }
+    }
+
+    private void doSend(PendingMessage pendingMessage) {
+        CorrelationData correlationData = new CorrelationData(UUID.randomUUID().toString());
+        pendingMessage.correlationId = correlationData.getId();
+        pendingMessage.sentAtNanos = System.nanoTime();
+        pending.put(correlationData.getId(), pendingMessage);
+
+        correlationData.getFuture().whenComplete((confirm, error) -> {
+            if (pending.remove(correlationData.getId()) == null) {
+                return; // 타임아웃으로 이미 재전송된 메시지
+            }
+            if (error == null && confirm.isAck()) {
+                if (correlationData.getReturned() != null) {
+                    // exchange에는 도착했지만 바인딩된 큐가 없음: 재전송해도 같은 결과
+                    log.error("라우팅되지 않은 메시지: exchange={}, routingKey={}, replyText={}",
+                            pendingMessage.exchange, pendingMessage.routingKey,
+                            correlationData.getReturned().getReplyText());
+                    meterRegistry.counter("rabbitmq.publisher.returned").increment();
+                    complete(pendingMessage, new AmqpException("라우팅되지 않은 메시지: " + pendingMessage.routingKey));
+                    return;
+                }
+                meterRegistry.counter("rabbitmq.publisher.confirmed").increment();
+                complete(pendingMessage, null);
+            } else {
+                String reason = error != null ? error.getMessage() : confirm.getReason();
+                scheduleResend(pendingMessage, reason);
+            }
+        });
+
+        rabbitTemplate.send(pendingMessage.exchange, pendingMessage.routingKey, pendingMessage.message,
+                correlationData);
+    }
+
+    private void scheduleResend(PendingMessage pendingMessage, String reason) {
+        if (pendingMessage.resends >= properties.getMaxResends()) {
+            log.error("발행 확인 실패, 재전송 한도 초과: exchange={}, routingKey={}, resends={}, reason={}",
+                    pendingMessage.exchange, pendingMessage.routingKey, pendingMessage.resends, reason);
+            meterRegistry.counter("rabbitmq.publisher.failed").increment();
+            complete(pendingMessage, new AmqpException("발행 확인 실패: " + reason));
+            return;
+        }
+
+        pendingMessage.resends++;
+        meterRegistry.counter("rabbitmq.publisher.resent").increment();
+        log.warn("발행 확인 실패, 재전송 예약: exchange={}, routingKey={}, resend={}, reason={}",
+                pendingMessage.exchange, pendingMessage.routingKey, pendingMessage.resends, reason);
+
+        resendExecutor.schedule(() -> {
+            try {
+                doSend(pendingMessage);
+            } catch (Exception e) {
+                pending.remove(pendingMessage.correlationId);
+                scheduleResend(pendingMessage, e.getMessage());
+            }
+        }, properties.getResendDelay().toMillis() * pendingMessage.resends, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * confirmTimeout이 지나도록 confirm이 없는 메시지 재전송
+     */
+    void resendTimedOut() {
+        long timeoutNanos = properties.getConfirmTimeout().toNanos();
+        long now = System.nanoTime();
+        for (PendingMessage pendingMessage : pending.values()) {
+            if (now - pendingMessage.sentAtNanos > timeoutNanos
+                    && pending.remove(pendingMessage.correlationId, pendingMessage)) {
+                scheduleResend(pendingMessage, "confirm 타임아웃");
+            }
+        }
+    }
+
+    private void complete(PendingMessage pendingMessage, Throwable error) {
+        inFlight.release();
+        if (error == null) {
+            pendingMessage.result.complete(null);
+        } else {
+            pendingMessage.result.completeExceptionally(error);
+        }
+    }
+
+    public int inFlightCount() {
+        return pending.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        resendExecutor.shutdown();
+        if (!pending.isEmpty()) {
+            log.warn("종료 시점에 confirm 대기 중인 메시지: {}", pending.size());
+        }
+    }
+
+    private static final class PendingMessage {
+        private final String exchange;
+        private final String routingKey;
+        private final Message message;
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+        private volatile String correlationId;
+        private volatile long sentAtNanos;
+        private int resends;
+
+        private PendingMessage(String exchange, String routingKey, Message message) {
+            this.exchange = exchange;
+            this.routingKey = routingKey;
+            this.message = message;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package joomidang.papersummary.common.config.rabbitmq;
+
+/**
+ * 큐 상태로 목표 컨슈머 수를 정하는 규칙
+ * <p>
+ * - 확장: 대기 메시지 수 / targetBacklogPerConsumer 만큼, 예상 소진 시간이 targetDrainTime보다 길면 추가로 1개 (즉시 반영)
+ * <p>
+ * - 축소: 목표가 현재보다 작고 쿨다운이 지났을 때만 한 단계씩
+ */
+final class ConsumerScalingPolicy {
+
+    private ConsumerScalingPolicy() {
+    }
+
+    static int desiredConsumers(int current,
+                                RabbitConsumerProperties.QueueConsumer limits,
+                                RabbitConsumerProperties.Autoscale autoscale,
+                                QueueStats stats,
+                                boolean cooldownElapsed) {
+        int min = Math.max(1, limits.getMinConsumers());
+        int max = Math.max(min, limits.getMaxConsumers());
+
+        long backlogPerConsumer = Math.max(1, autoscale.getTargetBacklogPerConsumer());
+        int desired = (int) Math.min(max, (stats.depth() + backlogPerConsumer - 1) / backlogPerConsumer);
+
+        double drainSeconds = stats.estimatedDrainSeconds();
+        if (drainSeconds > autoscale.getTargetDrainTime().toSeconds()) {
+            // 처리 속도가 유입을 못 따라가는 경우
+            desired = Math.max(desired, current + 1);
+        }
+        desired = Math.max(min, Math.min(max, desired));
+
+        if (desired < current) {
+            return cooldownElapsed ? current - 1 : current;
+        }
+        return desired;
+    }
+}
@@ -0,0 +1,35 @@
+package joomidang.papersummary.common.config.rabbitmq;
+
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * DLQ 조회/재전송 (/actuator/deadletters, 관리자 전용)
+ * <p>
+ * - GET /actuator/deadletters: 큐별 DLQ 메시지 수
+ * <p>
+ * - POST /actuator/deadletters/{queue} (body: {"limit": 10}): DLQ 메시지를 원래 큐로 재전송
+ */
+@Component
+@Endpoint(id = "deadletters")
+@RequiredArgsConstructor
+public class DeadLetterEndpoint {
+    private final DeadLetterReplayer deadLetterReplayer;
+
+    @ReadOperation
+    public Map<String, Long> deadLetters() {
+        return deadLetterReplayer.countAll();
+    }
+
+    @WriteOperation
+    public Map<String, Object> replay(@Selector String queue, @Nullable Integer limit) {
+        int replayed = deadLetterReplayer.replay(queue, limit);
+        return Map.of("queue", queue, "replayed", replayed);
+    }
+}
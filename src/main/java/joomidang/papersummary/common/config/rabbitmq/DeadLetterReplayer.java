@@ -0,0 +1,98 @@
+package joomidang.papersummary.common.config.rabbitmq;
+
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.GetResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * DLQ 메시지 조회 및 원래 큐로 재전송
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeadLetterReplayer {
+    private static final int DEFAULT_REPLAY_LIMIT = 100;
+    private static final long CONFIRM_TIMEOUT_MS = 5_000;
+
+    private final RabbitTemplate rabbitTemplate;
+    private final AmqpAdmin amqpAdmin;
+    private final RabbitRetryProperties retryProperties;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 큐별 DLQ 메시지 수
+     */
+    public Map<String, Long> countAll() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (String queue : retryProperties.getQueues()) {
+            QueueInformation info = amqpAdmin.getQueueInfo(RabbitRetryTopology.deadLetterQueue(queue));
+            counts.put(queue, info != null ? (long) info.getMessageCount() : 0L);
+        }
+        return counts;
+    }
+
+    /**
+     * DLQ 메시지를 원래 큐로 재전송 (재시도 횟수는 초기화)
+     * <p>
+     * DLQ에서 수동 ack로 꺼내고, 원래 큐 발행이 브로커에서 확인(confirm)된 뒤에만 ack한다. 발행이 실패하거나 확인되지 않으면
+     * 채널이 닫히면서 ack하지 않은 메시지는 DLQ로 되돌아간다.
+     *
+     * @param queue 원래 큐 이름
+     * @param limit 최대 재전송 개수 (null이면 100)
+     * @return 재전송한 메시지 수
+     */
+    public int replay(String queue, Integer limit) {
+        if (!retryProperties.getQueues().contains(queue)) {
+            throw new IllegalArgumentException("DLQ가 없는 큐입니다: " + queue);
+        }
+
+        int max = limit != null && limit > 0 ? limit : DEFAULT_REPLAY_LIMIT;
+        String deadLetterQueue = RabbitRetryTopology.deadLetterQueue(queue);
+        AtomicInteger replayed = new AtomicInteger();
+
+        try {
+            rabbitTemplate.execute(channel -> {
+                channel.confirmSelect();
+                while (replayed.get() < max) {
+                    GetResponse response = channel.basicGet(deadLetterQueue, false);
+                    if (response == null) {
+                        break;
+                    }
+                    // 기본 교환소로 원래 큐에 직접 전달하고 브로커 확인을 기다림 (nack/시간 초과면 채널을 닫고 예외)
+                    channel.basicPublish("", queue, withoutRetryHeaders(response.getProps()), response.getBody());
+                    channel.waitForConfirmsOrDie(CONFIRM_TIMEOUT_MS);
+                    channel.basicAck(response.getEnvelope().getDeliveryTag(), false);
+                    replayed.incrementAndGet();
+                }
+                return null;
+            });
+        } finally {
+            meterRegistry.counter("rabbitmq.deadletter.replayed", "queue", queue).increment(replayed.get());
+        }
+
+        log.info("DLQ 메시지 재전송 완료: queue={}, replayed={}", queue, replayed.get());
+        return replayed.get();
+    }
+
+    private AMQP.BasicProperties withoutRetryHeaders(AMQP.BasicProperties properties) {
+        Map<String, Object> headers = properties.getHeaders() != null
+                ? new HashMap<>(properties.getHeaders())
+                : new HashMap<>();
+        headers.remove(RabbitRetryTopology.HEADER_ATTEMPT);
+        headers.remove(RabbitRetryTopology.HEADER_ORIGINAL_QUEUE);
+        headers.remove(RabbitRetryTopology.HEADER_EXCEPTION_TYPE);
+        headers.remove(RabbitRetryTopology.HEADER_EXCEPTION_MESSAGE);
+        headers.remove(RabbitRetryTopology.HEADER_FAILED_AT);
+        return properties.builder().headers(headers).build();
+    }
+}
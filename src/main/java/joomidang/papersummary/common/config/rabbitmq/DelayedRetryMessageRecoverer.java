@@ -0,0 +1,127 @@
+package joomidang.papersummary.common.config.rabbitmq;
+
+import static joomidang.papersummary.common.config.rabbitmq.RabbitRetryTopology.HEADER_ATTEMPT;
+import static joomidang.papersummary.common.config.rabbitmq.RabbitRetryTopology.HEADER_EXCEPTION_MESSAGE;
+import static joomidang.papersummary.common.config.rabbitmq.RabbitRetryTopology.HEADER_EXCEPTION_TYPE;
+import static joomidang.papersummary.common.config.rabbitmq.RabbitRetryTopology.HEADER_FAILED_AT;
+import static joomidang.papersummary.common.config.rabbitmq.RabbitRetryTopology.HEADER_MAX_ATTEMPTS;
+import static joomidang.papersummary.common.config.rabbitmq.RabbitRetryTopology.HEADER_ORIGINAL_QUEUE;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Instant;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.ImmediateRequeueAmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.retry.MessageRecoverer;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 리스너 실패 메시지를 재시도 큐 또는 DLQ로 보내는 MessageRecoverer
+ * <p>
+ * 컨슈머 스레드에서 대기하며 재시도하지 않고, x-retry-attempt 헤더를 올려 대기 시간에 맞는 재시도 큐(Q.retry.{n})로 보낸 뒤 원본은 ack 한다. 최대 시도
+ * 횟수에 도달했거나 다시 시도해도 소용없는 오류(메시지 변환 실패)는 예외 정보를 헤더에 담아 DLQ로 보낸다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DelayedRetryMessageRecoverer implements MessageRecoverer {
+    private static final int MAX_EXCEPTION_MESSAGE_LENGTH = 1000;
+
+    private final RabbitTemplate rabbitTemplate;
+    private final RabbitRetryProperties retryProperties;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public void recover(Message message, Throwable cause) {
+        MessageProperties properties = message.getMessageProperties();
+        String queue = resolveQueue(properties);
+        int attempt = currentAttempt(properties) + 1; // 방금 실패한 시도 번호
+        Throwable rootCause = rootCause(cause);
+
+        try {
+            if (attempt < retryProperties.getMaxAttempts() && isRetryable(cause)) {
+                sendToRetry(message, queue, attempt, rootCause);
+            } else {
+                sendToDeadLetter(message, queue, attempt, rootCause);
+            }
+        } catch (Exception e) {
+            // 재시도/DLQ 발행 자체가 실패하면 메시지를 잃지 않도록 원래 큐에 되돌림
+            log.error("재시도 메시지 발행 실패, 원래 큐로 재전달: queue={}, error={}", queue, e.getMessage(), e);
+            throw new ImmediateRequeueAmqpException("재시도 메시지 발행 실패", e);
+        }
+    }
+
+    private void sendToRetry(Message message, String queue, int attempt, Throwable cause) {
+        MessageProperties properties = message.getMessageProperties();
+        properties.setHeader(HEADER_ATTEMPT, attempt);
+        properties.setHeader(HEADER_MAX_ATTEMPTS, retryProperties.getMaxAttempts());
+        properties.setHeader(HEADER_ORIGINAL_QUEUE, queue);
+
+        String level = String.valueOf(Math.min(attempt, retryProperties.retryLevels()));
+        rabbitTemplate.send(RabbitRetryTopology.retryExchange(queue), level, message);
+
+        meterRegistry.counter("rabbitmq.retry.published", "queue", queue).increment();
+        log.warn("메시지 처리 실패, 재시도 예약: queue={}, attempt={}/{}, delay={}, error={}",
+                queue, attempt, retryProperties.getMaxAttempts(),
+                retryProperties.delayOf(Integer.parseInt(level)), cause.getMessage());
+    }
+
+    private void sendToDeadLetter(Message message, String queue, int attempt, Throwable cause) {
+        MessageProperties properties = message.getMessageProperties();
+        properties.setHeader(HEADER_ATTEMPT, attempt);
+        properties.setHeader(HEADER_MAX_ATTEMPTS, retryProperties.getMaxAttempts());
+        properties.setHeader(HEADER_ORIGINAL_QUEUE, queue);
+        properties.setHeader(HEADER_EXCEPTION_TYPE, cause.getClass().getName());
+        properties.setHeader(HEADER_EXCEPTION_MESSAGE, truncate(cause.getMessage()));
+        properties.setHeader(HEADER_FAILED_AT, Instant.now().toString());
+
+        rabbitTemplate.send(RabbitRetryTopology.DEAD_LETTER_EXCHANGE, queue, message);
+
+        meterRegistry.counter("rabbitmq.deadletter.published", "queue", queue).increment();
+        log.error("메시지 처리 최종 실패, DLQ 이동: queue={}, attempt={}, error={}",
+                queue, attempt, cause.getMessage(), cause);
+    }
+
+    private String resolveQueue(MessageProperties properties) {
+        Object originalQueue = properties.getHeader(HEADER_ORIGINAL_QUEUE);
+        if (originalQueue != null) {
+            return originalQueue.toString();
+        }
+        return properties.getConsumerQueue();
+    }
+
+    private int currentAttempt(MessageProperties properties) {
+        Object attempt = properties.getHeader(HEADER_ATTEMPT);
+        return attempt instanceof Number number ? number.intValue() : 0;
+    }
+
+    private boolean isRetryable(Throwable cause) {
+        Throwable current = cause;
+        while (current != null) {
+            if (current instanceof MessageConversionException) {
+                return false;
+            }
+            current = current.getCause();
+        }
+        return true;
+    }
+
+    private Throwable rootCause(Throwable cause) {
+        Throwable current = cause;
+        while (current.getCause() != null && current.getCause() != current) {
+            current = current.getCause();
+        }
+        return current;
+    }
+
+    private String truncate(String message) {
+        if (message == null || message.length() <= MAX_EXCEPTION_MESSAGE_LENGTH) {
+            return message;
+        }
+        return message.substring(0, MAX_EXCEPTION_MESSAGE_LENGTH);
+    }
+}
@@ -2,8 +2,20 @@ package joomidang.papersummary.common.config.rabbitmq;
 
 import java.io.Serializable;
 
+/**
+ * 논문 이벤트 메시지
+ * <p>
+ * version은 메시지 스키마 버전이다. 필드 추가처럼 하위 호환되는 변경은 버전을 올리지 않고, 필드 의미가 바뀌는 변경에서만 올린다. 버전 필드가 없던
+ * 이전 메시지는 0으로 읽힌다.
+ */
 public record PaperEventEnvelop<T>(
+        int version,
         PaperEventType type,
         T payload
 ) implements Serializable {
+    public static final int CURRENT_VERSION = 1;
+
+    public PaperEventEnvelop(PaperEventType type, T payload) {
+        this(CURRENT_VERSION, type, payload);
+    }
 }
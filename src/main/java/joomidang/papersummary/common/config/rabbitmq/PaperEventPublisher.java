@@ -1,20 +1,28 @@
 package joomidang.papersummary.common.config.rabbitmq;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 /**
  * 논문 관련 이벤트를 RabbitMQ로 발행하는 컴포넌트
  * <p>
  * 이벤트는 타입(PaperEventType)에 따라 Exchange로 전송되며, 라우팅 키는 type.name()을 그대로 사용한다.
+ * <p>
+ * 발행 확인은 ConfirmingRabbitPublisher가 비동기로 처리하므로 호출 스레드는 confirm을 기다리지 않는다.
  */
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class PaperEventPublisher {
-    private final RabbitTemplate rabbitTemplate;
+    private final ConfirmingRabbitPublisher confirmingPublisher;
 
     public void publish(PaperEventEnvelop<?> event) {
-        rabbitTemplate.convertAndSend("paper.direct", event.type().name(), event);
+        confirmingPublisher.publish(RabbitMQConfig.EXCHANGE, event.type().name(), event)
+                .whenComplete((ignored, error) -> {
+                    if (error != null) {
+                        log.error("논문 이벤트 발행 최종 실패: type={}, error={}", event.type(), error.getMessage());
+                    }
+                });
     }
-}
\ No newline at end of file
+}
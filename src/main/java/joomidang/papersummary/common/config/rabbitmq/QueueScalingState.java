@@ -0,0 +1,24 @@
+package joomidang.papersummary.common.config.rabbitmq;
+
+import java.time.Instant;
+
+/**
+ * 큐별 오토스케일링 상태 (actuator rabbitconsumers 엔드포인트 응답)
+ */
+public record QueueScalingState(
+        String queue,
+        String listenerId,
+        int minConsumers,
+        int maxConsumers,
+        int prefetch,
+        int concurrentConsumers,
+        int activeConsumers,
+        long depth,
+        int brokerConsumers,
+        double ackRate,
+        double estimatedDrainSeconds,
+        String lastDecision,
+        Instant lastScaledAt,
+        Instant checkedAt
+) {
+}
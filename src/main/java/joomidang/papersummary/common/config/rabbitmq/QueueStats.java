@@ -0,0 +1,33 @@
+package joomidang.papersummary.common.config.rabbitmq;
+
+/**
+ * 브로커에서 조회한 큐 상태
+ *
+ * @param depth     대기 중인 메시지 수 (ready + unacked)
+ * @param consumers 브로커에 등록된 컨슈머 수 (다른 인스턴스 포함)
+ * @param ackRate   초당 ack 수, 관리 API를 쓸 수 없으면 -1
+ */
+public record QueueStats(
+        long depth,
+        int consumers,
+        double ackRate
+) {
+    public static final double UNKNOWN_RATE = -1;
+
+    public boolean hasAckRate() {
+        return ackRate >= 0;
+    }
+
+    /**
+     * 현재 ack 속도로 큐를 비우는 데 걸리는 예상 시간(초), 알 수 없으면 -1
+     */
+    public double estimatedDrainSeconds() {
+        if (depth == 0) {
+            return 0;
+        }
+        if (!hasAckRate() || ackRate == 0) {
+            return UNKNOWN_RATE;
+        }
+        return depth / ackRate;
+    }
+}
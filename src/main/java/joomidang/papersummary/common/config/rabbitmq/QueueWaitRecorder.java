@@ -0,0 +1,32 @@
+package joomidang.papersummary.common.config.rabbitmq;
+
+import java.time.Duration;
+import java.util.Date;
+import joomidang.papersummary.common.metrics.PipelineLatencyMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessagePostProcessor;
+import org.springframework.amqp.core.MessageProperties;
+
+/**
+ * 메시지 수신 시 발행 timestamp와의 차이(큐 대기 시간)를 기록하는 후처리기
+ * <p>
+ * timestamp는 ConfirmingRabbitPublisher가 발행 시 넣는다. 재시도 큐를 거친 메시지는 원래 발행 시각을 유지하므로 재시도 지연까지 포함된다.
+ */
+@RequiredArgsConstructor
+class QueueWaitRecorder implements MessagePostProcessor {
+    private final PipelineLatencyMetrics latencyMetrics;
+
+    @Override
+    public Message postProcessMessage(Message message) throws AmqpException {
+        MessageProperties properties = message.getMessageProperties();
+        Date timestamp = properties.getTimestamp();
+        String queue = properties.getConsumerQueue();
+        if (timestamp != null && queue != null) {
+            long waitedMillis = System.currentTimeMillis() - timestamp.getTime();
+            latencyMetrics.recordQueueWait(queue, Duration.ofMillis(Math.max(0, waitedMillis)));
+        }
+        return message;
+    }
+}
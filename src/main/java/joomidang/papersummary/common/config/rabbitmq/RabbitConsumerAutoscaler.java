@@ -0,0 +1,121 @@
+package joomidang.papersummary.common.config.rabbitmq;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.listener.MessageListenerContainer;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 큐 깊이와 처리 속도에 따라 리스너 컨테이너의 컨슈머 수를 조절하는 컴포넌트
+ * <p>
+ * 주기적으로 각 리스너 컨테이너가 듣는 큐의 상태를 조회하고, ConsumerScalingPolicy로 정한 수만큼 concurrentConsumers를 조정한다. 조정 범위는 큐별
+ * min/max 설정을 따른다.
+ */
+@Slf4j
+@Component
+public class RabbitConsumerAutoscaler {
+    private final RabbitListenerEndpointRegistry registry;
+    private final RabbitQueueStatsClient statsClient;
+    private final RabbitConsumerProperties properties;
+    private final Clock clock;
+
+    private final Map<String, QueueScalingState> states = new ConcurrentHashMap<>();
+
+    public RabbitConsumerAutoscaler(RabbitListenerEndpointRegistry registry,
+                                    RabbitQueueStatsClient statsClient,
+                                    RabbitConsumerProperties properties) {
+        this(registry, statsClient, properties, Clock.systemUTC());
+    }
+
+    RabbitConsumerAutoscaler(RabbitListenerEndpointRegistry registry,
+                             RabbitQueueStatsClient statsClient,
+                             RabbitConsumerProperties properties,
+                             Clock clock) {
+        this.registry = registry;
+        this.statsClient = statsClient;
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    @Scheduled(fixedDelayString = "${rabbitmq.consumers.autoscale.interval-ms:10000}",
+            initialDelayString = "${rabbitmq.consumers.autoscale.interval-ms:10000}")
+    public void rebalance() {
+        if (!properties.getAutoscale().isEnabled()) {
+            return;
+        }
+
+        for (String listenerId : registry.getListenerContainerIds()) {
+            MessageListenerContainer container = registry.getListenerContainer(listenerId);
+            if (!(container instanceof SimpleMessageListenerContainer simpleContainer) || !container.isRunning()) {
+                continue;
+            }
+            try {
+                rebalance(listenerId, simpleContainer);
+            } catch (Exception e) {
+                log.warn("컨슈머 오토스케일링 실패: listenerId={}, error={}", listenerId, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 큐별 현재 스케일링 상태
+     */
+    public Map<String, QueueScalingState> getStates() {
+        return Collections.unmodifiableMap(states);
+    }
+
+    void rebalance(String listenerId, SimpleMessageListenerContainer container) {
+        String[] queueNames = container.getQueueNames();
+        if (queueNames.length == 0) {
+            return;
+        }
+        String queue = queueNames[0];
+        RabbitConsumerProperties.QueueConsumer limits = properties.forQueue(queue);
+        QueueStats stats = statsClient.fetch(queue);
+        Instant now = clock.instant();
+
+        QueueScalingState previous = states.get(queue);
+        Instant lastScaledAt = previous != null ? previous.lastScaledAt() : null;
+        boolean cooldownElapsed = lastScaledAt == null
+                || !now.isBefore(lastScaledAt.plus(properties.getAutoscale().getScaleDownCooldown()));
+
+        // 직전 결정값이 아니라 컨테이너의 실제 컨슈머 수를 기준으로 삼는다 (재시작/수동 조정 반영)
+        int active = container.getActiveConsumerCount();
+        int current = active > 0 ? active : Math.max(1, limits.getMinConsumers());
+        int desired = ConsumerScalingPolicy.desiredConsumers(
+                current, limits, properties.getAutoscale(), stats, cooldownElapsed);
+
+        String decision = "유지";
+        if (desired != current) {
+            container.setConcurrentConsumers(desired);
+            decision = desired > current ? "확장" : "축소";
+            lastScaledAt = now;
+            log.info("컨슈머 수 조정: queue={}, {} -> {}, depth={}, ackRate={}, drainSeconds={}",
+                    queue, current, desired, stats.depth(), stats.ackRate(), stats.estimatedDrainSeconds());
+        }
+
+        states.put(queue, new QueueScalingState(
+                queue,
+                listenerId,
+                limits.getMinConsumers(),
+                limits.getMaxConsumers(),
+                limits.getPrefetch(),
+                desired,
+                container.getActiveConsumerCount(),
+                stats.depth(),
+                stats.consumers(),
+                stats.ackRate(),
+                stats.estimatedDrainSeconds(),
+                decision,
+                lastScaledAt,
+                now
+        ));
+    }
+}
@@ -0,0 +1,22 @@
+package joomidang.papersummary.common.config.rabbitmq;
+
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * 큐별 컨슈머 오토스케일링 상태 조회 (/actuator/rabbitconsumers)
+ */
+@Component
+@Endpoint(id = "rabbitconsumers")
+@RequiredArgsConstructor
+public class RabbitConsumerEndpoint {
+    private final RabbitConsumerAutoscaler autoscaler;
+
+    @ReadOperation
+    public Map<String, QueueScalingState> consumers() {
+        return autoscaler.getStates();
+    }
+}
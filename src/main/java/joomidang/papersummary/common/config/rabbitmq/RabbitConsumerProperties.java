@@ -0,0 +1,83 @@
+package joomidang.papersummary.common.config.rabbitmq;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 큐별 컨슈머 설정 (rabbitmq.consumers.*)
+ * <p>
+ * 큐마다 최소/최대 컨슈머 수와 prefetch를 따로 두어, stats.queue 폭주가 파싱/요약 파이프라인 큐의 처리량을 잡아먹지 않도록 한다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rabbitmq.consumers")
+public class RabbitConsumerProperties {
+
+    /**
+     * 큐 이름 → 컨슈머 설정 (지정하지 않은 큐는 아래 기본값 사용)
+     */
+    private Map<String, QueueConsumer> queues = defaultQueues();
+
+    private Autoscale autoscale = new Autoscale();
+
+    private Management management = new Management();
+
+    public QueueConsumer forQueue(String queueName) {
+        return queues.getOrDefault(queueName, new QueueConsumer());
+    }
+
+    private static Map<String, QueueConsumer> defaultQueues() {
+        Map<String, QueueConsumer> defaults = new LinkedHashMap<>();
+        // 파싱 요청은 FairParsingDispatcher가 ack 전까지 회원별 대기열에 보관하므로, prefetch가 곧 공정 분배 대상 범위
+        defaults.put(RabbitMQConfig.PARSING_QUEUE, new QueueConsumer(1, 1, 200));
+        // LLM 호출처럼 오래 걸리는 작업은 prefetch 1로 메시지를 쌓아두지 않음
+        defaults.put(RabbitMQConfig.SUMMARY_QUEUE, new QueueConsumer(1, 3, 1));
+        defaults.put(RabbitMQConfig.COMPLETE_QUEUE, new QueueConsumer(1, 2, 10));
+        // 통계 이벤트는 가볍고 양이 많으므로 prefetch와 최대 컨슈머를 크게
+        defaults.put(RabbitMQConfig.STATS_QUEUE, new QueueConsumer(1, 8, 50));
+        return defaults;
+    }
+
+    @Getter
+    @Setter
+    public static class QueueConsumer {
+        private int minConsumers = 1;
+        private int maxConsumers = 1;
+        private int prefetch = 1;
+
+        public QueueConsumer() {
+        }
+
+        public QueueConsumer(int minConsumers, int maxConsumers, int prefetch) {
+            this.minConsumers = minConsumers;
+            this.maxConsumers = maxConsumers;
+            this.prefetch = prefetch;
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Autoscale {
+        private boolean enabled = true;
+        // 컨슈머 1개가 감당할 대기 메시지 수
+        private int targetBacklogPerConsumer = 50;
+        // 현재 처리 속도로 큐를 비우는 데 걸리는 시간이 이보다 길면 컨슈머 추가
+        private Duration targetDrainTime = Duration.ofSeconds(30);
+        // 축소는 이 시간 동안 확장/축소가 없었을 때만 한 단계씩
+        private Duration scaleDownCooldown = Duration.ofMinutes(2);
+    }
+
+    @Getter
+    @Setter
+    public static class Management {
+        // 예: http://rabbitmq:15672 (비어 있으면 AMQP passive declare로 큐 깊이만 조회)
+        private String url = "";
+        private String virtualHost = "/";
+        private String username;
+        private String password;
+    }
+}
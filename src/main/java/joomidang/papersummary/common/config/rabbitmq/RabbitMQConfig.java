@@ -1,20 +1,33 @@
 package joomidang.papersummary.common.config.rabbitmq;
 
+import joomidang.papersummary.common.config.rabbitmq.RabbitPublisherProperties.MessageFormat;
+import joomidang.papersummary.common.metrics.PipelineLatencyMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.core.AcknowledgeMode;
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Declarables;
 import org.springframework.amqp.core.DirectExchange;
+import org.springframework.amqp.core.MessageProperties;
 import org.springframework.amqp.core.Queue;
 import org.springframework.amqp.rabbit.annotation.EnableRabbit;
 import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.config.RetryInterceptorBuilder;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.retry.MessageRecoverer;
+import org.springframework.amqp.support.converter.ContentTypeDelegatingMessageConverter;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
 @EnableRabbit
+@EnableConfigurationProperties({RabbitConsumerProperties.class, RabbitRetryProperties.class,
+        RabbitPublisherProperties.class})
+@RequiredArgsConstructor
 public class RabbitMQConfig {
     // 교환소
     public static final String EXCHANGE = "paper.direct"; //파싱/요약 등 논문 업로드 관련 이벤트를 라우팅하는 중앙 교환소
@@ -34,15 +47,41 @@ public class RabbitMQConfig {
     public static final String STATS_QUEUE = "stats.queue";
     public static final String ROUTING_KEY_STATS = "STATS_REQUESTED";
 
+    //큐별 리스너 컨테이너 팩토리 (컨슈머 수/prefetch를 큐마다 따로 관리)
+    public static final String PARSING_CONTAINER_FACTORY = "parsingContainerFactory";
+    public static final String SUMMARY_CONTAINER_FACTORY = "summaryContainerFactory";
+    public static final String COMPLETE_CONTAINER_FACTORY = "completeContainerFactory";
+    public static final String STATS_CONTAINER_FACTORY = "statsContainerFactory";
+
+    //리스너 ID (오토스케일러/actuator에서 컨테이너 식별용)
+    public static final String PARSING_LISTENER_ID = "paperParsingListener";
+    public static final String SUMMARY_LISTENER_ID = "summaryListener";
+    public static final String COMPLETE_LISTENER_ID = "summaryCompletedListener";
+    public static final String STATS_LISTENER_ID = "summaryStatsListener";
+
+    private static final long PARSING_SETTLE_INTERVAL_MS = 1_000;
+
+    private final RabbitPublisherProperties publisherProperties;
+
     @Bean
     public MessageConverter messageConverter() {
-        return new Jackson2JsonMessageConverter();
+        // 수신: content-type에 맞는 변환기 선택 (배포 중 남아 있는 JSON 메시지도 처리)
+        // 발신: content-type이 지정되지 않은 메시지는 rabbitmq.publisher.message-format 형식으로 변환
+        MessageConverter json = new Jackson2JsonMessageConverter();
+        MessageConverter smile = new SmileMessageConverter();
+        ContentTypeDelegatingMessageConverter converter = new ContentTypeDelegatingMessageConverter(
+                publisherProperties.getMessageFormat() == MessageFormat.JSON ? json : smile);
+        converter.addDelegate(MessageProperties.CONTENT_TYPE_JSON, json);
+        converter.addDelegate(SmileMessageConverter.CONTENT_TYPE, smile);
+        return converter;
     }
 
     @Bean
     public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory) {
         RabbitTemplate template = new RabbitTemplate(connectionFactory);
         template.setMessageConverter(messageConverter());
+        // 라우팅되지 않은 메시지를 returned로 돌려받아 발행 확인 결과에서 구분
+        template.setMandatory(true);
         return template;
     }
 
@@ -99,6 +138,14 @@ public class RabbitMQConfig {
                 .with(ROUTING_KEY_STATS);
     }
 
+    /**
+     * 재시도 큐(TTL 백오프)와 DLQ 선언
+     */
+    @Bean
+    public Declarables retryTopology(RabbitRetryProperties retryProperties) {
+        return new Declarables(RabbitRetryTopology.declarables(retryProperties));
+    }
+
     @Bean(name = "rabbitListenerContainerFactory")
     public SimpleRabbitListenerContainerFactory rabbitListenerContainerFactory(ConnectionFactory connectionFactory) {
         SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
@@ -107,4 +154,77 @@ public class RabbitMQConfig {
         factory.setDefaultRequeueRejected(false); // 예외 발생 시 메시지를 재큐하지 않음
         return factory;
     }
+
+    @Bean(name = PARSING_CONTAINER_FACTORY)
+    public SimpleRabbitListenerContainerFactory parsingContainerFactory(ConnectionFactory connectionFactory,
+                                                                       RabbitConsumerProperties properties,
+                                                                       PipelineLatencyMetrics latencyMetrics) {
+        // 파싱 요청은 FairParsingDispatcher가 MinerU 전달 후 직접 ack (실패 시 재시도 큐 전환도 디스패처에서 처리)
+        SimpleRabbitListenerContainerFactory factory =
+                createContainerFactory(connectionFactory, properties.forQueue(PARSING_QUEUE), latencyMetrics);
+        factory.setAcknowledgeMode(AcknowledgeMode.MANUAL);
+        // 디스패처가 쌓아 둔 ack를 새 메시지가 없어도 컨슈머 스레드에서 처리하도록 유휴 이벤트 발행 (PaperParsingConsumer)
+        factory.setIdleEventInterval(PARSING_SETTLE_INTERVAL_MS);
+        return factory;
+    }
+
+    @Bean(name = SUMMARY_CONTAINER_FACTORY)
+    public SimpleRabbitListenerContainerFactory summaryContainerFactory(ConnectionFactory connectionFactory,
+                                                                       RabbitConsumerProperties properties,
+                                                                       DelayedRetryMessageRecoverer recoverer,
+                                                                       PipelineLatencyMetrics latencyMetrics) {
+        return withDelayedRetry(
+                createContainerFactory(connectionFactory, properties.forQueue(SUMMARY_QUEUE), latencyMetrics),
+                recoverer);
+    }
+
+    @Bean(name = COMPLETE_CONTAINER_FACTORY)
+    public SimpleRabbitListenerContainerFactory completeContainerFactory(ConnectionFactory connectionFactory,
+                                                                        RabbitConsumerProperties properties,
+                                                                        DelayedRetryMessageRecoverer recoverer,
+                                                                        PipelineLatencyMetrics latencyMetrics) {
+        return withDelayedRetry(
+                createContainerFactory(connectionFactory, properties.forQueue(COMPLETE_QUEUE), latencyMetrics),
+                recoverer);
+    }
+
+    @Bean(name = STATS_CONTAINER_FACTORY)
+    public SimpleRabbitListenerContainerFactory statsContainerFactory(ConnectionFactory connectionFactory,
+                                                                     RabbitConsumerProperties properties,
+                                                                     PipelineLatencyMetrics latencyMetrics) {
+        return createContainerFactory(connectionFactory, properties.forQueue(STATS_QUEUE), latencyMetrics);
+    }
+
+    /**
+     * 큐 설정에 맞춘 리스너 컨테이너 팩토리 생성
+     * <p>
+     * concurrentConsumers는 최소값으로 시작하고, RabbitConsumerAutoscaler가 큐 상태에 따라 최대값까지 조정한다.
+     * maxConcurrentConsumers는 설정하지 않는다. 설정하면 컨테이너 자체 스케일링이 켜져 오토스케일러와 서로 값을 덮어쓴다.
+     */
+    private SimpleRabbitListenerContainerFactory createContainerFactory(
+            ConnectionFactory connectionFactory, RabbitConsumerProperties.QueueConsumer settings,
+            PipelineLatencyMetrics latencyMetrics) {
+        int minConsumers = Math.max(1, settings.getMinConsumers());
+
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        factory.setMessageConverter(messageConverter());
+        factory.setDefaultRequeueRejected(false); // 예외 발생 시 메시지를 재큐하지 않음
+        factory.setConcurrentConsumers(minConsumers);
+        factory.setPrefetchCount(Math.max(1, settings.getPrefetch()));
+        factory.setAfterReceivePostProcessors(new QueueWaitRecorder(latencyMetrics));
+        return factory;
+    }
+
+    /**
+     * 리스너 실패 시 컨슈머 스레드에서 재시도하지 않고(시도 1회) 재시도 큐/DLQ로 넘긴 뒤 ack
+     */
+    private SimpleRabbitListenerContainerFactory withDelayedRetry(SimpleRabbitListenerContainerFactory factory,
+                                                                  MessageRecoverer recoverer) {
+        factory.setAdviceChain(RetryInterceptorBuilder.stateless()
+                .maxAttempts(1)
+                .recoverer(recoverer)
+                .build());
+        return factory;
+    }
 }
@@ -0,0 +1,56 @@
+package joomidang.papersummary.common.config.rabbitmq;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 이벤트 발행 설정 (rabbitmq.publisher.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rabbitmq.publisher")
+public class RabbitPublisherProperties {
+
+    /**
+     * 브로커 확인(confirm)을 기다리는 최대 메시지 수, 초과 시 발행 호출이 acquireTimeout까지 대기
+     */
+    private int maxInFlight = 256;
+
+    private Duration acquireTimeout = Duration.ofSeconds(5);
+
+    /**
+     * 이 시간 안에 confirm이 오지 않으면 재전송
+     */
+    private Duration confirmTimeout = Duration.ofSeconds(10);
+
+    /**
+     * nack/타임아웃 시 최대 재전송 횟수
+     */
+    private int maxResends = 3;
+
+    private Duration resendDelay = Duration.ofMillis(200);
+
+    /**
+     * 발행 메시지 형식. 수신은 content-type을 보고 두 형식 모두 처리하므로, 롤링 배포 중 이전 버전 컨슈머가 읽을 수 있도록 기본은
+     * json이고, 모든 컨슈머가 갱신된 뒤 설정(RABBITMQ_MESSAGE_FORMAT=smile)으로 바꾼다.
+     */
+    private MessageFormat messageFormat = MessageFormat.JSON;
+
+    private StatsBatch statsBatch = new StatsBatch();
+
+    public enum MessageFormat {
+        JSON, SMILE
+    }
+
+    @Getter
+    @Setter
+    public static class StatsBatch {
+        // 한 프레임에 담을 최대 통계 이벤트 수
+        private int size = 100;
+        // 한 프레임 최대 바이트
+        private int bufferLimit = 64 * 1024;
+        // 배치가 차지 않아도 전송하는 주기는 rabbitmq.publisher.stats-batch.interval-ms (기본 50ms)
+    }
+}
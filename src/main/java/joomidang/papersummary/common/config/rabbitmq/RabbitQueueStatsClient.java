@@ -0,0 +1,88 @@
+package joomidang.papersummary.common.config.rabbitmq;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Properties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.rabbit.core.RabbitAdmin;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * 큐 깊이와 처리 속도 조회
+ * <p>
+ * RabbitMQ 관리 API(/api/queues/{vhost}/{queue})를 우선 사용하고, URL이 설정되지 않았거나 호출이 실패하면 AMQP passive declare로 큐 깊이만 조회한다.
+ */
+@Slf4j
+@Component
+public class RabbitQueueStatsClient {
+    private final AmqpAdmin amqpAdmin;
+    private final RestTemplate restTemplate;
+    private final RabbitConsumerProperties.Management management;
+    private final String defaultUsername;
+    private final String defaultPassword;
+
+    public RabbitQueueStatsClient(AmqpAdmin amqpAdmin,
+                                  RestTemplate restTemplate,
+                                  RabbitConsumerProperties properties,
+                                  @Value("${spring.rabbitmq.username:guest}") String defaultUsername,
+                                  @Value("${spring.rabbitmq.password:guest}") String defaultPassword) {
+        this.amqpAdmin = amqpAdmin;
+        this.restTemplate = restTemplate;
+        this.management = properties.getManagement();
+        this.defaultUsername = defaultUsername;
+        this.defaultPassword = defaultPassword;
+    }
+
+    public QueueStats fetch(String queueName) {
+        if (StringUtils.hasText(management.getUrl())) {
+            try {
+                return fetchFromManagementApi(queueName);
+            } catch (Exception e) {
+                log.warn("RabbitMQ 관리 API 조회 실패, AMQP 조회로 대체: queue={}, error={}", queueName, e.getMessage());
+            }
+        }
+        return fetchFromAmqp(queueName);
+    }
+
+    private QueueStats fetchFromManagementApi(String queueName) {
+        URI uri = URI.create(management.getUrl().replaceAll("/+$", "")
+                + "/api/queues/"
+                + URLEncoder.encode(management.getVirtualHost(), StandardCharsets.UTF_8) + "/"
+                + URLEncoder.encode(queueName, StandardCharsets.UTF_8));
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBasicAuth(
+                StringUtils.hasText(management.getUsername()) ? management.getUsername() : defaultUsername,
+                StringUtils.hasText(management.getPassword()) ? management.getPassword() : defaultPassword);
+
+        JsonNode body = restTemplate.exchange(uri, HttpMethod.GET, new HttpEntity<>(headers), JsonNode.class)
+                .getBody();
+        if (body == null) {
+            throw new IllegalStateException("빈 응답");
+        }
+
+        long depth = body.path("messages_ready").asLong(0) + body.path("messages_unacknowledged").asLong(0);
+        int consumers = body.path("consumers").asInt(0);
+        JsonNode ackRate = body.path("message_stats").path("ack_details").path("rate");
+        return new QueueStats(depth, consumers, ackRate.isNumber() ? ackRate.asDouble() : 0.0);
+    }
+
+    private QueueStats fetchFromAmqp(String queueName) {
+        Properties queueProperties = amqpAdmin.getQueueProperties(queueName);
+        if (queueProperties == null) {
+            return new QueueStats(0, 0, QueueStats.UNKNOWN_RATE);
+        }
+        long depth = ((Number) queueProperties.getOrDefault(RabbitAdmin.QUEUE_MESSAGE_COUNT, 0)).longValue();
+        int consumers = ((Number) queueProperties.getOrDefault(RabbitAdmin.QUEUE_CONSUMER_COUNT, 0)).intValue();
+        return new QueueStats(depth, consumers, QueueStats.UNKNOWN_RATE);
+    }
+}
@@ -0,0 +1,51 @@
+package joomidang.papersummary.common.config.rabbitmq;
+
+import java.time.Duration;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 재시도/데드레터 설정 (rabbitmq.retry.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rabbitmq.retry")
+public class RabbitRetryProperties {
+
+    /**
+     * 최초 처리를 포함한 최대 시도 횟수 (초과 시 DLQ로 이동)
+     */
+    private int maxAttempts = 4;
+
+    /**
+     * 첫 번째 재시도까지의 대기 시간
+     */
+    private Duration initialInterval = Duration.ofSeconds(2);
+
+    /**
+     * 재시도마다 대기 시간에 곱하는 값 (2초 → 10초 → 50초)
+     */
+    private double multiplier = 5.0;
+
+    /**
+     * 재시도/DLQ를 적용할 큐
+     */
+    private List<String> queues = List.of(
+            RabbitMQConfig.PARSING_QUEUE,
+            RabbitMQConfig.SUMMARY_QUEUE,
+            RabbitMQConfig.COMPLETE_QUEUE
+    );
+
+    public int retryLevels() {
+        return Math.max(0, maxAttempts - 1);
+    }
+
+    /**
+     * level번째 재시도 대기 시간 (level은 1부터)
+     */
+    public Duration delayOf(int level) {
+        return Duration.ofMillis((long) (initialInterval.toMillis() * Math.pow(multiplier, level - 1)));
+    }
+}
@@ -0,0 +1,76 @@
+package joomidang.papersummary.common.config.rabbitmq;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Declarable;
+import org.springframework.amqp.core.DirectExchange;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
+
+/**
+ * 재시도 큐/데드레터 큐 이름 규칙과 토폴로지 정의
+ * <p>
+ * 큐 Q마다:
+ * <p>
+ * - 재시도 교환소 Q.retry → 재시도 큐 Q.retry.{n} (라우팅 키 n): 큐 단위 TTL이 지나면 기본 교환소를 통해 Q로 돌아감
+ * <p>
+ * - 데드레터 교환소 paper.dlx → Q.dlq (라우팅 키 Q)
+ * <p>
+ * 메시지별 TTL은 큐 앞쪽 메시지가 만료될 때까지 뒤 메시지가 막히므로, 대기 시간별로 큐를 나누어 큐 단위 TTL을 사용한다. 기존 작업 큐의 인자는 바꾸지 않는다. (인자가 다르면 재선언
+ * 실패)
+ */
+public final class RabbitRetryTopology {
+    public static final String DEAD_LETTER_EXCHANGE = "paper.dlx";
+
+    // 재시도 관련 헤더
+    public static final String HEADER_ATTEMPT = "x-retry-attempt";
+    public static final String HEADER_MAX_ATTEMPTS = "x-max-attempts";
+    public static final String HEADER_ORIGINAL_QUEUE = "x-original-queue";
+    public static final String HEADER_EXCEPTION_TYPE = "x-exception-type";
+    public static final String HEADER_EXCEPTION_MESSAGE = "x-exception-message";
+    public static final String HEADER_FAILED_AT = "x-failed-at";
+
+    private RabbitRetryTopology() {
+    }
+
+    public static String retryExchange(String queue) {
+        return queue + ".retry";
+    }
+
+    public static String retryQueue(String queue, int level) {
+        return queue + ".retry." + level;
+    }
+
+    public static String deadLetterQueue(String queue) {
+        return queue + ".dlq";
+    }
+
+    static List<Declarable> declarables(RabbitRetryProperties properties) {
+        List<Declarable> declarables = new ArrayList<>();
+        DirectExchange deadLetterExchange = new DirectExchange(DEAD_LETTER_EXCHANGE);
+        declarables.add(deadLetterExchange);
+
+        for (String queue : properties.getQueues()) {
+            DirectExchange retryExchange = new DirectExchange(retryExchange(queue));
+            declarables.add(retryExchange);
+
+            for (int level = 1; level <= properties.retryLevels(); level++) {
+                Queue retryQueue = QueueBuilder.durable(retryQueue(queue, level))
+                        .ttl((int) properties.delayOf(level).toMillis())
+                        .deadLetterExchange("") // 기본 교환소: 라우팅 키 = 큐 이름
+                        .deadLetterRoutingKey(queue)
+                        .build();
+                declarables.add(retryQueue);
+                declarables.add(BindingBuilder.bind(retryQueue).to(retryExchange).with(String.valueOf(level)));
+            }
+
+            Queue deadLetterQueue = QueueBuilder.durable(deadLetterQueue(queue)).build();
+            Binding deadLetterBinding = BindingBuilder.bind(deadLetterQueue).to(deadLetterExchange).with(queue);
+            declarables.add(deadLetterQueue);
+            declarables.add(deadLetterBinding);
+        }
+        return declarables;
+    }
+}
@@ -0,0 +1,23 @@
+package joomidang.papersummary.common.config.rabbitmq;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.amqp.support.converter.AbstractJackson2MessageConverter;
+import org.springframework.util.MimeType;
+
+/**
+ * Jackson Smile(바이너리 JSON) 메시지 변환기
+ * <p>
+ * Jackson2JsonMessageConverter와 같은 타입 매핑(__TypeId__ 헤더, 리스너 파라미터 타입 추론)을 사용하므로 이벤트 record를 그대로 쓸 수 있고,
+ * 숫자/문자열 길이를 바이너리로 인코딩해 JSON보다 메시지가 작고 파싱이 빠르다.
+ */
+public class SmileMessageConverter extends AbstractJackson2MessageConverter {
+    public static final String CONTENT_TYPE = "application/x-jackson-smile";
+
+    public SmileMessageConverter() {
+        super(new ObjectMapper(new SmileFactory())
+                        .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false),
+                MimeType.valueOf(CONTENT_TYPE), "*");
+    }
+}
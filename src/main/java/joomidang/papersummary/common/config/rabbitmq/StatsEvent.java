@@ -0,0 +1,18 @@
+package joomidang.papersummary.common.config.rabbitmq;
+
+/**
+ * 요약본 통계(조회수, 좋아요수, 댓글수) 변경 이벤트
+ * <p>
+ * 이전에 Map({"summaryId", "type"})으로 발행된 메시지도 같은 필드명이라 그대로 읽히며, 이 경우 version은 0이다.
+ */
+public record StatsEvent(
+        int version,
+        Long summaryId,
+        StatsType type
+) {
+    public static final int CURRENT_VERSION = 1;
+
+    public StatsEvent(Long summaryId, StatsType type) {
+        this(CURRENT_VERSION, summaryId, type);
+    }
+}
@@ -1,23 +1,74 @@
 package joomidang.papersummary.common.config.rabbitmq;
 
-import java.util.Map;
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.batch.MessageBatch;
+import org.springframework.amqp.rabbit.batch.SimpleBatchingStrategy;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 /**
  * 요약본의 상태(조회수, 좋아요수, 댓글수) 관련 이벤트를 RabbitMQ로 발행하는 컴포넌트
+ * <p>
+ * 통계 이벤트는 작고 빈번하므로 여러 건을 하나의 프레임으로 묶어 발행한다. 배치가 차거나(size, bufferLimit) 주기(interval-ms)가 지나면
+ * 전송하며, 리스너 컨테이너가 배치를 다시 개별 메시지로 풀어 SummaryStatsConsumer에 전달한다.
  */
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class StatsEventPublisher {
     private final RabbitTemplate rabbitTemplate;
+    private final ConfirmingRabbitPublisher confirmingPublisher;
+    private final SimpleBatchingStrategy batchingStrategy;
+
+    public StatsEventPublisher(RabbitTemplate rabbitTemplate,
+                               ConfirmingRabbitPublisher confirmingPublisher,
+                               RabbitPublisherProperties properties) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.confirmingPublisher = confirmingPublisher;
+        RabbitPublisherProperties.StatsBatch batch = properties.getStatsBatch();
+        // 전송 시점은 flush()가 정하므로 전략 자체의 timeout은 사용하지 않는다
+        this.batchingStrategy = new SimpleBatchingStrategy(batch.getSize(), batch.getBufferLimit(), Long.MAX_VALUE);
+    }
 
     /**
      * summaryId: 요약본 ID type: "VIEW" | "LIKE" | "DISLIKE" |"COMMENT" | "UNCOMMENT"
      */
     public void publish(Long summaryId, StatsType type) {
-        Map<String, Object> eventMessage = Map.of("summaryId", summaryId, "type", type.toString());
-        rabbitTemplate.convertAndSend(RabbitMQConfig.EXCHANGE, RabbitMQConfig.ROUTING_KEY_STATS, eventMessage);
+        Message message = rabbitTemplate.getMessageConverter()
+                .toMessage(new StatsEvent(summaryId, type), new MessageProperties());
+
+        MessageBatch full;
+        synchronized (batchingStrategy) {
+            full = batchingStrategy.addToBatch(RabbitMQConfig.EXCHANGE, RabbitMQConfig.ROUTING_KEY_STATS, message);
+        }
+        if (full != null) {
+            send(full);
+        }
+    }
+
+    /**
+     * 주기적으로 쌓인 배치 전송
+     */
+    @Scheduled(fixedDelayString = "${rabbitmq.publisher.stats-batch.interval-ms:50}")
+    @PreDestroy
+    public void flush() {
+        Iterable<MessageBatch> batches;
+        synchronized (batchingStrategy) {
+            batches = batchingStrategy.releaseBatches();
+        }
+        batches.forEach(this::send);
+    }
+
+    private void send(MessageBatch batch) {
+        confirmingPublisher.send(batch.exchange(), batch.routingKey(), batch.message())
+                .whenComplete((ignored, error) -> {
+                    if (error != null) {
+                        log.error("통계 이벤트 배치 발행 최종 실패: routingKey={}, error={}",
+                                batch.routingKey(), error.getMessage());
+                    }
+                });
     }
 }
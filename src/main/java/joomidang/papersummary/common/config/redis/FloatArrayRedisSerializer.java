@@ -0,0 +1,43 @@
+package joomidang.papersummary.common.config.redis;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * 임베딩 벡터(float[])를 Redis에 바이너리로 저장하는 직렬화기
+ * <p>
+ * JSON 배열로 저장하면 역직렬화 시 List&lt;Double&gt;로 복원되어 다시 float[]로 변환해야 하므로, little-endian 4바이트 float 배열로 그대로
+ * 저장한다. (384차원 기준 약 1.5KB, JSON 대비 1/3 수준)
+ */
+public class FloatArrayRedisSerializer implements RedisSerializer<float[]> {
+
+    @Override
+    public byte[] serialize(float[] value) throws SerializationException {
+        if (value == null) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(value.length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asFloatBuffer().put(value);
+        return buffer.array();
+    }
+
+    @Override
+    public float[] deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null) {
+            return null;
+        }
+        if (bytes.length % Float.BYTES != 0) {
+            throw new SerializationException("float[] 역직렬화 실패: 잘못된 길이 " + bytes.length);
+        }
+        float[] value = new float[bytes.length / Float.BYTES];
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer().get(value);
+        return value;
+    }
+
+    @Override
+    public Class<?> getTargetType() {
+        return float[].class;
+    }
+}
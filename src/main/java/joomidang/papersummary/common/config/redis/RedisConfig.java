@@ -4,7 +4,13 @@ import static com.fasterxml.jackson.databind.DeserializationFeature.FAIL_ON_UNKN
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import joomidang.papersummary.common.service.SseEventRelay;
+import joomidang.papersummary.common.service.SseService;
+import joomidang.papersummary.paper.dispatch.FairParsingDispatcher;
+import joomidang.papersummary.paper.dispatch.ParsingSlotRelay;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
@@ -16,11 +22,14 @@ import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+@Slf4j
 @Configuration
 @EnableCaching
 @EnableRedisRepositories(
@@ -80,7 +89,11 @@ public class RedisConfig {
         return RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(defaultConfig)
                 .withCacheConfiguration("similarSummaries", defaultConfig.entryTtl(Duration.ofHours(24)))
-                .withCacheConfiguration("embeddings", defaultConfig.entryTtl(Duration.ofDays(7)))
+                // 임베딩은 float[] 바이너리로 저장, 기존 JSON 엔트리와 섞이지 않도록 키 prefix 분리
+                .withCacheConfiguration("embeddings", defaultConfig.entryTtl(Duration.ofDays(7))
+                        .computePrefixWith(cacheName -> "vec:" + cacheName + "::")
+                        .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                                new FloatArrayRedisSerializer())))
                 .build();
     }
 
@@ -111,4 +124,66 @@ public class RedisConfig {
         template.afterPropertiesSet();
         return template;
     }
+
+    /**
+     * 임베딩 벡터 전용 RedisTemplate (float[]를 바이너리로 저장, 해시 값도 동일)
+     */
+    @Bean
+    @ConditionalOnProperty(name = "spring.data.redis.enabled", havingValue = "true", matchIfMissing = true)
+    public RedisTemplate<String, float[]> vectorRedisTemplate(RedisConnectionFactory connectionFactory) {
+        RedisTemplate<String, float[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(new FloatArrayRedisSerializer());
+        template.setHashKeySerializer(new StringRedisSerializer());
+        template.setHashValueSerializer(new FloatArrayRedisSerializer());
+        template.afterPropertiesSet();
+        return template;
+    }
+
+    /**
+     * SSE 이벤트 채널 구독 (다른 노드에서 발행한 이벤트를 이 노드의 연결로 전송)
+     */
+    @Bean
+    @ConditionalOnProperty(name = "spring.data.redis.enabled", havingValue = "true", matchIfMissing = true)
+    public RedisMessageListenerContainer sseRelayListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            SseEventRelay relay,
+            SseService sseService
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener((message, pattern) -> {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            try {
+                sseService.deliver(relay.decode(body));
+            } catch (Exception e) {
+                log.error("SSE 이벤트 수신 처리 실패 → body={}, error={}", body, e.getMessage());
+            }
+        }, new ChannelTopic(SseEventRelay.CHANNEL));
+        return container;
+    }
+
+    /**
+     * 파싱 슬롯 반납 채널 구독 (다른 노드가 받은 파싱 콜백으로 이 노드의 슬롯 반납)
+     */
+    @Bean
+    @ConditionalOnProperty(name = "spring.data.redis.enabled", havingValue = "true", matchIfMissing = true)
+    public RedisMessageListenerContainer parsingSlotListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            ParsingSlotRelay relay,
+            FairParsingDispatcher dispatcher
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener((message, pattern) -> {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            try {
+                dispatcher.releaseSlot(relay.decode(body));
+            } catch (Exception e) {
+                log.error("파싱 슬롯 반납 수신 처리 실패 → body={}, error={}", body, e.getMessage());
+            }
+        }, new ChannelTopic(ParsingSlotRelay.CHANNEL));
+        return container;
+    }
 }
@@ -22,6 +22,7 @@ public class RedisStartupCleaner {
         log.info("[local] Redis 캐시 초기화 시작");
 
         deleteByPattern("embedding:*");
+        deleteByPattern("embedding_vec:*");
         deleteByPattern("similar_summaries:*");
     }
 
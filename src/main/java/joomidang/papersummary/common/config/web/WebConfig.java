@@ -2,20 +2,30 @@ package joomidang.papersummary.common.config.web;
 
 import java.util.List;
 import joomidang.papersummary.auth.resolver.AuthenticatedArgumentResolver;
+import joomidang.papersummary.paper.admission.AdmissionInterceptor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
 @RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
     private final AuthenticatedArgumentResolver authenticatedArgumentResolver;
+    private final AdmissionInterceptor admissionInterceptor;
 
     @Override
     public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
         resolvers.add(authenticatedArgumentResolver);
     }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(admissionInterceptor)
+                .addPathPatterns(AdmissionInterceptor.UPLOAD_PATH, AdmissionInterceptor.DIRECT_UPLOAD_PATH,
+                        AdmissionInterceptor.RESUMABLE_UPLOAD_PATH, AdmissionInterceptor.ANALYSIS_PATH);
+    }
 //
 //    @Override
 //    public void addCorsMappings(CorsRegistry registry) {
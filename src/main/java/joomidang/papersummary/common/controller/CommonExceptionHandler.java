@@ -4,9 +4,12 @@ import static joomidang.papersummary.common.exception.CommonErrorCode.INTERNAL_S
 import static org.springframework.http.ResponseEntity.internalServerError;
 
 import joomidang.papersummary.common.controller.response.ApiResponse;
+import joomidang.papersummary.common.exception.SseConnectionLimitException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -22,6 +25,15 @@ public class CommonExceptionHandler {
         return ResponseEntity.notFound().build();
     }
 
+    @ExceptionHandler
+    public ResponseEntity<ApiResponse<Void>> handleSseConnectionLimitException(final SseConnectionLimitException ex) {
+        log.warn("SSE connection limit: {}", ex.getMessage());
+        // 이 노드만 가득 찬 것이므로 503으로 응답해 로드밸런서/클라이언트가 다른 노드로 재연결하도록 함
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(ApiResponse.fail(ex.getErrorCode(), ex.getMessage()));
+    }
+
     @ExceptionHandler
     public ResponseEntity<ApiResponse<Void>> handleException(final Exception ex) {
         log.error("Exception: {}", ex.getMessage());
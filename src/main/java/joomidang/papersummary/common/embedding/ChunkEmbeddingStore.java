@@ -0,0 +1,110 @@
+package joomidang.papersummary.common.embedding;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요약본별 청크 임베딩 저장소
+ * <p>
+ * Redis 해시 chunk_vec:{summaryId} 에 (청크 내용 해시 → float[] 벡터)를 저장한다. 재발행 시 내용이 바뀌지 않은 청크는 저장된 벡터를 그대로 재사용하고,
+ * 새로 생기거나 바뀐 청크만 임베딩한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChunkEmbeddingStore {
+    private static final String CHUNK_VECTOR_PREFIX = "chunk_vec:";
+    // 재발행 주기보다 충분히 길게, 발행할 때마다 갱신
+    private static final Duration CHUNK_VECTOR_TTL = Duration.ofDays(30);
+
+    private final RedisTemplate<String, float[]> vectorRedisTemplate;
+
+    /**
+     * 청크 내용 해시 (모델이 바뀌면 다른 해시가 되도록 모델 ID 포함)
+     */
+    public String hash(String modelId, String chunk) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(modelId.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+            byte[] hashed = digest.digest(chunk.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hashed);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다", e);
+        }
+    }
+
+    /**
+     * 저장된 청크 벡터 조회
+     *
+     * @param summaryId   요약 ID
+     * @param chunkHashes 조회할 청크 해시 목록
+     * @return 저장되어 있는 청크만 담은 (해시 → 벡터) 맵, Redis 오류 시 빈 맵
+     */
+    public Map<String, float[]> findAll(Long summaryId, List<String> chunkHashes) {
+        Map<String, float[]> found = new HashMap<>();
+        if (chunkHashes.isEmpty()) {
+            return found;
+        }
+
+        try {
+            List<float[]> vectors = hashOperations().multiGet(key(summaryId), chunkHashes);
+            for (int i = 0; i < chunkHashes.size(); i++) {
+                float[] vector = vectors.get(i);
+                if (vector != null && vector.length > 0) {
+                    found.put(chunkHashes.get(i), vector);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("청크 임베딩 조회 실패, 전체 재임베딩: summaryId={}, error={}", summaryId, e.getMessage());
+        }
+        return found;
+    }
+
+    /**
+     * 현재 청크 벡터로 교체 저장 (더 이상 없는 청크의 벡터는 제거)
+     */
+    public void replaceAll(Long summaryId, Map<String, float[]> chunkVectors) {
+        String key = key(summaryId);
+        try {
+            vectorRedisTemplate.delete(key);
+            if (!chunkVectors.isEmpty()) {
+                hashOperations().putAll(key, chunkVectors);
+                vectorRedisTemplate.expire(key, CHUNK_VECTOR_TTL);
+            }
+            log.debug("청크 임베딩 저장 완료: summaryId={}, chunks={}", summaryId, chunkVectors.size());
+        } catch (Exception e) {
+            log.warn("청크 임베딩 저장 실패: summaryId={}, error={}", summaryId, e.getMessage());
+        }
+    }
+
+    /**
+     * 요약 삭제 시 저장된 청크 벡터 제거
+     */
+    public void deleteAll(Long summaryId) {
+        try {
+            vectorRedisTemplate.delete(key(summaryId));
+        } catch (Exception e) {
+            log.warn("청크 임베딩 삭제 실패: summaryId={}, error={}", summaryId, e.getMessage());
+        }
+    }
+
+    private HashOperations<String, String, float[]> hashOperations() {
+        return vectorRedisTemplate.opsForHash();
+    }
+
+    private String key(Long summaryId) {
+        return CHUNK_VECTOR_PREFIX + summaryId;
+    }
+}
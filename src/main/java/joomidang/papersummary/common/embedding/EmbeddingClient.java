@@ -1,7 +1,5 @@
 package joomidang.papersummary.common.embedding;
 
-import java.util.List;
-
 public interface EmbeddingClient {
-    List<Float> embed(String modelId, String input);
+    float[] embed(String modelId, String input);
 }
@@ -0,0 +1,203 @@
+package joomidang.papersummary.common.embedding;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * HuggingFace feature-extraction 응답을 스트리밍 방식으로 파싱하는 파서
+ * <p>
+ * JsonNode 트리나 List&lt;Float&gt;를 만들지 않고 Jackson JsonParser로 토큰을 읽으면서 바로 float[]에 채운다.
+ * <p>
+ * 지원하는 응답 형태:
+ * <p>
+ * - [f, f, …] 단일 벡터
+ * <p>
+ * - [[f, f, …]] / [[[f, …]]] 배치 응답 (첫 번째 벡터만 사용)
+ * <p>
+ * - ["java.util.ArrayList", [ … ]] 타입 정보가 포함된 응답
+ * <p>
+ * - [["java.lang.Float", f], …] 타입 정보가 포함된 원소
+ */
+public class EmbeddingResponseParser {
+    // paraphrase-multilingual-MiniLM-L12-v2 모델 차원 수
+    public static final int DEFAULT_EXPECTED_DIMENSION = 384;
+
+    private final JsonFactory jsonFactory;
+    private final int expectedDimension;
+
+    public EmbeddingResponseParser(JsonFactory jsonFactory) {
+        this(jsonFactory, DEFAULT_EXPECTED_DIMENSION);
+    }
+
+    public EmbeddingResponseParser(JsonFactory jsonFactory, int expectedDimension) {
+        this.jsonFactory = jsonFactory;
+        this.expectedDimension = Math.max(1, expectedDimension);
+    }
+
+    /**
+     * 응답 스트림을 읽어 임베딩 벡터로 변환
+     */
+    public float[] parse(InputStream body) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            return parse(parser);
+        }
+    }
+
+    /**
+     * 응답 바이트를 읽어 임베딩 벡터로 변환
+     */
+    public float[] parse(byte[] body) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            return parse(parser);
+        }
+    }
+
+    private float[] parse(JsonParser parser) throws IOException {
+        JsonToken root = parser.nextToken();
+        if (root != JsonToken.START_ARRAY) {
+            throw new IllegalStateException("응답이 배열 형태가 아닙니다: " + root);
+        }
+
+        float[] embedding = readArray(parser, parser.nextToken());
+        if (embedding.length == 0) {
+            throw new IllegalStateException("임베딩 벡터가 비어 있습니다");
+        }
+        return embedding;
+    }
+
+    /**
+     * 배열 하나를 읽는다. first는 배열 안의 첫 번째 토큰이며, 반환 시 해당 배열의 END_ARRAY까지 소비한 상태가 된다.
+     */
+    private float[] readArray(JsonParser parser, JsonToken first) throws IOException {
+        if (first == null || first == JsonToken.END_ARRAY) {
+            return new float[0];
+        }
+
+        // 1) ["java.util.ArrayList", [ … ]] 형태: 타입 문자열을 건너뛰고 두 번째 배열로 내려간다
+        if (first == JsonToken.VALUE_STRING) {
+            float[] embedding = readWrapped(parser);
+            skipToEndOfArray(parser);
+            return embedding;
+        }
+
+        // 2) 숫자 배열: 이 배열이 곧 벡터
+        if (first.isNumeric()) {
+            FloatCollector collector = new FloatCollector(expectedDimension);
+            collector.add(parser.getFloatValue());
+            return readVectorElements(parser, collector);
+        }
+
+        if (first != JsonToken.START_ARRAY) {
+            throw new IllegalStateException("벡터 요소 파싱 실패: " + first);
+        }
+
+        // 3) 첫 원소가 배열인 경우: ["java.lang.Float", f] 쌍인지, 배치 응답인지 구분한다
+        JsonToken second = parser.nextToken();
+        if (second == JsonToken.VALUE_STRING) {
+            JsonToken third = parser.nextToken();
+            if (third != null && third.isNumeric()) {
+                // [["java.lang.Float", f], …] 형태: 이 배열이 벡터
+                FloatCollector collector = new FloatCollector(expectedDimension);
+                collector.add(parser.getFloatValue());
+                skipToEndOfArray(parser);
+                return readVectorElements(parser, collector);
+            }
+            if (third == JsonToken.START_ARRAY) {
+                // [["java.util.ArrayList", [ … ]], …] 형태
+                float[] embedding = readArray(parser, parser.nextToken());
+                skipToEndOfArray(parser);
+                skipToEndOfArray(parser);
+                return embedding;
+            }
+            throw new IllegalStateException("벡터 요소 파싱 실패: " + third);
+        }
+
+        // 4) [[ … ], [ … ]] 배치 응답: 첫 번째 배열만 사용하고 나머지는 건너뛴다
+        float[] embedding = readArray(parser, second);
+        skipToEndOfArray(parser);
+        return embedding;
+    }
+
+    private float[] readWrapped(JsonParser parser) throws IOException {
+        JsonToken next = parser.nextToken();
+        if (next != JsonToken.START_ARRAY) {
+            throw new IllegalStateException("타입 정보 다음에 배열이 없습니다: " + next);
+        }
+        return readArray(parser, parser.nextToken());
+    }
+
+    /**
+     * 첫 원소 이후의 벡터 원소를 읽는다. 숫자 또는 ["java.lang.Float", f] 쌍을 허용한다.
+     */
+    private float[] readVectorElements(JsonParser parser, FloatCollector collector) throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == null) {
+                throw new IllegalStateException("응답이 예상보다 일찍 끝났습니다");
+            }
+            if (token.isNumeric()) {
+                collector.add(parser.getFloatValue());
+            } else if (token == JsonToken.START_ARRAY) {
+                collector.add(readTypedFloat(parser));
+            } else {
+                throw new IllegalStateException("벡터 요소 파싱 실패: " + token);
+            }
+        }
+        return collector.toArray();
+    }
+
+    private float readTypedFloat(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.VALUE_STRING) {
+            token = parser.nextToken();
+        }
+        if (token == null || !token.isNumeric()) {
+            throw new IllegalStateException("벡터 요소 파싱 실패: " + token);
+        }
+        float value = parser.getFloatValue();
+        skipToEndOfArray(parser);
+        return value;
+    }
+
+    /**
+     * 현재 배열의 남은 원소를 모두 건너뛰고 END_ARRAY까지 소비
+     */
+    private void skipToEndOfArray(JsonParser parser) throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == null) {
+                throw new IllegalStateException("응답이 예상보다 일찍 끝났습니다");
+            }
+            if (token == JsonToken.START_ARRAY || token == JsonToken.START_OBJECT) {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    /**
+     * 예상 차원 수로 미리 할당한 float 버퍼. 차원이 맞으면 추가 복사 없이 그대로 반환한다.
+     */
+    private static final class FloatCollector {
+        private float[] values;
+        private int size;
+
+        private FloatCollector(int initialCapacity) {
+            this.values = new float[initialCapacity];
+        }
+
+        private void add(float value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, values.length << 1);
+            }
+            values[size++] = value;
+        }
+
+        private float[] toArray() {
+            return size == values.length ? values : Arrays.copyOf(values, size);
+        }
+    }
+}
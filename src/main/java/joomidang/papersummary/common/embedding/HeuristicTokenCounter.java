@@ -0,0 +1,53 @@
+package joomidang.papersummary.common.embedding;
+
+/**
+ * 임베딩 청크 크기를 정할 때 쓰는 토큰 수 추정기 (근사치)
+ * <p>
+ * 다국어 SentencePiece 토크나이저가 한글을 거의 음절 단위로 자르는 점을 반영해 문자 종류별로 보수적으로(많게) 센다.
+ * <p>
+ * - 한글 음절, 한자, 가나: 글자당 1토큰
+ * <p>
+ * - 라틴 문자/숫자 단어: 4글자당 1토큰 (최소 1)
+ * <p>
+ * - 구두점/기호: 1토큰
+ */
+public class HeuristicTokenCounter implements TokenCounter {
+    private static final int LATIN_CHARS_PER_TOKEN = 4;
+
+    @Override
+    public int count(CharSequence text, int start, int end) {
+        int tokens = 0;
+        int latinRun = 0;
+
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c < 128 ? Character.isLetterOrDigit(c) : isOtherLetter(c)) {
+                latinRun++;
+                continue;
+            }
+            tokens += latinTokens(latinRun);
+            latinRun = 0;
+
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            // 한글/한자/가나/구두점 등은 글자당 1토큰
+            tokens++;
+        }
+        return tokens + latinTokens(latinRun);
+    }
+
+    private static boolean isOtherLetter(char c) {
+        // 한글·CJK·가나는 글자 단위로 세고, 그 밖의 문자(악센트 라틴 등)는 단어 단위로 묶는다
+        Character.UnicodeScript script = Character.UnicodeScript.of(c);
+        return Character.isLetterOrDigit(c)
+                && script != Character.UnicodeScript.HANGUL
+                && script != Character.UnicodeScript.HAN
+                && script != Character.UnicodeScript.HIRAGANA
+                && script != Character.UnicodeScript.KATAKANA;
+    }
+
+    private static int latinTokens(int run) {
+        return run == 0 ? 0 : (run + LATIN_CHARS_PER_TOKEN - 1) / LATIN_CHARS_PER_TOKEN;
+    }
+}
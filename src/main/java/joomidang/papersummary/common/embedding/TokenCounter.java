@@ -0,0 +1,20 @@
+package joomidang.papersummary.common.embedding;
+
+/**
+ * 임베딩 모델 기준 토큰 수 계산기
+ * <p>
+ * 구현은 모두 근사치다. 임베딩 모델(paraphrase-multilingual-MiniLM-L12-v2)은 SentencePiece 토크나이저를 쓰는데, 여기서는 문자 종류별
+ * 추정으로 센다. 길이 제한에 맞출 때는 호출하는 쪽에서 여유분을 남겨야 한다. (EmbeddingConfig의
+ * embedding.chunk.safety-margin)
+ */
+public interface TokenCounter {
+
+    /**
+     * text[start, end) 구간의 토큰 수 ({@code <s>}/{@code </s>} 같은 특수 토큰 제외)
+     */
+    int count(CharSequence text, int start, int end);
+
+    default int count(CharSequence text) {
+        return count(text, 0, text.length());
+    }
+}
@@ -8,6 +8,7 @@ import lombok.RequiredArgsConstructor;
 @Getter
 public enum CommonErrorCode implements ErrorCode {
     INTERNAL_SERVER_ERROR("IA-0001"),
+    SSE_CONNECTION_LIMIT("IA-0002"),
     ;
     private final String value;
 }
@@ -0,0 +1,23 @@
+package joomidang.papersummary.common.exception;
+
+import java.time.Duration;
+import lombok.Getter;
+
+@Getter
+public class SseConnectionLimitException extends RuntimeException {
+    private final CommonErrorCode errorCode;
+    private final Duration retryAfter;
+
+    public SseConnectionLimitException(int maxConnections, Duration retryAfter) {
+        super("SSE 연결 수가 한도에 도달했습니다. max: " + maxConnections);
+        this.errorCode = CommonErrorCode.SSE_CONNECTION_LIMIT;
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * Retry-After 헤더 값 (초 단위 올림, 최소 1초)
+     */
+    public long getRetryAfterSeconds() {
+        return Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+    }
+}
@@ -0,0 +1,16 @@
+package joomidang.papersummary.common.metrics;
+
+/**
+ * 구간 내 지연시간 분위수 (밀리초)
+ *
+ * @param count 구간 내 기록 수 (분위수는 표본으로 계산되며 count는 전체 수)
+ */
+public record LatencyPercentiles(
+        long count,
+        long p50Ms,
+        long p95Ms,
+        long p99Ms,
+        long maxMs
+) {
+    public static final LatencyPercentiles EMPTY = new LatencyPercentiles(0, 0, 0, 0, 0);
+}
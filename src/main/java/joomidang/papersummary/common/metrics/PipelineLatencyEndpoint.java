@@ -0,0 +1,22 @@
+package joomidang.papersummary.common.metrics;
+
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * 파이프라인 구간별 p50/p95/p99 조회 (/actuator/pipelinelatency)
+ */
+@Component
+@Endpoint(id = "pipelinelatency")
+@RequiredArgsConstructor
+public class PipelineLatencyEndpoint {
+    private final PipelineLatencyMetrics latencyMetrics;
+
+    @ReadOperation
+    public Map<String, Map<String, LatencyPercentiles>> latencies() {
+        return latencyMetrics.snapshot();
+    }
+}
@@ -0,0 +1,120 @@
+package joomidang.papersummary.common.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Component;
+
+/**
+ * 논문 분석 파이프라인 구간별 지연시간 기록
+ * <p>
+ * Micrometer 타이머(모니터링 시스템용)와 함께, /actuator/pipelinelatency에서 최근 1분/5분/15분/1시간 분위수를 바로 볼 수 있도록 구간별
+ * 슬라이딩 윈도우 표본을 보관한다. 윈도우에는 성공한 처리만 넣어 실패(타임아웃 등)가 분위수를 왜곡하지 않게 한다.
+ * <p>
+ * 구간 이름:
+ * <p>
+ * - stage.{단계}: 단계 시작(markPending) ~ 완료
+ * <p>
+ * - queued.{단계}: 분석 로그 생성 또는 이전 단계에서 넘어온 시점 ~ 해당 단계 첫 시작 (단계마다 한 번, 재시도는 제외)
+ * <p>
+ * - queue.{큐}: 메시지 발행 ~ 컨슈머 수신 (메시지 timestamp 기준)
+ * <p>
+ * - end_to_end: 분석 로그 생성 ~ 마지막 단계 완료
+ * <p>
+ * - sse.{local|remote}: SSE 이벤트 Redis 발행 ~ 연결을 가진 노드에서 전송 (remote는 다른 노드가 발행, 노드 간 시계 차이 포함)
+ */
+@Component
+public class PipelineLatencyMetrics {
+    public static final String OUTCOME_SUCCESS = "success";
+    public static final String OUTCOME_FAILURE = "failure";
+    public static final String END_TO_END = "end_to_end";
+
+    static final List<Duration> WINDOWS = List.of(
+            Duration.ofMinutes(1), Duration.ofMinutes(5), Duration.ofMinutes(15), Duration.ofHours(1));
+    private static final Duration HORIZON = Duration.ofHours(1);
+    private static final int MAX_SAMPLES_PER_BUCKET = 1024;
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, SlidingWindowSamples> windows = new ConcurrentHashMap<>();
+
+    public PipelineLatencyMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void recordStage(String stage, Duration duration, String outcome) {
+        String stageTag = stage.toLowerCase(Locale.ROOT);
+        timer("analysis.stage.duration", "stage", stageTag, "outcome", outcome).record(duration);
+        if (OUTCOME_SUCCESS.equals(outcome)) {
+            window("stage." + stageTag, duration);
+        }
+    }
+
+    public void recordQueued(String stage, Duration duration) {
+        String stageTag = stage.toLowerCase(Locale.ROOT);
+        timer("analysis.stage.queued", "stage", stageTag).record(duration);
+        window("queued." + stageTag, duration);
+    }
+
+    public void recordEndToEnd(Duration duration, String outcome) {
+        timer("analysis.end_to_end", "outcome", outcome).record(duration);
+        if (OUTCOME_SUCCESS.equals(outcome)) {
+            window(END_TO_END, duration);
+        }
+    }
+
+    public void recordQueueWait(String queue, Duration duration) {
+        timer("rabbitmq.queue.wait", "queue", queue).record(duration);
+        window("queue." + queue, duration);
+    }
+
+    public void recordSseDelivery(boolean remote, Duration duration) {
+        String path = remote ? "remote" : "local";
+        timer("sse.relay.delivery", "path", path).record(duration);
+        window("sse." + path, duration);
+    }
+
+    public void recordTransition(String from, String to) {
+        meterRegistry.counter("analysis.stage.transitions",
+                "from", from.toLowerCase(Locale.ROOT), "to", to.toLowerCase(Locale.ROOT)).increment();
+    }
+
+    /**
+     * 구간 이름 → (윈도우 → 분위수)
+     */
+    public Map<String, Map<String, LatencyPercentiles>> snapshot() {
+        long now = System.currentTimeMillis();
+        Map<String, Map<String, LatencyPercentiles>> result = new LinkedHashMap<>();
+        windows.keySet().stream().sorted().forEach(name -> {
+            SlidingWindowSamples samples = windows.get(name);
+            Map<String, LatencyPercentiles> byWindow = new LinkedHashMap<>();
+            for (Duration window : WINDOWS) {
+                byWindow.put(windowLabel(window), samples.percentiles(window, now));
+            }
+            result.put(name, byWindow);
+        });
+        return result;
+    }
+
+    private Timer timer(String name, String... tags) {
+        return Timer.builder(name)
+                .tags(tags)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    private void window(String name, Duration duration) {
+        windows.computeIfAbsent(name, key -> new SlidingWindowSamples(HORIZON, MAX_SAMPLES_PER_BUCKET))
+                .record(Math.max(0, duration.toMillis()), System.currentTimeMillis());
+    }
+
+    private static String windowLabel(Duration window) {
+        long minutes = window.toMinutes();
+        return minutes % 60 == 0 ? minutes / 60 + "h" : minutes + "m";
+    }
+}
@@ -0,0 +1,103 @@
+package joomidang.papersummary.common.metrics;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 1분 단위 버킷에 지연시간 표본을 모아 최근 N분 구간의 분위수를 계산하는 슬라이딩 윈도우
+ * <p>
+ * 버킷마다 최대 maxSamplesPerBucket개를 reservoir sampling으로 보관하므로 처리량이 많아도 메모리가 일정하다. 최대값과 건수는 표본과 별도로
+ * 정확하게 센다.
+ */
+class SlidingWindowSamples {
+    static final long BUCKET_MILLIS = Duration.ofMinutes(1).toMillis();
+
+    private final Bucket[] buckets;
+
+    SlidingWindowSamples(Duration horizon, int maxSamplesPerBucket) {
+        int bucketCount = (int) Math.max(1, (horizon.toMillis() + BUCKET_MILLIS - 1) / BUCKET_MILLIS);
+        this.buckets = new Bucket[bucketCount];
+        for (int i = 0; i < bucketCount; i++) {
+            buckets[i] = new Bucket(maxSamplesPerBucket);
+        }
+    }
+
+    synchronized void record(long valueMillis, long nowMillis) {
+        long index = nowMillis / BUCKET_MILLIS;
+        Bucket bucket = buckets[(int) (index % buckets.length)];
+        if (bucket.index != index) {
+            bucket.reset(index);
+        }
+        bucket.add(valueMillis);
+    }
+
+    synchronized LatencyPercentiles percentiles(Duration window, long nowMillis) {
+        long current = nowMillis / BUCKET_MILLIS;
+        long windowBuckets = Math.min(buckets.length, Math.max(1, (window.toMillis() + BUCKET_MILLIS - 1) / BUCKET_MILLIS));
+        long oldest = current - windowBuckets + 1;
+
+        long count = 0;
+        long max = 0;
+        int sampleCount = 0;
+        for (Bucket bucket : buckets) {
+            if (bucket.index >= oldest && bucket.index <= current) {
+                count += bucket.seen;
+                max = Math.max(max, bucket.max);
+                sampleCount += bucket.size;
+            }
+        }
+        if (count == 0) {
+            return LatencyPercentiles.EMPTY;
+        }
+
+        long[] samples = new long[sampleCount];
+        int offset = 0;
+        for (Bucket bucket : buckets) {
+            if (bucket.index >= oldest && bucket.index <= current) {
+                System.arraycopy(bucket.values, 0, samples, offset, bucket.size);
+                offset += bucket.size;
+            }
+        }
+        Arrays.sort(samples);
+        return new LatencyPercentiles(count, quantile(samples, 0.50), quantile(samples, 0.95),
+                quantile(samples, 0.99), max);
+    }
+
+    private static long quantile(long[] sorted, double q) {
+        int rank = (int) Math.ceil(q * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))];
+    }
+
+    private static final class Bucket {
+        private final long[] values;
+        private long index = -1;
+        private int size;
+        private long seen;
+        private long max;
+
+        private Bucket(int capacity) {
+            this.values = new long[Math.max(1, capacity)];
+        }
+
+        private void reset(long index) {
+            this.index = index;
+            this.size = 0;
+            this.seen = 0;
+            this.max = 0;
+        }
+
+        private void add(long value) {
+            seen++;
+            max = Math.max(max, value);
+            if (size < values.length) {
+                values[size++] = value;
+                return;
+            }
+            long slot = ThreadLocalRandom.current().nextLong(seen);
+            if (slot < values.length) {
+                values[(int) slot] = value;
+            }
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package joomidang.papersummary.common.service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 클라이언트 연결 하나 (SseEmitter + 재전송 상태)
+ * <p>
+ * streamKey는 연결이 받는 스트림(논문 하나 또는 회원의 전체 논문)이고, heartbeatSlot은 SseHeartbeatWheel에서 배정한 칸이다.
+ * <p>
+ * Last-Event-ID로 재연결하면 버퍼의 이벤트를 보내는 동안 새로 도착한 이벤트는 모아 두었다가, 재전송이 끝난 뒤 이미 보낸 ID를 제외하고 보낸다.
+ * (재전송 중에 실시간 이벤트가 먼저 나가 순서가 뒤집히거나 중복되지 않도록)
+ */
+class SseConnection {
+    private static final String HEARTBEAT_COMMENT = "ping";
+
+    private final String streamKey;
+    private final SseEmitter emitter;
+    private final List<SseRelayMessage> heldDuringReplay = new ArrayList<>();
+    private boolean replaying;
+    private volatile int heartbeatSlot = -1;
+    private final AtomicBoolean heartbeatPending = new AtomicBoolean();
+
+    SseConnection(String streamKey, SseEmitter emitter, boolean replaying) {
+        this.streamKey = streamKey;
+        this.emitter = emitter;
+        this.replaying = replaying;
+    }
+
+    String streamKey() {
+        return streamKey;
+    }
+
+    SseEmitter emitter() {
+        return emitter;
+    }
+
+    int heartbeatSlot() {
+        return heartbeatSlot;
+    }
+
+    void assignHeartbeatSlot(int slot) {
+        this.heartbeatSlot = slot;
+    }
+
+    /**
+     * 핑 전송 예약 (이전 핑을 아직 보내는 중이면 false, 느린 연결에 핑이 쌓이지 않도록)
+     */
+    boolean tryReserveHeartbeat() {
+        return heartbeatPending.compareAndSet(false, true);
+    }
+
+    /**
+     * 예약한 핑을 보내지 못하고 취소
+     */
+    void cancelHeartbeat() {
+        heartbeatPending.set(false);
+    }
+
+    /**
+     * 연결 유지용 주석 전송 (클라이언트에는 이벤트로 보이지 않음)
+     *
+     * @return 전송 실패(연결 끊김) 시 false
+     */
+    synchronized boolean heartbeat() {
+        try {
+            emitter.send(SseEmitter.event().comment(HEARTBEAT_COMMENT));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            return false;
+        } finally {
+            heartbeatPending.set(false);
+        }
+    }
+
+    /**
+     * 실시간 이벤트 전송 (재전송 중이면 보류)
+     */
+    synchronized void offer(SseRelayMessage message) throws IOException {
+        if (replaying) {
+            heldDuringReplay.add(message);
+            return;
+        }
+        send(message);
+    }
+
+    /**
+     * 버퍼 이벤트를 보낸 뒤 보류한 실시간 이벤트를 이어서 전송
+     */
+    synchronized void finishReplay(List<SseRelayMessage> replayed) throws IOException {
+        Set<Long> sentIds = new HashSet<>();
+        try {
+            for (SseRelayMessage message : replayed) {
+                send(message);
+                sentIds.add(message.id());
+            }
+            for (SseRelayMessage message : heldDuringReplay) {
+                if (!sentIds.contains(message.id())) {
+                    send(message);
+                }
+            }
+        } finally {
+            heldDuringReplay.clear();
+            replaying = false;
+        }
+    }
+
+    private void send(SseRelayMessage message) throws IOException {
+        emitter.send(SseEmitter.event()
+                .id(String.valueOf(message.id()))
+                .name(message.eventName())
+                .data(message.data()));
+        if (message.complete()) {
+            emitter.complete();
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package joomidang.papersummary.common.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * SSE 이벤트를 Redis 채널로 모든 노드에 전달
+ * <p>
+ * 이벤트를 만든 노드(컨슈머/콜백 처리 노드)와 클라이언트가 연결된 노드가 다를 수 있으므로, 이벤트는 항상 채널로 발행하고 각 노드는 구독한
+ * 메시지를 자기 노드의 연결에만 전송한다. (발행한 노드도 자기 메시지를 받아 처리)
+ * <p>
+ * 발행한 이벤트는 논문별 링 버퍼(최근 bufferSize개, score=이벤트 ID인 sorted set)에도 남겨, 재연결한 클라이언트가 Last-Event-ID 이후
+ * 이벤트를 어느 노드에서든 다시 받을 수 있게 한다.
+ * <p>
+ * Redis를 쓰지 않거나 발행에 실패하면 false를 반환하고, 호출자는 로컬 연결로 직접 전송한다. (이 경우 재전송 버퍼 없음)
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(SseProperties.class)
+public class SseEventRelay {
+    public static final String CHANNEL = "sse:paper-events";
+    private static final String SEQUENCE_PREFIX = "sse:paper:seq:";
+    private static final String BUFFER_PREFIX = "sse:paper:buffer:";
+
+    /**
+     * 버퍼 추가 + 오래된 이벤트 정리 + 만료 갱신 + 채널 발행을 한 번에 처리
+     * <p>
+     * KEYS: [sequence, buffer] / ARGV: [eventId, message, bufferSize, ttlMs, channel]
+     */
+    private static final RedisScript<Long> APPEND_AND_PUBLISH = new DefaultRedisScript<>("""
+            redis.call('ZADD', KEYS[2], ARGV[1], ARGV[2])
+            redis.call('ZREMRANGEBYRANK', KEYS[2], 0, -(tonumber(ARGV[3]) + 1))
+            redis.call('PEXPIRE', KEYS[2], ARGV[4])
+            redis.call('PEXPIRE', KEYS[1], ARGV[4])
+            return redis.call('PUBLISH', ARGV[5], ARGV[2])
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final String nodeId;
+    private final int bufferSize;
+    private final Duration bufferTtl;
+    // Redis를 쓸 수 없을 때의 이벤트 ID
+    private final AtomicLong localSequence = new AtomicLong();
+
+    public SseEventRelay(StringRedisTemplate redisTemplate,
+                         ObjectMapper objectMapper,
+                         SseProperties properties,
+                         @Value("${spring.data.redis.enabled:true}") boolean enabled) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.nodeId = StringUtils.hasText(properties.getNodeId())
+                ? properties.getNodeId() : UUID.randomUUID().toString().substring(0, 8);
+        this.bufferSize = Math.max(1, properties.getReplay().getBufferSize());
+        this.bufferTtl = properties.getReplay().getTtl();
+    }
+
+    /**
+     * 이벤트 ID를 발급해 메시지 생성
+     */
+    public SseRelayMessage createMessage(Long paperId, Long memberId, String eventName, Map<String, Object> data,
+                                         boolean complete) {
+        return new SseRelayMessage(nextId(paperId), paperId, memberId, eventName, data, complete, nodeId,
+                System.currentTimeMillis());
+    }
+
+    /**
+     * 링 버퍼에 저장하고 채널로 발행
+     *
+     * @return 발행에 성공하면 true (Redis 비활성 또는 발행 실패 시 false)
+     */
+    public boolean publish(SseRelayMessage message) {
+        if (!enabled) {
+            return false;
+        }
+        try {
+            redisTemplate.execute(APPEND_AND_PUBLISH,
+                    List.of(SEQUENCE_PREFIX + message.paperId(), BUFFER_PREFIX + message.paperId()),
+                    String.valueOf(message.id()), objectMapper.writeValueAsString(message),
+                    String.valueOf(bufferSize), String.valueOf(bufferTtl.toMillis()), CHANNEL);
+            return true;
+        } catch (Exception e) {
+            log.warn("SSE 이벤트 Redis 발행 실패, 로컬 연결로 전송 → paperId={}, eventName={}, error={}",
+                    message.paperId(), message.eventName(), e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * lastEventId 이후에 발행된 이벤트 (ID 오름차순)
+     * <p>
+     * lastEventId가 현재 시퀀스보다 크면(버퍼 만료 후 시퀀스가 다시 시작된 경우) 버퍼 전체를 돌려준다.
+     */
+    public List<SseRelayMessage> replay(Long paperId, long lastEventId) {
+        if (!enabled) {
+            return List.of();
+        }
+        try {
+            String current = redisTemplate.opsForValue().get(SEQUENCE_PREFIX + paperId);
+            long after = current != null && Long.parseLong(current) < lastEventId ? 0 : lastEventId;
+            Set<String> bodies = redisTemplate.opsForZSet()
+                    .rangeByScore(BUFFER_PREFIX + paperId, after + 1, Double.POSITIVE_INFINITY);
+            if (bodies == null || bodies.isEmpty()) {
+                return List.of();
+            }
+            List<SseRelayMessage> messages = new ArrayList<>(bodies.size());
+            for (String body : bodies) {
+                messages.add(decode(body));
+            }
+            messages.sort(Comparator.comparingLong(SseRelayMessage::id));
+            return messages;
+        } catch (Exception e) {
+            log.warn("SSE 재전송 이벤트 조회 실패 → paperId={}, lastEventId={}, error={}",
+                    paperId, lastEventId, e.getMessage());
+            return List.of();
+        }
+    }
+
+    public SseRelayMessage decode(String body) throws JsonProcessingException {
+        return objectMapper.readValue(body, SseRelayMessage.class);
+    }
+
+    public boolean isRemote(SseRelayMessage message) {
+        return !nodeId.equals(message.origin());
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    private long nextId(Long paperId) {
+        if (enabled) {
+            try {
+                Long id = redisTemplate.opsForValue().increment(SEQUENCE_PREFIX + paperId);
+                if (id != null) {
+                    return id;
+                }
+            } catch (Exception e) {
+                log.warn("SSE 이벤트 ID 발급 실패 → paperId={}, error={}", paperId, e.getMessage());
+            }
+        }
+        return localSequence.incrementAndGet();
+    }
+}
@@ -0,0 +1,58 @@
+package joomidang.papersummary.common.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 하트비트 타이밍 휠
+ * <p>
+ * 연결을 slots개 칸에 돌아가며 배치하고, tick마다 한 칸의 연결만 핑 대상으로 돌려준다. 한 바퀴(slots번 tick)가 하트비트 주기이므로 모든 연결은
+ * 주기마다 한 번씩 핑을 받고, 한 번에 보내는 핑 수는 전체 연결의 1/slots로 고르게 나뉜다. (연결마다 타이머를 두거나 전체를 한 번에 도는 것보다
+ * 스레드·버스트 부담이 작음)
+ * <p>
+ * tick은 스케줄러 스레드 하나에서만 호출하고, 실제 핑 전송은 호출자(SseService)가 전송 스레드 풀에 맡긴다.
+ */
+class SseHeartbeatWheel {
+    private final List<Set<SseConnection>> slots;
+    private final AtomicInteger nextSlot = new AtomicInteger();
+    private int cursor;
+
+    SseHeartbeatWheel(int slotCount) {
+        int count = Math.max(1, slotCount);
+        this.slots = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            slots.add(ConcurrentHashMap.newKeySet());
+        }
+    }
+
+    void add(SseConnection connection) {
+        int slot = Math.floorMod(nextSlot.getAndIncrement(), slots.size());
+        connection.assignHeartbeatSlot(slot);
+        slots.get(slot).add(connection);
+    }
+
+    void remove(SseConnection connection) {
+        int slot = connection.heartbeatSlot();
+        if (slot >= 0) {
+            slots.get(slot).remove(connection);
+        }
+    }
+
+    /**
+     * 현재 칸의 연결을 돌려주고 다음 칸으로 이동
+     *
+     * @return 이번 tick에 핑을 보낼 연결
+     */
+    List<SseConnection> tick() {
+        Set<SseConnection> slot = slots.get(cursor);
+        cursor = (cursor + 1) % slots.size();
+        return new ArrayList<>(slot);
+    }
+
+    int slotCount() {
+        return slots.size();
+    }
+}
@@ -0,0 +1,76 @@
+package joomidang.papersummary.common.service;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * SSE 연결 설정 (sse.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "sse")
+public class SseProperties {
+
+    /**
+     * 연결 타임아웃 (만료되면 클라이언트가 Last-Event-ID로 재연결)
+     */
+    private Duration timeout = Duration.ofHours(1);
+
+    /**
+     * 노드 하나가 유지하는 최대 연결 수 (논문 스트림 + 회원 스트림)
+     */
+    private int maxConnections = 10_000;
+
+    /**
+     * 연결 수가 가득 찼을 때 Retry-After로 안내할 시간
+     */
+    private Duration retryAfter = Duration.ofSeconds(5);
+
+    /**
+     * 노드 ID (비어 있으면 기동 시 임의 생성, 이벤트 발행 노드 구분용)
+     */
+    private String nodeId;
+
+    private final Heartbeat heartbeat = new Heartbeat();
+    private final Replay replay = new Replay();
+
+    @Getter
+    @Setter
+    public static class Heartbeat {
+        /**
+         * 연결마다 핑을 보내는 주기 (프록시 유휴 타임아웃보다 짧게)
+         */
+        private Duration interval = Duration.ofSeconds(15);
+
+        /**
+         * 타이밍 휠 칸 수 (tick 주기 = interval / slots, 한 tick에 한 칸의 연결에만 핑을 보냄)
+         */
+        private int slots = 15;
+
+        /**
+         * 핑 전송 스레드 수 (느린 클라이언트 하나가 다른 연결의 핑을 막지 않도록 tick 스레드와 분리)
+         */
+        private int senderThreads = 4;
+
+        /**
+         * 전송 대기 핑 수 한도 (넘치면 이번 주기는 건너뜀)
+         */
+        private int queueCapacity = 10_000;
+    }
+
+    @Getter
+    @Setter
+    public static class Replay {
+        /**
+         * 논문별로 보관하는 최근 이벤트 수
+         */
+        private int bufferSize = 50;
+
+        /**
+         * 마지막 이벤트 이후 버퍼를 보관하는 시간
+         */
+        private Duration ttl = Duration.ofHours(1);
+    }
+}
@@ -0,0 +1,27 @@
+package joomidang.papersummary.common.service;
+
+import java.util.Map;
+
+/**
+ * 노드 간에 Redis 채널로 전달하는 SSE 이벤트
+ *
+ * @param id          논문별로 단조 증가하는 이벤트 ID (SSE id, Last-Event-ID 재전송 기준)
+ * @param paperId     대상 논문 ID
+ * @param memberId    논문 소유 회원 ID (회원 스트림 전달용, 모르면 null)
+ * @param eventName   SSE 이벤트 이름
+ * @param data        이벤트 데이터
+ * @param complete    전송 후 연결 종료 여부
+ * @param origin      발행한 노드 ID
+ * @param publishedAt 발행 시각 (epoch millis, 전달 지연 측정용)
+ */
+public record SseRelayMessage(
+        long id,
+        Long paperId,
+        Long memberId,
+        String eventName,
+        Map<String, Object> data,
+        boolean complete,
+        String origin,
+        long publishedAt
+) {
+}
@@ -1,18 +1,44 @@
 package joomidang.papersummary.common.service;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import joomidang.papersummary.common.exception.SseConnectionLimitException;
+import joomidang.papersummary.common.metrics.PipelineLatencyMetrics;
+import joomidang.papersummary.paper.repository.PaperRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+/**
+ * 논문 분석 진행 상황을 SSE로 전송
+ * <p>
+ * 연결은 노드마다 로컬에 보관하고, 이벤트는 SseEventRelay(Redis 채널)로 모든 노드에 전달해 연결을 가진 노드가 전송한다.
+ * <p>
+ * 한 논문에 여러 연결(여러 탭)을 둘 수 있고, 모든 이벤트에는 논문별 단조 증가 ID가 붙는다. 재연결 시 Last-Event-ID 이후 이벤트를 링 버퍼에서
+ * 다시 보낸다.
+ * <p>
+ * 논문마다 연결을 여는 대신 회원 스트림 하나로 그 회원의 모든 논문 이벤트를 받을 수 있다. 노드별 연결 수는 sse.max-connections로 제한하고,
+ * 하트비트 대상은 타이밍 휠 하나(스레드 하나)가 정하고, 전송은 크기가 제한된 스레드 풀에서 한다. 이전 핑을 아직 보내는 느린 연결은 그 주기를
+ * 건너뛰므로 한 클라이언트가 다른 연결의 하트비트를 막지 않는다.
+ */
 @Slf4j
 @Service
 public class SseService {
-    // 타임아웃 설정 (1시간)
-    private static final long SSE_TIMEOUT = 60 * 60 * 1000L;
-
     // 이벤트 타입 상수
     private static final String EVENT_CONNECT = "connect";
     private static final String EVENT_SUMMARY_COMPLETED = "summary_completed";
@@ -22,27 +48,91 @@ public class SseService {
     private static final String MSG_SUMMARY_COMPLETED = "분석이 완료되었습니다.";
     private static final String MSG_PARSING_COMPLETED = "논문 파싱이 완료되었습니다.";
 
-    // 클라이언트 연결을 저장하는 맵 (paperId -> SseEmitter)
-    private final Map<Long, SseEmitter> emitters = new ConcurrentHashMap<>();
+    private static final String PAPER_STREAM_PREFIX = "paper:";
+    private static final String MEMBER_STREAM_PREFIX = "member:";
+
+    // 클라이언트 연결을 저장하는 맵 (스트림 키 -> 연결 목록)
+    private final Map<String, Set<SseConnection>> connections = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+
+    private final SseEventRelay relay;
+    private final PipelineLatencyMetrics latencyMetrics;
+    private final PaperRepository paperRepository;
+    private final SseProperties properties;
+
+    private final SseHeartbeatWheel heartbeatWheel;
+    private final AtomicInteger heartbeatThreadSequence = new AtomicInteger();
+    private ScheduledExecutorService heartbeatExecutor;
+    private ThreadPoolExecutor heartbeatSender;
+    private final Counter rejectedCounter;
+    private final Counter heartbeatFailedCounter;
+    private final Counter heartbeatSkippedCounter;
+
+    public SseService(SseEventRelay relay,
+                      PipelineLatencyMetrics latencyMetrics,
+                      PaperRepository paperRepository,
+                      SseProperties properties,
+                      MeterRegistry meterRegistry) {
+        this.relay = relay;
+        this.latencyMetrics = latencyMetrics;
+        this.paperRepository = paperRepository;
+        this.properties = properties;
+        this.heartbeatWheel = new SseHeartbeatWheel(properties.getHeartbeat().getSlots());
+
+        meterRegistry.gauge("sse.connections", connectionCount);
+        this.rejectedCounter = meterRegistry.counter("sse.connections.rejected");
+        this.heartbeatFailedCounter = meterRegistry.counter("sse.heartbeat.failed");
+        this.heartbeatSkippedCounter = meterRegistry.counter("sse.heartbeat.skipped");
+    }
+
+    @PostConstruct
+    public void start() {
+        SseProperties.Heartbeat heartbeat = properties.getHeartbeat();
+        int senderThreads = Math.max(1, heartbeat.getSenderThreads());
+        heartbeatSender = new ThreadPoolExecutor(senderThreads, senderThreads,
+                0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(Math.max(1, heartbeat.getQueueCapacity())),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "sse-heartbeat-" + heartbeatThreadSequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        heartbeatExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "sse-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long tickMillis = Math.max(100, heartbeat.getInterval().toMillis() / heartbeatWheel.slotCount());
+        heartbeatExecutor.scheduleAtFixedRate(this::heartbeat, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
 
     /**
      * 새로운 SSE 연결 생성
      */
     public SseEmitter createConnection(Long paperId) {
-        log.info("SSE 연결 생성 → paperId={}", paperId);
-        removeExistingConnection(paperId);
-
-        SseEmitter emitter = new SseEmitter(SSE_TIMEOUT);
-        configureEmitterCallbacks(emitter, paperId);
+        return createConnection(paperId, null);
+    }
 
-        // 초기 연결 유지 이벤트 전송
-        if (!sendInitialEvent(emitter, paperId)) {
-            return emitter; // 초기 이벤트 전송 실패 시 early return
+    /**
+     * 새로운 SSE 연결 생성 (같은 논문의 기존 연결은 유지)
+     *
+     * @param lastEventId 재연결 시 클라이언트가 마지막으로 받은 이벤트 ID (Last-Event-ID), 없으면 null
+     */
+    public SseEmitter createConnection(Long paperId, Long lastEventId) {
+        log.info("SSE 연결 생성 → paperId={}, lastEventId={}", paperId, lastEventId);
+        SseConnection connection = openConnection(PAPER_STREAM_PREFIX + paperId, lastEventId != null);
+        if (lastEventId != null) {
+            replay(paperId, lastEventId, connection);
         }
+        return connection.emitter();
+    }
 
-        // 맵에 저장
-        emitters.put(paperId, emitter);
-        return emitter;
+    /**
+     * 회원 스트림 연결 생성 (회원이 소유한 모든 논문의 이벤트를 한 연결로 전송, 재전송 없음)
+     */
+    public SseEmitter createMemberConnection(Long memberId) {
+        log.info("회원 SSE 연결 생성 → memberId={}", memberId);
+        return openConnection(MEMBER_STREAM_PREFIX + memberId, false).emitter();
     }
 
     /**
@@ -57,7 +147,7 @@ public class SseService {
         );
 
         // 파싱 완료 후에는 연결을 종료하지 않고 유지 (요약 완료 이벤트를 위해)
-        return sendEvent(paperId, EVENT_PARSING_COMPLETED, eventData);
+        return sendEvent(paperId, EVENT_PARSING_COMPLETED, eventData, false);
     }
 
     /**
@@ -68,104 +158,243 @@ public class SseService {
 
         Map<String, Object> eventData = Map.of(
                 "message", MSG_SUMMARY_COMPLETED,
+                "paperId", paperId,
                 "summaryId", summaryId
         );
 
-        boolean success = sendEvent(paperId, EVENT_SUMMARY_COMPLETED, eventData);
+        // 요약 완료 후 논문 스트림 연결 종료 (연결을 가진 노드에서 전송 후 종료, 회원 스트림은 유지)
+        return sendEvent(paperId, EVENT_SUMMARY_COMPLETED, eventData, true);
+    }
 
-        // 요약 완료 후 연결 종료
-        if (success) {
-            completeEmitter(paperId);
+    /**
+     * Redis 채널로 받은 이벤트를 이 노드의 연결에 전송
+     *
+     * @return 이 노드에 연결이 있어 전송했으면 true
+     */
+    public boolean deliver(SseRelayMessage message) {
+        String paperKey = PAPER_STREAM_PREFIX + message.paperId();
+        String memberKey = message.memberId() == null ? null : MEMBER_STREAM_PREFIX + message.memberId();
+        if (!connections.containsKey(paperKey) && (memberKey == null || !connections.containsKey(memberKey))) {
+            // 다른 노드에 연결된 클라이언트의 이벤트
+            log.trace("이 노드에 SSE 연결 없음 → paperId={}, eventName={}", message.paperId(), message.eventName());
+            return false;
         }
 
-        return success;
+        boolean remote = relay.isRemote(message);
+        latencyMetrics.recordSseDelivery(remote,
+                Duration.ofMillis(Math.max(0, System.currentTimeMillis() - message.publishedAt())));
+        return sendLocal(message);
+    }
+
+    public int getConnectionCount() {
+        return connectionCount.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (heartbeatExecutor != null) {
+            heartbeatExecutor.shutdownNow();
+        }
+        if (heartbeatSender != null) {
+            heartbeatSender.shutdownNow();
+        }
     }
 
     /**
-     * 기존 연결이 있으면 제거
+     * 연결 수 한도를 확인하고 연결을 만들어 등록 (초기 이벤트 전송에 실패하면 등록하지 않음)
      */
-    private void removeExistingConnection(Long paperId) {
-        if (emitters.containsKey(paperId)) {
-            log.debug("기존 SSE 연결 제거 → paperId={}", paperId);
-            SseEmitter oldEmitter = emitters.get(paperId);
-            oldEmitter.complete();
-            emitters.remove(paperId);
+    private SseConnection openConnection(String streamKey, boolean replaying) {
+        if (connectionCount.incrementAndGet() > properties.getMaxConnections()) {
+            connectionCount.decrementAndGet();
+            rejectedCounter.increment();
+            throw new SseConnectionLimitException(properties.getMaxConnections(), properties.getRetryAfter());
+        }
+
+        SseEmitter emitter = new SseEmitter(properties.getTimeout().toMillis());
+        SseConnection connection = new SseConnection(streamKey, emitter, replaying);
+        configureEmitterCallbacks(connection);
+
+        // 초기 연결 유지 이벤트 전송
+        if (!sendInitialEvent(emitter, streamKey)) {
+            connectionCount.decrementAndGet();
+            return connection; // 초기 이벤트 전송 실패 시 early return
         }
+
+        // 재전송 전에 먼저 등록해 재전송 중 도착한 이벤트도 놓치지 않음
+        connections.computeIfAbsent(streamKey, key -> ConcurrentHashMap.newKeySet()).add(connection);
+        heartbeatWheel.add(connection);
+        return connection;
     }
 
     /**
      * SSE 이미터 콜백 설정
      */
-    private void configureEmitterCallbacks(SseEmitter emitter, Long paperId) {
+    private void configureEmitterCallbacks(SseConnection connection) {
+        SseEmitter emitter = connection.emitter();
+        String streamKey = connection.streamKey();
         emitter.onCompletion(() -> {
-            log.info("SSE 연결 완료 → paperId={}", paperId);
-            emitters.remove(paperId);
+            log.info("SSE 연결 완료 → stream={}", streamKey);
+            removeConnection(connection);
         });
 
         emitter.onTimeout(() -> {
-            log.info("SSE 연결 타임아웃 → paperId={}", paperId);
+            log.info("SSE 연결 타임아웃 → stream={}", streamKey);
             emitter.complete();
-            emitters.remove(paperId);
+            removeConnection(connection);
         });
 
         emitter.onError((e) -> {
-            log.error("SSE 연결 에러 → paperId={}, error={}", paperId, e.getMessage());
+            log.error("SSE 연결 에러 → stream={}, error={}", streamKey, e.getMessage());
             emitter.complete();
-            emitters.remove(paperId);
+            removeConnection(connection);
         });
     }
 
     /**
      * 초기 연결 이벤트 전송
      */
-    private boolean sendInitialEvent(SseEmitter emitter, Long paperId) {
+    private boolean sendInitialEvent(SseEmitter emitter, String streamKey) {
         try {
             emitter.send(SseEmitter.event()
                     .name(EVENT_CONNECT)
                     .data(MSG_CONNECTED));
-            log.debug("SSE 초기 이벤트 전송 성공 → paperId={}", paperId);
+            log.debug("SSE 초기 이벤트 전송 성공 → stream={}", streamKey);
             return true;
         } catch (IOException e) {
-            log.error("SSE 초기 이벤트 전송 실패 → paperId={}, error={}", paperId, e.getMessage());
+            log.error("SSE 초기 이벤트 전송 실패 → stream={}, error={}", streamKey, e.getMessage());
             emitter.complete();
             return false;
         }
     }
 
+    /**
+     * Last-Event-ID 이후 이벤트 재전송
+     */
+    private void replay(Long paperId, long lastEventId, SseConnection connection) {
+        List<SseRelayMessage> missed = relay.replay(paperId, lastEventId);
+        try {
+            connection.finishReplay(missed);
+            log.info("SSE 이벤트 재전송 → paperId={}, lastEventId={}, count={}", paperId, lastEventId, missed.size());
+        } catch (IOException | IllegalStateException e) {
+            log.error("SSE 이벤트 재전송 실패 → paperId={}, lastEventId={}, error={}",
+                    paperId, lastEventId, e.getMessage());
+            connection.emitter().complete();
+            removeConnection(connection);
+        }
+    }
+
     /**
      * 이벤트 전송 공통 메서드
+     * <p>
+     * Redis 채널로 발행하면 연결을 가진 노드가 전송하므로 true를 반환한다. 발행할 수 없으면 이 노드의 연결로 직접 전송한다.
      */
-    private boolean sendEvent(Long paperId, String eventName, Object data) {
-        SseEmitter emitter = emitters.get(paperId);
-        if (emitter == null) {
-            log.warn("SSE 연결을 찾을 수 없음 → paperId={}", paperId);
+    private boolean sendEvent(Long paperId, String eventName, Map<String, Object> data, boolean complete) {
+        Long memberId = paperRepository.findMemberIdById(paperId).orElse(null);
+        SseRelayMessage message = relay.createMessage(paperId, memberId, eventName, data, complete);
+        if (relay.publish(message)) {
+            log.debug("SSE 이벤트 Redis 발행 → paperId={}, eventName={}, eventId={}", paperId, eventName, message.id());
+            return true;
+        }
+        return sendLocal(message);
+    }
+
+    /**
+     * 이 노드의 논문 스트림과 회원 스트림 연결로 이벤트 전송
+     *
+     * @return 하나 이상의 연결에 전송했으면 true
+     */
+    private boolean sendLocal(SseRelayMessage message) {
+        boolean sent = sendToStream(PAPER_STREAM_PREFIX + message.paperId(), message, message.complete());
+        if (message.memberId() != null) {
+            // 회원 스트림은 논문 하나가 끝나도 유지
+            sent |= sendToStream(MEMBER_STREAM_PREFIX + message.memberId(), withoutComplete(message), false);
+        }
+        if (!sent) {
+            log.warn("SSE 연결을 찾을 수 없음 → paperId={}", message.paperId());
+        }
+        return sent;
+    }
+
+    private boolean sendToStream(String streamKey, SseRelayMessage message, boolean closeStream) {
+        Set<SseConnection> streamConnections = connections.get(streamKey);
+        if (streamConnections == null || streamConnections.isEmpty()) {
             return false;
         }
 
+        boolean sent = false;
+        for (SseConnection connection : streamConnections) {
+            try {
+                connection.offer(message);
+                sent = true;
+                if (closeStream) {
+                    // onCompletion 콜백 전에 다음 이벤트가 오지 않도록 바로 제거
+                    removeConnection(connection);
+                }
+            } catch (IOException | IllegalStateException e) {
+                log.error("SSE 이벤트 전송 실패 → stream={}, eventName={}, error={}",
+                        streamKey, message.eventName(), e.getMessage());
+                connection.emitter().complete();
+                removeConnection(connection);
+            }
+        }
+        if (sent) {
+            log.debug("SSE 이벤트 전송 성공 → stream={}, eventName={}, eventId={}",
+                    streamKey, message.eventName(), message.id());
+        }
+        return sent;
+    }
+
+    private SseRelayMessage withoutComplete(SseRelayMessage message) {
+        if (!message.complete()) {
+            return message;
+        }
+        return new SseRelayMessage(message.id(), message.paperId(), message.memberId(), message.eventName(),
+                message.data(), false, message.origin(), message.publishedAt());
+    }
+
+    /**
+     * 타이밍 휠의 현재 칸 연결에 핑 전송을 맡김 (이전 핑을 아직 보내는 연결과 대기열이 가득 찬 경우는 이번 주기 건너뜀)
+     */
+    void heartbeat() {
         try {
-            emitter.send(SseEmitter.event()
-                    .name(eventName)
-                    .data(data));
-            log.debug("SSE 이벤트 전송 성공 → paperId={}, eventName={}", paperId, eventName);
-            return true;
-        } catch (IOException e) {
-            log.error("SSE 이벤트 전송 실패 → paperId={}, eventName={}, error={}",
-                    paperId, eventName, e.getMessage());
-            emitter.complete();
-            emitters.remove(paperId);
-            return false;
+            for (SseConnection connection : heartbeatWheel.tick()) {
+                if (!connection.tryReserveHeartbeat()) {
+                    heartbeatSkippedCounter.increment();
+                    continue;
+                }
+                try {
+                    heartbeatSender.execute(() -> sendHeartbeat(connection));
+                } catch (RejectedExecutionException e) {
+                    connection.cancelHeartbeat();
+                    heartbeatSkippedCounter.increment();
+                }
+            }
+        } catch (Exception e) {
+            // 예외가 나가면 스케줄이 멈추므로 여기서 처리
+            log.error("SSE 하트비트 처리 실패: {}", e.getMessage(), e);
         }
     }
 
     /**
-     * SSE 연결 완료 처리
+     * 핑 전송, 실패하면 끊긴 연결로 보고 정리
      */
-    private void completeEmitter(Long paperId) {
-        SseEmitter emitter = emitters.get(paperId);
-        if (emitter != null) {
-            log.debug("SSE 연결 완료 처리 → paperId={}", paperId);
-            emitter.complete();
-            // onCompletion 콜백에서 map에서 제거됨
+    private void sendHeartbeat(SseConnection connection) {
+        if (connection.heartbeat()) {
+            return;
         }
+        heartbeatFailedCounter.increment();
+        log.debug("SSE 하트비트 실패, 연결 정리 → stream={}", connection.streamKey());
+        connection.emitter().complete();
+        removeConnection(connection);
+    }
+
+    private void removeConnection(SseConnection connection) {
+        heartbeatWheel.remove(connection);
+        connections.computeIfPresent(connection.streamKey(), (key, streamConnections) -> {
+            if (streamConnections.remove(connection)) {
+                connectionCount.decrementAndGet();
+            }
+            return streamConnections.isEmpty() ? null : streamConnections;
+        });
     }
-}
\ No newline at end of file
+}
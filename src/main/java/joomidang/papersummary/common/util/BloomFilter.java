@@ -0,0 +1,92 @@
+package joomidang.papersummary.common.util;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 문자열 Bloom filter
+ * <p>
+ * "없음"은 확실하고 "있음"은 오탐 확률만큼 틀릴 수 있다. 참조된 키 집합처럼 정확한 집합을 메모리에 올리기 부담스러울 때,
+ * 오탐이 나도 안전한 쪽(삭제하지 않음)으로만 판단하는 용도로 쓴다.
+ * <p>
+ * 해시는 64비트 FNV-1a 하나에서 두 값을 만들어 k개 위치를 계산한다 (double hashing). 스레드 안전하지 않다.
+ */
+public final class BloomFilter {
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final long[] bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    private BloomFilter(long bitCount, int hashCount) {
+        this.bits = new long[(int) ((bitCount + 63) / 64)];
+        this.bitCount = (long) bits.length * 64;
+        this.hashCount = hashCount;
+    }
+
+    /**
+     * 예상 원소 수와 허용 오탐률에 맞춰 비트 수와 해시 개수를 정한다
+     *
+     * @param expectedInsertions 넣을 원소 수 (넘어도 동작하지만 오탐률이 올라간다)
+     * @param falsePositiveRate  0과 1 사이의 오탐률
+     */
+    public static BloomFilter create(long expectedInsertions, double falsePositiveRate) {
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("오탐률은 0과 1 사이여야 합니다: " + falsePositiveRate);
+        }
+        long n = Math.max(1, expectedInsertions);
+        long optimalBits = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        // 위치 계산이 int 범위라 비트 수도 그 안으로 제한 (약 256MB)
+        long bitCount = Math.min(Integer.MAX_VALUE, Math.max(64, optimalBits));
+        int hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+        return new BloomFilter(bitCount, hashCount);
+    }
+
+    public void put(String value) {
+        long hash = hash(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = indexOf(h1 + i * h2);
+            bits[(int) (index >>> 6)] |= 1L << index;
+        }
+    }
+
+    public boolean mightContain(String value) {
+        long hash = hash(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = indexOf(h1 + i * h2);
+            if ((bits[(int) (index >>> 6)] & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long bitSize() {
+        return bitCount;
+    }
+
+    private long indexOf(int combinedHash) {
+        // 음수가 나오면 비트를 뒤집어 양수로 (분포 유지)
+        int positive = combinedHash < 0 ? ~combinedHash : combinedHash;
+        return positive % bitCount;
+    }
+
+    private static long hash(String value) {
+        long hash = FNV_OFFSET_BASIS;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= FNV_PRIME;
+        }
+        // FNV-1a 하위 비트 편향을 줄이기 위해 마지막에 섞는다 (murmur3 fmix64)
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,36 @@
+package joomidang.papersummary.common.util;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 파일 내용 지문(SHA-256) 계산 유틸리티
+ * <p>
+ * 같은 내용의 논문을 찾는 키로 쓰므로 항상 소문자 hex 64자리로 표현한다.
+ */
+public final class ContentHash {
+    private static final String ALGORITHM = "SHA-256";
+
+    private ContentHash() {
+    }
+
+    public static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JVM이 SHA-256을 제공해야 하므로 발생하지 않음
+            throw new IllegalStateException(ALGORITHM + " 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    public static String hex(MessageDigest digest) {
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    public static String of(byte[] content) {
+        MessageDigest digest = newDigest();
+        digest.update(content);
+        return hex(digest);
+    }
+}
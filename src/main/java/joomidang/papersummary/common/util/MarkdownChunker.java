@@ -1,60 +1,364 @@
 package joomidang.papersummary.common.util;
 
+import java.nio.CharBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import joomidang.papersummary.common.embedding.HeuristicTokenCounter;
+import joomidang.papersummary.common.embedding.TokenCounter;
 
 /**
  * 마크다운 문서를 청크로 분할하는 유틸리티 클래스
+ * <p>
+ * 문서를 줄 단위로 한 번만 훑으면서 청크 경계(시작/끝 위치)만 기록하고, 결과는 원본을 참조하는 CharSequence 뷰로 반환한다. (split/StringBuilder 복사 없음)
+ * <p>
+ * 분할 규칙:
+ * <p>
+ * - 헤더(#, ## …)에서 새 청크 시작 (코드 블록 안의 # 줄은 헤더로 보지 않음)
+ * <p>
+ * - 토큰 수는 TokenCounter(모델 토크나이저 근사치)로 계산하고 maxTokens를 넘지 않게 자름 (여유분은 maxTokens를 정하는 쪽에서 뺌)
+ * <p>
+ * - 코드 블록(``` / ~~~)은 한 청크에 들어가면 중간에 자르지 않음
+ * <p>
+ * - 크기 때문에 잘린 경우 이전 청크의 마지막 줄들을 overlapTokens 이내로 다음 청크 앞에 겹쳐 넣음 (헤더 경계에서는 겹치지 않음)
  */
 public class MarkdownChunker {
+    private static final TokenCounter DEFAULT_TOKEN_COUNTER = new HeuristicTokenCounter();
+    private static final int MAX_HEADING_LEVEL = 6;
+    private static final int MAX_INDENT = 3;
+    private static final int MIN_FENCE_LENGTH = 3;
+
+    private final TokenCounter tokenCounter;
+    private final int maxTokens;
+    private final int overlapTokens;
+
+    public MarkdownChunker(TokenCounter tokenCounter, int maxTokens, int overlapTokens) {
+        if (maxTokens <= 0) {
+            throw new IllegalArgumentException("maxTokens는 0보다 커야 합니다: " + maxTokens);
+        }
+        if (overlapTokens < 0 || overlapTokens >= maxTokens) {
+            throw new IllegalArgumentException("overlapTokens는 0 이상 maxTokens 미만이어야 합니다: " + overlapTokens);
+        }
+        this.tokenCounter = tokenCounter;
+        this.maxTokens = maxTokens;
+        this.overlapTokens = overlapTokens;
+    }
 
     /**
-     * 마크다운 문서를 헤더 기준으로 청크 분할
-     * 헤더(## 또는 ### 등) 기준으로 섹션별 나눔
+     * 마크다운 문서를 헤더 기준으로 청크 분할 (기본 토큰 추정기 사용, 겹침 없음)
+     *
      * @param markdownContent 마크다운 전체 문자열
-     * @param maxTokens 청크별 최대 토큰 수 (512 등)
+     * @param maxTokens       청크별 최대 토큰 수 (512 등)
      * @return 청크 문자열 목록
      */
     public static List<String> chunkBySection(String markdownContent, int maxTokens) {
-        List<String> chunks = new ArrayList<>();
-        String[] lines = markdownContent.split("\n");
+        List<CharSequence> views = new MarkdownChunker(DEFAULT_TOKEN_COUNTER, maxTokens, 0).chunk(markdownContent);
+        List<String> chunks = new ArrayList<>(views.size());
+        for (CharSequence view : views) {
+            chunks.add(view.toString());
+        }
+        return chunks;
+    }
 
-        StringBuilder currentChunk = new StringBuilder();
-        int currentTokenCount = 0;
+    /**
+     * 마크다운 문서를 청크로 분할
+     *
+     * @param markdown 마크다운 전체 내용
+     * @return 원본을 참조하는 청크 뷰 목록 (앞뒤 공백 제거, 빈 청크 제외)
+     */
+    public List<CharSequence> chunk(CharSequence markdown) {
+        ChunkBuilder builder = new ChunkBuilder(markdown);
+        int length = markdown.length();
+        int pos = 0;
 
-        for (String line : lines) {
-            int lineTokens = estimateTokenCount(line);
+        while (pos < length) {
+            int lineEnd = lineEnd(markdown, pos);
 
-            // 헤더를 만나면 청크 종료
-            if (line.trim().startsWith("#") && currentChunk.length() > 0) {
-                chunks.add(currentChunk.toString().trim());
-                currentChunk = new StringBuilder();
-                currentTokenCount = 0;
+            int fenceLength = fenceLength(markdown, pos, lineEnd);
+            if (fenceLength > 0) {
+                pos = appendFencedBlock(builder, markdown, pos, lineEnd, fenceLength);
+                continue;
             }
 
-            if (currentTokenCount + lineTokens > maxTokens) {
-                // 토큰 한도 초과 시 청크 분리
-                chunks.add(currentChunk.toString().trim());
-                currentChunk = new StringBuilder();
-                currentTokenCount = 0;
+            if (isHeading(markdown, pos, lineEnd)) {
+                builder.flush(false);
             }
+            appendLine(builder, markdown, pos, lineEnd);
+            pos = nextLine(markdown, lineEnd);
+        }
 
-            currentChunk.append(line).append("\n");
-            currentTokenCount += lineTokens;
+        builder.flush(false);
+        return builder.chunks;
+    }
+
+    /**
+     * 코드 블록 처리: 블록 전체가 한 청크에 들어가면 하나의 구간으로, 아니면 줄 단위로 추가
+     *
+     * @return 블록 다음 줄의 시작 위치
+     */
+    private int appendFencedBlock(ChunkBuilder builder, CharSequence markdown, int openStart, int openEnd,
+                                  int fenceLength) {
+        char fenceChar = markdown.charAt(firstNonSpace(markdown, openStart, openEnd));
+        int length = markdown.length();
+
+        // 닫는 펜스 찾기 (없으면 문서 끝까지 코드 블록)
+        int blockEnd = openEnd;
+        int pos = nextLine(markdown, openEnd);
+        while (pos < length) {
+            int lineEnd = lineEnd(markdown, pos);
+            blockEnd = lineEnd;
+            if (isClosingFence(markdown, pos, lineEnd, fenceChar, fenceLength)) {
+                break;
+            }
+            pos = nextLine(markdown, lineEnd);
         }
 
-        // 마지막 청크 추가
-        if (currentChunk.length() > 0) {
-            chunks.add(currentChunk.toString().trim());
+        int blockTokens = tokenCounter.count(markdown, openStart, blockEnd);
+        if (blockTokens <= maxTokens) {
+            builder.add(openStart, blockEnd, blockTokens);
+        } else {
+            // 한 청크에 들어가지 않는 코드 블록은 줄 단위로 자름
+            int linePos = openStart;
+            while (linePos < blockEnd) {
+                int lineEnd = lineEnd(markdown, linePos);
+                appendLine(builder, markdown, linePos, lineEnd);
+                linePos = nextLine(markdown, lineEnd);
+            }
         }
+        return nextLine(markdown, blockEnd);
+    }
 
-        return chunks;
+    /**
+     * 한 줄 추가, maxTokens보다 긴 줄은 단어(공백) 단위로, 그래도 길면 글자 단위로 나눈다
+     */
+    private void appendLine(ChunkBuilder builder, CharSequence markdown, int start, int end) {
+        int lineTokens = tokenCounter.count(markdown, start, end);
+        if (lineTokens <= maxTokens) {
+            builder.add(start, end, lineTokens);
+            return;
+        }
+
+        int pieceStart = start;
+        int pieceTokens = 0;
+        int pos = start;
+        while (pos < end) {
+            int wordEnd = pos;
+            while (wordEnd < end && !Character.isWhitespace(markdown.charAt(wordEnd))) {
+                wordEnd++;
+            }
+            while (wordEnd < end && Character.isWhitespace(markdown.charAt(wordEnd))) {
+                wordEnd++;
+            }
+
+            int wordTokens = tokenCounter.count(markdown, pos, wordEnd);
+            if (wordTokens > maxTokens) {
+                if (pos > pieceStart) {
+                    builder.add(pieceStart, pos, pieceTokens);
+                }
+                appendByChars(builder, markdown, pos, wordEnd);
+                pieceStart = wordEnd;
+                pieceTokens = 0;
+            } else if (pieceTokens + wordTokens > maxTokens) {
+                builder.add(pieceStart, pos, pieceTokens);
+                pieceStart = pos;
+                pieceTokens = wordTokens;
+            } else {
+                pieceTokens += wordTokens;
+            }
+            pos = wordEnd;
+        }
+        if (pos > pieceStart) {
+            builder.add(pieceStart, pos, pieceTokens);
+        }
+    }
+
+    /**
+     * 공백 없이 긴 구간을 글자 단위로 나눔 (글자별 토큰 수 합은 실제보다 크거나 같으므로 maxTokens를 넘지 않음)
+     */
+    private void appendByChars(ChunkBuilder builder, CharSequence markdown, int start, int end) {
+        int pieceStart = start;
+        int pieceTokens = 0;
+        for (int i = start; i < end; i++) {
+            int charTokens = tokenCounter.count(markdown, i, i + 1);
+            if (pieceTokens + charTokens > maxTokens && i > pieceStart) {
+                builder.add(pieceStart, i, pieceTokens);
+                pieceStart = i;
+                pieceTokens = 0;
+            }
+            pieceTokens += charTokens;
+        }
+        if (end > pieceStart) {
+            builder.add(pieceStart, end, pieceTokens);
+        }
+    }
+
+    /**
+     * 현재 청크를 구성하는 구간(줄, 코드 블록, 긴 줄의 조각)을 모아 청크 경계를 만든다
+     */
+    private final class ChunkBuilder {
+        private final CharSequence markdown;
+        private final List<CharSequence> chunks = new ArrayList<>();
+
+        // 현재 청크에 들어 있는 구간들 (start, end, tokens)
+        private int[] starts = new int[16];
+        private int[] ends = new int[16];
+        private int[] tokens = new int[16];
+        private int size;
+        private int totalTokens;
+
+        private ChunkBuilder(CharSequence markdown) {
+            this.markdown = markdown;
+        }
+
+        private void add(int start, int end, int segmentTokens) {
+            if (size > 0 && totalTokens + segmentTokens > maxTokens) {
+                flush(true);
+                // 겹쳐 넣은 구간과 합쳐서 넘치면 겹침을 포기
+                while (size > 0 && totalTokens + segmentTokens > maxTokens) {
+                    removeFirst();
+                }
+            }
+            if (size == starts.length) {
+                grow();
+            }
+            starts[size] = start;
+            ends[size] = end;
+            tokens[size] = segmentTokens;
+            size++;
+            totalTokens += segmentTokens;
+        }
+
+        /**
+         * 현재 청크를 내보냄
+         *
+         * @param keepOverlap true면 마지막 구간들을 overlapTokens 이내로 다음 청크에 남김
+         */
+        private void flush(boolean keepOverlap) {
+            if (size == 0) {
+                return;
+            }
+            emit(starts[0], ends[size - 1]);
+
+            int keep = 0;
+            int keptTokens = 0;
+            if (keepOverlap) {
+                while (keep < size && keptTokens + tokens[size - 1 - keep] <= overlapTokens) {
+                    keptTokens += tokens[size - 1 - keep];
+                    keep++;
+                }
+            }
+            int from = size - keep;
+            System.arraycopy(starts, from, starts, 0, keep);
+            System.arraycopy(ends, from, ends, 0, keep);
+            System.arraycopy(tokens, from, tokens, 0, keep);
+            size = keep;
+            totalTokens = keptTokens;
+        }
+
+        private void removeFirst() {
+            totalTokens -= tokens[0];
+            size--;
+            System.arraycopy(starts, 1, starts, 0, size);
+            System.arraycopy(ends, 1, ends, 0, size);
+            System.arraycopy(tokens, 1, tokens, 0, size);
+        }
+
+        private void emit(int start, int end) {
+            while (start < end && Character.isWhitespace(markdown.charAt(start))) {
+                start++;
+            }
+            while (end > start && Character.isWhitespace(markdown.charAt(end - 1))) {
+                end--;
+            }
+            if (start < end) {
+                chunks.add(CharBuffer.wrap(markdown, start, end));
+            }
+        }
+
+        private void grow() {
+            int capacity = starts.length << 1;
+            starts = Arrays.copyOf(starts, capacity);
+            ends = Arrays.copyOf(ends, capacity);
+            tokens = Arrays.copyOf(tokens, capacity);
+        }
+    }
+
+    private static int lineEnd(CharSequence text, int from) {
+        int length = text.length();
+        int i = from;
+        while (i < length && text.charAt(i) != '\n') {
+            i++;
+        }
+        return i;
+    }
+
+    private static int nextLine(CharSequence text, int lineEnd) {
+        return Math.min(text.length(), lineEnd + 1);
+    }
+
+    private static int firstNonSpace(CharSequence text, int start, int end) {
+        int i = start;
+        while (i < end && i - start <= MAX_INDENT && text.charAt(i) == ' ') {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * ATX 헤더 여부 (최대 3칸 들여쓰기, # 1~6개 뒤 공백 또는 줄 끝)
+     */
+    private static boolean isHeading(CharSequence text, int start, int end) {
+        int i = firstNonSpace(text, start, end);
+        if (i - start > MAX_INDENT) {
+            return false;
+        }
+        int level = 0;
+        while (i < end && text.charAt(i) == '#') {
+            level++;
+            i++;
+        }
+        return level >= 1 && level <= MAX_HEADING_LEVEL && (i == end || Character.isWhitespace(text.charAt(i)));
     }
 
     /**
-     * 대략적인 토큰 수 추정
+     * 여는 코드 펜스(``` 또는 ~~~)면 펜스 길이, 아니면 0
      */
-    private static int estimateTokenCount(String text) {
-        return text.length() / 4; // 영어 기준, 한글은 2.5~3배 높을 수 있음
+    private static int fenceLength(CharSequence text, int start, int end) {
+        int i = firstNonSpace(text, start, end);
+        if (i - start > MAX_INDENT || i >= end) {
+            return 0;
+        }
+        char fenceChar = text.charAt(i);
+        if (fenceChar != '`' && fenceChar != '~') {
+            return 0;
+        }
+        int length = 0;
+        while (i < end && text.charAt(i) == fenceChar) {
+            length++;
+            i++;
+        }
+        return length >= MIN_FENCE_LENGTH ? length : 0;
+    }
+
+    private static boolean isClosingFence(CharSequence text, int start, int end, char fenceChar, int openLength) {
+        int i = firstNonSpace(text, start, end);
+        if (i - start > MAX_INDENT) {
+            return false;
+        }
+        int length = 0;
+        while (i < end && text.charAt(i) == fenceChar) {
+            length++;
+            i++;
+        }
+        if (length < openLength) {
+            return false;
+        }
+        while (i < end) {
+            if (!Character.isWhitespace(text.charAt(i))) {
+                return false;
+            }
+            i++;
+        }
+        return true;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,59 @@
+package joomidang.papersummary.common.util;
+
+/**
+ * 스칼라 벡터 연산 커널 (Vector API를 사용할 수 없을 때의 폴백)
+ */
+final class ScalarVectorKernels implements VectorKernels {
+
+    @Override
+    public void add(float[] acc, float[] v) {
+        for (int i = 0; i < acc.length; i++) {
+            acc[i] += v[i];
+        }
+    }
+
+    @Override
+    public void scale(float[] v, float factor) {
+        for (int i = 0; i < v.length; i++) {
+            v[i] *= factor;
+        }
+    }
+
+    @Override
+    public float dot(float[] a, float[] b) {
+        float sum = 0f;
+        for (int i = 0; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+
+    @Override
+    public float cosine(float[] a, float[] b) {
+        float dot = 0f;
+        float normA = 0f;
+        float normB = 0f;
+        for (int i = 0; i < a.length; i++) {
+            dot += a[i] * b[i];
+            normA += a[i] * a[i];
+            normB += b[i] * b[i];
+        }
+        return VectorUtils.toCosine(dot, normA * normB);
+    }
+
+    @Override
+    public float cosineToUnit(float[] unitQuery, float[] candidate) {
+        float dot = 0f;
+        float norm = 0f;
+        for (int i = 0; i < candidate.length; i++) {
+            dot += unitQuery[i] * candidate[i];
+            norm += candidate[i] * candidate[i];
+        }
+        return VectorUtils.toCosine(dot, norm);
+    }
+
+    @Override
+    public String name() {
+        return "scalar";
+    }
+}
@@ -0,0 +1,48 @@
+package joomidang.papersummary.common.util;
+
+/**
+ * 두 문자열 사이의 단일 구간 치환 (offset부터 deleteLength만큼 지우고 insert를 넣음)
+ * <p>
+ * 공통 접두사/접미사를 잘라내고 남은 가운데 구간만 기록한다. 자동 저장 사이의 편집은 대부분 한 곳에 몰려 있어
+ * 전체 문서 대신 수십 바이트로 표현된다. 여러 곳을 고친 경우에도 첫 변경부터 마지막 변경까지를 한 구간으로 담으므로
+ * 결과는 항상 정확하다.
+ *
+ * @param offset       치환 시작 위치 (UTF-16 char 단위)
+ * @param deleteLength 지울 char 수
+ * @param insert       넣을 문자열
+ */
+public record TextDelta(int offset, int deleteLength, String insert) {
+
+    public static TextDelta between(String before, String after) {
+        int maxPrefix = Math.min(before.length(), after.length());
+        int prefix = 0;
+        while (prefix < maxPrefix && before.charAt(prefix) == after.charAt(prefix)) {
+            prefix++;
+        }
+        // 서로게이트 쌍 가운데서 자르면 insert에 홀로 남은 서로게이트가 생겨 저장할 수 없으므로 쌍 앞으로 물림
+        if (prefix > 0 && Character.isHighSurrogate(before.charAt(prefix - 1))) {
+            prefix--;
+        }
+
+        int maxSuffix = maxPrefix - prefix;
+        int suffix = 0;
+        while (suffix < maxSuffix
+                && before.charAt(before.length() - 1 - suffix) == after.charAt(after.length() - 1 - suffix)) {
+            suffix++;
+        }
+        if (suffix > 0 && Character.isLowSurrogate(after.charAt(after.length() - suffix))) {
+            suffix--;
+        }
+
+        return new TextDelta(prefix, before.length() - prefix - suffix,
+                after.substring(prefix, after.length() - suffix));
+    }
+
+    public String applyTo(String text) {
+        return text.substring(0, offset) + insert + text.substring(offset + deleteLength);
+    }
+
+    public boolean isEmpty() {
+        return deleteLength == 0 && insert.isEmpty();
+    }
+}
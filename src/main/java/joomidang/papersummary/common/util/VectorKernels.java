@@ -0,0 +1,39 @@
+package joomidang.papersummary.common.util;
+
+/**
+ * VectorUtils가 사용하는 벡터 연산 커널
+ * <p>
+ * Vector API(jdk.incubator.vector) 구현과 스칼라 구현이 있으며, 모든 메서드는 두 배열의 길이가 같다고 가정한다. (길이 검증은 VectorUtils에서 수행)
+ */
+interface VectorKernels {
+
+    /**
+     * acc += v
+     */
+    void add(float[] acc, float[] v);
+
+    /**
+     * v *= factor
+     */
+    void scale(float[] v, float factor);
+
+    /**
+     * 내적
+     */
+    float dot(float[] a, float[] b);
+
+    /**
+     * 코사인 유사도 (내적과 두 벡터의 노름을 한 번에 계산)
+     */
+    float cosine(float[] a, float[] b);
+
+    /**
+     * 단위 벡터 query와 candidate의 코사인 유사도 (query 노름 계산 생략)
+     */
+    float cosineToUnit(float[] unitQuery, float[] candidate);
+
+    /**
+     * 구현 이름 (로그용)
+     */
+    String name();
+}
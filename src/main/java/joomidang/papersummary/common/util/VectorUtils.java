@@ -1,12 +1,30 @@
 package joomidang.papersummary.common.util;
 
-import java.util.Collection;
+import java.util.AbstractList;
+import java.util.Collections;
 import java.util.List;
+import java.util.RandomAccess;
+import lombok.extern.slf4j.Slf4j;
 
 /**
  * 벡터 연산을 위한 유틸리티 클래스
+ * <p>
+ * JVM이 --add-modules jdk.incubator.vector 로 실행되면 Vector API(SIMD) 커널을 사용하고, 모듈이 없거나
+ * -Dpapersummary.vector.simd=false 인 경우 스칼라 커널로 동작한다.
  */
+@Slf4j
 public class VectorUtils {
+    private static final String SIMD_PROPERTY = "papersummary.vector.simd";
+    private static final String SIMD_KERNELS_CLASS = "joomidang.papersummary.common.util.SimdVectorKernels";
+
+    private static final VectorKernels KERNELS = loadKernels();
+
+    /**
+     * 현재 사용 중인 커널 이름 (scalar 또는 simd)
+     */
+    public static String kernelName() {
+        return KERNELS.name();
+    }
 
     /**
      * 여러 벡터의 평균 벡터 계산
@@ -23,109 +41,151 @@ public class VectorUtils {
         float[] avg = new float[dim];
 
         for (float[] vec : vectors) {
-            for (int i = 0; i < dim; i++) {
-                avg[i] += vec[i];
-            }
-        }
-
-        for (int i = 0; i < dim; i++) {
-            avg[i] /= vectors.size();
+            checkDimension(avg, vec);
+            KERNELS.add(avg, vec);
         }
 
+        KERNELS.scale(avg, 1f / vectors.size());
         return avg;
     }
 
     /**
-     * 다양한 타입을 float[]로 안전하게 변환 (개선된 버전)
+     * L2 정규화된 새 벡터 반환 (원본은 수정하지 않음)
      *
-     * @param input 입력 객체 (List<Float>, List<Number>, float[] 등)
-     * @return float 배열
+     * @param vector 벡터
+     * @return 길이가 1인 벡터, 영벡터는 그대로 복사해서 반환
      */
-    public static float[] toFloatArray(Object input) {
-        if (input == null) {
+    public static float[] normalize(float[] vector) {
+        if (vector == null || vector.length == 0) {
             return new float[0];
         }
 
-        // 이미 float[] 타입인 경우
-        if (input instanceof float[]) {
-            return (float[]) input;
+        float[] normalized = vector.clone();
+        float norm = (float) Math.sqrt(KERNELS.dot(vector, vector));
+        if (norm > 0f) {
+            KERNELS.scale(normalized, 1f / norm);
         }
+        return normalized;
+    }
 
-        // Collection 타입인 경우 (List, ArrayList 등)
-        if (input instanceof Collection<?>) {
-            Collection<?> collection = (Collection<?>) input;
-            if (collection.isEmpty()) {
-                return new float[0];
-            }
+    /**
+     * 두 벡터의 내적
+     */
+    public static float dot(float[] a, float[] b) {
+        checkDimension(a, b);
+        return KERNELS.dot(a, b);
+    }
 
-            float[] result = new float[collection.size()];
-            int index = 0;
+    /**
+     * 두 벡터의 코사인 유사도 (영벡터가 포함되면 0)
+     */
+    public static float cosine(float[] a, float[] b) {
+        checkDimension(a, b);
+        return KERNELS.cosine(a, b);
+    }
 
-            for (Object value : collection) {
-                result[index++] = convertToFloat(value);
-            }
-            return result;
+    /**
+     * 기준 벡터 하나와 여러 후보 벡터의 내적을 한 번에 계산
+     *
+     * @param query      기준 벡터
+     * @param candidates 후보 벡터 목록
+     * @return 후보 순서대로의 내적 값
+     */
+    public static float[] dotAll(float[] query, List<float[]> candidates) {
+        float[] scores = new float[candidates.size()];
+        for (int i = 0; i < scores.length; i++) {
+            float[] candidate = candidates.get(i);
+            checkDimension(query, candidate);
+            scores[i] = KERNELS.dot(query, candidate);
         }
+        return scores;
+    }
 
-        // 배열 타입인 경우
-        if (input.getClass().isArray()) {
-            if (input instanceof double[]) {
-                double[] doubleArray = (double[]) input;
-                float[] result = new float[doubleArray.length];
-                for (int i = 0; i < doubleArray.length; i++) {
-                    result[i] = (float) doubleArray[i];
-                }
-                return result;
-            }
-
-            if (input instanceof int[]) {
-                int[] intArray = (int[]) input;
-                float[] result = new float[intArray.length];
-                for (int i = 0; i < intArray.length; i++) {
-                    result[i] = (float) intArray[i];
-                }
-                return result;
-            }
+    /**
+     * 기준 벡터 하나와 여러 후보 벡터의 코사인 유사도를 한 번에 계산
+     * <p>
+     * 기준 벡터는 한 번만 정규화하고, 후보마다 내적과 노름을 한 번의 순회로 계산한다.
+     *
+     * @param query      기준 벡터
+     * @param candidates 후보 벡터 목록
+     * @return 후보 순서대로의 코사인 유사도
+     */
+    public static float[] cosineAll(float[] query, List<float[]> candidates) {
+        float[] scores = new float[candidates.size()];
+        float[] unitQuery = normalize(query);
+        for (int i = 0; i < scores.length; i++) {
+            float[] candidate = candidates.get(i);
+            checkDimension(unitQuery, candidate);
+            scores[i] = KERNELS.cosineToUnit(unitQuery, candidate);
         }
-
-        throw new IllegalArgumentException("지원하지 않는 입력 타입: " + input.getClass().getName() +
-                ", 실제 값: " + input);
+        return scores;
     }
 
     /**
-     * 개별 값을 float으로 변환하는 헬퍼 메서드
+     * 내적과 노름 제곱(의 곱)으로 코사인 값 계산, 노름이 0이면 0 반환
      */
-    private static float convertToFloat(Object value) {
-        if (value == null) {
-            return 0.0f;
+    static float toCosine(float dot, float squaredNorms) {
+        if (squaredNorms <= 0f) {
+            return 0f;
         }
+        return (float) (dot / Math.sqrt(squaredNorms));
+    }
 
-        if (value instanceof Number) {
-            return ((Number) value).floatValue();
+    private static void checkDimension(float[] a, float[] b) {
+        if (a.length != b.length) {
+            throw new IllegalArgumentException("벡터 차원이 일치하지 않습니다: " + a.length + " != " + b.length);
         }
+    }
 
-        if (value instanceof String) {
-            try {
-                return Float.parseFloat((String) value);
-            } catch (NumberFormatException e) {
-                throw new IllegalArgumentException("문자열을 float으로 변환할 수 없습니다: " + value, e);
-            }
+    static VectorKernels loadKernels() {
+        if (!Boolean.parseBoolean(System.getProperty(SIMD_PROPERTY, "true"))) {
+            log.info("벡터 연산 커널: scalar ({}=false)", SIMD_PROPERTY);
+            return new ScalarVectorKernels();
         }
-
-        // 중첩된 컬렉션이나 다른 타입의 경우
-        if (value instanceof Collection<?>) {
-            throw new IllegalArgumentException("중첩된 컬렉션은 지원하지 않습니다. 값: " + value);
+        try {
+            // jdk.incubator.vector 모듈이 없으면 클래스 로딩 시점에 LinkageError 발생
+            VectorKernels kernels = (VectorKernels) Class.forName(SIMD_KERNELS_CLASS)
+                    .getDeclaredConstructor()
+                    .newInstance();
+            log.info("벡터 연산 커널: {}", kernels.name());
+            return kernels;
+        } catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
+            log.info("Vector API 사용 불가, 스칼라 커널 사용: {}", e.toString());
+            return new ScalarVectorKernels();
         }
-
-        throw new IllegalArgumentException("float으로 변환할 수 없는 타입입니다. " +
-                "타입: " + value.getClass().getName() + ", 값: " + value);
     }
 
     /**
-     * 기존 메서드 유지 (하위 호환성)
+     * float[]를 복사 없이 List&lt;Float&gt;로 감싼 읽기 전용 뷰 반환
+     * <p>
+     * Elasticsearch 클라이언트처럼 List&lt;Float&gt;만 받는 API에 넘길 때 사용한다. ArrayList로 복사하지 않으므로 원소 접근 시점에만
+     * 박싱이 일어난다.
+     *
+     * @param vector 원본 벡터 (뷰가 원본을 그대로 참조하므로 이후 수정하지 않아야 함)
+     * @return 읽기 전용 List 뷰
      */
-    @Deprecated
-    public static float[] toFloatArray(List<?> list) {
-        return toFloatArray((Object) list);
+    public static List<Float> asList(float[] vector) {
+        if (vector == null || vector.length == 0) {
+            return Collections.emptyList();
+        }
+        return new FloatArrayView(vector);
+    }
+
+    private static final class FloatArrayView extends AbstractList<Float> implements RandomAccess {
+        private final float[] values;
+
+        private FloatArrayView(float[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public Float get(int index) {
+            return values[index];
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
     }
-}
\ No newline at end of file
+}
@@ -21,6 +21,7 @@ import joomidang.papersummary.member.controller.response.MemberSummaryResponse;
 import joomidang.papersummary.member.controller.response.ProfileImageResponse;
 import joomidang.papersummary.member.entity.Member;
 import joomidang.papersummary.member.service.MemberService;
+import joomidang.papersummary.member.service.ProfileImageProcessor;
 import joomidang.papersummary.s3.service.S3Service;
 import joomidang.papersummary.summary.controller.response.LikedSummaryListResponse;
 import joomidang.papersummary.summary.service.SummaryLikeService;
@@ -53,6 +54,7 @@ public class MemberController {
     private final MemberService memberService;
     private final JwtTokenProvider tokenProvider;
     private final S3Service s3Service;
+    private final ProfileImageProcessor profileImageProcessor;
     private final SummaryLikeService summaryLikeService;
 
     /**
@@ -185,7 +187,7 @@ public class MemberController {
      * @param providerUid 인증 제공자가 제공한 인증된 사용자의 고유 식별자
      * @return 업로드된 이미지 URL이 포함된 ApiResponse를 담은 ResponseEntity
      */
-    @Operation(summary = "사용자 프로필 이미지 업로드", description = "사용자의 프로필 이미지를 업로드합니다. 이미지는 자동으로 리사이징되어 저장됩니다.")
+    @Operation(summary = "사용자 프로필 이미지 업로드", description = "사용자의 프로필 이미지를 업로드합니다. 원본이 바로 저장되고, 크기별(48/96/300) 이미지는 비동기로 생성됩니다.")
     @io.swagger.v3.oas.annotations.responses.ApiResponse(description = "이미지 업로드 성공", responseCode = "200")
     @io.swagger.v3.oas.annotations.responses.ApiResponse(description = "인증 실패", responseCode = "403")
     @io.swagger.v3.oas.annotations.responses.ApiResponse(description = "잘못된 파일 형식", responseCode = "400")
@@ -199,7 +201,7 @@ public class MemberController {
         log.info("프로필 이미지 업로드 요청: providerUid={}, 파일명={}, 크기={}KB", providerUid, file.getOriginalFilename(),
                 file.getSize() / 1024);
 
-        // 이미지 업로드 및 처리
+        // 원본 이미지 업로드 (리사이징은 프로필 반영 후 비동기로)
         String imageUrl = s3Service.uploadProfileImage(file);
         log.info("프로필 이미지 업로드 완료: imageUrl={}", imageUrl);
 
@@ -210,6 +212,9 @@ public class MemberController {
         memberService.updateProfile(providerUid, updateRequest);
         log.info("사용자 프로필 이미지 URL 업데이트 완료: providerUid={}", providerUid);
 
+        // 크기별 변형 생성 예약 (완료되면 프로필 이미지가 변형 URL로 바뀜)
+        profileImageProcessor.generateVariants(providerUid, imageUrl);
+
         // 응답 생성
         ProfileImageResponse response = ProfileImageResponse.from(imageUrl);
         return ResponseEntity.ok(ApiResponse.successWithData(MemberSuccessCode.PROFILE_IMAGE_UPLOADED, response));
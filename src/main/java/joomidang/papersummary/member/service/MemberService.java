@@ -22,6 +22,7 @@ import joomidang.papersummary.summary.repository.SummaryLikeRepository;
 import joomidang.papersummary.summary.repository.SummaryRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -241,6 +242,23 @@ public class MemberService {
         return savedMember;
     }
 
+    /**
+     * 프로필 이미지 변형이 준비되면 회원 프로필 이미지를 변형 URL로 교체
+     * <p>
+     * 변형을 만드는 동안 다른 이미지로 바꿨으면 교체하지 않음
+     */
+    @Transactional
+    @EventListener
+    public void onProfileImageVariantsReady(ProfileImageVariantsReadyEvent event) {
+        Member member = findByProviderUid(event.providerUid());
+        if (!event.originalUrl().equals(member.getProfileImage())) {
+            log.info("프로필 이미지가 이미 변경되어 변형 URL 적용 생략: memberId={}", member.getId());
+            return;
+        }
+        member.updateProfile(member.getName(), event.variantUrl());
+        log.info("프로필 이미지 변형 URL 적용: memberId={}, profileImageUrl={}", member.getId(), event.variantUrl());
+    }
+
     /**
      * 지정된 회원의 관심분야 목록을 조회
      *
@@ -0,0 +1,115 @@
+package joomidang.papersummary.member.service;
+
+import jakarta.annotation.PreDestroy;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.imageio.ImageIO;
+import joomidang.papersummary.s3.service.S3Service;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.coobird.thumbnailator.Thumbnails;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * 프로필 이미지 크기별 변형을 별도 스레드 풀에서 생성
+ * <p>
+ * 업로드 요청은 원본만 저장하고 바로 끝나며, 여기서 원본을 한 번 디코딩해 {@link ProfileImageSize}의 모든 크기로 줄여 올린다.
+ * 투명도가 있는 이미지는 PNG, 나머지는 JPEG로 저장한다. 모두 올라가면 {@link ProfileImageVariantsReadyEvent}를 발행해 회원
+ * 프로필 이미지를 변형 URL로 바꾼다. 실패하면 회원은 원본 URL을 그대로 쓴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProfileImageProcessor {
+    // 리사이징은 CPU를 쓰므로 적은 수의 스레드로 처리
+    private static final int WORKER_THREADS = 2;
+    private static final int QUEUE_CAPACITY = 256;
+    private static final double JPEG_QUALITY = 0.8;
+    private static final String PROFILES_DIR = "profiles/";
+
+    private final S3Service s3Service;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final AtomicInteger threadSequence = new AtomicInteger();
+    private final ThreadPoolExecutor executor = new ThreadPoolExecutor(WORKER_THREADS, WORKER_THREADS,
+            0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+            runnable -> {
+                Thread thread = new Thread(runnable, "profile-image-" + threadSequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    /**
+     * 변형 생성 예약 (큐가 가득 차면 건너뛰고 원본을 그대로 사용)
+     */
+    public void generateVariants(String providerUid, String originalUrl) {
+        try {
+            executor.execute(() -> generate(providerUid, originalUrl));
+        } catch (RejectedExecutionException e) {
+            log.warn("프로필 이미지 변형 생성 대기열 초과, 원본 사용: originalUrl={}", originalUrl);
+        }
+    }
+
+    void generate(String providerUid, String originalUrl) {
+        long startedAt = System.currentTimeMillis();
+        try {
+            BufferedImage original;
+            try (InputStream inputStream = s3Service.openFile(originalUrl)) {
+                original = ImageIO.read(inputStream);
+            }
+            if (original == null) {
+                log.warn("프로필 이미지 디코딩 실패, 원본 사용: originalUrl={}", originalUrl);
+                return;
+            }
+
+            boolean transparent = original.getColorModel().hasAlpha();
+            String format = transparent ? "png" : "jpg";
+            String contentType = transparent ? "image/png" : "image/jpeg";
+            // profiles/{id}/original.xxx -> profiles/{id}/
+            String keyPrefix = originalUrl.substring(originalUrl.indexOf(PROFILES_DIR),
+                    originalUrl.lastIndexOf('/') + 1);
+
+            String variantUrl = null;
+            for (ProfileImageSize size : ProfileImageSize.values()) {
+                byte[] resized = resize(original, size, format);
+                String url = s3Service.putFile(keyPrefix + size.fileName("." + format), resized, contentType);
+                if (size == ProfileImageSize.LARGE) {
+                    variantUrl = url;
+                }
+                log.debug("프로필 이미지 변형 업로드: size={}, 크기={}B", size.getPixels(), resized.length);
+            }
+
+            eventPublisher.publishEvent(new ProfileImageVariantsReadyEvent(providerUid, originalUrl, variantUrl));
+            log.info("프로필 이미지 변형 생성 완료: originalUrl={}, format={}, 소요={}ms",
+                    originalUrl, format, System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            log.error("프로필 이미지 변형 생성 실패, 원본 사용: originalUrl={}, 오류={}", originalUrl, e.getMessage(), e);
+        }
+    }
+
+    private byte[] resize(BufferedImage original, ProfileImageSize size, String format) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        Thumbnails.Builder<BufferedImage> builder = Thumbnails.of(original)
+                .size(size.getPixels(), size.getPixels())
+                .keepAspectRatio(true)
+                .outputFormat(format);
+        if ("jpg".equals(format)) {
+            builder.outputQuality(JPEG_QUALITY);
+        }
+        builder.toOutputStream(outputStream);
+        return outputStream.toByteArray();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
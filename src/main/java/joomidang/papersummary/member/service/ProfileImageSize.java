@@ -0,0 +1,30 @@
+package joomidang.papersummary.member.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 프로필 이미지 크기별 변형
+ * <p>
+ * 업로드한 프로필 이미지는 profiles/{id}/original.{ext}로 바로 저장되고, 비동기로 profiles/{id}/{크기}.{jpg|png} 변형이
+ * 만들어진다. 변형이 준비되면 회원의 프로필 이미지는 LARGE 변형 URL로 바뀌며, 화면별로 필요한 크기의 URL은
+ * {@link ProfileImageUrlResolver}로 얻는다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ProfileImageSize {
+    SMALL(48),   // 댓글 작성자
+    MEDIUM(96),  // 요약본 목록/카드의 작성자
+    LARGE(300);  // 프로필 화면
+
+    private final int pixels;
+
+    /**
+     * 변형 파일명 (예: 96.jpg)
+     *
+     * @param extension 점을 포함한 확장자
+     */
+    public String fileName(String extension) {
+        return pixels + extension;
+    }
+}
@@ -0,0 +1,37 @@
+package joomidang.papersummary.member.service;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import joomidang.papersummary.s3.service.S3Service;
+import org.springframework.stereotype.Component;
+
+/**
+ * 저장된 프로필 이미지 URL을 화면에 맞는 크기의 변형 URL로 변환
+ * <p>
+ * 변형 URL은 업로드 버킷 URL로 시작하는 것만 인정한다. (경로 모양만 보면 profiles/.../숫자.jpg 형태의 외부 이미지 URL까지 바꿔 버림)
+ * 외부(OAuth) 이미지나 변형이 아직 없는 원본 URL은 그대로 돌려준다.
+ */
+@Component
+public class ProfileImageUrlResolver {
+    private final Pattern variantUrl;
+
+    public ProfileImageUrlResolver(S3Service s3Service) {
+        // 업로드 버킷 객체 URL의 공통 접두사 (예: https://{bucket}.s3.amazonaws.com/)
+        String uploadBaseUrl = s3Service.fileUrl("");
+        this.variantUrl = Pattern.compile("^(" + Pattern.quote(uploadBaseUrl) + "profiles/[^/]+/)\\d+(\\.(?:jpg|png))$");
+    }
+
+    /**
+     * 프로필 이미지 URL을 size 크기의 변형 URL로 변환
+     */
+    public String resolve(String profileImageUrl, ProfileImageSize size) {
+        if (profileImageUrl == null) {
+            return null;
+        }
+        Matcher matcher = variantUrl.matcher(profileImageUrl);
+        if (!matcher.matches()) {
+            return profileImageUrl;
+        }
+        return matcher.group(1) + size.fileName(matcher.group(2));
+    }
+}
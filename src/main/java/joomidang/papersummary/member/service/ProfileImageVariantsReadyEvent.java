@@ -0,0 +1,11 @@
+package joomidang.papersummary.member.service;
+
+/**
+ * 프로필 이미지 크기별 변형 생성 완료 이벤트
+ *
+ * @param providerUid 업로드한 회원
+ * @param originalUrl 업로드한 원본 URL
+ * @param variantUrl  회원 프로필 이미지로 저장할 변형 URL (LARGE)
+ */
+public record ProfileImageVariantsReadyEvent(String providerUid, String originalUrl, String variantUrl) {
+}
@@ -0,0 +1,120 @@
+package joomidang.papersummary.paper.admission;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import joomidang.papersummary.paper.controller.response.PaperErrorCode;
+import joomidang.papersummary.paper.exception.TooManyRequestsException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 논문 업로드/분석 요청 유입 제어
+ * <p>
+ * 업로드와 분석 요청은 서블릿 스레드, DB 커넥션, S3 대역폭, MinerU/LLM 처리량을 차지하므로, 처리 능력을 넘는 요청은 대기열에 쌓아 지연시간을
+ * 늘리는 대신 429(Retry-After)로 빨리 돌려보낸다.
+ * <p>
+ * - 회원별/전체 토큰 버킷: 짧은 버스트는 허용하고 지속 유입 속도를 제한
+ * <p>
+ * - 진행 중 분석 수: 분석 요청부터 요약 완료/실패까지 점유하는 슬롯
+ * <p>
+ * Redis 장애 시에는 유입 제어 없이 통과시킨다. (제한 기능 때문에 업로드 자체가 막히지 않도록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@EnableConfigurationProperties(AdmissionProperties.class)
+public class AdmissionControl {
+    private static final String GLOBAL = "global";
+
+    private final RedisAdmissionStore store;
+    private final AdmissionProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 업로드 요청 허용 여부 확인
+     *
+     * @throws TooManyRequestsException 한도 초과
+     */
+    public void admitUpload(String providerUid) {
+        admit("upload", providerUid, properties.getUpload(), PaperErrorCode.UPLOAD_RATE_LIMITED);
+    }
+
+    /**
+     * 분석 요청 허용 여부 확인
+     *
+     * @throws TooManyRequestsException 한도 초과
+     */
+    public void admitAnalysis(String providerUid) {
+        admit("analysis", providerUid, properties.getAnalysis(), PaperErrorCode.ANALYSIS_RATE_LIMITED);
+    }
+
+    /**
+     * 진행 중 분석 슬롯 획득 (같은 논문을 다시 요청하면 기존 슬롯 유지)
+     *
+     * @throws TooManyRequestsException 진행 중 분석이 가득 참
+     */
+    public void acquireAnalysisSlot(Long paperId) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        boolean acquired;
+        try {
+            acquired = store.acquireSlot(paperId, properties.getMaxInFlightAnalyses(), properties.getInFlightTimeout());
+        } catch (RuntimeException e) {
+            log.warn("분석 슬롯 확인 실패, 제한 없이 허용: paperId={}, error={}", paperId, e.getMessage());
+            meterRegistry.counter("admission.bypassed", "endpoint", "analysis").increment();
+            return;
+        }
+        if (!acquired) {
+            log.warn("진행 중 분석 한도 초과: paperId={}, max={}", paperId, properties.getMaxInFlightAnalyses());
+            reject("analysis", "in_flight", PaperErrorCode.ANALYSIS_CAPACITY_EXCEEDED,
+                    properties.getInFlightRetryAfter(), "현재 분석 요청이 많아 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    /**
+     * 분석 종료(요약 완료/실패) 시 슬롯 반납
+     */
+    public void releaseAnalysisSlot(Long paperId) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            store.releaseSlot(paperId);
+        } catch (RuntimeException e) {
+            // 반납하지 못한 슬롯은 inFlightTimeout 뒤 회수됨
+            log.warn("분석 슬롯 반납 실패: paperId={}, error={}", paperId, e.getMessage());
+        }
+    }
+
+    private void admit(String endpoint, String providerUid, AdmissionProperties.Endpoint limits,
+                       PaperErrorCode errorCode) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        Duration retryAfter;
+        try {
+            retryAfter = store.takeTokens(
+                    List.of(endpoint + ":member:" + providerUid, endpoint + ":" + GLOBAL),
+                    List.of(limits.getMember(), limits.getGlobal()));
+        } catch (RuntimeException e) {
+            log.warn("유입 제어 확인 실패, 제한 없이 허용: endpoint={}, error={}", endpoint, e.getMessage());
+            meterRegistry.counter("admission.bypassed", "endpoint", endpoint).increment();
+            return;
+        }
+        if (!retryAfter.isZero()) {
+            log.info("요청 한도 초과: endpoint={}, providerUid={}, retryAfterMs={}",
+                    endpoint, providerUid, retryAfter.toMillis());
+            reject(endpoint, "rate", errorCode, retryAfter, "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    private void reject(String endpoint, String reason, PaperErrorCode errorCode, Duration retryAfter,
+                        String message) {
+        meterRegistry.counter("admission.rejected", "endpoint", endpoint, "reason", reason).increment();
+        throw new TooManyRequestsException(errorCode, message, retryAfter);
+    }
+}
@@ -0,0 +1,45 @@
+package joomidang.papersummary.paper.admission;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 업로드/분석 요청을 컨트롤러 진입 전에 유입 제어
+ * <p>
+ * multipart는 지연 파싱(resolve-lazily)하므로, 거절된 업로드는 파일 본문을 읽거나 트랜잭션을 열기 전에 429로 끝난다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AdmissionInterceptor implements HandlerInterceptor {
+    public static final String UPLOAD_PATH = "/api/papers";
+    public static final String DIRECT_UPLOAD_PATH = "/api/papers/uploads";
+    public static final String RESUMABLE_UPLOAD_PATH = "/api/papers/resumable-uploads";
+    public static final String ANALYSIS_PATH = "/api/papers/*/analyze";
+
+    private final AdmissionControl admissionControl;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!HttpMethod.POST.matches(request.getMethod())) {
+            return true;
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return true;
+        }
+
+        String providerUid = authentication.getName();
+        if (request.getRequestURI().endsWith("/analyze")) {
+            admissionControl.admitAnalysis(providerUid);
+        } else {
+            admissionControl.admitUpload(providerUid);
+        }
+        return true;
+    }
+}
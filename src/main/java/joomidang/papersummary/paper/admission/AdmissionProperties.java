@@ -0,0 +1,74 @@
+package joomidang.papersummary.paper.admission;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 논문 업로드/분석 요청 유입 제어 설정 (paper.admission.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "paper.admission")
+public class AdmissionProperties {
+    private boolean enabled = true;
+
+    /**
+     * 업로드: 회원당 5건 버스트, 분당 5건 / 전체 30건 버스트, 초당 1건
+     */
+    private Endpoint upload = new Endpoint(new Bucket(5, 5.0 / 60), new Bucket(30, 1));
+
+    /**
+     * 분석 요청: 회원당 5건 버스트, 분당 5건 / 전체 30건 버스트, 초당 1건
+     */
+    private Endpoint analysis = new Endpoint(new Bucket(5, 5.0 / 60), new Bucket(30, 1));
+
+    /**
+     * 동시에 진행 중인 분석(요청 ~ 요약 완료/실패) 최대 수, 전체 인스턴스 합산
+     */
+    private int maxInFlightAnalyses = 100;
+
+    /**
+     * 완료 처리가 누락된 분석 슬롯을 회수하는 시간
+     */
+    private Duration inFlightTimeout = Duration.ofMinutes(30);
+
+    /**
+     * 진행 중 분석이 가득 찼을 때 Retry-After 값
+     */
+    private Duration inFlightRetryAfter = Duration.ofSeconds(30);
+
+    @Getter
+    @Setter
+    public static class Endpoint {
+        private Bucket member;
+        private Bucket global;
+
+        public Endpoint() {
+        }
+
+        public Endpoint(Bucket member, Bucket global) {
+            this.member = member;
+            this.global = global;
+        }
+    }
+
+    /**
+     * 토큰 버킷 (capacity: 최대 버스트, refillPerSecond: 초당 충전량)
+     */
+    @Getter
+    @Setter
+    public static class Bucket {
+        private int capacity;
+        private double refillPerSecond;
+
+        public Bucket() {
+        }
+
+        public Bucket(int capacity, double refillPerSecond) {
+            this.capacity = capacity;
+            this.refillPerSecond = refillPerSecond;
+        }
+    }
+}
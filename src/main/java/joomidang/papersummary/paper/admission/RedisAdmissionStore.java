@@ -0,0 +1,113 @@
+package joomidang.papersummary.paper.admission;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import joomidang.papersummary.paper.admission.AdmissionProperties.Bucket;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 유입 제어 상태를 Redis에 저장 (여러 인스턴스가 같은 한도를 공유)
+ * <p>
+ * 모든 판단은 Lua 스크립트 안에서 원자적으로 하고, 시각은 Redis 서버 시간(TIME)을 사용해 인스턴스 간 시계 차이의 영향을 받지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+class RedisAdmissionStore {
+    private static final String BUCKET_PREFIX = "admission:bucket:";
+    private static final String IN_FLIGHT_KEY = "admission:analysis:inflight";
+    // 충전량 0은 Lua에서 0으로 나누게 되므로 최소값 보정
+    private static final double MIN_REFILL_PER_SECOND = 0.001;
+
+    /**
+     * 여러 버킷에서 토큰 1개씩을 함께 꺼낸다. 하나라도 부족하면 아무 버킷도 차감하지 않고 가장 긴 대기 시간(ms)을 돌려준다.
+     * <p>
+     * ARGV: [capacity1, refillPerMs1, capacity2, refillPerMs2, ...] / 반환: {허용 여부(1/0), 대기 ms}
+     */
+    private static final RedisScript<List> TAKE_TOKENS = new DefaultRedisScript<>("""
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local tokens = {}
+            local wait = 0
+            for i, key in ipairs(KEYS) do
+              local capacity = tonumber(ARGV[i * 2 - 1])
+              local rate = tonumber(ARGV[i * 2])
+              local state = redis.call('HMGET', key, 'tokens', 'ts')
+              local current = tonumber(state[1])
+              local ts = tonumber(state[2])
+              if current == nil or ts == nil then
+                current = capacity
+                ts = now
+              end
+              current = math.min(capacity, current + math.max(0, now - ts) * rate)
+              tokens[i] = current
+              if current < 1 then
+                wait = math.max(wait, math.ceil((1 - current) / rate))
+              end
+            end
+            if wait > 0 then
+              return {0, wait}
+            end
+            for i, key in ipairs(KEYS) do
+              local capacity = tonumber(ARGV[i * 2 - 1])
+              local rate = tonumber(ARGV[i * 2])
+              redis.call('HSET', key, 'tokens', tostring(tokens[i] - 1), 'ts', now)
+              redis.call('PEXPIRE', key, math.ceil(capacity / rate) + 1000)
+            end
+            return {1, 0}
+            """, List.class);
+
+    /**
+     * 진행 중 분석 슬롯 획득 (이미 슬롯이 있는 논문은 갱신만 하고 허용)
+     * <p>
+     * ARGV: [paperId, cap, timeoutMs] / 반환: 1(허용) 또는 0(가득 참)
+     */
+    private static final RedisScript<Long> ACQUIRE_SLOT = new DefaultRedisScript<>("""
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local timeout = tonumber(ARGV[3])
+            redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', now - timeout)
+            if not redis.call('ZSCORE', KEYS[1], ARGV[1]) and redis.call('ZCARD', KEYS[1]) >= tonumber(ARGV[2]) then
+              return 0
+            end
+            redis.call('ZADD', KEYS[1], now, ARGV[1])
+            redis.call('PEXPIRE', KEYS[1], timeout)
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * @return 허용이면 Duration.ZERO, 거절이면 토큰이 생길 때까지의 대기 시간
+     */
+    Duration takeTokens(List<String> bucketNames, List<Bucket> buckets) {
+        List<String> keys = new ArrayList<>(bucketNames.size());
+        Object[] args = new Object[buckets.size() * 2];
+        for (int i = 0; i < buckets.size(); i++) {
+            Bucket bucket = buckets.get(i);
+            keys.add(BUCKET_PREFIX + bucketNames.get(i));
+            args[i * 2] = String.valueOf(Math.max(1, bucket.getCapacity()));
+            args[i * 2 + 1] = String.valueOf(Math.max(MIN_REFILL_PER_SECOND, bucket.getRefillPerSecond()) / 1000.0);
+        }
+
+        List<?> result = redisTemplate.execute(TAKE_TOKENS, keys, args);
+        if (result == null || result.size() < 2 || ((Number) result.get(0)).longValue() == 1) {
+            return Duration.ZERO;
+        }
+        return Duration.ofMillis(((Number) result.get(1)).longValue());
+    }
+
+    boolean acquireSlot(Long paperId, int cap, Duration timeout) {
+        Long result = redisTemplate.execute(ACQUIRE_SLOT, List.of(IN_FLIGHT_KEY),
+                String.valueOf(paperId), String.valueOf(cap), String.valueOf(timeout.toMillis()));
+        return result == null || result == 1L;
+    }
+
+    void releaseSlot(Long paperId) {
+        redisTemplate.opsForZSet().remove(IN_FLIGHT_KEY, String.valueOf(paperId));
+    }
+}
@@ -1,12 +1,19 @@
 package joomidang.papersummary.paper.consumer;
 
+import com.rabbitmq.client.Channel;
 import joomidang.papersummary.common.config.rabbitmq.PaperEventEnvelop;
 import joomidang.papersummary.common.config.rabbitmq.RabbitMQConfig;
 import joomidang.papersummary.common.config.rabbitmq.payload.ParsingRequestedPayload;
-import joomidang.papersummary.paper.infra.ParsingClient;
+import joomidang.papersummary.paper.dispatch.FairParsingDispatcher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.connection.ConsumerChannelRegistry;
+import org.springframework.amqp.rabbit.listener.ListenerContainerIdleEvent;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Component;
 
 /**
@@ -16,31 +23,43 @@ import org.springframework.stereotype.Component;
  * <p>
  * - 논문 ID, 사용자 ID, S3 경로 정보를 통해
  * <p>
- * - 외부 파싱 서버(MinerU)로 파싱 요청을 전송한다
+ * - 회원별 대기열(FairParsingDispatcher)에 넣는다
  * <p>
- * 실제 파싱 로직은 ParsingClient(Fake or Real)에 위임되며, 이 클래스는 메시지 수신자 역할에 집중한다.
+ * 외부 파싱 서버(MinerU) 호출은 디스패처가 회원 간 공정한 순서로 처리한다. 디스패처가 쌓아 둔 ack/nack은 채널을 가진 이 컨슈머 스레드에서
+ * 메시지를 받을 때와 컨테이너 유휴 이벤트마다 처리한다.
  */
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class PaperParsingConsumer {
-    private final ParsingClient parsingClient;
+    private final FairParsingDispatcher fairParsingDispatcher;
+
+    @RabbitListener(id = RabbitMQConfig.PARSING_LISTENER_ID,
+            queues = RabbitMQConfig.PARSING_QUEUE,
+            containerFactory = RabbitMQConfig.PARSING_CONTAINER_FACTORY)
+    public void consume(PaperEventEnvelop<ParsingRequestedPayload> event, Message message, Channel channel,
+                        @Header(AmqpHeaders.DELIVERY_TAG) long deliveryTag) {
+        fairParsingDispatcher.settle(channel);
 
-    @RabbitListener(queues = RabbitMQConfig.PARSING_QUEUE)
-    public void consume(PaperEventEnvelop<ParsingRequestedPayload> event) {
         ParsingRequestedPayload payload = event.payload();
-        log.info("파싱 요청 이벤트 수신: paperId={}, userId={}, s3Url={}", 
+        log.info("파싱 요청 이벤트 수신: paperId={}, userId={}, s3Url={}",
                 payload.paperId(), payload.userId(), payload.s3Url());
 
-        try {
-            log.debug("외부 파싱 서버로 요청 전송 시작: paperId={}", payload.paperId());
-            parsingClient.requestParsing(payload);
-            log.info("파싱 요청 처리 완료: paperId={}", payload.paperId());
-        } catch (Exception e) {
-            log.error("파싱 요청 처리 중 오류 발생: paperId={}, 오류={}", 
-                    payload.paperId(), e.getMessage(), e);
-            throw e;
+        fairParsingDispatcher.submit(payload, message, channel, deliveryTag);
+    }
+
+    /**
+     * 새 메시지가 없어도 쌓인 ack/nack 처리 (유휴 이벤트는 컨슈머 스레드에서 발행됨)
+     */
+    @EventListener
+    public void onIdle(ListenerContainerIdleEvent event) {
+        if (!RabbitMQConfig.PARSING_LISTENER_ID.equals(event.getListenerId())) {
+            return;
+        }
+        Channel channel = ConsumerChannelRegistry.getConsumerChannel();
+        if (channel != null) {
+            fairParsingDispatcher.settle(channel);
         }
     }
 }
@@ -6,6 +6,8 @@ import joomidang.papersummary.common.config.rabbitmq.PaperEventEnvelop;
 import joomidang.papersummary.common.config.rabbitmq.RabbitMQConfig;
 import joomidang.papersummary.common.config.rabbitmq.payload.SummaryCompletedPayload;
 import joomidang.papersummary.common.service.SseService;
+import joomidang.papersummary.paper.service.PaperContentService;
+import joomidang.papersummary.paper.service.PaperService;
 import joomidang.papersummary.summary.exception.AlreadySummarizedException;
 import joomidang.papersummary.summary.service.SummaryService;
 import lombok.RequiredArgsConstructor;
@@ -21,8 +23,12 @@ public class SummaryCompletedConsumer {
     private final SummaryService summaryService;
     private final AnalysisLogService analysisLogService;
     private final SseService sseService;
+    private final PaperService paperService;
+    private final PaperContentService paperContentService;
 
-    @RabbitListener(queues = RabbitMQConfig.COMPLETE_QUEUE)
+    @RabbitListener(id = RabbitMQConfig.COMPLETE_LISTENER_ID,
+            queues = RabbitMQConfig.COMPLETE_QUEUE,
+            containerFactory = RabbitMQConfig.COMPLETE_CONTAINER_FACTORY)
     public void consume(PaperEventEnvelop<SummaryCompletedPayload> event) {
         try {
             SummaryCompletedPayload payload = event.payload();
@@ -32,6 +38,9 @@ public class SummaryCompletedConsumer {
             //Summary 저장
             Long summaryId = summaryService.createSummaryFromS3(payload.paperId(), payload.s3Key());
 
+            // 같은 내용의 논문이 재사용할 수 있게 요약 초안 기록
+            recordSummaryDraft(payload);
+
             // SSE를 통해 클라이언트에게 요약 완료 이벤트 전송
             boolean sent = sseService.sendSummaryCompletedEvent(payload.paperId(), summaryId);
             if (sent) {
@@ -44,7 +53,18 @@ public class SummaryCompletedConsumer {
             log.error(e.getMessage(), e);
         } catch (Exception e) {
             log.error("SUMMARY_COMPLETE 처리 실패", e);
-            // Dead-letter queue 또는 재시도 정책 고려
+            // 재시도 큐(백오프) → 최대 시도 초과 시 DLQ (DelayedRetryMessageRecoverer)
+            throw e;
+        }
+    }
+
+    private void recordSummaryDraft(SummaryCompletedPayload payload) {
+        try {
+            String contentHash = paperService.findById(payload.paperId()).getContentHash();
+            paperContentService.recordSummary(contentHash, payload.s3Key());
+        } catch (RuntimeException e) {
+            // 재사용용 기록이므로 실패해도 요약 완료 처리는 계속 진행
+            log.warn("요약 초안 기록 실패: paperId={}, 오류={}", payload.paperId(), e.getMessage());
         }
     }
 }
@@ -1,20 +1,24 @@
 package joomidang.papersummary.paper.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import joomidang.papersummary.auth.resolver.Authenticated;
 import joomidang.papersummary.common.controller.response.ApiResponse;
 import joomidang.papersummary.common.service.SseService;
+import joomidang.papersummary.member.service.MemberService;
 import joomidang.papersummary.paper.service.PaperService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
@@ -31,6 +35,7 @@ public class PaperAnalysisEventController {
 
     private final SseService sseService;
     private final PaperService paperService;
+    private final MemberService memberService;
 
     /**
      * 논문 분석 이벤트 구독 엔드포인트 클라이언트는 이 엔드포인트에 연결하여 논문 분석 관련 이벤트를 수신할 수 있음
@@ -38,7 +43,8 @@ public class PaperAnalysisEventController {
     @Operation(
             summary = "논문 분석 이벤트 구독",
             description = "Server-Sent Events(SSE)를 통해 특정 논문의 분석 진행 상태 이벤트를 실시간으로 수신합니다. " +
-                    "연결 후 클라이언트는 파싱 완료, 요약 생성 완료 등의 이벤트를 받을 수 있습니다.",
+                    "연결 후 클라이언트는 파싱 완료, 요약 생성 완료 등의 이벤트를 받을 수 있습니다. " +
+                    "재연결 시 Last-Event-ID 헤더를 보내면 그 이후 이벤트를 다시 받습니다.",
             security = @SecurityRequirement(name = "bearerAuth")
     )
     @ApiResponses(value = {
@@ -90,9 +96,39 @@ public class PaperAnalysisEventController {
 
 
     @GetMapping(value = "/{paperId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public SseEmitter subscribeToEvents(@PathVariable Long paperId) {
-        log.info("논문 분석 이벤트 구독 요청: paperId={}", paperId);
+    public SseEmitter subscribeToEvents(@PathVariable Long paperId,
+                                        @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        log.info("논문 분석 이벤트 구독 요청: paperId={}, lastEventId={}", paperId, lastEventId);
         paperService.findById(paperId);//해당 논문이 존재하는지 확인용
-        return sseService.createConnection(paperId);
+        return sseService.createConnection(paperId, parseLastEventId(lastEventId));
+    }
+
+    /**
+     * 회원 이벤트 구독 엔드포인트 논문마다 연결을 여는 대신 한 연결로 내 모든 논문의 분석 이벤트를 수신
+     */
+    @Operation(
+            summary = "내 논문 분석 이벤트 구독",
+            description = "Server-Sent Events(SSE) 연결 하나로 로그인한 회원이 올린 모든 논문의 분석 이벤트를 수신합니다. " +
+                    "이벤트 데이터의 paperId로 논문을 구분하며, 논문 요약이 완료되어도 연결은 유지됩니다.",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeToMemberEvents(@Authenticated @Parameter(hidden = true) String providerUid) {
+        log.info("회원 분석 이벤트 구독 요청: providerUid={}", providerUid);
+        Long memberId = memberService.findByProviderUid(providerUid).getId();
+        return sseService.createMemberConnection(memberId);
+    }
+
+    private Long parseLastEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            // 형식이 맞지 않으면 재전송 없이 새로 연결
+            log.warn("잘못된 Last-Event-ID 무시: lastEventId={}", lastEventId);
+            return null;
+        }
     }
 }
\ No newline at end of file
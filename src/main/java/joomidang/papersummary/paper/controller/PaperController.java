@@ -2,6 +2,7 @@ package joomidang.papersummary.paper.controller;
 
 import static joomidang.papersummary.paper.controller.response.PaperSuccessCode.FETCH_SUCCESS;
 import static joomidang.papersummary.paper.controller.response.PaperSuccessCode.UPLOAD_SUCCESS;
+import static joomidang.papersummary.paper.controller.response.PaperSuccessCode.UPLOAD_URL_ISSUED;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -12,6 +13,8 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import java.util.List;
 import joomidang.papersummary.auth.resolver.Authenticated;
 import joomidang.papersummary.common.controller.response.ApiResponse;
+import joomidang.papersummary.paper.controller.request.DirectUploadRequest;
+import joomidang.papersummary.paper.controller.response.DirectUploadResponse;
 import joomidang.papersummary.paper.controller.response.PaperResponse;
 import joomidang.papersummary.paper.entity.Paper;
 import joomidang.papersummary.paper.service.PaperService;
@@ -21,7 +24,9 @@ import org.hibernate.annotations.Parent;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
@@ -122,4 +127,26 @@ public class PaperController {
             throw e;
         }
     }
+
+    @Operation(summary = "논문 직접 업로드 URL 발급",
+            description = "S3에 PDF를 직접 PUT할 서명된 URL 발급. 업로드 후 완료 API를 호출해야 분석할 수 있다.")
+    @PostMapping("/uploads")
+    public ResponseEntity<ApiResponse<DirectUploadResponse>> startDirectUpload(
+            @Authenticated @Parameter(hidden = true) String providerUid,
+            @RequestBody DirectUploadRequest request) {
+        log.info("직접 업로드 URL 발급 요청: fileName={}, fileSize={}, providerUid={}",
+                request.fileName(), request.fileSize(), providerUid);
+        DirectUploadResponse response = paperService.startDirectUpload(providerUid, request);
+        return ResponseEntity.ok(ApiResponse.successWithData(UPLOAD_URL_ISSUED, response));
+    }
+
+    @Operation(summary = "논문 직접 업로드 완료", description = "S3에 올라간 파일의 크기/형식/체크섬을 확인하고 업로드를 완료")
+    @PostMapping("/{paperId}/uploads/complete")
+    public ResponseEntity<ApiResponse<PaperResponse>> completeDirectUpload(
+            @Authenticated @Parameter(hidden = true) String providerUid,
+            @PathVariable Long paperId) {
+        log.info("직접 업로드 완료 요청: paperId={}, providerUid={}", paperId, providerUid);
+        Paper paper = paperService.completeDirectUpload(providerUid, paperId);
+        return ResponseEntity.ok(ApiResponse.successWithData(UPLOAD_SUCCESS, PaperResponse.of(paper)));
+    }
 }
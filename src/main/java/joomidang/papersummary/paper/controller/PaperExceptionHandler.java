@@ -6,9 +6,16 @@ import joomidang.papersummary.paper.exception.FileSizeExceededException;
 import joomidang.papersummary.paper.exception.FileUploadFailedException;
 import joomidang.papersummary.paper.exception.InvalidFileTypeException;
 import joomidang.papersummary.paper.exception.PaperNotFoundException;
+import joomidang.papersummary.paper.exception.TooManyRequestsException;
+import joomidang.papersummary.paper.exception.UploadNotCompletedException;
+import joomidang.papersummary.paper.exception.UploadOffsetMismatchException;
+import joomidang.papersummary.paper.exception.UploadSessionNotFoundException;
+import joomidang.papersummary.paper.exception.UploadVerificationFailedException;
+import joomidang.papersummary.paper.upload.ResumableUploadService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -53,4 +60,42 @@ public class PaperExceptionHandler {
         return ResponseEntity.status(HttpStatus.FORBIDDEN)
                 .body(ApiResponse.fail(ex.getErrorCode(), ex.getMessage()));
     }
-}
\ No newline at end of file
+
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ApiResponse<Void>> handleTooManyRequestsException(TooManyRequestsException ex) {
+        log.warn("Too many requests: {}", ex.getErrorCode());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(ApiResponse.fail(ex.getErrorCode(), ex.getMessage()));
+    }
+
+    @ExceptionHandler(UploadVerificationFailedException.class)
+    public ResponseEntity<ApiResponse<Void>> handleUploadVerificationFailedException(
+            UploadVerificationFailedException ex) {
+        log.warn("Upload verification failed: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(ApiResponse.fail(ex.getErrorCode(), ex.getMessage()));
+    }
+
+    @ExceptionHandler(UploadNotCompletedException.class)
+    public ResponseEntity<ApiResponse<Void>> handleUploadNotCompletedException(UploadNotCompletedException ex) {
+        log.warn("Upload not completed: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(ApiResponse.fail(ex.getErrorCode(), ex.getMessage()));
+    }
+
+    @ExceptionHandler(UploadSessionNotFoundException.class)
+    public ResponseEntity<ApiResponse<Void>> handleUploadSessionNotFoundException(UploadSessionNotFoundException ex) {
+        log.warn("Upload session not found: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(ApiResponse.fail(ex.getErrorCode(), ex.getMessage()));
+    }
+
+    @ExceptionHandler(UploadOffsetMismatchException.class)
+    public ResponseEntity<ApiResponse<Void>> handleUploadOffsetMismatchException(UploadOffsetMismatchException ex) {
+        log.warn("Upload offset mismatch: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .header(ResumableUploadService.UPLOAD_OFFSET_HEADER, String.valueOf(ex.getCurrentOffset()))
+                .body(ApiResponse.fail(ex.getErrorCode(), ex.getMessage()));
+    }
+}
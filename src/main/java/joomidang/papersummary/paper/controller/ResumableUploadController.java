@@ -0,0 +1,105 @@
+package joomidang.papersummary.paper.controller;
+
+import static joomidang.papersummary.paper.controller.response.PaperSuccessCode.DELETE_SUCCESS;
+import static joomidang.papersummary.paper.controller.response.PaperSuccessCode.UPLOAD_CHUNK_ACCEPTED;
+import static joomidang.papersummary.paper.controller.response.PaperSuccessCode.UPLOAD_CREATED;
+import static joomidang.papersummary.paper.controller.response.PaperSuccessCode.UPLOAD_SUCCESS;
+import static joomidang.papersummary.paper.upload.ResumableUploadService.UPLOAD_LENGTH_HEADER;
+import static joomidang.papersummary.paper.upload.ResumableUploadService.UPLOAD_OFFSET_HEADER;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.net.URI;
+import joomidang.papersummary.auth.resolver.Authenticated;
+import joomidang.papersummary.common.controller.response.ApiResponse;
+import joomidang.papersummary.paper.controller.request.ResumableUploadRequest;
+import joomidang.papersummary.paper.controller.response.ResumableUploadResponse;
+import joomidang.papersummary.paper.exception.FileUploadFailedException;
+import joomidang.papersummary.paper.upload.ResumableUploadService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 이어 올리기 업로드 API (tus 방식)
+ * <p>
+ * POST로 생성 → PATCH(Upload-Offset 헤더 + 청크 본문)로 순서대로 전송 → 연결이 끊기면 HEAD로 Upload-Offset을 확인하고 이어서 전송
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/papers/resumable-uploads")
+@Tag(name = "Paper", description = "논문 분석 관련 API")
+public class ResumableUploadController {
+    private static final String CHUNK_CONTENT_TYPE = "application/offset+octet-stream";
+
+    private final ResumableUploadService resumableUploadService;
+
+    @Operation(summary = "이어 올리기 생성", description = "청크 단위로 나누어 올릴 업로드 생성. 응답의 chunkSize 단위로 PATCH 전송")
+    @PostMapping
+    public ResponseEntity<ApiResponse<ResumableUploadResponse>> create(
+            @Authenticated @Parameter(hidden = true) String providerUid,
+            @RequestBody ResumableUploadRequest request) {
+        ResumableUploadResponse response = resumableUploadService.create(providerUid, request);
+        return ResponseEntity.created(URI.create("/api/papers/resumable-uploads/" + response.uploadId()))
+                .header(UPLOAD_OFFSET_HEADER, String.valueOf(response.offset()))
+                .header(UPLOAD_LENGTH_HEADER, String.valueOf(response.length()))
+                .body(ApiResponse.successWithData(UPLOAD_CREATED, response));
+    }
+
+    @Operation(summary = "이어 올리기 위치 확인", description = "서버에 저장된 위치(Upload-Offset) 조회")
+    @RequestMapping(value = "/{uploadId}", method = RequestMethod.HEAD)
+    public ResponseEntity<Void> getOffset(
+            @Authenticated @Parameter(hidden = true) String providerUid,
+            @PathVariable String uploadId) {
+        ResumableUploadResponse response = resumableUploadService.getStatus(providerUid, uploadId);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .header(UPLOAD_OFFSET_HEADER, String.valueOf(response.offset()))
+                .header(UPLOAD_LENGTH_HEADER, String.valueOf(response.length()))
+                .build();
+    }
+
+    @Operation(summary = "이어 올리기 청크 전송", description = "Upload-Offset 위치부터 청크 전송. 마지막 청크면 논문이 생성된다.")
+    @PatchMapping(value = "/{uploadId}", consumes = CHUNK_CONTENT_TYPE)
+    public ResponseEntity<ApiResponse<ResumableUploadResponse>> appendChunk(
+            @Authenticated @Parameter(hidden = true) String providerUid,
+            @PathVariable String uploadId,
+            @RequestHeader(UPLOAD_OFFSET_HEADER) long offset,
+            HttpServletRequest request) {
+        ResumableUploadResponse response;
+        try {
+            response = resumableUploadService.appendChunk(providerUid, uploadId, offset, request.getInputStream(),
+                    request.getContentLengthLong());
+        } catch (IOException e) {
+            log.warn("이어 올리기 청크 수신 실패: uploadId={}, offset={}, 오류={}", uploadId, offset, e.getMessage());
+            throw new FileUploadFailedException(e.getMessage());
+        }
+        return ResponseEntity.ok()
+                .header(UPLOAD_OFFSET_HEADER, String.valueOf(response.offset()))
+                .body(ApiResponse.successWithData(
+                        response.paperId() == null ? UPLOAD_CHUNK_ACCEPTED : UPLOAD_SUCCESS, response));
+    }
+
+    @Operation(summary = "이어 올리기 취소", description = "진행 중인 업로드와 올라간 청크 삭제")
+    @DeleteMapping("/{uploadId}")
+    public ResponseEntity<ApiResponse<Void>> cancel(
+            @Authenticated @Parameter(hidden = true) String providerUid,
+            @PathVariable String uploadId) {
+        resumableUploadService.cancel(providerUid, uploadId);
+        return ResponseEntity.ok(ApiResponse.success(DELETE_SUCCESS));
+    }
+}
@@ -0,0 +1,12 @@
+package joomidang.papersummary.paper.controller.request;
+
+/**
+ * 직접 업로드 URL 발급 요청
+ *
+ * @param fileName    원본 파일명
+ * @param fileSize    파일 크기 (byte)
+ * @param contentType Content-Type (application/pdf)
+ * @param sha256      파일 SHA-256 (hex, 선택) - 보내면 S3가 업로드 본문을 검증
+ */
+public record DirectUploadRequest(String fileName, long fileSize, String contentType, String sha256) {
+}
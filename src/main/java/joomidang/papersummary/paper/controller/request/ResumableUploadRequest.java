@@ -0,0 +1,11 @@
+package joomidang.papersummary.paper.controller.request;
+
+/**
+ * 이어 올리기 생성 요청
+ *
+ * @param fileName    원본 파일명
+ * @param fileSize    전체 파일 크기 (byte)
+ * @param contentType Content-Type (application/pdf)
+ */
+public record ResumableUploadRequest(String fileName, long fileSize, String contentType) {
+}
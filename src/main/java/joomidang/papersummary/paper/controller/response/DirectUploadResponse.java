@@ -0,0 +1,20 @@
+package joomidang.papersummary.paper.controller.response;
+
+import java.time.Instant;
+import java.util.Map;
+import joomidang.papersummary.s3.service.PresignedUpload;
+
+/**
+ * 직접 업로드 URL 발급 결과 (클라이언트는 uploadUrl로 headers를 붙여 PUT 후 완료 API 호출)
+ */
+public record DirectUploadResponse(
+        Long paperId,
+        String uploadUrl,
+        String method,
+        Map<String, String> headers,
+        Instant expiresAt
+) {
+    public static DirectUploadResponse of(Long paperId, PresignedUpload upload) {
+        return new DirectUploadResponse(paperId, upload.uploadUrl(), "PUT", upload.headers(), upload.expiresAt());
+    }
+}
@@ -12,7 +12,14 @@ public enum PaperErrorCode implements ErrorCode {
     INVALID_FILE_TYPE("PAE-0002"),
     FILE_SIZE_EXCEEDED("PAE-0003"),
     FILE_UPLOAD_FAILED("PAE-0004"),
-    UNAUTHORIZED_ACCESS("PAE-0005");
+    UNAUTHORIZED_ACCESS("PAE-0005"),
+    UPLOAD_RATE_LIMITED("PAE-0006"),
+    ANALYSIS_RATE_LIMITED("PAE-0007"),
+    ANALYSIS_CAPACITY_EXCEEDED("PAE-0008"),
+    UPLOAD_VERIFICATION_FAILED("PAE-0009"),
+    UPLOAD_NOT_COMPLETED("PAE-0010"),
+    UPLOAD_SESSION_NOT_FOUND("PAE-0011"),
+    UPLOAD_OFFSET_MISMATCH("PAE-0012");
 
     private final String value;
 }
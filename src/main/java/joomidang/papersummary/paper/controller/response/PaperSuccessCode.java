@@ -11,7 +11,10 @@ public enum PaperSuccessCode implements SuccessCode {
     ANALYSIS_REQUESTED_SUCCESS("PAS-0002", "논문 분석 요청이 성공적으로 처리되었습니다."),
     PARSING_REQUESTED_SUCCESS("PAS-0003", "파싱 결과를 성공적으로 처리했습니다."),
     DELETE_SUCCESS("PAS-0004", "논문이 성공적으로 삭제되었습니다."),
-    FETCH_SUCCESS("PAS-0005", "논문 정보를 성공적으로 조회했습니다.");
+    FETCH_SUCCESS("PAS-0005", "논문 정보를 성공적으로 조회했습니다."),
+    UPLOAD_URL_ISSUED("PAS-0006", "업로드 URL이 발급되었습니다."),
+    UPLOAD_CREATED("PAS-0007", "업로드가 생성되었습니다."),
+    UPLOAD_CHUNK_ACCEPTED("PAS-0008", "업로드 청크가 저장되었습니다.");
 
     private final String value;
     private final String message;
@@ -0,0 +1,17 @@
+package joomidang.papersummary.paper.controller.response;
+
+/**
+ * 이어 올리기 진행 상태
+ *
+ * @param offset    서버에 저장된 바이트 수 (다음 청크는 여기서부터 보냄)
+ * @param chunkSize 청크 크기 (마지막 청크 외에는 정확히 이 크기로 보내야 함)
+ * @param paperId   업로드가 끝나 생성된 논문 ID, 진행 중이면 null
+ */
+public record ResumableUploadResponse(
+        String uploadId,
+        long offset,
+        long length,
+        long chunkSize,
+        Long paperId
+) {
+}
@@ -0,0 +1,355 @@
+package joomidang.papersummary.paper.dispatch;
+
+import com.rabbitmq.client.Channel;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntSupplier;
+import joomidang.papersummary.common.config.rabbitmq.DelayedRetryMessageRecoverer;
+import joomidang.papersummary.common.config.rabbitmq.payload.ParsingRequestedPayload;
+import joomidang.papersummary.paper.infra.ParsingClient;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.retry.MessageRecoverer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 파싱 요청을 회원별로 공정하게 MinerU에 분배하는 디스패처
+ * <p>
+ * paper.parsing 큐는 FIFO라 한 회원이 PDF를 대량으로 올리면 다른 회원의 분석이 모두 그 뒤로 밀린다. 컨슈머는 메시지를 ack하지 않은 채 회원별
+ * 하위 큐(FairQueue)에 넣고, 이 디스패처가 deficit round-robin 순서로 꺼내 ParsingClient에 전달한다.
+ * <p>
+ * - MinerU에 맡긴 작업 수를 전체(maxInFlight)와 회원별(maxInFlightPerMember)로 제한하고, 파싱 콜백(complete)이 오면 슬롯을 반납한다.
+ * 콜백은 요청을 보낸 노드가 아닌 곳에 도착할 수 있으므로 반납은 {@link ParsingSlotRelay}로 모든 노드에 전달한다. 한도는 노드별로 적용된다.
+ * <p>
+ * - 메시지는 ParsingClient 호출이 끝난 뒤에 ack하므로, 인스턴스가 죽어도 대기 중이던 요청은 브로커가 다시 전달한다.
+ * 채널은 스레드 간에 공유하면 안 되므로 디스패처는 ack/nack을 채널별로 쌓아 두기만 하고, 실제 호출은 그 채널을 가진 컨슈머 스레드가
+ * {@link #settle(Channel)}로 처리한다. (메시지 수신 시, 유휴 이벤트 시)
+ * <p>
+ * - 대기 시간은 parsing.queue.wait 타이머(전체)와 /actuator/parsingqueue(회원별)로 노출한다. 회원 ID를 메트릭 태그로 쓰면 시계열 수가
+ * 회원 수만큼 늘어나므로 회원별 값은 endpoint로만 제공한다.
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(ParsingDispatchProperties.class)
+public class FairParsingDispatcher {
+    // EWMA 가중치 (최근 요청 비중)
+    private static final double WAIT_EWMA_ALPHA = 0.2;
+    private static final long IDLE_WAIT_MILLIS = 1_000;
+
+    private final ParsingClient parsingClient;
+    private final MessageRecoverer recoverer;
+    private final ParsingSlotRelay slotRelay;
+    private final ParsingDispatchProperties properties;
+    private final Timer waitTimer;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private final FairQueue<Long, PendingParsing> queue;
+    private final Map<Long, InFlight> inFlightByPaper = new HashMap<>();
+    private final Map<Long, Integer> inFlightByMember = new HashMap<>();
+    private final Map<Long, WaitStats> waitStats = new ConcurrentHashMap<>();
+    private final Map<Channel, ConcurrentLinkedQueue<Settlement>> settlements = new ConcurrentHashMap<>();
+
+    private final Thread worker;
+    private volatile boolean running = true;
+
+    public FairParsingDispatcher(ParsingClient parsingClient,
+                                 DelayedRetryMessageRecoverer recoverer,
+                                 ParsingSlotRelay slotRelay,
+                                 ParsingDispatchProperties properties,
+                                 MeterRegistry meterRegistry) {
+        this.parsingClient = parsingClient;
+        this.recoverer = recoverer;
+        this.slotRelay = slotRelay;
+        this.properties = properties;
+        this.queue = new FairQueue<>(properties.getQuantum());
+        this.waitTimer = Timer.builder("parsing.queue.wait")
+                .description("파싱 요청이 MinerU에 전달되기까지 대기한 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        meterRegistry.gauge("parsing.queue.pending", this, dispatcher -> dispatcher.withLock(queue::size));
+        meterRegistry.gauge("parsing.queue.in_flight", this, dispatcher -> dispatcher.withLock(inFlightByPaper::size));
+
+        this.worker = new Thread(this::run, "parsing-dispatcher");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * 파싱 요청을 회원별 대기열에 추가 (메시지는 MinerU 전달 후 ack)
+     */
+    public void submit(ParsingRequestedPayload payload, Message message, Channel channel, long deliveryTag) {
+        PendingParsing pending = new PendingParsing(payload, message, channel, deliveryTag, System.nanoTime());
+        lock.lock();
+        try {
+            queue.add(payload.userId(), pending);
+            changed.signal();
+        } finally {
+            lock.unlock();
+        }
+        log.debug("파싱 요청 대기열 추가: paperId={}, memberId={}", payload.paperId(), payload.userId());
+    }
+
+    /**
+     * 파싱 콜백 수신 시 해당 논문의 슬롯 반납 (슬롯을 가진 노드가 어디든 반납되도록 모든 노드에 전달)
+     */
+    public void complete(Long paperId) {
+        if (!slotRelay.publish(paperId)) {
+            releaseSlot(paperId);
+        }
+    }
+
+    /**
+     * 이 노드가 가진 해당 논문의 슬롯 반납 (없으면 무시)
+     */
+    public void releaseSlot(Long paperId) {
+        lock.lock();
+        try {
+            if (release(paperId)) {
+                log.debug("파싱 슬롯 반납: paperId={}", paperId);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 이 채널에 쌓인 ack/nack 처리 (채널을 가진 컨슈머 스레드에서만 호출)
+     */
+    public void settle(Channel channel) {
+        ConcurrentLinkedQueue<Settlement> pending = settlements.get(channel);
+        if (pending == null) {
+            return;
+        }
+        if (!channel.isOpen()) {
+            // 채널이 닫히면 브로커가 unack 메시지를 다시 전달하므로 버린다
+            settlements.remove(channel);
+            return;
+        }
+        Settlement settlement;
+        while ((settlement = pending.poll()) != null) {
+            try {
+                if (settlement.ack()) {
+                    channel.basicAck(settlement.deliveryTag(), false);
+                } else {
+                    channel.basicNack(settlement.deliveryTag(), false, true);
+                }
+            } catch (IOException e) {
+                log.error("파싱 요청 ack/nack 실패 (재전달될 수 있음): paperId={}", settlement.paperId(), e);
+            }
+        }
+    }
+
+    public Map<Long, MemberQueueState> getMemberStates() {
+        long now = System.nanoTime();
+        lock.lock();
+        try {
+            Map<Long, MemberQueueState> states = new LinkedHashMap<>();
+            for (Long memberId : queue.keys()) {
+                states.put(memberId, stateOf(memberId, now));
+            }
+            inFlightByMember.keySet().forEach(memberId -> states.computeIfAbsent(memberId, id -> stateOf(id, now)));
+            waitStats.keySet().forEach(memberId -> states.computeIfAbsent(memberId, id -> stateOf(id, now)));
+            return states;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private MemberQueueState stateOf(Long memberId, long now) {
+        PendingParsing oldest = queue.peek(memberId);
+        long oldestWaitMs = oldest == null ? 0 : TimeUnit.NANOSECONDS.toMillis(now - oldest.enqueuedAtNanos());
+        WaitStats stats = waitStats.get(memberId);
+        return new MemberQueueState(
+                queue.size(memberId),
+                inFlightByMember.getOrDefault(memberId, 0),
+                oldestWaitMs,
+                stats == null ? 0 : stats.dispatched,
+                stats == null ? 0 : Math.round(stats.ewmaMillis),
+                stats == null ? 0 : stats.maxMillis);
+    }
+
+    private void run() {
+        while (running) {
+            PendingParsing next;
+            lock.lock();
+            try {
+                reclaimTimedOut();
+                next = inFlightByPaper.size() < properties.getMaxInFlight() ? queue.poll(this::belowMemberCap) : null;
+                if (next == null) {
+                    changed.await(IDLE_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+                    continue;
+                }
+                acquire(next);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                lock.unlock();
+            }
+            dispatch(next);
+        }
+    }
+
+    private void dispatch(PendingParsing pending) {
+        ParsingRequestedPayload payload = pending.payload();
+        if (!pending.channel().isOpen()) {
+            // 채널이 닫히면 브로커가 unack 메시지를 다시 전달하므로 여기서는 버린다
+            log.warn("채널이 닫혀 파싱 요청을 건너뜀 (재전달 예정): paperId={}", payload.paperId());
+            releaseSlot(payload.paperId());
+            return;
+        }
+
+        long waitedNanos = System.nanoTime() - pending.enqueuedAtNanos();
+        waitTimer.record(waitedNanos, TimeUnit.NANOSECONDS);
+        recordWait(payload.userId(), TimeUnit.NANOSECONDS.toMillis(waitedNanos));
+
+        try {
+            log.debug("외부 파싱 서버로 요청 전송 시작: paperId={}, memberId={}, waitedMs={}",
+                    payload.paperId(), payload.userId(), TimeUnit.NANOSECONDS.toMillis(waitedNanos));
+            parsingClient.requestParsing(payload);
+            log.info("파싱 요청 처리 완료: paperId={}", payload.paperId());
+            ack(pending);
+        } catch (Exception e) {
+            log.error("파싱 요청 처리 중 오류 발생: paperId={}, 오류={}", payload.paperId(), e.getMessage(), e);
+            releaseSlot(payload.paperId());
+            recover(pending, e);
+        }
+    }
+
+    /**
+     * 리스너 컨테이너의 재시도 advice와 같은 방식으로 재시도 큐/DLQ에 넘긴 뒤 ack, 넘기지 못하면 원래 큐로 돌려보냄
+     */
+    private void recover(PendingParsing pending, Exception cause) {
+        try {
+            recoverer.recover(pending.message(), cause);
+            ack(pending);
+        } catch (Exception e) {
+            log.error("파싱 요청 재시도 전환 실패, 원래 큐로 반환: paperId={}", pending.payload().paperId(), e);
+            enqueueSettlement(pending, false);
+        }
+    }
+
+    private void ack(PendingParsing pending) {
+        enqueueSettlement(pending, true);
+    }
+
+    private void enqueueSettlement(PendingParsing pending, boolean ack) {
+        settlements.computeIfAbsent(pending.channel(), channel -> new ConcurrentLinkedQueue<>())
+                .add(new Settlement(pending.deliveryTag(), ack, pending.payload().paperId()));
+    }
+
+    private boolean belowMemberCap(Long memberId) {
+        return inFlightByMember.getOrDefault(memberId, 0) < properties.getMaxInFlightPerMember();
+    }
+
+    private void acquire(PendingParsing pending) {
+        Long memberId = pending.payload().userId();
+        InFlight previous = inFlightByPaper.put(pending.payload().paperId(), new InFlight(memberId, System.nanoTime()));
+        if (previous != null) {
+            // 같은 논문을 다시 요청한 경우 이전 슬롯은 새 요청으로 대체
+            decrementMember(previous.memberId());
+        }
+        inFlightByMember.merge(memberId, 1, Integer::sum);
+    }
+
+    private boolean release(Long paperId) {
+        InFlight inFlight = inFlightByPaper.remove(paperId);
+        if (inFlight == null) {
+            return false;
+        }
+        decrementMember(inFlight.memberId());
+        changed.signal();
+        return true;
+    }
+
+    private void decrementMember(Long memberId) {
+        inFlightByMember.computeIfPresent(memberId, (id, count) -> count > 1 ? count - 1 : null);
+    }
+
+    /**
+     * 콜백이 오지 않은 슬롯 회수 및 오래된 회원 통계 정리
+     */
+    private void reclaimTimedOut() {
+        long now = System.nanoTime();
+        long timeoutNanos = properties.getInFlightTimeout().toNanos();
+        Iterator<Map.Entry<Long, InFlight>> iterator = inFlightByPaper.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Long, InFlight> entry = iterator.next();
+            if (now - entry.getValue().startedAtNanos() > timeoutNanos) {
+                log.warn("파싱 콜백 대기 시간 초과, 슬롯 회수: paperId={}", entry.getKey());
+                iterator.remove();
+                decrementMember(entry.getValue().memberId());
+            }
+        }
+
+        settlements.keySet().removeIf(channel -> !channel.isOpen());
+
+        long retentionNanos = properties.getStatsRetention().toNanos();
+        waitStats.entrySet().removeIf(entry -> now - entry.getValue().lastDispatchedNanos > retentionNanos
+                && queue.size(entry.getKey()) == 0 && !inFlightByMember.containsKey(entry.getKey()));
+    }
+
+    private void recordWait(Long memberId, long waitedMillis) {
+        WaitStats stats = waitStats.computeIfAbsent(memberId, id -> new WaitStats());
+        synchronized (stats) {
+            stats.ewmaMillis = stats.dispatched == 0
+                    ? waitedMillis
+                    : WAIT_EWMA_ALPHA * waitedMillis + (1 - WAIT_EWMA_ALPHA) * stats.ewmaMillis;
+            stats.maxMillis = Math.max(stats.maxMillis, waitedMillis);
+            stats.dispatched++;
+            stats.lastDispatchedNanos = System.nanoTime();
+        }
+    }
+
+    private int withLock(IntSupplier supplier) {
+        lock.lock();
+        try {
+            return supplier.getAsInt();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        worker.interrupt();
+        worker.join(Duration.ofSeconds(5).toMillis());
+    }
+
+    private record PendingParsing(
+            ParsingRequestedPayload payload,
+            Message message,
+            Channel channel,
+            long deliveryTag,
+            long enqueuedAtNanos
+    ) {
+    }
+
+    private record InFlight(Long memberId, long startedAtNanos) {
+    }
+
+    private record Settlement(long deliveryTag, boolean ack, Long paperId) {
+    }
+
+    private static final class WaitStats {
+        private long dispatched;
+        private double ewmaMillis;
+        private long maxMillis;
+        private long lastDispatchedNanos;
+    }
+}
@@ -0,0 +1,89 @@
+package joomidang.papersummary.paper.dispatch;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * 키(회원)별 하위 큐를 deficit round-robin으로 꺼내는 큐 (스레드 안전하지 않음)
+ * <p>
+ * 요청 1건의 비용을 1로 보므로, 차례가 된 키는 quantum 건까지 연속으로 꺼내고 다음 키로 넘어간다. 꺼낼 수 없는 키(eligible=false)는 이번
+ * 차례를 건너뛰고 남은 deficit을 잃는다.
+ */
+class FairQueue<K, T> {
+    private final int quantum;
+    private final Map<K, Lane<T>> lanes = new HashMap<>();
+    private final Deque<K> ring = new ArrayDeque<>();
+    private int size;
+
+    FairQueue(int quantum) {
+        this.quantum = Math.max(1, quantum);
+    }
+
+    void add(K key, T item) {
+        Lane<T> lane = lanes.computeIfAbsent(key, k -> new Lane<>());
+        if (lane.items.isEmpty()) {
+            ring.addLast(key);
+            lane.deficit = 0;
+        }
+        lane.items.addLast(item);
+        size++;
+    }
+
+    /**
+     * 다음 차례의 요청을 꺼낸다. 모든 키가 eligible하지 않으면 null
+     */
+    T poll(Predicate<K> eligible) {
+        int keys = ring.size();
+        for (int visited = 0; visited < keys; visited++) {
+            K key = ring.peekFirst();
+            Lane<T> lane = lanes.get(key);
+            if (!eligible.test(key)) {
+                lane.deficit = 0;
+                ring.addLast(ring.pollFirst());
+                continue;
+            }
+
+            if (lane.deficit <= 0) {
+                lane.deficit += quantum;
+            }
+            T item = lane.items.pollFirst();
+            lane.deficit--;
+            size--;
+
+            if (lane.items.isEmpty()) {
+                ring.pollFirst();
+                lanes.remove(key);
+            } else if (lane.deficit <= 0) {
+                ring.addLast(ring.pollFirst());
+            }
+            return item;
+        }
+        return null;
+    }
+
+    T peek(K key) {
+        Lane<T> lane = lanes.get(key);
+        return lane == null ? null : lane.items.peekFirst();
+    }
+
+    int size() {
+        return size;
+    }
+
+    int size(K key) {
+        Lane<T> lane = lanes.get(key);
+        return lane == null ? 0 : lane.items.size();
+    }
+
+    Iterable<K> keys() {
+        return ring;
+    }
+
+    private static final class Lane<T> {
+        private final Deque<T> items = new ArrayDeque<>();
+        private int deficit;
+    }
+}
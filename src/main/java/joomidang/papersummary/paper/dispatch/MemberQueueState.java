@@ -0,0 +1,21 @@
+package joomidang.papersummary.paper.dispatch;
+
+/**
+ * 회원별 파싱 대기열 상태 (/actuator/parsingqueue)
+ *
+ * @param queued         대기 중인 요청 수
+ * @param inFlight       MinerU에서 처리 중인 요청 수
+ * @param oldestWaitMs   가장 오래 기다린 대기 요청의 대기 시간
+ * @param dispatched     분배된 요청 수 (통계 유지 기간 내)
+ * @param avgWaitMs      분배된 요청의 대기 시간 지수이동평균
+ * @param maxWaitMs      분배된 요청의 최대 대기 시간
+ */
+public record MemberQueueState(
+        int queued,
+        int inFlight,
+        long oldestWaitMs,
+        long dispatched,
+        long avgWaitMs,
+        long maxWaitMs
+) {
+}
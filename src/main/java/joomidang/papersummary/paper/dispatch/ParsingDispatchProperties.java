@@ -0,0 +1,40 @@
+package joomidang.papersummary.paper.dispatch;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 파싱 요청 공정 분배 설정 (paper.parsing.dispatch.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "paper.parsing.dispatch")
+public class ParsingDispatchProperties {
+
+    /**
+     * MinerU에 동시에 맡겨 둘 최대 파싱 작업 수 (요청 전송 ~ 콜백 수신), 인스턴스 단위
+     */
+    private int maxInFlight = 4;
+
+    /**
+     * 회원 한 명이 동시에 점유할 수 있는 파싱 작업 수
+     */
+    private int maxInFlightPerMember = 1;
+
+    /**
+     * 라운드마다 회원에게 주는 요청 수 (요청 1건 비용 1인 DRR의 quantum)
+     */
+    private int quantum = 1;
+
+    /**
+     * 콜백이 오지 않은 작업의 슬롯을 회수하는 시간
+     */
+    private Duration inFlightTimeout = Duration.ofMinutes(30);
+
+    /**
+     * 대기/처리 중인 요청이 없는 회원의 대기 시간 통계를 유지하는 시간
+     */
+    private Duration statsRetention = Duration.ofHours(1);
+}
@@ -0,0 +1,22 @@
+package joomidang.papersummary.paper.dispatch;
+
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원별 파싱 대기열/대기 시간 조회 (/actuator/parsingqueue, 관리자 전용)
+ */
+@Component
+@Endpoint(id = "parsingqueue")
+@RequiredArgsConstructor
+public class ParsingQueueEndpoint {
+    private final FairParsingDispatcher dispatcher;
+
+    @ReadOperation
+    public Map<Long, MemberQueueState> members() {
+        return dispatcher.getMemberStates();
+    }
+}
@@ -0,0 +1,51 @@
+package joomidang.papersummary.paper.dispatch;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 파싱 슬롯 반납을 Redis 채널로 모든 노드에 전달
+ * <p>
+ * 슬롯은 MinerU에 요청을 보낸 노드의 디스패처가 들고 있지만, 파싱 콜백은 로드밸런서를 거쳐 아무 노드에나 도착한다. 콜백을 받은 노드는 반납을
+ * 채널로 발행하고, 각 노드는 구독한 메시지로 자기 디스패처의 슬롯만 반납한다. (해당 논문의 슬롯이 없는 노드는 무시)
+ * <p>
+ * Redis를 쓰지 않거나 발행에 실패하면 false를 반환하고, 호출자는 로컬 슬롯만 반납한다. (다른 노드의 슬롯은 in-flight-timeout 후 회수)
+ */
+@Slf4j
+@Component
+public class ParsingSlotRelay {
+    public static final String CHANNEL = "parsing:slot-released";
+
+    private final StringRedisTemplate redisTemplate;
+    private final boolean enabled;
+
+    public ParsingSlotRelay(StringRedisTemplate redisTemplate,
+                            @Value("${spring.data.redis.enabled:true}") boolean enabled) {
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+    }
+
+    /**
+     * 슬롯 반납 발행
+     *
+     * @return 발행에 성공하면 true (Redis 비활성 또는 발행 실패 시 false)
+     */
+    public boolean publish(Long paperId) {
+        if (!enabled) {
+            return false;
+        }
+        try {
+            redisTemplate.convertAndSend(CHANNEL, String.valueOf(paperId));
+            return true;
+        } catch (Exception e) {
+            log.warn("파싱 슬롯 반납 발행 실패, 로컬 슬롯만 반납 → paperId={}, error={}", paperId, e.getMessage());
+            return false;
+        }
+    }
+
+    public Long decode(String body) {
+        return Long.valueOf(body.trim());
+    }
+}
@@ -26,7 +26,8 @@ import lombok.extern.slf4j.Slf4j;
 @Entity
 @Table(name = "paper", indexes = {
         @Index(name = "idx_paper_title", columnList = "title"),
-        @Index(name = "idx_paper_member_id", columnList = "member_id")
+        @Index(name = "idx_paper_member_id", columnList = "member_id"),
+        @Index(name = "idx_paper_content_hash", columnList = "content_hash")
 })
 @Getter
 @Builder
@@ -58,6 +59,11 @@ public class Paper extends BaseTimeEntity {
     @JoinColumn(name = "member_id")
     private Member member;
 
+    // 파일 SHA-256 (hex), 같은 내용의 논문 파싱/요약 결과를 재사용하는 키 (paper_content.content_hash)
+    // 서버 업로드는 업로드하면서 계산, 직접 업로드는 클라이언트가 알려준 값을 S3가 본문과 대조
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
 
     /**
      * 논문 상태 업데이트
@@ -0,0 +1,83 @@
+package joomidang.papersummary.paper.entity;
+
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.OrderColumn;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.util.ArrayList;
+import java.util.List;
+import joomidang.papersummary.common.audit.entity.BaseTimeEntity;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 파일 내용(SHA-256)별 파싱/요약 결과
+ * <p>
+ * 같은 PDF가 다시 올라오면 MinerU 파싱과 LLM 요약을 다시 하지 않고 여기 저장된 결과를 재사용한다.
+ */
+@Entity
+@Table(name = "paper_content", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_paper_content_hash", columnNames = "content_hash")
+})
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class PaperContent extends BaseTimeEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    // 처음 파싱된 논문 (출처 기록용)
+    @Column(name = "source_paper_id", nullable = false)
+    private Long sourcePaperId;
+
+    @Column(length = 500)
+    private String title;
+
+    @Column(name = "markdown_url", nullable = false, length = 500)
+    private String markdownUrl;
+
+    @Column(name = "content_list_url", length = 500)
+    private String contentListUrl;
+
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "paper_content_figure", joinColumns = @JoinColumn(name = "paper_content_id"))
+    @OrderColumn(name = "position")
+    @Column(name = "storage_url", nullable = false, length = 500)
+    @Builder.Default
+    private List<String> figures = new ArrayList<>();
+
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "paper_content_table", joinColumns = @JoinColumn(name = "paper_content_id"))
+    @OrderColumn(name = "position")
+    @Column(name = "storage_url", nullable = false, length = 500)
+    @Builder.Default
+    private List<String> tables = new ArrayList<>();
+
+    // 처음 생성된 요약 초안 사본 (요약 버킷 키), 요약 전이면 null
+    @Column(name = "summary_s3_key", length = 500)
+    private String summaryS3Key;
+
+    public boolean hasSummary() {
+        return summaryS3Key != null;
+    }
+
+    public void recordSummary(String summaryS3Key) {
+        this.summaryS3Key = summaryS3Key;
+    }
+}
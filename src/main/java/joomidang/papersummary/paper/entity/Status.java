@@ -4,6 +4,7 @@ package joomidang.papersummary.paper.entity;
  * 해당 논문의 업로드 상태
  */
 public enum Status {
+    UPLOADING, // 서명 URL 발급 후 클라이언트가 S3에 직접 업로드 중 (완료 확인 전)
     PENDING,
     PROCESSING,
     ANALYZED,
@@ -0,0 +1,24 @@
+package joomidang.papersummary.paper.exception;
+
+import java.time.Duration;
+import joomidang.papersummary.paper.controller.response.PaperErrorCode;
+import lombok.Getter;
+
+@Getter
+public class TooManyRequestsException extends RuntimeException {
+    private final PaperErrorCode errorCode;
+    private final Duration retryAfter;
+
+    public TooManyRequestsException(PaperErrorCode errorCode, String message, Duration retryAfter) {
+        super(message);
+        this.errorCode = errorCode;
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * Retry-After 헤더 값 (초 단위 올림, 최소 1초)
+     */
+    public long getRetryAfterSeconds() {
+        return Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+    }
+}
@@ -0,0 +1,14 @@
+package joomidang.papersummary.paper.exception;
+
+import joomidang.papersummary.paper.controller.response.PaperErrorCode;
+import lombok.Getter;
+
+@Getter
+public class UploadNotCompletedException extends RuntimeException {
+    private final PaperErrorCode errorCode;
+
+    public UploadNotCompletedException(Long paperId) {
+        super("파일 업로드가 아직 완료되지 않았습니다. id: " + paperId);
+        this.errorCode = PaperErrorCode.UPLOAD_NOT_COMPLETED;
+    }
+}
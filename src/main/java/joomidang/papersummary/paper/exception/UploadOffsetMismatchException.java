@@ -0,0 +1,16 @@
+package joomidang.papersummary.paper.exception;
+
+import joomidang.papersummary.paper.controller.response.PaperErrorCode;
+import lombok.Getter;
+
+@Getter
+public class UploadOffsetMismatchException extends RuntimeException {
+    private final PaperErrorCode errorCode;
+    private final long currentOffset;
+
+    public UploadOffsetMismatchException(long requestedOffset, long currentOffset) {
+        super("업로드 위치가 맞지 않습니다. 요청=" + requestedOffset + ", 현재=" + currentOffset);
+        this.errorCode = PaperErrorCode.UPLOAD_OFFSET_MISMATCH;
+        this.currentOffset = currentOffset;
+    }
+}
@@ -0,0 +1,14 @@
+package joomidang.papersummary.paper.exception;
+
+import joomidang.papersummary.paper.controller.response.PaperErrorCode;
+import lombok.Getter;
+
+@Getter
+public class UploadSessionNotFoundException extends RuntimeException {
+    private final PaperErrorCode errorCode;
+
+    public UploadSessionNotFoundException(String uploadId) {
+        super("업로드를 찾을 수 없습니다. 만료되었거나 취소되었습니다. id: " + uploadId);
+        this.errorCode = PaperErrorCode.UPLOAD_SESSION_NOT_FOUND;
+    }
+}
@@ -0,0 +1,14 @@
+package joomidang.papersummary.paper.exception;
+
+import joomidang.papersummary.paper.controller.response.PaperErrorCode;
+import lombok.Getter;
+
+@Getter
+public class UploadVerificationFailedException extends RuntimeException {
+    private final PaperErrorCode errorCode;
+
+    public UploadVerificationFailedException(String message) {
+        super(message);
+        this.errorCode = PaperErrorCode.UPLOAD_VERIFICATION_FAILED;
+    }
+}
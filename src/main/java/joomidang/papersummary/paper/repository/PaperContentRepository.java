@@ -0,0 +1,20 @@
+package joomidang.papersummary.paper.repository;
+
+import jakarta.persistence.QueryHint;
+import java.util.Optional;
+import java.util.stream.Stream;
+import joomidang.papersummary.paper.entity.PaperContent;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PaperContentRepository extends JpaRepository<PaperContent, Long> {
+    Optional<PaperContent> findByContentHash(String contentHash);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("select c.summaryS3Key from PaperContent c where c.summaryS3Key is not null")
+    Stream<String> streamSummaryS3Keys();
+}
@@ -1,9 +1,21 @@
 package joomidang.papersummary.paper.repository;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 import joomidang.papersummary.member.entity.Member;
 import joomidang.papersummary.paper.entity.Paper;
+import joomidang.papersummary.paper.entity.Status;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -12,4 +24,34 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface PaperRepository extends JpaRepository<Paper, Long> {
     List<Paper> findAllByMember(Member member);
+
+    @Query("select p.member.id from Paper p where p.id = :paperId")
+    Optional<Long> findMemberIdById(@Param("paperId") Long paperId);
+
+    Optional<Paper> findFirstByFilePath(String filePath);
+
+    /**
+     * 행 잠금 조회 (상태 전이를 한 번만 하도록 직렬화)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p from Paper p where p.id = :paperId")
+    Optional<Paper> findByIdForUpdate(@Param("paperId") Long paperId);
+
+    /**
+     * 파일 경로 전체 스트리밍 (S3 GC 참조 수집용, 업로드가 끝나지 않은 채 cutoff 이전에 만들어진 논문은 제외)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("select p.filePath from Paper p where p.filePath is not null "
+            + "and (p.status <> :uploading or p.createdAt >= :cutoff)")
+    Stream<String> streamReferencedFilePaths(@Param("uploading") Status uploading,
+                                             @Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * 업로드가 끝나지 않은 채 cutoff 이전에 만들어진 논문을 FAILED로 변경 (S3 GC가 올라가다 만 파일을 지운 뒤)
+     */
+    @Modifying
+    @Query("update Paper p set p.status = :failed where p.status = :uploading and p.createdAt < :cutoff")
+    int failAbandonedUploads(@Param("uploading") Status uploading,
+                             @Param("failed") Status failed,
+                             @Param("cutoff") LocalDateTime cutoff);
 }
@@ -1,14 +1,20 @@
 package joomidang.papersummary.paper.service;
 
+import java.util.Optional;
 import joomidang.papersummary.common.config.rabbitmq.PaperEventEnvelop;
 import joomidang.papersummary.common.config.rabbitmq.PaperEventPublisher;
 import joomidang.papersummary.common.config.rabbitmq.PaperEventType;
 import joomidang.papersummary.common.config.rabbitmq.payload.ParsingRequestedPayload;
 import joomidang.papersummary.member.entity.Member;
 import joomidang.papersummary.member.service.MemberService;
+import joomidang.papersummary.paper.admission.AdmissionControl;
 import joomidang.papersummary.paper.entity.Paper;
+import joomidang.papersummary.paper.entity.PaperContent;
+import joomidang.papersummary.paper.entity.Status;
 import joomidang.papersummary.paper.exception.AccessDeniedException;
 import joomidang.papersummary.paper.exception.PaperNotFoundException;
+import joomidang.papersummary.paper.exception.TooManyRequestsException;
+import joomidang.papersummary.paper.exception.UploadNotCompletedException;
 import joomidang.papersummary.paper.repository.PaperRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,6 +29,8 @@ import org.springframework.transaction.annotation.Transactional;
  * 이 이벤트는 RabbitMQ를 통해 Consumer에 전달되고, 실제 파싱 서버 호출은 비동기적으로 이루어진다.
  * <p>
  * 주요 목적: 논문 분석 트리거 역할 - 외부 파싱 서버와 직접 통신하지 않음 - 분석 로직은 PaperParsingConsumer에서 처리됨
+ * <p>
+ * 같은 내용(SHA-256)의 논문이 이미 파싱되었으면 PARSING_REQUESTED 대신 저장된 결과로 바로 요약 단계로 넘어간다.
  */
 
 @Slf4j
@@ -33,6 +41,9 @@ public class PaperAnalysisService {
     private final MemberService memberService;
     private final PaperRepository paperRepository;
     private final PaperEventPublisher paperEventPublisher;
+    private final AdmissionControl admissionControl;
+    private final PaperContentService paperContentService;
+    private final PaperParsingCallbackService paperParsingCallbackService;
 
     @Transactional
     public void requestParsing(Long paperId, String providerUid, String prompt, String language) {
@@ -58,6 +69,22 @@ public class PaperAnalysisService {
             }
             log.debug("논문 접근 권한 검증 완료");
 
+            if (paper.getStatus() == Status.UPLOADING) {
+                log.warn("업로드가 완료되지 않은 논문 분석 요청: paperId={}", paperId);
+                throw new UploadNotCompletedException(paperId);
+            }
+
+            // 진행 중 분석 슬롯은 요약 완료/실패 시 AnalysisLogService에서 반납
+            admissionControl.acquireAnalysisSlot(paper.getId());
+
+            Optional<PaperContent> processed = paperContentService.findProcessed(paper);
+            if (processed.isPresent()) {
+                log.info("같은 내용의 논문 결과 재사용: paperId={}, contentHash={}, 요약 재사용={}",
+                        paperId, paper.getContentHash(), processed.get().hasSummary());
+                paperParsingCallbackService.reuse(paper.getId(), processed.get());
+                return;
+            }
+
             //TODO: 추후에 prompt, language redis 저장해서 api 요청 보낼때 활용
             log.debug("분석 요청 이벤트 페이로드 생성: paperId={}, memberId={}, filePath={}", 
                     paper.getId(), requester.getId(), paper.getFilePath());
@@ -72,12 +99,14 @@ public class PaperAnalysisService {
             paperEventPublisher.publish(new PaperEventEnvelop<>(PaperEventType.PARSING_REQUESTED, payload));
 
             log.info("논문 분석 요청 처리 완료: paperId={}", paperId);
-        } catch (PaperNotFoundException | AccessDeniedException e) {
+        } catch (PaperNotFoundException | AccessDeniedException | UploadNotCompletedException
+                 | TooManyRequestsException e) {
             // 이미 로그가 기록된 예외는 다시 던짐
             throw e;
         } catch (Exception e) {
             log.error("논문 분석 요청 처리 중 예상치 못한 오류 발생: paperId={}, 오류={}", 
                     paperId, e.getMessage(), e);
+            admissionControl.releaseAnalysisSlot(paperId);
             throw e;
         }
     }
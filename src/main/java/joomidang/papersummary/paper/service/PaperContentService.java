@@ -0,0 +1,104 @@
+package joomidang.papersummary.paper.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import joomidang.papersummary.paper.controller.request.ParsingResultRequest;
+import joomidang.papersummary.paper.entity.Paper;
+import joomidang.papersummary.paper.entity.PaperContent;
+import joomidang.papersummary.paper.repository.PaperContentRepository;
+import joomidang.papersummary.s3.service.S3Service;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 파일 내용(SHA-256) 기준 파싱/요약 결과 저장 및 재사용
+ * <p>
+ * 결과 기록은 별도 트랜잭션으로 처리한다. 같은 내용이 동시에 처리되어 유니크 제약에 걸려도 파싱/요약 처리 자체는 롤백되지 않도록
+ * 호출하는 쪽에서 예외를 무시할 수 있게 하기 위함이다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class PaperContentService {
+    private static final String CONTENT_SUMMARY_PREFIX = "summaries/contents/";
+    private static final String REUSED_SUMMARY_PREFIX = "summaries/reused/";
+
+    private final PaperContentRepository paperContentRepository;
+    private final S3Service s3Service;
+
+    /**
+     * 같은 내용으로 이미 파싱된 결과 조회
+     *
+     * @return 지문이 없거나 처리된 적 없는 내용이면 empty
+     */
+    public Optional<PaperContent> findProcessed(Paper paper) {
+        if (paper.getContentHash() == null) {
+            return Optional.empty();
+        }
+        return paperContentRepository.findByContentHash(paper.getContentHash());
+    }
+
+    /**
+     * 파싱 결과 기록 (이미 기록된 내용이면 무시)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void recordParsing(Paper paper, ParsingResultRequest result) {
+        if (paper.getContentHash() == null || result.markdownUrl() == null
+                || paperContentRepository.findByContentHash(paper.getContentHash()).isPresent()) {
+            return;
+        }
+
+        paperContentRepository.saveAndFlush(PaperContent.builder()
+                .contentHash(paper.getContentHash())
+                .sourcePaperId(paper.getId())
+                .title(result.title())
+                .markdownUrl(result.markdownUrl())
+                .contentListUrl(result.contentListUrl())
+                .figures(copyOf(result.figures()))
+                .tables(copyOf(result.tables()))
+                .build());
+        log.info("파싱 결과 기록: paperId={}, contentHash={}", paper.getId(), paper.getContentHash());
+    }
+
+    /**
+     * 요약 초안 기록 (내용별로 처음 생성된 초안만)
+     * <p>
+     * 논문별 요약 파일은 편집/삭제 시 지워질 수 있으므로 내용 전용 키로 복사해 둔다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void recordSummary(String contentHash, String summaryS3Key) {
+        if (contentHash == null) {
+            return;
+        }
+        Optional<PaperContent> found = paperContentRepository.findByContentHash(contentHash);
+        if (found.isEmpty() || found.get().hasSummary()) {
+            return;
+        }
+
+        String contentKey = CONTENT_SUMMARY_PREFIX + contentHash + ".md";
+        s3Service.copyMarkdown(summaryS3Key, contentKey);
+        found.get().recordSummary(contentKey);
+        log.info("요약 초안 기록: contentHash={}, key={}", contentHash, contentKey);
+    }
+
+    /**
+     * 저장된 요약 초안을 논문 전용 키로 복사
+     *
+     * @return 복사된 요약 파일 키
+     */
+    public String copySummaryDraft(PaperContent content, Long paperId) {
+        String key = REUSED_SUMMARY_PREFIX + paperId + "/summary-" + System.currentTimeMillis() + ".md";
+        s3Service.copyMarkdown(content.getSummaryS3Key(), key);
+        log.info("요약 초안 재사용: paperId={}, contentHash={}, key={}", paperId, content.getContentHash(), key);
+        return key;
+    }
+
+    private List<String> copyOf(List<String> urls) {
+        return urls == null ? new ArrayList<>() : new ArrayList<>(urls);
+    }
+}
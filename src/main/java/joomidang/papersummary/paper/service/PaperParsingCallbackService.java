@@ -6,10 +6,13 @@ import joomidang.papersummary.analysislog.service.AnalysisLogService;
 import joomidang.papersummary.common.config.rabbitmq.PaperEventEnvelop;
 import joomidang.papersummary.common.config.rabbitmq.PaperEventPublisher;
 import joomidang.papersummary.common.config.rabbitmq.PaperEventType;
+import joomidang.papersummary.common.config.rabbitmq.payload.SummaryCompletedPayload;
 import joomidang.papersummary.common.config.rabbitmq.payload.SummaryRequestedPayload;
 import joomidang.papersummary.common.service.SseService;
 import joomidang.papersummary.paper.controller.request.ParsingResultRequest;
+import joomidang.papersummary.paper.dispatch.FairParsingDispatcher;
 import joomidang.papersummary.paper.entity.Paper;
+import joomidang.papersummary.paper.entity.PaperContent;
 import joomidang.papersummary.paper.entity.Status;
 import joomidang.papersummary.paper.exception.PaperNotFoundException;
 import joomidang.papersummary.paper.repository.PaperRepository;
@@ -19,6 +22,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
  * MinerU 파싱 결과 콜백 처리 서비스
@@ -32,6 +37,8 @@ import org.springframework.transaction.annotation.Transactional;
  * - 시각 자료, 마크다운 URL 등을 저장한 후
  * <p>
  * - 요약 요청(SUMMARY_REQUESTED) 이벤트를 발행한다
+ * <p>
+ * 같은 내용(SHA-256)의 논문이 이미 파싱된 경우에는 콜백 없이 저장된 결과로 같은 처리를 한다. (reuse)
  */
 
 @Slf4j
@@ -45,8 +52,13 @@ public class PaperParsingCallbackService {
     private final VisualContentService visualContentService;
     private final PaperEventPublisher paperEventPublisher;
     private final SseService sseService;
+    private final FairParsingDispatcher fairParsingDispatcher;
+    private final PaperContentService paperContentService;
 
     public void process(Long paperId, ParsingResultRequest result) {
+        // 0. MinerU 작업 슬롯 반납 (대기 중인 다음 파싱 요청 분배)
+        fairParsingDispatcher.complete(paperId);
+
         // 1. 논문 조회
         Paper paper = findPaperById(paperId);
 
@@ -59,15 +71,52 @@ public class PaperParsingCallbackService {
         // 4. 시각 자료 저장
         saveVisualContents(result, paper);
 
+        // 5. 같은 내용의 논문이 재사용할 수 있게 파싱 결과 기록
+        recordParsingResult(paper, result);
+
         log.info("파싱 콜백 처리 완료 → paperId={}", paperId);
 
-        // 5. SSE를 통해 클라이언트에게 파싱 완료 이벤트 전송
+        // 6. SSE를 통해 클라이언트에게 파싱 완료 이벤트 전송
         notifyClientViaSSE(paperId);
 
-        // 6. 요약 요청 이벤트 발행
+        // 7. 요약 요청 이벤트 발행
         requestSummaryGeneration(paperId, result);
     }
 
+    /**
+     * 같은 내용으로 저장된 파싱 결과를 논문에 반영 (MinerU 파싱 생략)
+     * <p>
+     * 요약 초안도 있으면 복사해서 바로 SUMMARY_COMPLETED를 발행하고(LLM 요약 생략), 없으면 SUMMARY_REQUESTED를 발행한다.
+     */
+    public void reuse(Long paperId, PaperContent content) {
+        ParsingResultRequest result = new ParsingResultRequest(
+                content.getTitle(),
+                content.getMarkdownUrl(),
+                content.getContentListUrl(),
+                content.getFigures(),
+                content.getTables()
+        );
+
+        Paper paper = findPaperById(paperId);
+        updatePaperDetails(result, paper);
+        updateAnalysisLog(paperId);
+        saveVisualContents(result, paper);
+        log.info("파싱 결과 재사용 → paperId={}, sourcePaperId={}", paperId, content.getSourcePaperId());
+
+        notifyClientViaSSE(paperId);
+
+        if (!content.hasSummary()) {
+            requestSummaryGeneration(paperId, result);
+            return;
+        }
+        String summaryKey = paperContentService.copySummaryDraft(content, paperId);
+        prepareAnalysisLogForSummary(paperId);
+        publishAfterCommit(new PaperEventEnvelop<>(
+                PaperEventType.SUMMARY_COMPLETED,
+                new SummaryCompletedPayload(paperId, summaryKey)
+        ));
+    }
+
     private Paper findPaperById(Long paperId) {
         return paperRepository.findById(paperId)
                 .orElseThrow(() -> new PaperNotFoundException(paperId));
@@ -94,6 +143,15 @@ public class PaperParsingCallbackService {
         visualContentService.saveAll(paper, urls, type);
     }
 
+    private void recordParsingResult(Paper paper, ParsingResultRequest result) {
+        try {
+            paperContentService.recordParsing(paper, result);
+        } catch (RuntimeException e) {
+            // 재사용용 기록이므로 실패해도(동시 기록 등) 파이프라인은 계속 진행
+            log.warn("파싱 결과 기록 실패: paperId={}, 오류={}", paper.getId(), e.getMessage());
+        }
+    }
+
     private void notifyClientViaSSE(Long paperId) {
         boolean sent = sseService.sendParsingCompletedEvent(paperId);
         if (sent) {
@@ -131,9 +189,28 @@ public class PaperParsingCallbackService {
     }
 
     private void publishSummaryRequestedEvent(SummaryRequestedPayload payload) {
-        paperEventPublisher.publish(new PaperEventEnvelop<>(
+        publishAfterCommit(new PaperEventEnvelop<>(
                 PaperEventType.SUMMARY_REQUESTED,
                 payload
         ));
     }
+
+    /**
+     * 트랜잭션 커밋 후 이벤트 발행
+     * <p>
+     * 커밋 전에 발행하면 컨슈머가 아직 반영되지 않은 논문 상태/분석 로그를 읽거나, 롤백된 변경에 대한 이벤트가 나갈 수 있다.
+     * (reuse는 requestParsing 트랜잭션 안에서 호출됨)
+     */
+    private void publishAfterCommit(PaperEventEnvelop<?> event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            paperEventPublisher.publish(event);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                paperEventPublisher.publish(event);
+            }
+        });
+    }
 }
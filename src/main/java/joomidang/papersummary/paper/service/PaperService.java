@@ -3,6 +3,9 @@ package joomidang.papersummary.paper.service;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.concurrent.CompletionException;
 import joomidang.papersummary.analysislog.entity.AnalysisLog;
 import joomidang.papersummary.analysislog.entity.AnalysisSourceType;
 import joomidang.papersummary.analysislog.entity.AnalysisStage;
@@ -10,16 +13,28 @@ import joomidang.papersummary.analysislog.entity.AnalysisStatus;
 import joomidang.papersummary.analysislog.repository.AnalysisLogRepository;
 import joomidang.papersummary.member.entity.Member;
 import joomidang.papersummary.member.service.MemberService;
+import joomidang.papersummary.paper.controller.request.DirectUploadRequest;
+import joomidang.papersummary.paper.controller.response.DirectUploadResponse;
 import joomidang.papersummary.paper.entity.Paper;
 import joomidang.papersummary.paper.entity.Status;
+import joomidang.papersummary.paper.exception.AccessDeniedException;
+import joomidang.papersummary.paper.exception.FileSizeExceededException;
+import joomidang.papersummary.paper.exception.FileUploadFailedException;
 import joomidang.papersummary.paper.exception.InvalidFileTypeException;
 import joomidang.papersummary.paper.exception.PaperNotFoundException;
+import joomidang.papersummary.paper.exception.UploadVerificationFailedException;
 import joomidang.papersummary.paper.repository.PaperRepository;
+import joomidang.papersummary.s3.service.PresignedUpload;
 import joomidang.papersummary.s3.service.S3Service;
+import joomidang.papersummary.s3.service.StoredObject;
+import joomidang.papersummary.s3.service.UploadedFile;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 /**
@@ -29,52 +44,213 @@ import org.springframework.web.multipart.MultipartFile;
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
+@EnableConfigurationProperties(PaperUploadProperties.class)
 public class PaperService {
 
     private static final String PDF_CONTENT_TYPE = "application/pdf";
     private static final String S3_PAPERS_FOLDER = "papers";
+    private static final Pattern SHA256_HEX = Pattern.compile("^[0-9a-f]{64}$");
+    private static final Pattern UNSAFE_OBJECT_NAME_CHARS = Pattern.compile("[^A-Za-z0-9._-]");
+    private static final int MAX_OBJECT_NAME_LENGTH = 100;
 
     private final S3Service s3Service;
     private final MemberService memberService;
     private final PaperRepository paperRepository;
     private final AnalysisLogRepository analysisLogRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final PaperUploadProperties uploadProperties;
 
     /**
      * PDF 파일을 업로드하고 Paper 엔티티 생성
+     * <p>
+     * S3 업로드는 트랜잭션 밖에서 먼저 끝내고(전송 중 DB 커넥션을 잡지 않음), Paper/AnalysisLog 저장만 짧은 트랜잭션으로 처리한다.
+     * 저장에 실패하면 올린 파일을 삭제해 고아 객체를 남기지 않는다.
      *
      * @param file        업로드할 PDF 파일
      * @param providerUid 사용자 식별자
      * @return 저장된 Paper 엔티티
      * @throws InvalidFileTypeException PDF가 아닌 파일이 업로드된 경우
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Paper uploadPaper(MultipartFile file, String providerUid) {
         log.info("논문 업로드 시작: {}, 사용자: {}", file.getOriginalFilename(), providerUid);
 
-        // 사용자 확인
-        Member member = findMember(providerUid);
-
         // 파일 타입 검증
         validateFileType(file);
 
-        // S3에 파일 업로드
-        String s3Url = uploadFileToS3(file);
+        // S3에 파일 업로드 (트랜잭션 밖, 업로드하면서 내용 지문 계산)
+        UploadedFile uploaded = uploadFileToS3(file);
 
-        // Paper 엔티티 생성 및 저장
-        Paper savedPaper = createAndSavePaper(file, s3Url, member);
+        Paper savedPaper;
+        try {
+            savedPaper = transactionTemplate.execute(status -> {
+                // 사용자 확인
+                Member member = findMember(providerUid);
 
-        // 분석 로그 생성
-        createAnalysisLog(savedPaper, member);
+                // Paper 엔티티 생성 및 저장
+                Paper paper = createAndSavePaper(file, uploaded, member);
+
+                // 분석 로그 생성
+                createAnalysisLog(paper, member);
+                return paper;
+            });
+        } catch (RuntimeException e) {
+            compensateUpload(uploaded.fileUrl(), e);
+            throw e;
+        }
 
         log.info("논문 업로드 완료: {}, ID: {}", file.getOriginalFilename(), savedPaper.getId());
         return savedPaper;
     }
 
+    /**
+     * 직접 업로드 시작: UPLOADING 상태의 Paper를 만들고 papers/ 아래에 올릴 서명된 PUT URL 발급
+     * <p>
+     * 파일 본문은 클라이언트가 S3로 바로 보내므로 서버를 거치지 않는다.
+     */
+    @Transactional
+    public DirectUploadResponse startDirectUpload(String providerUid, DirectUploadRequest request) {
+        log.info("직접 업로드 시작: {}, 크기: {}, 사용자: {}", request.fileName(), request.fileSize(), providerUid);
+
+        validateUpload(request.fileName(), request.contentType(), request.fileSize());
+        String sha256 = normalizeSha256(request.sha256());
+
+        Member member = findMember(providerUid);
+        PresignedUpload upload = s3Service.presignUpload(S3_PAPERS_FOLDER, objectNameOf(request.fileName()),
+                request.contentType(), request.fileSize(), sha256, uploadProperties.getPresignTtl());
+
+        Paper paper = paperRepository.save(Paper.builder()
+                .title(titleOf(request.fileName()))
+                .filePath(upload.fileUrl())
+                .fileType(request.contentType())
+                .fileSize(request.fileSize())
+                .status(Status.UPLOADING)
+                .contentHash(sha256)
+                .member(member)
+                .build());
+
+        log.info("직접 업로드 URL 발급 완료: paperId={}, 만료={}", paper.getId(), upload.expiresAt());
+        return DirectUploadResponse.of(paper.getId(), upload);
+    }
+
+    /**
+     * 직접 업로드 완료: S3 객체를 HEAD로 확인(크기, Content-Type, 체크섬)한 뒤 PENDING으로 전환하고 분석 로그 생성
+     * <p>
+     * 객체가 아직 없으면 상태를 바꾸지 않고 실패를 돌려준다. (업로드가 끝난 뒤 다시 호출 가능)
+     * 올라온 파일이 요청과 다르면 파일을 지우고 FAILED로 바꾼다. 이미 완료된 논문은 그대로 돌려준다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Paper completeDirectUpload(String providerUid, Long paperId) {
+        log.info("직접 업로드 완료 확인: paperId={}, 사용자: {}", paperId, providerUid);
+
+        Member member = findMember(providerUid);
+        Paper paper = findById(paperId);
+        if (paper.hasNotPermission(member.getId())) {
+            throw new AccessDeniedException();
+        }
+        if (paper.getStatus() != Status.UPLOADING) {
+            log.info("이미 업로드 완료된 논문: paperId={}, status={}", paperId, paper.getStatus());
+            return paper;
+        }
+
+        // S3 HEAD는 트랜잭션 밖에서 확인
+        StoredObject stored = s3Service.findObject(paper.getFilePath())
+                .orElseThrow(() -> new UploadVerificationFailedException("업로드된 파일을 찾을 수 없습니다. id: " + paperId));
+        String mismatch = verifyStoredObject(paper, stored);
+        if (mismatch != null) {
+            log.warn("업로드 파일 검증 실패: paperId={}, 사유={}", paperId, mismatch);
+            boolean failed = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                Paper current = findByIdForUpdate(paperId);
+                if (current.getStatus() != Status.UPLOADING) {
+                    return false;
+                }
+                current.updateStatus(Status.FAILED);
+                return true;
+            }));
+            UploadVerificationFailedException exception = new UploadVerificationFailedException(mismatch);
+            // 다른 요청이 이미 상태를 바꿨으면 파일은 그 요청이 처리
+            if (failed) {
+                compensateUpload(paper.getFilePath(), exception);
+            }
+            throw exception;
+        }
+
+        // 행을 잠그고 상태를 다시 확인해 동시/재시도 요청 중 하나만 PENDING 전환과 분석 로그 생성
+        Paper completed = transactionTemplate.execute(status -> {
+            Paper current = findByIdForUpdate(paperId);
+            if (current.getStatus() != Status.UPLOADING) {
+                log.info("다른 요청이 먼저 업로드 완료 처리: paperId={}, status={}", paperId, current.getStatus());
+                return current;
+            }
+            current.updateStatus(Status.PENDING);
+            createAnalysisLog(current, current.getMember());
+            return current;
+        });
+        log.info("직접 업로드 완료: paperId={}", paperId);
+        return completed;
+    }
+
+    /**
+     * 서버를 거치지 않는 업로드(직접/이어 올리기) 요청의 파일 형식과 크기 검증
+     */
+    public void validateUpload(String fileName, String contentType, long fileSize) {
+        validateContentType(fileName, contentType);
+        if (fileSize <= 0 || fileSize > uploadProperties.getMaxFileSize().toBytes()) {
+            log.warn("업로드 파일 크기 초과: {}, 크기: {}", fileName, fileSize);
+            throw new FileSizeExceededException();
+        }
+    }
+
+    /**
+     * 업로드가 끝난 S3 파일로 Paper와 분석 로그 생성 (이어 올리기 완료 시)
+     * <p>
+     * 완료 처리가 등록 직후 중단돼 다시 호출되면 이미 등록된 논문을 그대로 돌려준다.
+     */
+    @Transactional
+    public Paper registerUploadedPaper(String providerUid, String fileName, String contentType, long fileSize,
+                                       String fileUrl) {
+        Optional<Paper> registered = paperRepository.findFirstByFilePath(fileUrl);
+        if (registered.isPresent()) {
+            log.info("이미 등록된 업로드 논문: paperId={}, fileUrl={}", registered.get().getId(), fileUrl);
+            return registered.get();
+        }
+        Member member = findMember(providerUid);
+        Paper paper = paperRepository.save(Paper.builder()
+                .title(titleOf(fileName))
+                .filePath(fileUrl)
+                .fileType(contentType)
+                .fileSize(fileSize)
+                .status(Status.PENDING)
+                .member(member)
+                .build());
+        createAnalysisLog(paper, member);
+        log.info("업로드 완료 논문 등록: paperId={}, fileUrl={}", paper.getId(), fileUrl);
+        return paper;
+    }
+
     public Paper findById(Long paperId) {
         return paperRepository.findById(paperId)
                 .orElseThrow(() -> new PaperNotFoundException(paperId));
     }
 
+    private Paper findByIdForUpdate(Long paperId) {
+        return paperRepository.findByIdForUpdate(paperId)
+                .orElseThrow(() -> new PaperNotFoundException(paperId));
+    }
+
+    /**
+     * S3 키에 쓸 파일 이름 (경로 구분자와 제어/특수 문자를 '_'로 바꾸고 길이 제한)
+     */
+    public static String objectNameOf(String fileName) {
+        String name = fileName == null ? "" : fileName;
+        name = name.substring(Math.max(name.lastIndexOf('/'), name.lastIndexOf('\\')) + 1);
+        name = UNSAFE_OBJECT_NAME_CHARS.matcher(name).replaceAll("_");
+        if (name.length() > MAX_OBJECT_NAME_LENGTH) {
+            name = name.substring(name.length() - MAX_OBJECT_NAME_LENGTH);
+        }
+        return name.isEmpty() || name.chars().allMatch(c -> c == '.') ? "file.pdf" : name;
+    }
+
     /**
      * 사용자 정보 조회
      */
@@ -87,31 +263,83 @@ public class PaperService {
      * 파일 타입 검증 (PDF만 허용)
      */
     private void validateFileType(MultipartFile file) {
-        log.info("파일 타입 검증 중: {}", file.getOriginalFilename());
-        String contentType = file.getContentType();
+        validateContentType(file.getOriginalFilename(), file.getContentType());
+    }
+
+    private void validateContentType(String fileName, String contentType) {
+        log.info("파일 타입 검증 중: {}", fileName);
         if (contentType == null || !contentType.equals(PDF_CONTENT_TYPE)) {
-            log.warn("잘못된 파일 형식: {}, 타입: {}", file.getOriginalFilename(), contentType);
+            log.warn("잘못된 파일 형식: {}, 타입: {}", fileName, contentType);
             throw new InvalidFileTypeException();
         }
     }
 
+    private String normalizeSha256(String sha256) {
+        if (sha256 == null || sha256.isBlank()) {
+            return null;
+        }
+        String normalized = sha256.trim().toLowerCase();
+        if (!SHA256_HEX.matcher(normalized).matches()) {
+            throw new UploadVerificationFailedException("SHA-256 값은 64자리 hex 문자열이어야 합니다.");
+        }
+        return normalized;
+    }
+
+    /**
+     * @return 요청과 다른 항목 설명, 일치하면 null
+     */
+    private String verifyStoredObject(Paper paper, StoredObject stored) {
+        if (stored.contentLength() != paper.getFileSize()) {
+            return "파일 크기가 요청과 다릅니다. 요청=" + paper.getFileSize() + ", 업로드=" + stored.contentLength();
+        }
+        if (stored.contentType() == null || !stored.contentType().startsWith(PDF_CONTENT_TYPE)) {
+            return "PDF 파일만 업로드 가능합니다. 업로드=" + stored.contentType();
+        }
+        if (paper.getContentHash() != null && !paper.getContentHash().equals(stored.checksumSha256())) {
+            return "파일 체크섬이 요청과 다릅니다.";
+        }
+        return null;
+    }
+
     /**
-     * S3에 파일 업로드
+     * S3에 파일 업로드 (멀티파트 비동기 업로드 완료까지 대기)
      */
-    private String uploadFileToS3(MultipartFile file) {
+    private UploadedFile uploadFileToS3(MultipartFile file) {
         log.info("S3에 업로드 중: {}", file.getOriginalFilename());
-        return s3Service.uploadFile(file, S3_PAPERS_FOLDER);
+        try {
+            return s3Service.uploadFileAsync(file, S3_PAPERS_FOLDER).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof FileUploadFailedException failed) {
+                throw failed;
+            }
+            throw new FileUploadFailedException(e.getMessage());
+        }
+    }
+
+    /**
+     * DB 저장에 실패한 업로드 파일 삭제 (보상 처리)
+     * <p>
+     * 삭제도 실패하면 로그만 남기고 원래 예외를 그대로 전달한다. 남은 객체는 S3 정리 작업 대상이다.
+     */
+    private void compensateUpload(String s3Url, RuntimeException cause) {
+        log.warn("논문 저장 실패, 업로드 파일 삭제: fileUrl={}, 원인={}", s3Url, cause.getMessage());
+        try {
+            s3Service.deleteFile(s3Url);
+        } catch (RuntimeException e) {
+            log.error("업로드 파일 삭제 실패 (고아 객체): fileUrl={}, 오류={}", s3Url, e.getMessage());
+            cause.addSuppressed(e);
+        }
     }
 
     /**
      * Paper 엔티티 생성 및 저장
      */
-    private Paper createAndSavePaper(MultipartFile file, String s3Url, Member member) {
+    private Paper createAndSavePaper(MultipartFile file, UploadedFile uploaded, Member member) {
         log.info("Paper 엔티티 생성 및 저장 중: {}", file.getOriginalFilename());
         Paper paper = Paper.builder()
-                .title(Objects.requireNonNull(file.getOriginalFilename())
-                        .substring(0, file.getOriginalFilename().lastIndexOf('.')))//사용자가 업로드한 파일 제목
-                .filePath(s3Url)
+                .title(titleOf(file.getOriginalFilename()))//사용자가 업로드한 파일 제목
+                .filePath(uploaded.fileUrl())
+                .contentHash(uploaded.sha256())
                 .fileType(file.getContentType())
                 .fileSize(file.getSize())
                 .status(Status.PENDING)
@@ -121,6 +349,12 @@ public class PaperService {
         return paperRepository.save(paper);
     }
 
+    private String titleOf(String fileName) {
+        String name = Objects.requireNonNull(fileName);
+        int extension = name.lastIndexOf('.');
+        return extension > 0 ? name.substring(0, extension) : name;
+    }
+
     /**
      * 분석 로그 생성 및 저장
      */
@@ -131,6 +365,7 @@ public class PaperService {
                 .member(member)
                 .status(AnalysisStatus.PENDING)
                 .startedAt(LocalDateTime.now())
+                .enqueuedAt(LocalDateTime.now())
                 .stage(AnalysisStage.MINERU)
                 .sourceType(AnalysisSourceType.UPLOAD)
                 .build();
@@ -0,0 +1,42 @@
+package joomidang.papersummary.paper.service;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 논문 파일 업로드 설정 (paper.upload.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "paper.upload")
+public class PaperUploadProperties {
+
+    /**
+     * 직접 업로드(서명 URL)로 받을 수 있는 최대 파일 크기 (multipart 업로드 한도와 동일하게 유지)
+     */
+    private DataSize maxFileSize = DataSize.ofMegabytes(20);
+
+    /**
+     * 서명된 업로드 URL 유효 시간
+     */
+    private Duration presignTtl = Duration.ofMinutes(15);
+
+    private Resumable resumable = new Resumable();
+
+    @Getter
+    @Setter
+    public static class Resumable {
+        /**
+         * 이어 올리기 청크 크기 (마지막 청크 외에는 정확히 이 크기여야 함, S3 파트 최소 크기 5MB 이상)
+         */
+        private DataSize chunkSize = DataSize.ofMegabytes(5);
+
+        /**
+         * 마지막 청크 이후 업로드 상태를 유지하는 시간 (지나면 처음부터 다시 올려야 함)
+         */
+        private Duration ttl = Duration.ofHours(24);
+    }
+}
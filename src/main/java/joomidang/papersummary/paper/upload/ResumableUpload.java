@@ -0,0 +1,46 @@
+package joomidang.papersummary.paper.upload;
+
+import java.util.List;
+import joomidang.papersummary.s3.service.MultipartUpload;
+
+/**
+ * Redis에 저장된 이어 올리기 상태
+ *
+ * @param owner       업로드한 사용자 providerUid
+ * @param offset      S3 파트로 올라간 바이트 수 (청크 단위)
+ * @param partETags   파트 번호 순서대로의 ETag
+ * @param paperId     업로드가 끝나 생성된 논문 ID, 진행 중이면 null
+ */
+record ResumableUpload(
+        String owner,
+        String fileName,
+        String contentType,
+        long length,
+        long chunkSize,
+        MultipartUpload multipartUpload,
+        long offset,
+        List<String> partETags,
+        Long paperId
+) {
+    int partNumberAt(long chunkOffset) {
+        return (int) (chunkOffset / chunkSize) + 1;
+    }
+
+    /**
+     * 이 위치에서 받아야 하는 청크 크기 (마지막 청크만 chunkSize보다 작을 수 있음)
+     */
+    long expectedChunkLength(long chunkOffset) {
+        return Math.min(chunkSize, length - chunkOffset);
+    }
+
+    /**
+     * 모든 청크가 S3 파트로 올라왔는지 (논문 등록 전일 수 있음)
+     */
+    boolean isUploaded() {
+        return offset >= length;
+    }
+
+    boolean isCompleted() {
+        return paperId != null;
+    }
+}
@@ -0,0 +1,222 @@
+package joomidang.papersummary.paper.upload;
+
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import joomidang.papersummary.paper.controller.request.ResumableUploadRequest;
+import joomidang.papersummary.paper.controller.response.ResumableUploadResponse;
+import joomidang.papersummary.paper.entity.Paper;
+import joomidang.papersummary.paper.exception.AccessDeniedException;
+import joomidang.papersummary.paper.exception.UploadOffsetMismatchException;
+import joomidang.papersummary.paper.exception.UploadSessionNotFoundException;
+import joomidang.papersummary.paper.exception.UploadVerificationFailedException;
+import joomidang.papersummary.paper.service.PaperService;
+import joomidang.papersummary.paper.service.PaperUploadProperties;
+import joomidang.papersummary.s3.service.MultipartUpload;
+import joomidang.papersummary.s3.service.S3Service;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 이어 올리기(tus 방식) 업로드
+ * <p>
+ * 생성 → 청크 전송(PATCH, Upload-Offset) → 끊기면 HEAD로 저장된 위치를 확인하고 그 위치부터 다시 보낸다.
+ * <p>
+ * - 청크 하나가 S3 멀티파트 파트 하나가 된다. (로컬 임시 파일 없음, 파트 번호 = offset / chunkSize + 1)
+ * <p>
+ * - 상태(오프셋, 파트 ETag)는 Redis에 두므로 어느 인스턴스로 요청이 와도 이어서 처리한다.
+ * <p>
+ * - 같은 파트를 다시 올리면 S3에서 덮어쓰므로, 응답을 못 받은 청크를 재전송해도 안전하다.
+ * <p>
+ * 마지막 청크가 들어오면 멀티파트를 완료하고 Paper(PENDING)와 분석 로그를 만든다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ResumableUploadService {
+    public static final String UPLOAD_OFFSET_HEADER = "Upload-Offset";
+    public static final String UPLOAD_LENGTH_HEADER = "Upload-Length";
+
+    private static final String S3_PAPERS_FOLDER = "papers";
+    // 멀티파트 완료 + 논문 등록에 충분한 시간 (처리하던 인스턴스가 죽으면 이후 재시도가 다시 잡음)
+    private static final Duration COMPLETION_LEASE = Duration.ofMinutes(5);
+
+    private final ResumableUploadStore store;
+    private final S3Service s3Service;
+    private final PaperService paperService;
+    private final PaperUploadProperties uploadProperties;
+
+    public ResumableUploadResponse create(String providerUid, ResumableUploadRequest request) {
+        log.info("이어 올리기 생성: {}, 크기: {}, 사용자: {}", request.fileName(), request.fileSize(), providerUid);
+        paperService.validateUpload(request.fileName(), request.contentType(), request.fileSize());
+
+        MultipartUpload multipartUpload = s3Service.startMultipartUpload(S3_PAPERS_FOLDER,
+                PaperService.objectNameOf(request.fileName()),
+                request.contentType());
+        String uploadId = UUID.randomUUID().toString();
+        ResumableUpload upload = new ResumableUpload(
+                providerUid,
+                request.fileName(),
+                request.contentType(),
+                request.fileSize(),
+                uploadProperties.getResumable().getChunkSize().toBytes(),
+                multipartUpload,
+                0,
+                List.of(),
+                null
+        );
+        store.create(uploadId, upload, ttl());
+
+        log.info("이어 올리기 생성 완료: uploadId={}, key={}", uploadId, multipartUpload.key());
+        return toResponse(uploadId, upload.offset(), upload);
+    }
+
+    /**
+     * 업로드 상태 조회 (청크는 모두 올라왔는데 완료 처리가 중단된 업로드는 여기서 다시 완료)
+     */
+    public ResumableUploadResponse getStatus(String providerUid, String uploadId) {
+        ResumableUpload upload = findOwned(providerUid, uploadId);
+        if (upload.isUploaded() && !upload.isCompleted()) {
+            return completeIfClaimed(uploadId, upload);
+        }
+        return toResponse(uploadId, upload.offset(), upload);
+    }
+
+    /**
+     * 청크 저장
+     *
+     * @param offset        클라이언트가 보낸 Upload-Offset
+     * @param contentLength 청크 크기 (Content-Length)
+     * @throws UploadOffsetMismatchException 저장된 위치와 다름 (HEAD로 확인한 위치부터 다시 보내야 함)
+     */
+    public ResumableUploadResponse appendChunk(String providerUid, String uploadId, long offset, InputStream content,
+                                               long contentLength) {
+        ResumableUpload upload = findOwned(providerUid, uploadId);
+        if (upload.isUploaded() && !upload.isCompleted()) {
+            // 마지막 청크 반영 후 완료 전에 중단된 업로드 (본문은 이미 올라왔으므로 완료만 다시 시도)
+            return completeIfClaimed(uploadId, upload);
+        }
+        if (upload.isCompleted() || offset != upload.offset()) {
+            throw new UploadOffsetMismatchException(offset, upload.offset());
+        }
+        long expectedLength = upload.expectedChunkLength(offset);
+        if (contentLength != expectedLength) {
+            throw new UploadVerificationFailedException(
+                    "청크 크기가 맞지 않습니다. 필요=" + expectedLength + ", 요청=" + contentLength);
+        }
+
+        int partNumber = upload.partNumberAt(offset);
+        String eTag = s3Service.uploadPart(upload.multipartUpload(), partNumber, content, contentLength);
+
+        long newOffset = offset + contentLength;
+        ResumableUploadStore.Advance advance = store.advance(uploadId, offset, newOffset, partNumber, eTag, ttl())
+                .orElseThrow(() -> new UploadSessionNotFoundException(uploadId));
+        if (!advance.applied()) {
+            // 같은 청크를 동시에 보낸 다른 요청이 먼저 반영함
+            throw new UploadOffsetMismatchException(offset, advance.offset());
+        }
+        log.debug("이어 올리기 청크 저장: uploadId={}, partNumber={}, offset={}/{}",
+                uploadId, partNumber, newOffset, upload.length());
+
+        if (newOffset < upload.length()) {
+            return toResponse(uploadId, newOffset, upload);
+        }
+        return completeIfClaimed(uploadId, upload);
+    }
+
+    public void cancel(String providerUid, String uploadId) {
+        ResumableUpload upload = findOwned(providerUid, uploadId);
+        if (!upload.isCompleted()) {
+            s3Service.abortMultipartUpload(upload.multipartUpload());
+        }
+        store.delete(uploadId);
+        log.info("이어 올리기 취소: uploadId={}", uploadId);
+    }
+
+    /**
+     * 완료 lease를 잡은 요청만 완료 처리, 다른 요청이 처리 중이면 현재 상태(논문 ID 없음)를 돌려줌
+     */
+    private ResumableUploadResponse completeIfClaimed(String uploadId, ResumableUpload upload) {
+        if (!store.claimCompletion(uploadId, Instant.now(), COMPLETION_LEASE)) {
+            log.debug("다른 요청이 이어 올리기 완료 처리 중: uploadId={}", uploadId);
+            return toResponse(uploadId, upload.length(), upload);
+        }
+        return complete(uploadId);
+    }
+
+    /**
+     * 멀티파트 완료 후 논문 등록
+     * <p>
+     * 실패하면 올라간 파트/파일을 지우고 업로드 상태도 삭제한다. (처음부터 다시 올려야 함)
+     * 이전 완료 시도가 S3 완료 뒤에 중단됐으면 멀티파트 완료는 실패하지만 객체가 이미 있으므로 이어서 논문을 등록한다.
+     */
+    private ResumableUploadResponse complete(String uploadId) {
+        ResumableUpload upload = store.find(uploadId)
+                .orElseThrow(() -> new UploadSessionNotFoundException(uploadId));
+        MultipartUpload multipartUpload = upload.multipartUpload();
+
+        try {
+            s3Service.completeMultipartUpload(multipartUpload, upload.partETags());
+        } catch (RuntimeException e) {
+            if (isAlreadyStored(upload)) {
+                log.info("이전 시도에서 멀티파트 완료됨, 논문 등록만 진행: uploadId={}", uploadId);
+            } else {
+                log.error("이어 올리기 완료 실패: uploadId={}, 오류={}", uploadId, e.getMessage());
+                s3Service.abortMultipartUpload(multipartUpload);
+                store.delete(uploadId);
+                throw e;
+            }
+        }
+
+        Paper paper;
+        try {
+            paper = paperService.registerUploadedPaper(upload.owner(), upload.fileName(), upload.contentType(),
+                    upload.length(), multipartUpload.fileUrl());
+        } catch (RuntimeException e) {
+            log.error("이어 올리기 논문 등록 실패, 업로드 파일 삭제: uploadId={}, 오류={}", uploadId, e.getMessage());
+            try {
+                s3Service.deleteFile(multipartUpload.fileUrl());
+            } catch (RuntimeException deleteFailure) {
+                e.addSuppressed(deleteFailure);
+            }
+            store.delete(uploadId);
+            throw e;
+        }
+
+        // 완료 응답을 못 받은 클라이언트가 HEAD로 논문 ID를 확인할 수 있게 상태는 TTL 동안 남겨 둠
+        store.complete(uploadId, paper.getId(), ttl());
+        log.info("이어 올리기 완료: uploadId={}, paperId={}", uploadId, paper.getId());
+        return new ResumableUploadResponse(uploadId, upload.length(), upload.length(), upload.chunkSize(),
+                paper.getId());
+    }
+
+    private boolean isAlreadyStored(ResumableUpload upload) {
+        try {
+            return s3Service.findObject(upload.multipartUpload().fileUrl())
+                    .map(stored -> stored.contentLength() == upload.length())
+                    .orElse(false);
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    private ResumableUpload findOwned(String providerUid, String uploadId) {
+        ResumableUpload upload = store.find(uploadId)
+                .orElseThrow(() -> new UploadSessionNotFoundException(uploadId));
+        if (!upload.owner().equals(providerUid)) {
+            throw new AccessDeniedException();
+        }
+        return upload;
+    }
+
+    private ResumableUploadResponse toResponse(String uploadId, long offset, ResumableUpload upload) {
+        return new ResumableUploadResponse(uploadId, offset, upload.length(), upload.chunkSize(), upload.paperId());
+    }
+
+    private Duration ttl() {
+        return uploadProperties.getResumable().getTtl();
+    }
+}
@@ -0,0 +1,158 @@
+package joomidang.papersummary.paper.upload;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import joomidang.papersummary.s3.service.MultipartUpload;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이어 올리기 상태를 Redis 해시에 저장 (어느 인스턴스로 청크가 와도 이어서 처리)
+ * <p>
+ * 오프셋 갱신은 Lua 스크립트로 비교 후 갱신하므로, 같은 청크가 동시에 들어와도 한 요청만 반영된다.
+ */
+@Component
+@RequiredArgsConstructor
+class ResumableUploadStore {
+    private static final String KEY_PREFIX = "paper:upload:";
+    private static final String PART_FIELD_PREFIX = "part:";
+
+    /**
+     * 오프셋이 기대값과 같을 때만 파트 ETag를 기록하고 오프셋 전진
+     * <p>
+     * ARGV: [기대 오프셋, 새 오프셋, 파트 필드, ETag, ttlMs] / 반환: {결과(1 성공, 0 오프셋 불일치, -1 없음), 현재 오프셋}
+     */
+    private static final RedisScript<List> ADVANCE = new DefaultRedisScript<>("""
+            local current = redis.call('HGET', KEYS[1], 'offset')
+            if not current then
+              return {-1, 0}
+            end
+            if current ~= ARGV[1] or redis.call('HEXISTS', KEYS[1], 'paperId') == 1 then
+              return {0, tonumber(current)}
+            end
+            redis.call('HSET', KEYS[1], 'offset', ARGV[2], ARGV[3], ARGV[4])
+            redis.call('PEXPIRE', KEYS[1], ARGV[5])
+            return {1, tonumber(ARGV[2])}
+            """, List.class);
+
+    /**
+     * 모든 청크가 올라왔고 아직 논문이 없을 때, 다른 요청이 완료 처리 중이 아니면 완료 lease를 잡음
+     * <p>
+     * 완료 처리하던 인스턴스가 죽어도 lease가 지나면 PATCH/HEAD가 다시 잡아 완료한다.
+     * ARGV: [현재 시각(ms), lease 만료 시각(ms)] / 반환: 1 잡음, 0 대상 아님, -1 없음
+     */
+    private static final RedisScript<Long> CLAIM_COMPLETION = new DefaultRedisScript<>("""
+            local offset = redis.call('HGET', KEYS[1], 'offset')
+            if not offset then
+              return -1
+            end
+            if redis.call('HEXISTS', KEYS[1], 'paperId') == 1
+                or tonumber(offset) < tonumber(redis.call('HGET', KEYS[1], 'length')) then
+              return 0
+            end
+            local completingUntil = redis.call('HGET', KEYS[1], 'completingUntil')
+            if completingUntil and tonumber(completingUntil) > tonumber(ARGV[1]) then
+              return 0
+            end
+            redis.call('HSET', KEYS[1], 'completingUntil', ARGV[2])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    void create(String uploadId, ResumableUpload upload, Duration ttl) {
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put("owner", upload.owner());
+        fields.put("fileName", upload.fileName());
+        fields.put("contentType", upload.contentType());
+        fields.put("length", String.valueOf(upload.length()));
+        fields.put("chunkSize", String.valueOf(upload.chunkSize()));
+        fields.put("fileUrl", upload.multipartUpload().fileUrl());
+        fields.put("key", upload.multipartUpload().key());
+        fields.put("s3UploadId", upload.multipartUpload().uploadId());
+        fields.put("offset", String.valueOf(upload.offset()));
+
+        String key = KEY_PREFIX + uploadId;
+        redisTemplate.opsForHash().putAll(key, fields);
+        redisTemplate.expire(key, ttl);
+    }
+
+    Optional<ResumableUpload> find(String uploadId) {
+        Map<Object, Object> fields = redisTemplate.opsForHash().entries(KEY_PREFIX + uploadId);
+        if (fields.isEmpty() || !fields.containsKey("offset")) {
+            return Optional.empty();
+        }
+
+        long length = Long.parseLong((String) fields.get("length"));
+        long chunkSize = Long.parseLong((String) fields.get("chunkSize"));
+        long offset = Long.parseLong((String) fields.get("offset"));
+        int parts = (int) ((offset + chunkSize - 1) / chunkSize);
+        List<String> partETags = new ArrayList<>(parts);
+        for (int partNumber = 1; partNumber <= parts; partNumber++) {
+            partETags.add((String) fields.get(PART_FIELD_PREFIX + partNumber));
+        }
+        Object paperId = fields.get("paperId");
+
+        return Optional.of(new ResumableUpload(
+                (String) fields.get("owner"),
+                (String) fields.get("fileName"),
+                (String) fields.get("contentType"),
+                length,
+                chunkSize,
+                new MultipartUpload((String) fields.get("fileUrl"), (String) fields.get("key"),
+                        (String) fields.get("s3UploadId")),
+                offset,
+                partETags,
+                paperId == null ? null : Long.valueOf((String) paperId)
+        ));
+    }
+
+    /**
+     * @return 갱신 결과, 상태가 없으면 empty
+     */
+    Optional<Advance> advance(String uploadId, long expectedOffset, long newOffset, int partNumber, String eTag,
+                              Duration ttl) {
+        List<?> result = redisTemplate.execute(ADVANCE, List.of(KEY_PREFIX + uploadId),
+                String.valueOf(expectedOffset), String.valueOf(newOffset), PART_FIELD_PREFIX + partNumber, eTag,
+                String.valueOf(ttl.toMillis()));
+        if (result == null || ((Number) result.get(0)).longValue() < 0) {
+            return Optional.empty();
+        }
+        return Optional.of(new Advance(((Number) result.get(0)).longValue() == 1,
+                ((Number) result.get(1)).longValue()));
+    }
+
+    /**
+     * @return 이 호출이 완료 처리 권한을 잡았으면 true
+     */
+    boolean claimCompletion(String uploadId, Instant now, Duration lease) {
+        Long claimed = redisTemplate.execute(CLAIM_COMPLETION, List.of(KEY_PREFIX + uploadId),
+                String.valueOf(now.toEpochMilli()), String.valueOf(now.plus(lease).toEpochMilli()));
+        return claimed != null && claimed == 1;
+    }
+
+    void complete(String uploadId, Long paperId, Duration ttl) {
+        String key = KEY_PREFIX + uploadId;
+        redisTemplate.opsForHash().put(key, "paperId", String.valueOf(paperId));
+        redisTemplate.expire(key, ttl);
+    }
+
+    void delete(String uploadId) {
+        redisTemplate.delete(KEY_PREFIX + uploadId);
+    }
+
+    /**
+     * @param applied 이 요청이 오프셋을 전진시켰는지 여부
+     * @param offset  갱신 후(또는 불일치 시 현재) 오프셋
+     */
+    record Advance(boolean applied, long offset) {
+    }
+}
@@ -0,0 +1,216 @@
+package joomidang.papersummary.s3.gc;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import joomidang.papersummary.common.util.BloomFilter;
+import joomidang.papersummary.paper.entity.Status;
+import joomidang.papersummary.paper.repository.PaperContentRepository;
+import joomidang.papersummary.paper.repository.PaperRepository;
+import joomidang.papersummary.s3.service.ListedObject;
+import joomidang.papersummary.s3.service.ObjectPage;
+import joomidang.papersummary.s3.service.S3Service;
+import joomidang.papersummary.summary.repository.SummaryRepository;
+import joomidang.papersummary.summary.repository.SummaryVersionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 참조되지 않는 S3 객체를 찾아 지우는 mark-and-sweep GC
+ * <p>
+ * mark: DB에서 참조 중인 키(summary/summary_version/paper_content의 마크다운 키, paper 파일 경로)를 스트리밍으로 읽어
+ * Bloom filter에 넣는다. sweep: ListObjectsV2로 summaries/, papers/ 아래를 페이지 단위로 훑으며 filter에 없고
+ * 유예 기간보다 오래된 객체를 페이지마다 DeleteObjects로 지운다.
+ * <p>
+ * Bloom filter 오탐은 "참조 중"으로 판단되는 쪽이라 지워야 할 객체가 일부 남을 뿐 참조 중인 객체를 지우지는 않는다.
+ * <p>
+ * 유예 기간이 지나도록 UPLOADING인 논문은 파일을 참조로 보지 않고, sweep이 끝나면 FAILED로 바꿔 지워진 파일을 가리키는 업로드 중 논문이
+ * 남지 않게 한다. (sweep이 실패하면 다음 실행에서 다시 정리되도록 상태는 sweep 뒤에 바꾼다)
+ * mark를 sweep보다 먼저 하므로 mark 이후 새로 생긴 참조는 유예 기간 안의 새 객체에만 해당한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@EnableConfigurationProperties(S3GcProperties.class)
+public class S3GarbageCollector {
+    static final String SUMMARIES_PREFIX = "summaries/";
+    static final String PAPERS_PREFIX = "papers/";
+    private static final String LOCK_KEY = "s3:gc:lock";
+
+    private final S3Service s3Service;
+    private final SummaryRepository summaryRepository;
+    private final SummaryVersionRepository summaryVersionRepository;
+    private final PaperContentRepository paperContentRepository;
+    private final PaperRepository paperRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final S3GcProperties properties;
+
+    @Scheduled(cron = "${aws.s3.gc.cron:0 30 4 * * *}")
+    public void scheduledRun() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        // 여러 노드에서 같은 시각에 돌지 않도록 한 노드만 실행
+        String owner = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, owner, properties.getLockTtl()))) {
+            log.debug("다른 노드에서 S3 GC 실행 중, 건너뜀");
+            return;
+        }
+        try {
+            run(properties.isDryRun());
+        } catch (Exception e) {
+            log.error("S3 GC 실행 실패: {}", e.getMessage(), e);
+        } finally {
+            if (owner.equals(redisTemplate.opsForValue().get(LOCK_KEY))) {
+                redisTemplate.delete(LOCK_KEY);
+            }
+        }
+    }
+
+    /**
+     * GC 한 번 실행
+     *
+     * @param dryRun true면 삭제 대상만 집계
+     */
+    public List<SweepResult> run(boolean dryRun) {
+        Instant cutoff = Instant.now().minus(properties.getGracePeriod());
+        LocalDateTime uploadCutoff = LocalDateTime.ofInstant(cutoff, ZoneId.systemDefault());
+        log.info("S3 GC 시작: dryRun={}, cutoff={}", dryRun, cutoff);
+
+        BloomFilter summaryKeys = markSummaryKeys();
+        BloomFilter paperKeys = markPaperKeys(uploadCutoff);
+
+        List<SweepResult> results = List.of(
+                sweep(SUMMARIES_PREFIX, summaryKeys, cutoff, dryRun,
+                        s3Service::listMarkdownFiles, ListedObject::key, s3Service::deleteMarkdownFiles),
+                sweep(PAPERS_PREFIX, paperKeys, cutoff, dryRun,
+                        s3Service::listFiles, ListedObject::fileUrl, s3Service::deleteFiles));
+        results.forEach(result -> log.info("S3 GC 완료: {}", result));
+
+        if (!dryRun) {
+            failAbandonedUploads(uploadCutoff);
+        }
+        return results;
+    }
+
+    private void failAbandonedUploads(LocalDateTime uploadCutoff) {
+        Integer failed = transactionTemplate.execute(status ->
+                paperRepository.failAbandonedUploads(Status.UPLOADING, Status.FAILED, uploadCutoff));
+        if (failed != null && failed > 0) {
+            log.info("S3 GC 업로드가 끝나지 않은 논문 실패 처리: {}개", failed);
+        }
+    }
+
+    private BloomFilter markSummaryKeys() {
+        long expected = summaryRepository.count() + summaryVersionRepository.count() + paperContentRepository.count();
+        BloomFilter filter = BloomFilter.create(expected, properties.getFalsePositiveRate());
+        long marked = mark(filter, summaryRepository::streamAllS3Keys)
+                + mark(filter, summaryVersionRepository::streamAllS3Keys)
+                + mark(filter, paperContentRepository::streamSummaryS3Keys);
+        log.info("S3 GC 요약 참조 수집: {}개, filter={}bit", marked, filter.bitSize());
+        return filter;
+    }
+
+    private BloomFilter markPaperKeys(LocalDateTime uploadCutoff) {
+        // 업로드가 끝나지 않은 채 유예 기간이 지난 논문은 참조로 보지 않음 (올라가다 만 파일 정리)
+        BloomFilter filter = BloomFilter.create(paperRepository.count(), properties.getFalsePositiveRate());
+        long marked = mark(filter, () -> paperRepository.streamReferencedFilePaths(Status.UPLOADING, uploadCutoff));
+        log.info("S3 GC 논문 파일 참조 수집: {}개, filter={}bit", marked, filter.bitSize());
+        return filter;
+    }
+
+    private long mark(BloomFilter filter, Supplier<Stream<String>> references) {
+        // 스트림은 트랜잭션 안에서만 읽을 수 있음
+        Long marked = transactionTemplate.execute(status -> {
+            long count = 0;
+            try (Stream<String> stream = references.get()) {
+                Iterator<String> iterator = stream.iterator();
+                while (iterator.hasNext()) {
+                    String reference = iterator.next();
+                    if (reference != null && !reference.isBlank()) {
+                        filter.put(toKey(reference));
+                        count++;
+                    }
+                }
+            }
+            return count;
+        });
+        return marked == null ? 0 : marked;
+    }
+
+    /**
+     * prefix 아래 객체를 페이지 단위로 훑으며 참조 없는 오래된 객체 삭제
+     *
+     * @param target  삭제 API에 넘길 값 (요약 버킷은 키, 업로드 버킷은 URL)
+     * @param deleter 삭제하지 못한 대상을 돌려주는 일괄 삭제
+     */
+    private SweepResult sweep(String prefix, BloomFilter references, Instant cutoff, boolean dryRun,
+                              BiFunction<String, String, ObjectPage> lister,
+                              Function<ListedObject, String> target,
+                              Function<List<String>, List<String>> deleter) {
+        long scanned = 0;
+        long garbage = 0;
+        long garbageBytes = 0;
+        long deleted = 0;
+        String token = null;
+        do {
+            ObjectPage page = lister.apply(prefix, token);
+            List<ListedObject> candidates = page.objects().stream()
+                    .filter(object -> object.lastModified().isBefore(cutoff))
+                    .filter(object -> !references.mightContain(object.key()))
+                    .toList();
+
+            scanned += page.objects().size();
+            garbage += candidates.size();
+            garbageBytes += candidates.stream().mapToLong(ListedObject::size).sum();
+
+            if (dryRun) {
+                candidates.forEach(object -> log.debug("S3 GC 삭제 대상(dry-run): key={}, lastModified={}",
+                        object.key(), object.lastModified()));
+            } else if (!candidates.isEmpty()) {
+                List<String> failed = deleter.apply(candidates.stream().map(target).toList());
+                deleted += candidates.size() - failed.size();
+            }
+            token = page.nextContinuationToken();
+        } while (token != null);
+
+        meterRegistry.counter("s3.gc.garbage", "prefix", prefix).increment(garbage);
+        meterRegistry.counter("s3.gc.deleted", "prefix", prefix).increment(deleted);
+        return new SweepResult(prefix, dryRun, scanned, garbage, garbageBytes, deleted);
+    }
+
+    /**
+     * DB에 URL로 저장된 값(paper.file_path 등)을 S3 키로 변환
+     */
+    static String toKey(String reference) {
+        int hostEnd = reference.indexOf(".com/");
+        return hostEnd < 0 ? reference : reference.substring(hostEnd + 5);
+    }
+
+    /**
+     * prefix 하나에 대한 GC 결과
+     *
+     * @param garbage      참조가 없고 유예 기간이 지난 객체 수
+     * @param garbageBytes 그 객체들의 총 크기
+     * @param deleted      실제로 삭제한 객체 수 (dry-run이면 0)
+     */
+    public record SweepResult(String prefix, boolean dryRun, long scanned, long garbage, long garbageBytes,
+                              long deleted) {
+    }
+}
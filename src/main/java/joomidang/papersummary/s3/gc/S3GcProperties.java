@@ -0,0 +1,45 @@
+package joomidang.papersummary.s3.gc;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 참조되지 않는 S3 객체 정리 설정 (aws.s3.gc.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "aws.s3.gc")
+public class S3GcProperties {
+
+    /**
+     * 스케줄 실행 여부
+     */
+    private boolean enabled = false;
+
+    /**
+     * true면 삭제 대상만 집계하고 실제로 지우지 않음
+     */
+    private boolean dryRun = true;
+
+    /**
+     * 실행 주기 (cron)
+     */
+    private String cron = "0 30 4 * * *";
+
+    /**
+     * 이보다 최근에 만들어진 객체는 참조가 없어도 남김 (요약 파이프라인/업로드 진행 중인 객체 보호)
+     */
+    private Duration gracePeriod = Duration.ofDays(7);
+
+    /**
+     * 참조 키 Bloom filter 오탐률 (오탐은 삭제하지 않는 쪽으로만 작용)
+     */
+    private double falsePositiveRate = 0.001;
+
+    /**
+     * 여러 노드 중 한 곳에서만 실행되도록 잡는 락 유지 시간 (한 번 실행에 걸리는 시간보다 길게)
+     */
+    private Duration lockTtl = Duration.ofHours(2);
+}
@@ -0,0 +1,507 @@
+package joomidang.papersummary.s3.local;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import joomidang.papersummary.common.util.ContentHash;
+import joomidang.papersummary.s3.service.StoredObject;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * 디렉터리에 객체를 저장하는 S3 호환 로컬 저장소
+ * <p>
+ * 레이아웃: {root}/{bucket}/{key}에 본문, {root}/.meta/{bucket}/{key}에 메타데이터(Content-Type, SHA-256),
+ * {root}/.tmp에 쓰는 중인 파일, {root}/.uploads/{uploadId}에 멀티파트 파트.
+ * <p>
+ * 쓰기는 항상 .tmp에 FileChannel로 끝까지 쓴 뒤 같은 파일시스템 안에서 원자적으로 이동(rename)하므로, 읽는 쪽은 이전 본문이나
+ * 새 본문 전체만 본다. 메타데이터와 본문을 함께 바꾸는 커밋/삭제/HEAD는 키별 락(스트라이프)으로 묶는다. 파트 합치기, 복사, 내려받기는
+ * FileChannel.transferTo로 사용자 공간 버퍼 없이 넘긴다.
+ * <p>
+ * S3와 달리 파일시스템은 "a"와 "a/b"를 동시에 둘 수 없으므로 그런 키 조합은 지원하지 않는다.
+ */
+@Slf4j
+@Component
+@Profile("local")
+@ConditionalOnProperty(prefix = "aws.s3.local", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(LocalS3Properties.class)
+public class LocalObjectStore {
+    private static final String META_DIR = ".meta";
+    private static final String TMP_DIR = ".tmp";
+    private static final String UPLOADS_DIR = ".uploads";
+    private static final String UPLOAD_INFO = "upload.properties";
+    private static final int LOCK_STRIPES = 64;
+    private static final Pattern BUCKET_NAME = Pattern.compile("[a-z0-9][a-z0-9.-]{1,62}");
+
+    private final Path root;
+    private final Path metaRoot;
+    private final Path tmpRoot;
+    private final Path uploadsRoot;
+    private final boolean fsync;
+    private final int listPageSize;
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+
+    public LocalObjectStore(LocalS3Properties properties) throws IOException {
+        this.root = Path.of(properties.getRootDir()).toAbsolutePath().normalize();
+        this.metaRoot = root.resolve(META_DIR);
+        this.tmpRoot = root.resolve(TMP_DIR);
+        this.uploadsRoot = root.resolve(UPLOADS_DIR);
+        this.fsync = properties.isFsync();
+        this.listPageSize = properties.getListPageSize();
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        Files.createDirectories(metaRoot);
+        Files.createDirectories(tmpRoot);
+        Files.createDirectories(uploadsRoot);
+        log.info("로컬 객체 저장소 사용: root={}", root);
+    }
+
+    /**
+     * 스트림을 끝까지 읽어 객체 저장 (같은 키가 있으면 덮어씀)
+     *
+     * @param contentLength  본문 길이, 모르면 -1
+     * @param expectedSha256 본문 SHA-256(hex), 지정하면 다를 때 저장하지 않음. 없으면 null
+     * @throws IllegalArgumentException 길이나 체크섬이 맞지 않을 때
+     */
+    public StoredObject put(String bucket, String key, InputStream content, long contentLength, String contentType,
+                            String expectedSha256) throws IOException {
+        Path target = objectPath(bucket, key);
+        MessageDigest digest = ContentHash.newDigest();
+        Path tmp = Files.createTempFile(tmpRoot, "object-", ".tmp");
+        try {
+            long written;
+            try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.WRITE);
+                 ReadableByteChannel source = Channels.newChannel(new DigestInputStream(content, digest))) {
+                written = transferFrom(source, channel);
+                if (fsync) {
+                    channel.force(true);
+                }
+            }
+            if (contentLength >= 0 && written != contentLength) {
+                throw new IllegalArgumentException("본문 길이가 다릅니다. 요청=" + contentLength + ", 실제=" + written);
+            }
+            String sha256 = HexFormat.of().formatHex(digest.digest());
+            if (expectedSha256 != null && !expectedSha256.equalsIgnoreCase(sha256)) {
+                throw new IllegalArgumentException("본문 체크섬이 다릅니다.");
+            }
+
+            StoredObject stored = new StoredObject(written, contentType, sha256);
+            commit(bucket, key, tmp, target, stored);
+            return stored;
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    /**
+     * 메모리에 있는 작은 본문 저장
+     */
+    public StoredObject put(String bucket, String key, byte[] content, String contentType) throws IOException {
+        return put(bucket, key, new ByteArrayInputStream(content), content.length, contentType, null);
+    }
+
+    /**
+     * @return 객체가 없으면 empty
+     */
+    public Optional<StoredObject> head(String bucket, String key) throws IOException {
+        Path target = objectPath(bucket, key);
+        ReentrantLock lock = lockFor(bucket, key);
+        lock.lock();
+        try {
+            if (!Files.isRegularFile(target)) {
+                return Optional.empty();
+            }
+            Properties meta = readProperties(metaPath(bucket, key));
+            return Optional.of(new StoredObject(Files.size(target), meta.getProperty("contentType"),
+                    meta.getProperty("sha256")));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 본문 읽기 (열어 둔 동안 덮어쓰거나 지워도 이전 본문을 끝까지 읽음)
+     *
+     * @throws NoSuchFileException 객체가 없을 때
+     */
+    public InputStream open(String bucket, String key) throws IOException {
+        return Files.newInputStream(objectPath(bucket, key));
+    }
+
+    /**
+     * 본문을 target으로 그대로 넘김 (FileChannel.transferTo)
+     *
+     * @return 넘긴 바이트 수
+     * @throws NoSuchFileException 객체가 없을 때
+     */
+    public long transferTo(String bucket, String key, WritableByteChannel target) throws IOException {
+        try (FileChannel channel = FileChannel.open(objectPath(bucket, key), StandardOpenOption.READ)) {
+            return transferAll(channel, target);
+        }
+    }
+
+    /**
+     * @return 지웠으면 true, 없었으면 false
+     */
+    public boolean delete(String bucket, String key) throws IOException {
+        Path target = objectPath(bucket, key);
+        ReentrantLock lock = lockFor(bucket, key);
+        lock.lock();
+        try {
+            boolean deleted = Files.deleteIfExists(target);
+            Files.deleteIfExists(metaPath(bucket, key));
+            return deleted;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 같은 버킷 안에서 복사 (본문은 transferTo로 복사하고 메타데이터도 그대로)
+     *
+     * @throws NoSuchFileException 원본이 없을 때
+     */
+    public StoredObject copy(String bucket, String sourceKey, String targetKey) throws IOException {
+        StoredObject source = head(bucket, sourceKey)
+                .orElseThrow(() -> new NoSuchFileException(bucket + "/" + sourceKey));
+        Path tmp = Files.createTempFile(tmpRoot, "copy-", ".tmp");
+        try {
+            try (FileChannel in = FileChannel.open(objectPath(bucket, sourceKey), StandardOpenOption.READ);
+                 FileChannel out = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+                transferAll(in, out);
+                if (fsync) {
+                    out.force(true);
+                }
+            }
+            commit(bucket, targetKey, tmp, objectPath(bucket, targetKey), source);
+            return source;
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    /**
+     * prefix 아래 객체를 키 순서로 한 페이지 조회
+     *
+     * @param startAfter 이 키 다음부터 조회 (이전 페이지의 다음 토큰), 첫 페이지는 null
+     */
+    public Page list(String bucket, String prefix, String startAfter) throws IOException {
+        Path bucketRoot = bucketPath(bucket);
+        String safePrefix = prefix == null ? "" : prefix;
+        // prefix의 마지막 디렉터리부터만 훑음
+        int slash = safePrefix.lastIndexOf('/');
+        Path start = slash < 0 ? bucketRoot : bucketRoot.resolve(safePrefix.substring(0, slash)).normalize();
+        if (!start.startsWith(bucketRoot) || !Files.isDirectory(start)) {
+            return new Page(List.of(), null);
+        }
+
+        List<String> keys;
+        try (Stream<Path> paths = Files.walk(start)) {
+            keys = paths.filter(Files::isRegularFile)
+                    .map(path -> toKey(bucketRoot, path))
+                    .filter(key -> key.startsWith(safePrefix))
+                    .filter(key -> startAfter == null || key.compareTo(startAfter) > 0)
+                    .sorted()
+                    .limit(listPageSize + 1L)
+                    .toList();
+        }
+
+        boolean truncated = keys.size() > listPageSize;
+        List<Entry> entries = new ArrayList<>(Math.min(keys.size(), listPageSize));
+        for (String key : truncated ? keys.subList(0, listPageSize) : keys) {
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(bucketRoot.resolve(key),
+                        BasicFileAttributes.class);
+                entries.add(new Entry(key, attributes.size(), attributes.lastModifiedTime().toInstant()));
+            } catch (NoSuchFileException e) {
+                // 훑은 뒤 지워진 객체는 건너뜀
+            }
+        }
+        return new Page(entries, truncated ? keys.get(listPageSize - 1) : null);
+    }
+
+    /**
+     * 멀티파트 업로드 시작
+     *
+     * @return 업로드 ID
+     */
+    public String startUpload(String bucket, String key, String contentType) throws IOException {
+        objectPath(bucket, key);
+        String uploadId = UUID.randomUUID().toString();
+        Path uploadDir = Files.createDirectories(uploadsRoot.resolve(uploadId));
+        Properties info = new Properties();
+        info.setProperty("bucket", bucket);
+        info.setProperty("key", key);
+        if (contentType != null) {
+            info.setProperty("contentType", contentType);
+        }
+        writeProperties(info, uploadDir.resolve(UPLOAD_INFO));
+        return uploadId;
+    }
+
+    /**
+     * 파트 저장 (같은 번호를 다시 올리면 덮어씀)
+     *
+     * @return 파트 ETag (따옴표로 감싼 SHA-256)
+     * @throws NoSuchFileException 업로드가 없을 때
+     */
+    public String putPart(String uploadId, int partNumber, InputStream content, long contentLength)
+            throws IOException {
+        Path uploadDir = uploadPath(uploadId);
+        MessageDigest digest = ContentHash.newDigest();
+        Path tmp = Files.createTempFile(tmpRoot, "part-", ".tmp");
+        try {
+            long written;
+            try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.WRITE);
+                 ReadableByteChannel source = Channels.newChannel(new DigestInputStream(content, digest))) {
+                written = transferFrom(source, channel);
+            }
+            if (written != contentLength) {
+                throw new IllegalArgumentException("파트 본문이 " + contentLength + "바이트가 아닙니다. 실제=" + written);
+            }
+            String eTag = "\"" + HexFormat.of().formatHex(digest.digest()) + "\"";
+            Path eTagTmp = Files.createTempFile(tmpRoot, "etag-", ".tmp");
+            Files.writeString(eTagTmp, eTag);
+            move(eTagTmp, uploadDir.resolve(partName(partNumber) + ".etag"));
+            move(tmp, uploadDir.resolve(partName(partNumber)));
+            return eTag;
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    /**
+     * 파트를 번호 순서대로 합쳐 객체로 저장하고 파트 삭제
+     * <p>
+     * S3 멀티파트 객체처럼 전체 SHA-256은 기록하지 않는다.
+     *
+     * @param partETags 파트 번호 순서대로의 ETag 목록
+     * @throws IllegalArgumentException 파트가 없거나 ETag가 다를 때
+     */
+    public StoredObject completeUpload(String uploadId, List<String> partETags) throws IOException {
+        Path uploadDir = uploadPath(uploadId);
+        Properties info = readProperties(uploadDir.resolve(UPLOAD_INFO));
+        String bucket = info.getProperty("bucket");
+        String key = info.getProperty("key");
+
+        Path tmp = Files.createTempFile(tmpRoot, "multipart-", ".tmp");
+        try {
+            long size;
+            try (FileChannel out = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+                for (int partNumber = 1; partNumber <= partETags.size(); partNumber++) {
+                    Path part = uploadDir.resolve(partName(partNumber));
+                    Path eTag = uploadDir.resolve(partName(partNumber) + ".etag");
+                    if (!Files.isRegularFile(part)
+                            || !partETags.get(partNumber - 1).equals(Files.readString(eTag))) {
+                        throw new IllegalArgumentException("파트가 없거나 ETag가 다릅니다: partNumber=" + partNumber);
+                    }
+                    try (FileChannel in = FileChannel.open(part, StandardOpenOption.READ)) {
+                        transferAll(in, out);
+                    }
+                }
+                if (fsync) {
+                    out.force(true);
+                }
+                size = out.size();
+            }
+            StoredObject stored = new StoredObject(size, info.getProperty("contentType"), null);
+            commit(bucket, key, tmp, objectPath(bucket, key), stored);
+            deleteRecursively(uploadDir);
+            return stored;
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    /**
+     * 멀티파트 업로드 중단 (올라간 파트 삭제)
+     */
+    public void abortUpload(String uploadId) throws IOException {
+        deleteRecursively(uploadPath(uploadId));
+    }
+
+    /**
+     * 임시 파일 두 개(본문, 메타데이터)를 제자리로 원자적으로 이동
+     */
+    private void commit(String bucket, String key, Path tmp, Path target, StoredObject stored) throws IOException {
+        Properties meta = new Properties();
+        if (stored.contentType() != null) {
+            meta.setProperty("contentType", stored.contentType());
+        }
+        if (stored.checksumSha256() != null) {
+            meta.setProperty("sha256", stored.checksumSha256());
+        }
+        Path metaTmp = Files.createTempFile(tmpRoot, "meta-", ".tmp");
+        try {
+            writeProperties(meta, metaTmp);
+            ReentrantLock lock = lockFor(bucket, key);
+            lock.lock();
+            try {
+                move(metaTmp, metaPath(bucket, key));
+                move(tmp, target);
+            } finally {
+                lock.unlock();
+            }
+        } finally {
+            Files.deleteIfExists(metaTmp);
+        }
+    }
+
+    private void move(Path source, Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private long transferFrom(ReadableByteChannel source, FileChannel target) throws IOException {
+        long position = 0;
+        long transferred;
+        while ((transferred = target.transferFrom(source, position, Long.MAX_VALUE - position)) > 0) {
+            position += transferred;
+        }
+        return position;
+    }
+
+    private long transferAll(FileChannel source, WritableByteChannel target) throws IOException {
+        long size = source.size();
+        long position = 0;
+        while (position < size) {
+            position += source.transferTo(position, size - position, target);
+        }
+        return position;
+    }
+
+    private Path bucketPath(String bucket) {
+        if (bucket == null || !BUCKET_NAME.matcher(bucket).matches()) {
+            throw new IllegalArgumentException("잘못된 버킷 이름입니다: " + bucket);
+        }
+        return root.resolve(bucket);
+    }
+
+    private Path objectPath(String bucket, String key) {
+        return resolveKey(bucketPath(bucket), key);
+    }
+
+    private Path metaPath(String bucket, String key) {
+        return resolveKey(metaRoot.resolve(bucketPath(bucket).getFileName()), key);
+    }
+
+    /**
+     * 키를 버킷 디렉터리 안의 경로로 변환 (디렉터리 밖을 가리키는 키는 거절)
+     */
+    private Path resolveKey(Path base, String key) {
+        if (key == null || key.isEmpty() || key.startsWith("/") || key.endsWith("/")) {
+            throw new IllegalArgumentException("잘못된 키입니다: " + key);
+        }
+        Path path = base.resolve(key).normalize();
+        if (!path.startsWith(base) || path.equals(base)) {
+            throw new IllegalArgumentException("잘못된 키입니다: " + key);
+        }
+        return path;
+    }
+
+    private Path uploadPath(String uploadId) throws NoSuchFileException {
+        Path uploadDir;
+        try {
+            uploadDir = uploadsRoot.resolve(UUID.fromString(uploadId).toString());
+        } catch (IllegalArgumentException e) {
+            throw new NoSuchFileException("업로드가 없습니다: " + uploadId);
+        }
+        if (!Files.isDirectory(uploadDir)) {
+            throw new NoSuchFileException("업로드가 없습니다: " + uploadId);
+        }
+        return uploadDir;
+    }
+
+    private String partName(int partNumber) {
+        if (partNumber < 1 || partNumber > 10000) {
+            throw new IllegalArgumentException("파트 번호는 1~10000 사이여야 합니다: " + partNumber);
+        }
+        return String.format("part-%05d", partNumber);
+    }
+
+    private ReentrantLock lockFor(String bucket, String key) {
+        return locks[Math.floorMod((bucket + "/" + key).hashCode(), LOCK_STRIPES)];
+    }
+
+    private static String toKey(Path bucketRoot, Path path) {
+        return bucketRoot.relativize(path).toString().replace(path.getFileSystem().getSeparator(), "/");
+    }
+
+    private static Properties readProperties(Path path) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        } catch (NoSuchFileException e) {
+            // 메타데이터 없이 직접 넣은 파일
+        }
+        return properties;
+    }
+
+    private static void writeProperties(Properties properties, Path path) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            properties.store(writer, null);
+        }
+    }
+
+    private static void deleteRecursively(Path dir) throws IOException {
+        if (!Files.exists(dir)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(dir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                try {
+                    Files.deleteIfExists(path);
+                } catch (DirectoryNotEmptyException e) {
+                    log.debug("로컬 저장소 디렉터리 삭제 건너뜀: {}", path);
+                }
+            }
+        }
+    }
+
+    /**
+     * 목록 조회 결과 한 페이지
+     *
+     * @param nextStartAfter 다음 페이지 조회 시 넘길 키, 마지막 페이지면 null
+     */
+    public record Page(List<Entry> entries, String nextStartAfter) {
+    }
+
+    public record Entry(String key, long size, Instant lastModified) {
+    }
+}
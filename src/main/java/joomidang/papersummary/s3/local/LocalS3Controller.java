@@ -0,0 +1,96 @@
+package joomidang.papersummary.s3.local;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Optional;
+import joomidang.papersummary.s3.service.StoredObject;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.util.UriUtils;
+
+/**
+ * 로컬 객체 저장소의 업로드/다운로드 URL (서명 URL 대용, 로컬 전용)
+ * <p>
+ * PUT /local-s3/{bucket}/{key}는 {@link LocalS3Service#presignUpload}가 발급한 URL로 본문을 그대로 저장하고,
+ * GET은 본문을 FileChannel.transferTo로 응답에 바로 넘긴다.
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/local-s3")
+@Profile("local")
+@ConditionalOnProperty(prefix = "aws.s3.local", name = "enabled", havingValue = "true")
+public class LocalS3Controller {
+    static final String CHECKSUM_HEADER = "x-amz-checksum-sha256";
+    private static final String PATH_PREFIX = "/local-s3/";
+
+    private final LocalObjectStore store;
+
+    @PutMapping("/{bucket}/**")
+    public ResponseEntity<Void> put(@PathVariable String bucket,
+                                    @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false)
+                                    String contentType,
+                                    @RequestHeader(value = CHECKSUM_HEADER, required = false) String checksum,
+                                    HttpServletRequest request) throws IOException {
+        String key = extractKey(request, bucket);
+        String expectedSha256 = checksum == null ? null
+                : HexFormat.of().formatHex(Base64.getDecoder().decode(checksum));
+        try {
+            StoredObject stored = store.put(bucket, key, request.getInputStream(), request.getContentLengthLong(),
+                    contentType, expectedSha256);
+            log.debug("로컬 저장소 PUT 완료: bucket={}, key={}, 크기={}B", bucket, key, stored.contentLength());
+            return ResponseEntity.ok().build();
+        } catch (IllegalArgumentException e) {
+            log.warn("로컬 저장소 PUT 거부: bucket={}, key={}, 사유={}", bucket, key, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/{bucket}/**")
+    public void get(@PathVariable String bucket, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        String key = extractKey(request, bucket);
+        Optional<StoredObject> stored;
+        try {
+            stored = store.head(bucket, key);
+        } catch (IllegalArgumentException e) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST);
+            return;
+        }
+        if (stored.isEmpty()) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        if (stored.get().contentType() != null) {
+            response.setContentType(stored.get().contentType());
+        }
+        response.setContentLengthLong(stored.get().contentLength());
+        try {
+            store.transferTo(bucket, key, Channels.newChannel(response.getOutputStream()));
+        } catch (NoSuchFileException e) {
+            // HEAD와 본문 읽기 사이에 지워진 경우
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+        }
+    }
+
+    private String extractKey(HttpServletRequest request, String bucket) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return UriUtils.decode(path.substring(PATH_PREFIX.length() + bucket.length() + 1), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,43 @@
+package joomidang.papersummary.s3.local;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 로컬 디스크 객체 저장소 설정 (aws.s3.local.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "aws.s3.local")
+public class LocalS3Properties {
+
+    /**
+     * local 프로필에서 메모리 가짜 저장소 대신 디스크 저장소 사용
+     */
+    private boolean enabled = false;
+
+    /**
+     * 객체를 저장할 디렉터리 (버킷별 하위 디렉터리)
+     */
+    private String rootDir = "build/local-s3";
+
+    /**
+     * 서명 URL 대신 발급할 업로드/다운로드 URL의 기준 주소
+     */
+    private String baseUrl = "http://localhost:8080/local-s3";
+
+    private String uploadBucket = "paper-upload";
+
+    private String summaryBucket = "paper-summary";
+
+    /**
+     * 목록 조회 한 페이지 최대 객체 수 (ListObjectsV2와 같은 1000)
+     */
+    private int listPageSize = 1000;
+
+    /**
+     * 쓰기마다 fsync (끄면 OS 캐시에만 쓰고 원자적 이동만 보장)
+     */
+    private boolean fsync = false;
+}
@@ -0,0 +1,344 @@
+package joomidang.papersummary.s3.local;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import javax.imageio.ImageIO;
+import javax.imageio.stream.ImageInputStream;
+import joomidang.papersummary.paper.exception.FileUploadFailedException;
+import joomidang.papersummary.paper.exception.InvalidFileTypeException;
+import joomidang.papersummary.s3.service.ListedObject;
+import joomidang.papersummary.s3.service.MultipartUpload;
+import joomidang.papersummary.s3.service.ObjectPage;
+import joomidang.papersummary.s3.service.PresignedUpload;
+import joomidang.papersummary.s3.service.S3Service;
+import joomidang.papersummary.s3.service.StoredObject;
+import joomidang.papersummary.s3.service.UploadedFile;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.util.UriUtils;
+
+/**
+ * 로컬 디스크에 저장하는 S3Service 구현체 (local 프로필에서 aws.s3.local.enabled=true일 때)
+ * <p>
+ * 키와 파일 URL 형식(https://{bucket}.s3.amazonaws.com/{key})은 S3ServiceImpl과 같으므로 URL에서 키를 뽑는 코드(GC 등)가
+ * 그대로 동작한다. 서명 URL 대신 {@link LocalS3Controller}의 주소를 발급하며, 이 주소는 서명을 검증하지 않는다(로컬 전용).
+ * 네트워크 없이 한 대에서 업로드 → 파싱 → 요약 흐름을 부하 테스트할 수 있도록 저장은 {@link LocalObjectStore}에 맡긴다.
+ */
+@Slf4j
+@Service
+@Profile("local")
+@ConditionalOnProperty(prefix = "aws.s3.local", name = "enabled", havingValue = "true")
+public class LocalS3Service implements S3Service {
+    private final LocalObjectStore store;
+    private final String uploadBucket;
+    private final String summaryBucket;
+    private final String baseUrl;
+
+    public LocalS3Service(LocalObjectStore store, LocalS3Properties properties) {
+        this.store = store;
+        this.uploadBucket = properties.getUploadBucket();
+        this.summaryBucket = properties.getSummaryBucket();
+        this.baseUrl = properties.getBaseUrl();
+    }
+
+    @Override
+    public String uploadFile(MultipartFile file, String dirName) {
+        log.info("로컬 저장소 파일 업로드 시작: 파일명={}, 디렉토리={}", file.getOriginalFilename(), dirName);
+        String key = dirName + "/" + UUID.randomUUID() + "_" + file.getOriginalFilename();
+        try (InputStream inputStream = file.getInputStream()) {
+            store.put(uploadBucket, key, inputStream, file.getSize(), file.getContentType(), null);
+        } catch (IOException | IllegalArgumentException e) {
+            log.error("로컬 저장소 파일 업로드 실패: 파일명={}, 오류={}", file.getOriginalFilename(), e.getMessage(), e);
+            throw new FileUploadFailedException(e.getMessage());
+        }
+        String fileUrl = fileUrl(uploadBucket, key);
+        log.info("로컬 저장소 파일 업로드 완료: fileUrl={}", fileUrl);
+        return fileUrl;
+    }
+
+    /**
+     * 디스크 쓰기는 요청 스레드에서 끝내고(요청이 끝나면 임시 업로드 파일이 지워지므로) 완료된 future를 돌려준다
+     */
+    @Override
+    public CompletableFuture<UploadedFile> uploadFileAsync(MultipartFile file, String dirName) {
+        String key = dirName + "/" + UUID.randomUUID() + "_" + file.getOriginalFilename();
+        try (InputStream inputStream = file.getInputStream()) {
+            StoredObject stored = store.put(uploadBucket, key, inputStream, file.getSize(), file.getContentType(),
+                    null);
+            return CompletableFuture.completedFuture(new UploadedFile(fileUrl(uploadBucket, key),
+                    stored.checksumSha256()));
+        } catch (IOException | IllegalArgumentException e) {
+            log.error("로컬 저장소 파일 업로드 실패: 파일명={}, 오류={}", file.getOriginalFilename(), e.getMessage(), e);
+            return CompletableFuture.failedFuture(new FileUploadFailedException(e.getMessage()));
+        }
+    }
+
+    @Override
+    public PresignedUpload presignUpload(String dirName, String fileName, String contentType, long contentLength,
+                                         String sha256Hex, Duration ttl) {
+        String key = dirName + "/" + UUID.randomUUID() + "_" + fileName;
+        Map<String, String> headers = new LinkedHashMap<>();
+        headers.put("Content-Type", contentType);
+        if (sha256Hex != null) {
+            // S3와 같은 헤더로 보내면 LocalS3Controller가 본문을 검증한다
+            headers.put(LocalS3Controller.CHECKSUM_HEADER,
+                    Base64.getEncoder().encodeToString(HexFormat.of().parseHex(sha256Hex)));
+        }
+        String uploadUrl = baseUrl + "/" + uploadBucket + "/" + UriUtils.encodePath(key, StandardCharsets.UTF_8);
+        log.info("로컬 저장소 업로드 URL 발급: key={}", key);
+        return new PresignedUpload(fileUrl(uploadBucket, key), uploadUrl, headers, Instant.now().plus(ttl));
+    }
+
+    @Override
+    public MultipartUpload startMultipartUpload(String dirName, String fileName, String contentType) {
+        String key = dirName + "/" + UUID.randomUUID() + "_" + fileName;
+        try {
+            String uploadId = store.startUpload(uploadBucket, key, contentType);
+            log.info("로컬 저장소 멀티파트 업로드 시작: key={}, uploadId={}", key, uploadId);
+            return new MultipartUpload(fileUrl(uploadBucket, key), key, uploadId);
+        } catch (IOException e) {
+            log.error("로컬 저장소 멀티파트 업로드 시작 실패: key={}, 오류={}", key, e.getMessage(), e);
+            throw new FileUploadFailedException("멀티파트 업로드 시작 실패: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public String uploadPart(MultipartUpload upload, int partNumber, InputStream content, long contentLength) {
+        try {
+            return store.putPart(upload.uploadId(), partNumber, content, contentLength);
+        } catch (IOException | IllegalArgumentException e) {
+            log.error("로컬 저장소 파트 업로드 실패: key={}, partNumber={}, 오류={}", upload.key(), partNumber,
+                    e.getMessage());
+            throw new FileUploadFailedException("파트 업로드 실패: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void completeMultipartUpload(MultipartUpload upload, List<String> partETags) {
+        try {
+            store.completeUpload(upload.uploadId(), partETags);
+            log.info("로컬 저장소 멀티파트 업로드 완료: key={}, 파트 수={}", upload.key(), partETags.size());
+        } catch (IOException | IllegalArgumentException e) {
+            log.error("로컬 저장소 멀티파트 업로드 완료 실패: key={}, 오류={}", upload.key(), e.getMessage(), e);
+            throw new FileUploadFailedException("멀티파트 업로드 완료 실패: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void abortMultipartUpload(MultipartUpload upload) {
+        try {
+            store.abortUpload(upload.uploadId());
+        } catch (NoSuchFileException e) {
+            log.debug("이미 정리된 로컬 멀티파트 업로드: uploadId={}", upload.uploadId());
+        } catch (IOException e) {
+            log.warn("로컬 저장소 멀티파트 업로드 중단 실패: key={}, 오류={}", upload.key(), e.getMessage());
+        }
+    }
+
+    @Override
+    public Optional<StoredObject> findObject(String fileUrl) {
+        try {
+            return store.head(uploadBucket, toKey(fileUrl));
+        } catch (IOException e) {
+            log.error("로컬 저장소 메타데이터 조회 실패: fileUrl={}, 오류={}", fileUrl, e.getMessage(), e);
+            throw new FileUploadFailedException("파일 조회 실패: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void deleteFile(String fileUrl) {
+        log.info("로컬 저장소 파일 삭제 시작: fileUrl={}", fileUrl);
+        try {
+            store.delete(uploadBucket, toKey(fileUrl));
+        } catch (IOException | IllegalArgumentException e) {
+            log.error("로컬 저장소 파일 삭제 실패: fileUrl={}, 오류={}", fileUrl, e.getMessage(), e);
+            throw new FileUploadFailedException("파일 삭제 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public List<String> deleteFiles(List<String> fileUrls) {
+        List<String> failed = new ArrayList<>();
+        for (String fileUrl : fileUrls) {
+            if (!deleteQuietly(uploadBucket, toKey(fileUrl))) {
+                failed.add(fileUrl);
+            }
+        }
+        log.info("로컬 저장소 파일 일괄 삭제: 요청={}, 실패={}", fileUrls.size(), failed.size());
+        return failed;
+    }
+
+    @Override
+    public List<String> deleteMarkdownFiles(List<String> keys) {
+        List<String> failed = keys.stream()
+                .filter(key -> !deleteQuietly(summaryBucket, key))
+                .toList();
+        log.info("로컬 저장소 마크다운 일괄 삭제: 요청={}, 실패={}", keys.size(), failed.size());
+        return failed;
+    }
+
+    private boolean deleteQuietly(String bucket, String key) {
+        try {
+            store.delete(bucket, key);
+            return true;
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("로컬 저장소 객체 삭제 실패: bucket={}, key={}, 오류={}", bucket, key, e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public ObjectPage listFiles(String prefix, String continuationToken) {
+        return listObjects(uploadBucket, prefix, continuationToken);
+    }
+
+    @Override
+    public ObjectPage listMarkdownFiles(String prefix, String continuationToken) {
+        return listObjects(summaryBucket, prefix, continuationToken);
+    }
+
+    private ObjectPage listObjects(String bucket, String prefix, String continuationToken) {
+        try {
+            LocalObjectStore.Page page = store.list(bucket, prefix, continuationToken);
+            List<ListedObject> objects = page.entries().stream()
+                    .map(entry -> new ListedObject(entry.key(), fileUrl(bucket, entry.key()), entry.size(),
+                            entry.lastModified()))
+                    .toList();
+            return new ObjectPage(objects, page.nextStartAfter());
+        } catch (IOException e) {
+            log.error("로컬 저장소 목록 조회 실패: bucket={}, prefix={}, 오류={}", bucket, prefix, e.getMessage(), e);
+            throw new FileUploadFailedException("목록 조회 실패: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public InputStream openFile(String fileUrl) {
+        try {
+            return store.open(uploadBucket, toKey(fileUrl));
+        } catch (IOException | IllegalArgumentException e) {
+            log.error("로컬 저장소 파일 읽기 실패: fileUrl={}, 오류={}", fileUrl, e.getMessage(), e);
+            throw new FileUploadFailedException("파일 읽기 실패: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public String fileUrl(String key) {
+        return fileUrl(uploadBucket, key);
+    }
+
+    @Override
+    public String putFile(String key, byte[] content, String contentType) {
+        try {
+            store.put(uploadBucket, key, content, contentType);
+            return fileUrl(uploadBucket, key);
+        } catch (IOException | IllegalArgumentException e) {
+            log.error("로컬 저장소 파일 업로드 실패: key={}, 오류={}", key, e.getMessage(), e);
+            throw new FileUploadFailedException("파일 업로드 실패: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public String saveMarkdownToS3(String key, String markdownContent) {
+        try {
+            store.put(summaryBucket, key, markdownContent.getBytes(StandardCharsets.UTF_8), "text/markdown");
+            String fileUrl = fileUrl(summaryBucket, key);
+            log.info("로컬 저장소 마크다운 업로드 완료: fileUrl={}", fileUrl);
+            return fileUrl;
+        } catch (IOException | IllegalArgumentException e) {
+            log.error("로컬 저장소 마크다운 업로드 실패: key={}, 오류={}", key, e.getMessage(), e);
+            throw new FileUploadFailedException("마크다운 업로드 실패: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public String readMarkdown(String key) {
+        try (InputStream inputStream = store.open(summaryBucket, key)) {
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException | IllegalArgumentException e) {
+            log.error("로컬 저장소 마크다운 읽기 실패: key={}, 오류={}", key, e.getMessage(), e);
+            throw new FileUploadFailedException("마크다운 읽기 실패: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public String copyMarkdown(String sourceKey, String targetKey) {
+        try {
+            store.copy(summaryBucket, sourceKey, targetKey);
+            String fileUrl = fileUrl(summaryBucket, targetKey);
+            log.info("로컬 저장소 마크다운 복사 완료: fileUrl={}", fileUrl);
+            return fileUrl;
+        } catch (IOException | IllegalArgumentException e) {
+            log.error("로컬 저장소 마크다운 복사 실패: sourceKey={}, 오류={}", sourceKey, e.getMessage(), e);
+            throw new FileUploadFailedException("마크다운 복사 실패: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public String uploadProfileImage(MultipartFile file) {
+        log.info("프로필 이미지 업로드 시작: 파일명={}, 크기={}KB", file.getOriginalFilename(), file.getSize() / 1024);
+
+        if (file.isEmpty()) {
+            log.error("업로드 실패: 파일이 비어있습니다.");
+            throw new InvalidFileTypeException("업로드할 파일이 비어있습니다.");
+        }
+
+        String originalFilename = file.getOriginalFilename();
+        String fileExtension = "";
+        if (originalFilename != null && originalFilename.contains(".")) {
+            fileExtension = originalFilename.substring(originalFilename.lastIndexOf("."));
+        }
+        if (!isImageFile(fileExtension) || !isDecodableImage(file)) {
+            log.error("업로드 실패: 지원하지 않는 이미지입니다. 파일명={}", originalFilename);
+            throw new InvalidFileTypeException("지원하지 않는 이미지 형식입니다. JPG, JPEG, PNG, GIF 파일만 업로드 가능합니다.");
+        }
+
+        String key = "profiles/" + UUID.randomUUID() + "/original" + fileExtension.toLowerCase();
+        try (InputStream inputStream = file.getInputStream()) {
+            store.put(uploadBucket, key, inputStream, file.getSize(), file.getContentType(), null);
+        } catch (IOException | IllegalArgumentException e) {
+            log.error("프로필 이미지 업로드 실패: 파일명={}, 오류={}", originalFilename, e.getMessage(), e);
+            throw new FileUploadFailedException("프로필 이미지 업로드 실패: " + e.getMessage());
+        }
+        String fileUrl = fileUrl(uploadBucket, key);
+        log.info("프로필 이미지 원본 업로드 완료: fileUrl={}", fileUrl);
+        return fileUrl;
+    }
+
+    private boolean isImageFile(String fileExtension) {
+        String ext = fileExtension.toLowerCase();
+        return ext.equals(".jpg") || ext.equals(".jpeg") || ext.equals(".png") || ext.equals(".gif");
+    }
+
+    private boolean isDecodableImage(MultipartFile file) {
+        try (InputStream inputStream = file.getInputStream();
+             ImageInputStream imageInputStream = ImageIO.createImageInputStream(inputStream)) {
+            return imageInputStream != null && ImageIO.getImageReaders(imageInputStream).hasNext();
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static String fileUrl(String bucket, String key) {
+        return "https://" + bucket + ".s3.amazonaws.com/" + key;
+    }
+
+    private static String toKey(String fileUrl) {
+        return fileUrl.substring(fileUrl.indexOf(".com/") + 5);
+    }
+}
@@ -3,31 +3,44 @@ package joomidang.papersummary.s3.service;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
+import joomidang.papersummary.common.util.ContentHash;
 import joomidang.papersummary.paper.exception.FileUploadFailedException;
 import lombok.extern.slf4j.Slf4j;
-import net.coobird.thumbnailator.Thumbnails;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
-import software.amazon.awssdk.core.sync.RequestBody;
-import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 
 /**
  * S3 파일 업로드 서비스 가짜 구현체
  * <p>
  * 로컬 환경에서 테스트를 위해 사용되며, 실제 S3에 업로드하지 않고 메모리에 저장한다.
+ * aws.s3.local.enabled=true이면 디스크에 저장하는 LocalS3Service를 대신 사용한다.
  */
 @Slf4j
 @Service
 @Profile("local")
+@ConditionalOnProperty(prefix = "aws.s3.local", name = "enabled", havingValue = "false", matchIfMissing = true)
 public class FakeS3Service implements S3Service {
 
     private static final String FAKE_S3_BASE_URL = "https://paper-dev-test-magic-pdf-output.s3.bucket.com/";
     private final Map<String, String> fakeS3Storage = new HashMap<>();
+    // 서명 URL로 업로드했다고 가정한 객체 메타데이터 (fileUrl -> 메타데이터)
+    private final Map<String, StoredObject> fakeObjects = new HashMap<>();
+    // 진행 중인 멀티파트 업로드 파트 (uploadId -> 파트 번호 -> 내용)
+    private final Map<String, Map<Integer, byte[]>> fakeParts = new HashMap<>();
+    // 바이너리 그대로 저장한 파일 (fileUrl -> 내용, 프로필 이미지 원본/변형)
+    private final Map<String, byte[]> fakeFiles = new HashMap<>();
 
     @Override
     public String uploadFile(MultipartFile file, String dirName) {
@@ -43,6 +56,8 @@ public class FakeS3Service implements S3Service {
             fakeS3Storage.put(key, content);
             
             String fileUrl = FAKE_S3_BASE_URL + key;
+            fakeObjects.put(fileUrl, new StoredObject(file.getSize(), file.getContentType(),
+                    ContentHash.of(file.getBytes())));
             log.info("가짜 S3 파일 업로드 완료: fileUrl={}", fileUrl);
             return fileUrl;
         } catch (Exception e) {
@@ -51,6 +66,78 @@ public class FakeS3Service implements S3Service {
         }
     }
 
+    @Override
+    public CompletableFuture<UploadedFile> uploadFileAsync(MultipartFile file, String dirName) {
+        try {
+            String fileUrl = uploadFile(file, dirName);
+            return CompletableFuture.completedFuture(
+                    new UploadedFile(fileUrl, fakeObjects.get(fileUrl).checksumSha256()));
+        } catch (FileUploadFailedException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @Override
+    public PresignedUpload presignUpload(String dirName, String fileName, String contentType, long contentLength,
+                                         String sha256Hex, Duration ttl) {
+        String key = dirName + "/" + UUID.randomUUID() + "_" + fileName;
+        String fileUrl = FAKE_S3_BASE_URL + key;
+        // 클라이언트가 요청한 그대로 업로드했다고 가정
+        fakeObjects.put(fileUrl, new StoredObject(contentLength, contentType, sha256Hex));
+        log.info("가짜 S3 업로드 URL 발급: key={}", key);
+        return new PresignedUpload(fileUrl, fileUrl + "?X-Amz-Signature=fake", Map.of("Content-Type", contentType),
+                Instant.now().plus(ttl));
+    }
+
+    @Override
+    public MultipartUpload startMultipartUpload(String dirName, String fileName, String contentType) {
+        String key = dirName + "/" + UUID.randomUUID() + "_" + fileName;
+        String uploadId = UUID.randomUUID().toString();
+        fakeParts.put(uploadId, new HashMap<>());
+        log.info("가짜 S3 멀티파트 업로드 시작: key={}, uploadId={}", key, uploadId);
+        return new MultipartUpload(FAKE_S3_BASE_URL + key, key, uploadId);
+    }
+
+    @Override
+    public String uploadPart(MultipartUpload upload, int partNumber, InputStream content, long contentLength) {
+        try {
+            byte[] bytes = content.readNBytes((int) contentLength);
+            if (bytes.length != contentLength) {
+                throw new FileUploadFailedException("파트 업로드 실패: 본문이 " + contentLength + "바이트보다 짧습니다.");
+            }
+            fakeParts.computeIfAbsent(upload.uploadId(), id -> new HashMap<>()).put(partNumber, bytes);
+            return "\"" + ContentHash.of(bytes) + "\"";
+        } catch (IOException e) {
+            throw new FileUploadFailedException("파트 업로드 실패: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void completeMultipartUpload(MultipartUpload upload, List<String> partETags) {
+        Map<Integer, byte[]> parts = fakeParts.remove(upload.uploadId());
+        if (parts == null || parts.size() != partETags.size()) {
+            throw new FileUploadFailedException("멀티파트 업로드 완료 실패: 파트 수가 맞지 않습니다.");
+        }
+        ByteArrayOutputStream merged = new ByteArrayOutputStream();
+        for (int partNumber = 1; partNumber <= parts.size(); partNumber++) {
+            merged.writeBytes(parts.get(partNumber));
+        }
+        byte[] bytes = merged.toByteArray();
+        fakeS3Storage.put(upload.key(), new String(bytes));
+        fakeObjects.put(upload.fileUrl(), new StoredObject(bytes.length, "application/pdf", ContentHash.of(bytes)));
+        log.info("가짜 S3 멀티파트 업로드 완료: key={}", upload.key());
+    }
+
+    @Override
+    public void abortMultipartUpload(MultipartUpload upload) {
+        fakeParts.remove(upload.uploadId());
+    }
+
+    @Override
+    public Optional<StoredObject> findObject(String fileUrl) {
+        return Optional.ofNullable(fakeObjects.get(fileUrl));
+    }
+
     @Override
     public void deleteFile(String fileUrl) {
         log.info("가짜 S3 파일 삭제 시작: fileUrl={}", fileUrl);
@@ -58,6 +145,7 @@ public class FakeS3Service implements S3Service {
         try {
             String key = fileUrl.substring(fileUrl.indexOf(".com/") + 5);
             fakeS3Storage.remove(key);
+            fakeObjects.remove(fileUrl);
             log.info("가짜 S3 파일 삭제 완료: key={}", key);
         } catch (Exception e) {
             log.error("가짜 S3 파일 삭제 실패: fileUrl={}, 오류={}", fileUrl, e.getMessage(), e);
@@ -65,6 +153,47 @@ public class FakeS3Service implements S3Service {
         }
     }
 
+    @Override
+    public List<String> deleteFiles(List<String> fileUrls) {
+        log.info("가짜 S3 파일 일괄 삭제: {}개", fileUrls.size());
+        for (String fileUrl : fileUrls) {
+            fakeS3Storage.remove(fileUrl.substring(fileUrl.indexOf(".com/") + 5));
+            fakeObjects.remove(fileUrl);
+        }
+        return List.of();
+    }
+
+    @Override
+    public List<String> deleteMarkdownFiles(List<String> keys) {
+        log.info("가짜 S3 마크다운 일괄 삭제: {}개", keys.size());
+        keys.forEach(fakeS3Storage::remove);
+        return List.of();
+    }
+
+    @Override
+    public ObjectPage listFiles(String prefix, String continuationToken) {
+        return listFakeObjects(prefix);
+    }
+
+    @Override
+    public ObjectPage listMarkdownFiles(String prefix, String continuationToken) {
+        return listFakeObjects(prefix);
+    }
+
+    /**
+     * 가짜 스토리지는 버킷 구분과 수정 시각이 없으므로 한 페이지로, 수정 시각은 현재 시각으로 돌려준다
+     */
+    private ObjectPage listFakeObjects(String prefix) {
+        Instant now = Instant.now();
+        List<ListedObject> objects = fakeS3Storage.entrySet().stream()
+                .filter(entry -> entry.getKey().startsWith(prefix))
+                .sorted(Map.Entry.comparingByKey())
+                .map(entry -> new ListedObject(entry.getKey(), FAKE_S3_BASE_URL + entry.getKey(),
+                        entry.getValue().length(), now))
+                .toList();
+        return new ObjectPage(objects, null);
+    }
+
     @Override
     public String saveMarkdownToS3(String key, String markdownContent) {
         log.info("가짜 S3 마크다운 텍스트 업로드 시작: key={}", key);
@@ -82,6 +211,45 @@ public class FakeS3Service implements S3Service {
         }
     }
     
+    @Override
+    public InputStream openFile(String fileUrl) {
+        byte[] content = fakeFiles.get(fileUrl);
+        if (content == null) {
+            throw new FileUploadFailedException("가짜 S3에 파일이 없습니다: " + fileUrl);
+        }
+        return new ByteArrayInputStream(content);
+    }
+
+    @Override
+    public String fileUrl(String key) {
+        return FAKE_S3_BASE_URL + key;
+    }
+
+    @Override
+    public String putFile(String key, byte[] content, String contentType) {
+        String fileUrl = FAKE_S3_BASE_URL + key;
+        fakeFiles.put(fileUrl, content);
+        fakeObjects.put(fileUrl, new StoredObject(content.length, contentType, ContentHash.of(content)));
+        log.debug("가짜 S3 파일 업로드 완료: fileUrl={}, 크기={}B", fileUrl, content.length);
+        return fileUrl;
+    }
+
+    @Override
+    public String readMarkdown(String key) {
+        return getMarkdownContent(key);
+    }
+
+    @Override
+    public String copyMarkdown(String sourceKey, String targetKey) {
+        log.info("가짜 S3 마크다운 복사: sourceKey={}, targetKey={}", sourceKey, targetKey);
+        String content = fakeS3Storage.get(sourceKey);
+        if (content == null) {
+            throw new FileUploadFailedException("마크다운 복사 실패: 원본이 없습니다. key=" + sourceKey);
+        }
+        fakeS3Storage.put(targetKey, content);
+        return FAKE_S3_BASE_URL + targetKey;
+    }
+
     /**
      * 가짜 S3 스토리지에서 마크다운 내용 조회
      * <p>
@@ -118,26 +286,10 @@ public class FakeS3Service implements S3Service {
         }
 
         try {
-            // 이미지 처리 (Thumbnailator 사용)
-            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-            Thumbnails.of(file.getInputStream())
-                    .size(100, 100)  // 프로필 이미지 크기 조정
-                    .keepAspectRatio(true)  // 종횡비 유지
-                    .outputQuality(0.8)  // 이미지 품질 설정 (80%)
-                    .toOutputStream(outputStream);
-
-            byte[] resizedImageBytes = outputStream.toByteArray();
-            log.debug("이미지 처리 완료: 원본 크기={}KB, 처리 후 크기={}KB",
-                    file.getSize() / 1024, resizedImageBytes.length / 1024);
-
-            // 파일명 생성 (UUID 사용)
-            String filename = UUID.randomUUID() + fileExtension;
-            String key = "profiles/" + filename;  // 프로필 이미지는 profiles 디렉토리에 저장
-
-            // s3 업로드했다 치고
-
-            String fileUrl = "https://" + FAKE_S3_BASE_URL + ".s3.amazonaws.com/" + key;
-            log.info("프로필 이미지 업로드 완료: fileUrl={}", fileUrl);
+            // 원본만 저장 (크기별 변형은 ProfileImageProcessor가 비동기로 생성)
+            String key = "profiles/" + UUID.randomUUID() + "/original" + fileExtension.toLowerCase();
+            String fileUrl = putFile(key, file.getBytes(), file.getContentType());
+            log.info("프로필 이미지 원본 업로드 완료: fileUrl={}", fileUrl);
             return fileUrl;
         } catch (IOException e) {
             log.error("프로필 이미지 업로드 실패: 파일명={}, 오류={}", file.getOriginalFilename(), e.getMessage(), e);
@@ -0,0 +1,14 @@
+package joomidang.papersummary.s3.service;
+
+import java.time.Instant;
+
+/**
+ * 목록 조회(ListObjectsV2)로 얻은 객체 정보
+ *
+ * @param key          S3 키
+ * @param fileUrl      객체 URL (업로드 버킷 파일은 이 URL로 삭제)
+ * @param size         객체 크기 (byte)
+ * @param lastModified 마지막 수정 시각
+ */
+public record ListedObject(String key, String fileUrl, long size, Instant lastModified) {
+}
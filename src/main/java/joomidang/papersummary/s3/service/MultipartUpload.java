@@ -0,0 +1,11 @@
+package joomidang.papersummary.s3.service;
+
+/**
+ * 진행 중인 S3 멀티파트 업로드
+ *
+ * @param fileUrl  업로드가 끝나면 파일이 위치할 URL
+ * @param key      S3 키
+ * @param uploadId S3 멀티파트 업로드 ID
+ */
+public record MultipartUpload(String fileUrl, String key, String uploadId) {
+}
@@ -0,0 +1,16 @@
+package joomidang.papersummary.s3.service;
+
+import java.util.List;
+
+/**
+ * 객체 목록 한 페이지
+ *
+ * @param objects               키 순서로 정렬된 객체 목록 (최대 1000개)
+ * @param nextContinuationToken 다음 페이지 토큰, 마지막 페이지면 null
+ */
+public record ObjectPage(List<ListedObject> objects, String nextContinuationToken) {
+
+    public boolean hasNext() {
+        return nextContinuationToken != null;
+    }
+}
@@ -0,0 +1,20 @@
+package joomidang.papersummary.s3.service;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * 클라이언트가 S3에 직접 올릴 수 있도록 서명한 PUT 요청
+ *
+ * @param fileUrl   업로드 후 객체 URL (Paper.filePath)
+ * @param uploadUrl 서명된 PUT URL
+ * @param headers   PUT 요청에 그대로 보내야 하는 서명된 헤더 (Content-Type, checksum 등)
+ * @param expiresAt 서명 만료 시각
+ */
+public record PresignedUpload(
+        String fileUrl,
+        String uploadUrl,
+        Map<String, String> headers,
+        Instant expiresAt
+) {
+}
@@ -0,0 +1,107 @@
+package joomidang.papersummary.s3.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * S3 파일 일괄 삭제를 트랜잭션 커밋 이후 백그라운드에서 실행
+ * <p>
+ * 요청 트랜잭션 안에서 S3를 호출하지 않고, 커밋된 뒤에만 삭제한다 (롤백되면 파일은 그대로 남는다).
+ * 일부 키가 실패하면 실패한 키만 지수 백오프로 재시도하고, 한도를 넘으면 로그를 남기고 포기한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class S3FileDeleter {
+
+    private static final int MAX_ATTEMPTS = 5;
+    private static final long INITIAL_BACKOFF_MILLIS = 1_000;
+
+    private final S3Service s3Service;
+    private final MeterRegistry meterRegistry;
+
+    private final ScheduledExecutorService deleteExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "s3-delete");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 요약 버킷의 마크다운 삭제 예약
+     */
+    public void deleteMarkdownAfterCommit(List<String> keys) {
+        afterCommit(keys, s3Service::deleteMarkdownFiles);
+    }
+
+    /**
+     * 업로드 버킷의 파일 삭제 예약
+     */
+    public void deleteFilesAfterCommit(List<String> fileUrls) {
+        afterCommit(fileUrls, s3Service::deleteFiles);
+    }
+
+    private void afterCommit(List<String> targets, Function<List<String>, List<String>> deleter) {
+        List<String> keys = targets.stream()
+                .filter(Objects::nonNull)
+                .filter(key -> !key.isBlank())
+                .distinct()
+                .toList();
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            submit(keys, deleter, 1, 0);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                submit(keys, deleter, 1, 0);
+            }
+        });
+    }
+
+    private void submit(List<String> keys, Function<List<String>, List<String>> deleter, int attempt,
+                        long delayMillis) {
+        deleteExecutor.schedule(() -> {
+            List<String> failed;
+            try {
+                failed = deleter.apply(keys);
+            } catch (Exception e) {
+                log.warn("S3 일괄 삭제 오류: {}개, attempt={}, error={}", keys.size(), attempt, e.getMessage());
+                failed = keys;
+            }
+            if (failed.isEmpty()) {
+                meterRegistry.counter("s3.delete.deleted").increment(keys.size());
+                return;
+            }
+
+            meterRegistry.counter("s3.delete.deleted").increment(keys.size() - failed.size());
+            if (attempt >= MAX_ATTEMPTS) {
+                log.error("S3 삭제 재시도 한도 초과, 포기: {}개, keys={}", failed.size(), failed);
+                meterRegistry.counter("s3.delete.failed").increment(failed.size());
+                return;
+            }
+            long backoff = INITIAL_BACKOFF_MILLIS << (attempt - 1);
+            log.warn("S3 삭제 재시도 예약: {}개, attempt={}, {}ms 후", failed.size(), attempt + 1, backoff);
+            submit(failed, deleter, attempt + 1, backoff);
+        }, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        deleteExecutor.shutdown();
+    }
+}
@@ -1,5 +1,10 @@
 package joomidang.papersummary.s3.service;
 
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import org.springframework.web.multipart.MultipartFile;
 
 /**
@@ -12,6 +17,55 @@ public interface S3Service {
      */
     String uploadFile(MultipartFile file, String dirName);
 
+    /**
+     * 파일을 S3에 비동기로 업로드 (큰 파일은 멀티파트로 나누어 파트를 병렬 전송)
+     * <p>
+     * 파일 전체를 메모리에 올리지 않고 스트림에서 파트 단위로 읽어 보낸다. 읽으면서 SHA-256도 함께 계산한다.
+     *
+     * @return 업로드가 끝나면 파일 URL과 SHA-256으로 완료되는 future (실패 시 FileUploadFailedException)
+     */
+    CompletableFuture<UploadedFile> uploadFileAsync(MultipartFile file, String dirName);
+
+    /**
+     * 클라이언트가 직접 업로드할 수 있는 서명된 PUT URL 발급
+     *
+     * @param sha256Hex 파일 SHA-256 (hex), 지정하면 S3가 업로드 본문을 검증하고 HEAD로 돌려준다. 없으면 null
+     */
+    PresignedUpload presignUpload(String dirName, String fileName, String contentType, long contentLength,
+                                  String sha256Hex, Duration ttl);
+
+    /**
+     * 멀티파트 업로드 시작 (파트를 여러 요청에 나누어 올릴 때 사용)
+     */
+    MultipartUpload startMultipartUpload(String dirName, String fileName, String contentType);
+
+    /**
+     * 파트 업로드 (같은 파트 번호를 다시 올리면 덮어씀)
+     *
+     * @param partNumber 1부터 시작하는 파트 번호
+     * @return 파트 ETag
+     */
+    String uploadPart(MultipartUpload upload, int partNumber, InputStream content, long contentLength);
+
+    /**
+     * 멀티파트 업로드 완료
+     *
+     * @param partETags 파트 번호 순서대로의 ETag 목록
+     */
+    void completeMultipartUpload(MultipartUpload upload, List<String> partETags);
+
+    /**
+     * 멀티파트 업로드 중단 (올라간 파트 삭제)
+     */
+    void abortMultipartUpload(MultipartUpload upload);
+
+    /**
+     * 업로드된 객체의 메타데이터 조회 (HEAD)
+     *
+     * @return 객체가 없으면 empty
+     */
+    Optional<StoredObject> findObject(String fileUrl);
+
     /**
      * S3에서 파일 삭제
      *
@@ -19,17 +73,76 @@ public interface S3Service {
      */
     void deleteFile(String fileUrl);
 
+    /**
+     * 업로드 버킷의 파일 여러 개를 한 번에 삭제 (DeleteObjects, 요청당 최대 1000개)
+     *
+     * @param fileUrls 삭제할 파일 URL 목록
+     * @return 삭제하지 못한 파일 URL 목록 (모두 성공하면 빈 목록)
+     */
+    List<String> deleteFiles(List<String> fileUrls);
+
+    /**
+     * 요약 버킷의 마크다운 여러 개를 한 번에 삭제 (DeleteObjects, 요청당 최대 1000개)
+     *
+     * @param keys 삭제할 마크다운 키 목록
+     * @return 삭제하지 못한 키 목록 (모두 성공하면 빈 목록)
+     */
+    List<String> deleteMarkdownFiles(List<String> keys);
+
+    /**
+     * 업로드 버킷에서 prefix 아래 객체 목록을 한 페이지 조회 (ListObjectsV2)
+     *
+     * @param continuationToken 이전 페이지의 다음 토큰, 첫 페이지는 null
+     */
+    ObjectPage listFiles(String prefix, String continuationToken);
+
+    /**
+     * 요약 버킷에서 prefix 아래 마크다운 목록을 한 페이지 조회 (ListObjectsV2)
+     *
+     * @param continuationToken 이전 페이지의 다음 토큰, 첫 페이지는 null
+     */
+    ObjectPage listMarkdownFiles(String prefix, String continuationToken);
+
+    /**
+     * 업로드 버킷의 파일 내용 읽기 (호출한 쪽에서 스트림을 닫아야 함)
+     */
+    InputStream openFile(String fileUrl);
+
+    /**
+     * 업로드 버킷에 메모리에 있는 작은 파일(이미지 변형 등)을 키 그대로 업로드
+     *
+     * @return 업로드된 파일의 URL
+     */
+    String putFile(String key, byte[] content, String contentType);
+
+    /**
+     * 업로드 버킷 객체의 URL (업로드 없이 키로 계산)
+     */
+    String fileUrl(String key);
+
     /**
      * 마크다운을 S3에 업로드
      */
     String saveMarkdownToS3(String key, String markdownContent);
 
     /**
-     * 프로필 이미지를 처리하고 S3에 업로드
-     * Thumbnailator를 사용하여 이미지 크기를 조정하고 최적화
-     * 
+     * 요약 버킷에서 마크다운 내용 읽기
+     */
+    String readMarkdown(String key);
+
+    /**
+     * 요약 버킷 안에서 마크다운 복사 (내용을 다시 내려받지 않고 S3에서 복사)
+     *
+     * @return 복사된 마크다운의 URL
+     */
+    String copyMarkdown(String sourceKey, String targetKey);
+
+    /**
+     * 프로필 이미지 원본을 profiles/{id}/original.{ext}로 바로 업로드
+     * 크기별 변형은 ProfileImageProcessor가 비동기로 만든다
+     *
      * @param file 업로드할 프로필 이미지 파일
-     * @return 업로드된 이미지의 URL
+     * @return 업로드된 원본 이미지의 URL
      */
     String uploadProfileImage(MultipartFile file);
 }
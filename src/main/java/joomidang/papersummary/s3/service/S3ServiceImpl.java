@@ -1,23 +1,64 @@
 package joomidang.papersummary.s3.service;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
+import jakarta.annotation.PreDestroy;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.imageio.ImageIO;
+import javax.imageio.stream.ImageInputStream;
+import joomidang.papersummary.common.util.ContentHash;
 import joomidang.papersummary.paper.exception.FileUploadFailedException;
 import joomidang.papersummary.paper.exception.InvalidFileTypeException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import net.coobird.thumbnailator.Thumbnails;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.ChecksumMode;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.Delete;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Error;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
 /**
  * S3 파일 업로드 서비스 구현체
@@ -28,7 +69,22 @@ import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 @RequiredArgsConstructor
 public class S3ServiceImpl implements S3Service {
 
+    // 비동기 업로드 시 요청 스트림을 읽어 파트로 넘기는 스레드 수 (동시 업로드 수)
+    private static final int UPLOAD_STREAM_THREADS = 16;
+    // DeleteObjects 한 번에 보낼 수 있는 최대 키 수
+    private static final int DELETE_BATCH_SIZE = 1000;
+
     private final S3Client s3Client;
+    private final S3AsyncClient s3AsyncClient;
+    private final S3Presigner s3Presigner;
+
+    private final AtomicInteger uploadThreadSequence = new AtomicInteger();
+    private final ExecutorService uploadStreamExecutor = Executors.newFixedThreadPool(UPLOAD_STREAM_THREADS,
+            runnable -> {
+                Thread thread = new Thread(runnable, "s3-upload-stream-" + uploadThreadSequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
 
     @Value("${aws.s3.bucket-name}")
     private String uploadBucketName;
@@ -67,6 +123,176 @@ public class S3ServiceImpl implements S3Service {
         }
     }
 
+    @Override
+    public CompletableFuture<UploadedFile> uploadFileAsync(MultipartFile file, String dirName) {
+        log.info("S3 비동기 파일 업로드 시작: 파일명={}, 크기={}KB, 디렉토리={}",
+                file.getOriginalFilename(), file.getSize() / 1024, dirName);
+
+        String key = dirName + "/" + UUID.randomUUID() + "_" + file.getOriginalFilename();
+        PutObjectRequest request = PutObjectRequest.builder()
+                .bucket(uploadBucketName)
+                .key(key)
+                .contentType(file.getContentType())
+                .contentLength(file.getSize())
+                .build();
+
+        MessageDigest digest = ContentHash.newDigest();
+        AsyncRequestBody body;
+        try {
+            // 멀티파트 클라이언트가 파트 크기만큼씩 스트림을 읽어 병렬 전송 (파일 전체를 버퍼링하지 않음)
+            // 스트림은 한 스레드에서 순서대로 읽히므로 읽는 김에 SHA-256을 계산 (파일을 다시 읽지 않음)
+            body = AsyncRequestBody.fromInputStream(new DigestInputStream(file.getInputStream(), digest),
+                    file.getSize(), uploadStreamExecutor);
+        } catch (IOException e) {
+            log.error("S3 비동기 파일 업로드 실패: 파일명={}, 오류={}", file.getOriginalFilename(), e.getMessage(), e);
+            return CompletableFuture.failedFuture(new FileUploadFailedException(e.getMessage()));
+        }
+
+        long startedAt = System.currentTimeMillis();
+        return s3AsyncClient.putObject(request, body)
+                .handle((response, throwable) -> {
+                    if (throwable != null) {
+                        log.error("S3 비동기 파일 업로드 실패: key={}, 오류={}", key, throwable.getMessage(), throwable);
+                        throw new FileUploadFailedException(throwable.getMessage());
+                    }
+                    String fileUrl = "https://" + uploadBucketName + ".s3.amazonaws.com/" + key;
+                    log.info("S3 비동기 파일 업로드 완료: fileUrl={}, 소요={}ms", fileUrl,
+                            System.currentTimeMillis() - startedAt);
+                    return new UploadedFile(fileUrl, ContentHash.hex(digest));
+                });
+    }
+
+    @Override
+    public PresignedUpload presignUpload(String dirName, String fileName, String contentType, long contentLength,
+                                         String sha256Hex, Duration ttl) {
+        String key = dirName + "/" + UUID.randomUUID() + "_" + fileName;
+        PutObjectRequest.Builder request = PutObjectRequest.builder()
+                .bucket(uploadBucketName)
+                .key(key)
+                .contentType(contentType)
+                .contentLength(contentLength);
+        if (sha256Hex != null) {
+            // 서명에 포함되므로 클라이언트는 같은 값을 보내야 하고, S3는 본문이 이 값과 다르면 업로드를 거절한다
+            request.checksumSHA256(Base64.getEncoder().encodeToString(HexFormat.of().parseHex(sha256Hex)));
+        }
+
+        PresignedPutObjectRequest presigned = s3Presigner.presignPutObject(PutObjectPresignRequest.builder()
+                .signatureDuration(ttl)
+                .putObjectRequest(request.build())
+                .build());
+
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (Map.Entry<String, List<String>> header : presigned.signedHeaders().entrySet()) {
+            if (!"host".equalsIgnoreCase(header.getKey())) {
+                headers.put(header.getKey(), String.join(",", header.getValue()));
+            }
+        }
+
+        String fileUrl = "https://" + uploadBucketName + ".s3.amazonaws.com/" + key;
+        log.info("S3 업로드 URL 발급: key={}, 만료={}", key, presigned.expiration());
+        return new PresignedUpload(fileUrl, presigned.url().toString(), headers, presigned.expiration());
+    }
+
+    @Override
+    public MultipartUpload startMultipartUpload(String dirName, String fileName, String contentType) {
+        String key = dirName + "/" + UUID.randomUUID() + "_" + fileName;
+        try {
+            String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                    .bucket(uploadBucketName)
+                    .key(key)
+                    .contentType(contentType)
+                    .build()).uploadId();
+            log.info("S3 멀티파트 업로드 시작: key={}, uploadId={}", key, uploadId);
+            return new MultipartUpload("https://" + uploadBucketName + ".s3.amazonaws.com/" + key, key, uploadId);
+        } catch (S3Exception e) {
+            log.error("S3 멀티파트 업로드 시작 실패: key={}, 오류={}", key, e.getMessage(), e);
+            throw new FileUploadFailedException(e.getMessage());
+        }
+    }
+
+    @Override
+    public String uploadPart(MultipartUpload upload, int partNumber, InputStream content, long contentLength) {
+        try {
+            String eTag = s3Client.uploadPart(UploadPartRequest.builder()
+                            .bucket(uploadBucketName)
+                            .key(upload.key())
+                            .uploadId(upload.uploadId())
+                            .partNumber(partNumber)
+                            .contentLength(contentLength)
+                            .build(),
+                    RequestBody.fromInputStream(content, contentLength)).eTag();
+            log.debug("S3 파트 업로드 완료: key={}, partNumber={}, 크기={}", upload.key(), partNumber, contentLength);
+            return eTag;
+        } catch (Exception e) {
+            // 클라이언트 연결이 끊겨 본문이 덜 들어온 경우도 여기서 실패 (해당 파트만 다시 올리면 됨)
+            log.warn("S3 파트 업로드 실패: key={}, partNumber={}, 오류={}", upload.key(), partNumber, e.getMessage());
+            throw new FileUploadFailedException("파트 업로드 실패: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void completeMultipartUpload(MultipartUpload upload, List<String> partETags) {
+        List<CompletedPart> parts = new ArrayList<>(partETags.size());
+        for (int i = 0; i < partETags.size(); i++) {
+            parts.add(CompletedPart.builder().partNumber(i + 1).eTag(partETags.get(i)).build());
+        }
+        try {
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(uploadBucketName)
+                    .key(upload.key())
+                    .uploadId(upload.uploadId())
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                    .build());
+            log.info("S3 멀티파트 업로드 완료: key={}, 파트 수={}", upload.key(), parts.size());
+        } catch (S3Exception e) {
+            log.error("S3 멀티파트 업로드 완료 실패: key={}, 오류={}", upload.key(), e.getMessage(), e);
+            throw new FileUploadFailedException(e.getMessage());
+        }
+    }
+
+    @Override
+    public void abortMultipartUpload(MultipartUpload upload) {
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(uploadBucketName)
+                    .key(upload.key())
+                    .uploadId(upload.uploadId())
+                    .build());
+            log.info("S3 멀티파트 업로드 중단: key={}", upload.key());
+        } catch (S3Exception e) {
+            // 남은 파트는 버킷 수명 주기 규칙(미완료 멀티파트 정리)으로 지워짐
+            log.warn("S3 멀티파트 업로드 중단 실패: key={}, 오류={}", upload.key(), e.getMessage());
+        }
+    }
+
+    @Override
+    public Optional<StoredObject> findObject(String fileUrl) {
+        String key = fileUrl.substring(fileUrl.indexOf(".com/") + 5);
+        try {
+            HeadObjectResponse response = s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(uploadBucketName)
+                    .key(key)
+                    .checksumMode(ChecksumMode.ENABLED)
+                    .build());
+            String checksum = response.checksumSHA256() == null ? null
+                    : HexFormat.of().formatHex(Base64.getDecoder().decode(response.checksumSHA256()));
+            return Optional.of(new StoredObject(response.contentLength(), response.contentType(), checksum));
+        } catch (NoSuchKeyException e) {
+            return Optional.empty();
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return Optional.empty();
+            }
+            log.error("S3 객체 조회 실패: key={}, 오류={}", key, e.getMessage(), e);
+            throw new FileUploadFailedException("업로드 파일 확인 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        uploadStreamExecutor.shutdown();
+    }
+
     @Override
     public void deleteFile(String fileUrl) {
         log.info("S3 파일 삭제 시작: fileUrl={}", fileUrl);
@@ -91,6 +317,117 @@ public class S3ServiceImpl implements S3Service {
         }
     }
 
+    @Override
+    public List<String> deleteFiles(List<String> fileUrls) {
+        Map<String, String> urlsByKey = new LinkedHashMap<>();
+        for (String fileUrl : fileUrls) {
+            urlsByKey.put(fileUrl.substring(fileUrl.indexOf(".com/") + 5), fileUrl);
+        }
+        return deleteObjects(uploadBucketName, List.copyOf(urlsByKey.keySet())).stream()
+                .map(urlsByKey::get)
+                .toList();
+    }
+
+    @Override
+    public List<String> deleteMarkdownFiles(List<String> keys) {
+        return deleteObjects(summaryBucketName, keys);
+    }
+
+    /**
+     * DeleteObjects로 최대 1000개씩 나누어 삭제 (quiet 모드라 응답에는 실패한 키만 온다)
+     * <p>
+     * 요청 자체가 실패하면 그 묶음의 키를 모두 실패로 돌려준다. 이미 없는 키는 S3가 성공으로 처리한다.
+     *
+     * @return 삭제하지 못한 키 목록
+     */
+    private List<String> deleteObjects(String bucket, List<String> keys) {
+        List<String> failedKeys = new ArrayList<>();
+        for (int from = 0; from < keys.size(); from += DELETE_BATCH_SIZE) {
+            List<String> batch = keys.subList(from, Math.min(from + DELETE_BATCH_SIZE, keys.size()));
+            try {
+                DeleteObjectsResponse response = s3Client.deleteObjects(DeleteObjectsRequest.builder()
+                        .bucket(bucket)
+                        .delete(Delete.builder()
+                                .objects(batch.stream().map(key -> ObjectIdentifier.builder().key(key).build())
+                                        .toList())
+                                .quiet(true)
+                                .build())
+                        .build());
+                for (S3Error error : response.errors()) {
+                    log.warn("S3 파일 삭제 실패: bucket={}, key={}, code={}, message={}",
+                            bucket, error.key(), error.code(), error.message());
+                    failedKeys.add(error.key());
+                }
+                log.info("S3 일괄 삭제 완료: bucket={}, 요청={}개, 실패={}개",
+                        bucket, batch.size(), response.errors().size());
+            } catch (Exception e) {
+                log.error("S3 일괄 삭제 요청 실패: bucket={}, {}개, 오류={}", bucket, batch.size(), e.getMessage(), e);
+                failedKeys.addAll(batch);
+            }
+        }
+        return failedKeys;
+    }
+
+    @Override
+    public ObjectPage listFiles(String prefix, String continuationToken) {
+        return listObjects(uploadBucketName, prefix, continuationToken);
+    }
+
+    @Override
+    public ObjectPage listMarkdownFiles(String prefix, String continuationToken) {
+        return listObjects(summaryBucketName, prefix, continuationToken);
+    }
+
+    private ObjectPage listObjects(String bucket, String prefix, String continuationToken) {
+        ListObjectsV2Response response = s3Client.listObjectsV2(ListObjectsV2Request.builder()
+                .bucket(bucket)
+                .prefix(prefix)
+                .continuationToken(continuationToken)
+                .build());
+        List<ListedObject> objects = response.contents().stream()
+                .map(object -> new ListedObject(object.key(), "https://" + bucket + ".s3.amazonaws.com/" + object.key(),
+                        object.size(), object.lastModified()))
+                .toList();
+        String nextToken = Boolean.TRUE.equals(response.isTruncated()) ? response.nextContinuationToken() : null;
+        return new ObjectPage(objects, nextToken);
+    }
+
+    @Override
+    public InputStream openFile(String fileUrl) {
+        String key = fileUrl.substring(fileUrl.indexOf(".com/") + 5);
+        try {
+            return s3Client.getObject(GetObjectRequest.builder()
+                    .bucket(uploadBucketName)
+                    .key(key)
+                    .build());
+        } catch (Exception e) {
+            log.error("S3 파일 읽기 실패: fileUrl={}, 오류={}", fileUrl, e.getMessage(), e);
+            throw new FileUploadFailedException("파일 읽기 실패: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public String fileUrl(String key) {
+        return "https://" + uploadBucketName + ".s3.amazonaws.com/" + key;
+    }
+
+    @Override
+    public String putFile(String key, byte[] content, String contentType) {
+        try {
+            s3Client.putObject(PutObjectRequest.builder()
+                    .bucket(uploadBucketName)
+                    .key(key)
+                    .contentType(contentType)
+                    .build(), RequestBody.fromBytes(content));
+            String fileUrl = "https://" + uploadBucketName + ".s3.amazonaws.com/" + key;
+            log.debug("S3 파일 업로드 완료: fileUrl={}, 크기={}B", fileUrl, content.length);
+            return fileUrl;
+        } catch (Exception e) {
+            log.error("S3 파일 업로드 실패: key={}, 오류={}", key, e.getMessage(), e);
+            throw new FileUploadFailedException("파일 업로드 실패: " + e.getMessage());
+        }
+    }
+
     @Override
     public String saveMarkdownToS3(String key, String markdownContent) {
         log.info("S3 마크다운 텍스트 업로드 시작: ");
@@ -112,6 +449,40 @@ public class S3ServiceImpl implements S3Service {
         }
     }
 
+    @Override
+    public String readMarkdown(String key) {
+        try {
+            return s3Client.getObjectAsBytes(GetObjectRequest.builder()
+                            .bucket(summaryBucketName)
+                            .key(key)
+                            .build())
+                    .asUtf8String();
+        } catch (Exception e) {
+            log.error("S3 마크다운 읽기 실패: key={}, 오류={}", key, e.getMessage(), e);
+            throw new FileUploadFailedException("마크다운 읽기 실패: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public String copyMarkdown(String sourceKey, String targetKey) {
+        log.info("S3 마크다운 복사 시작: sourceKey={}, targetKey={}", sourceKey, targetKey);
+
+        try {
+            s3Client.copyObject(CopyObjectRequest.builder()
+                    .sourceBucket(summaryBucketName)
+                    .sourceKey(sourceKey)
+                    .destinationBucket(summaryBucketName)
+                    .destinationKey(targetKey)
+                    .build());
+            String fileUrl = "https://" + summaryBucketName + ".s3.amazonaws.com/" + targetKey;
+            log.info("S3 마크다운 복사 완료: fileUrl={}", fileUrl);
+            return fileUrl;
+        } catch (Exception e) {
+            log.error("S3 마크다운 복사 실패: sourceKey={}, 오류={}", sourceKey, e.getMessage(), e);
+            throw new FileUploadFailedException("마크다운 복사 실패: " + e.getMessage());
+        }
+    }
+
     @Override
     public String uploadProfileImage(MultipartFile file) {
         log.info("프로필 이미지 업로드 시작: 파일명={}, 크기={}KB", file.getOriginalFilename(), file.getSize() / 1024);
@@ -134,35 +505,24 @@ public class S3ServiceImpl implements S3Service {
             throw new InvalidFileTypeException("지원하지 않는 이미지 형식입니다. JPG, JPEG, PNG, GIF 파일만 업로드 가능합니다.");
         }
 
+        // 원본만 바로 저장하고 크기별 변형은 ProfileImageProcessor가 비동기로 생성 (요청 스레드에서 리사이징하지 않음)
+        if (!isDecodableImage(file)) {
+            log.error("업로드 실패: 이미지로 읽을 수 없는 파일입니다. 파일명={}", originalFilename);
+            throw new InvalidFileTypeException("이미지로 읽을 수 없는 파일입니다.");
+        }
+
         try {
-            // 이미지 처리 (Thumbnailator 사용)
-            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-            Thumbnails.of(file.getInputStream())
-                    .size(300, 300)  // 프로필 이미지 크기 조정
-                    .keepAspectRatio(true)  // 종횡비 유지
-                    .outputQuality(0.8)  // 이미지 품질 설정 (80%)
-                    .toOutputStream(outputStream);
-
-            byte[] resizedImageBytes = outputStream.toByteArray();
-            log.debug("이미지 처리 완료: 원본 크기={}KB, 처리 후 크기={}KB", 
-                    file.getSize() / 1024, resizedImageBytes.length / 1024);
-
-            // 파일명 생성 (UUID 사용)
-            String filename = UUID.randomUUID() + fileExtension;
-            String key = "profiles/" + filename;  // 프로필 이미지는 profiles 디렉토리에 저장
-
-            // S3에 업로드
+            String key = "profiles/" + UUID.randomUUID() + "/original" + fileExtension.toLowerCase();
             PutObjectRequest request = PutObjectRequest.builder()
                     .bucket(uploadBucketName)
                     .key(key)
                     .contentType(file.getContentType())
                     .build();
 
-            s3Client.putObject(request, RequestBody.fromInputStream(
-                    new ByteArrayInputStream(resizedImageBytes), resizedImageBytes.length));
+            s3Client.putObject(request, RequestBody.fromInputStream(file.getInputStream(), file.getSize()));
 
             String fileUrl = "https://" + uploadBucketName + ".s3.amazonaws.com/" + key;
-            log.info("프로필 이미지 업로드 완료: fileUrl={}", fileUrl);
+            log.info("프로필 이미지 원본 업로드 완료: fileUrl={}", fileUrl);
             return fileUrl;
         } catch (IOException e) {
             log.error("프로필 이미지 업로드 실패: 파일명={}, 오류={}", file.getOriginalFilename(), e.getMessage(), e);
@@ -170,6 +530,18 @@ public class S3ServiceImpl implements S3Service {
         }
     }
 
+    /**
+     * 헤더만 읽어 ImageIO가 읽을 수 있는 이미지인지 확인 (전체를 디코딩하지 않음)
+     */
+    private boolean isDecodableImage(MultipartFile file) {
+        try (InputStream inputStream = file.getInputStream();
+             ImageInputStream imageInputStream = ImageIO.createImageInputStream(inputStream)) {
+            return imageInputStream != null && ImageIO.getImageReaders(imageInputStream).hasNext();
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
     /**
      * 지원하는 이미지 파일 형식인지 확인
      */
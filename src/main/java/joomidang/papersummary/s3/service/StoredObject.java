@@ -0,0 +1,15 @@
+package joomidang.papersummary.s3.service;
+
+/**
+ * S3에 저장된 객체의 메타데이터 (HEAD 결과)
+ *
+ * @param contentLength  객체 크기 (byte)
+ * @param contentType    Content-Type
+ * @param checksumSha256 업로드 시 S3가 검증한 SHA-256 (hex, 체크섬 없이 올린 객체는 null)
+ */
+public record StoredObject(
+        long contentLength,
+        String contentType,
+        String checksumSha256
+) {
+}
@@ -0,0 +1,10 @@
+package joomidang.papersummary.s3.service;
+
+/**
+ * 업로드 완료된 파일
+ *
+ * @param fileUrl 파일 URL
+ * @param sha256  업로드하면서 계산한 파일 SHA-256 (hex)
+ */
+public record UploadedFile(String fileUrl, String sha256) {
+}
@@ -32,7 +32,9 @@ public class FakeSummaryConsumer {
 
     private static final String FAKE_S3_KEY_PREFIX = "summaries/fake/";
 
-    @RabbitListener(queues = RabbitMQConfig.SUMMARY_QUEUE)
+    @RabbitListener(id = RabbitMQConfig.SUMMARY_LISTENER_ID,
+            queues = RabbitMQConfig.SUMMARY_QUEUE,
+            containerFactory = RabbitMQConfig.SUMMARY_CONTAINER_FACTORY)
     public void consume(PaperEventEnvelop<SummaryRequestedPayload> event) {
         SummaryRequestedPayload payload = event.payload();
         log.info("SUMMARY_REQUESTED 이벤트 수신 → paperId={}, markdownUrl={}", payload.paperId(), payload.markdownUrl());
@@ -1,7 +1,7 @@
 package joomidang.papersummary.summary.consumer;
 
-import java.util.Map;
 import joomidang.papersummary.common.config.rabbitmq.RabbitMQConfig;
+import joomidang.papersummary.common.config.rabbitmq.StatsEvent;
 import joomidang.papersummary.summary.service.SummaryStatsService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,20 +15,22 @@ import org.springframework.transaction.annotation.Transactional;
 public class SummaryStatsConsumer {
     private final SummaryStatsService summaryStatsService;
 
-    @RabbitListener(queues = RabbitMQConfig.STATS_QUEUE)
+    @RabbitListener(id = RabbitMQConfig.STATS_LISTENER_ID,
+            queues = RabbitMQConfig.STATS_QUEUE,
+            containerFactory = RabbitMQConfig.STATS_CONTAINER_FACTORY)
     @Transactional
-    @SuppressWarnings("unchecked")
-    public void consume(Map<String, Object> payload) {
-        Long summaryId = ((Number) payload.get("summaryId")).longValue();
-        String type = (String) payload.get("type");
+    public void consume(StatsEvent event) {
+        if (event.summaryId() == null || event.type() == null) {
+            throw new IllegalArgumentException("Invalid stats event: " + event);
+        }
 
-        switch (type) {
-            case "VIEW" -> summaryStatsService.increaseViewCount(summaryId);
-            case "LIKE" -> summaryStatsService.increaseLikeCount(summaryId);
-            case "DISLIKE" -> summaryStatsService.decreaseLikeCount(summaryId);
-            case "COMMENT" -> summaryStatsService.increaseCommentCount(summaryId);
-            case "UNCOMMENT" -> summaryStatsService.decreaseCommentCount(summaryId);
-            default -> throw new IllegalArgumentException("Unsupported stats type: " + type);
+        Long summaryId = event.summaryId();
+        switch (event.type()) {
+            case VIEW -> summaryStatsService.increaseViewCount(summaryId);
+            case LIKE -> summaryStatsService.increaseLikeCount(summaryId);
+            case DISLIKE -> summaryStatsService.decreaseLikeCount(summaryId);
+            case COMMENT -> summaryStatsService.increaseCommentCount(summaryId);
+            case UNCOMMENT -> summaryStatsService.decreaseCommentCount(summaryId);
         }
     }
 }
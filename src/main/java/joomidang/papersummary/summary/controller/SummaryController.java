@@ -190,6 +190,30 @@ public class SummaryController {
         return ResponseEntity.ok(ApiResponse.successWithData(SummarySuccessCode.SUMMARY_UPDATED, response));
     }
 
+    /**
+     * 편집 화면을 떠날 때 모아 둔 임시 저장을 바로 반영
+     */
+    @Operation(
+            summary = "요약본 임시 저장 반영",
+            description = "자동 저장은 일정 시간마다 한 번 반영됩니다. 편집 화면을 떠날 때 호출하면 기다리지 않고 바로 반영합니다."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "임시 저장 반영 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "요약본을 찾을 수 없음"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "접근 권한 없음")
+    })
+    @PostMapping("/{summaryId}/draft/flush")
+    public ResponseEntity<ApiResponse<Void>> flushSummaryDraft(
+            @Parameter(hidden = true)
+            @Authenticated String providerUid,
+
+            @Parameter(description = "반영할 요약본 ID", required = true, example = "1")
+            @PathVariable Long summaryId) {
+        log.debug("요약본 임시 저장 반영 요청: summaryId={}", summaryId);
+        summaryService.flushSummaryDraft(providerUid, summaryId);
+        return ResponseEntity.ok(ApiResponse.success(SummarySuccessCode.SUMMARY_UPDATED));
+    }
+
     /**
      * 요약본 업로드 변경된 파트만 업데이트, s3에 변경된 md 파일 올리기
      */
@@ -1,17 +1,19 @@
 package joomidang.papersummary.summary.controller.response;
 
 import joomidang.papersummary.member.entity.Member;
+import joomidang.papersummary.member.service.ProfileImageSize;
+import joomidang.papersummary.member.service.ProfileImageUrlResolver;
 import lombok.Builder;
 
 @Builder
 public record AuthorResponse(Long id,
                             String username,
                             String profileImageUrl) {
-    public static AuthorResponse from(Member member) {
+    public static AuthorResponse from(Member member, ProfileImageUrlResolver profileImageUrlResolver) {
         return AuthorResponse.builder()
                 .id(member.getId())
                 .username(member.getName())
-                .profileImageUrl(member.getProfileImage())
+                .profileImageUrl(profileImageUrlResolver.resolve(member.getProfileImage(), ProfileImageSize.MEDIUM))
                 .build();
     }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package joomidang.papersummary.summary.controller.response;
 
 import java.util.List;
+import joomidang.papersummary.member.service.ProfileImageUrlResolver;
 import joomidang.papersummary.summary.entity.SummaryLike;
 import org.springframework.data.domain.Page;
 
@@ -13,9 +14,10 @@ public record LikedSummaryListResponse(
 
     public record ContentWrapper(List<LikedSummaryResponse> content) {}
 
-    public static LikedSummaryListResponse from(Page<SummaryLike> summaryLikePage) {
+    public static LikedSummaryListResponse from(Page<SummaryLike> summaryLikePage,
+                                                ProfileImageUrlResolver profileImageUrlResolver) {
         List<LikedSummaryResponse> summaries = summaryLikePage.getContent().stream()
-                .map(LikedSummaryResponse::from)
+                .map(summaryLike -> LikedSummaryResponse.from(summaryLike, profileImageUrlResolver))
                 .toList();
 
         return new LikedSummaryListResponse(
@@ -3,6 +3,7 @@ package joomidang.papersummary.summary.controller.response;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Arrays;
+import joomidang.papersummary.member.service.ProfileImageUrlResolver;
 import joomidang.papersummary.summary.entity.Summary;
 import joomidang.papersummary.summary.entity.SummaryLike;
 
@@ -13,10 +14,11 @@ public record LikedSummaryResponse(Long summaryId,
                                    LocalDateTime updatedAt,
                                    Integer likes,
                                    List<String> tags) {
-    public static LikedSummaryResponse from(SummaryLike summaryLike) {
+    public static LikedSummaryResponse from(SummaryLike summaryLike,
+                                            ProfileImageUrlResolver profileImageUrlResolver) {
         Summary summary = summaryLike.getSummary();
 
-        AuthorResponse author = AuthorResponse.from(summary.getMember());
+        AuthorResponse author = AuthorResponse.from(summary.getMember(), profileImageUrlResolver);
 
 //      태그 구현 하기!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!
         List<String> tags = Arrays.asList("태그 구현 아직 안댐;;");
@@ -20,6 +20,8 @@ public class SummaryEditDetailResponse {
     private String title;
     private String brief;
     private String markdownUrl;
+    // 스냅샷(markdownUrl) 이후 임시 저장된 내용이 있을 때만 채워짐, 있으면 markdownUrl 대신 사용
+    private String markdownContent;
     private List<String> figures;
     private List<String> tables;
     private List<String> tags;
@@ -30,19 +32,21 @@ public class SummaryEditDetailResponse {
      * Summary 엔티티로부터 응답 DTO를 생성하는 팩토리 메서드
      *
      * @param summary     요약본 엔티티
-     * @param markdownUrl 마크다운 URL
-     * @param figures     그림 URL 목록
-     * @param tables      표 URL 목록
-     * @param tags        태그 목록
+     * @param markdownUrl     마크다운 URL
+     * @param markdownContent 스냅샷 이후 임시 저장된 마크다운 (없으면 null)
+     * @param figures         그림 URL 목록
+     * @param tables          표 URL 목록
+     * @param tags            태그 목록
      * @return 요약본 편집 상세 응답 DTO
      */
-    public static SummaryEditDetailResponse from(Summary summary, String markdownUrl,
+    public static SummaryEditDetailResponse from(Summary summary, String markdownUrl, String markdownContent,
                                                  List<String> figures, List<String> tables, List<String> tags) {
         return SummaryEditDetailResponse.builder()
                 .summaryId(summary.getSummaryId())
                 .title(summary.getTitle())
                 .brief(summary.getBrief())
                 .markdownUrl(markdownUrl)
+                .markdownContent(markdownContent)
                 .figures(figures)
                 .tables(tables)
                 .tags(tags)
@@ -55,6 +59,6 @@ public class SummaryEditDetailResponse {
      * 이전 버전과의 호환성을 위한 팩토리 메서드
      */
     public static SummaryEditDetailResponse from(Summary summary, String markdownUrl, List<String> tags) {
-        return from(summary, markdownUrl, Collections.emptyList(), Collections.emptyList(), tags);
+        return from(summary, markdownUrl, null, Collections.emptyList(), Collections.emptyList(), tags);
     }
 }
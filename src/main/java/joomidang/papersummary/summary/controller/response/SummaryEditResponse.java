@@ -15,24 +15,29 @@ import lombok.Getter;
 public class SummaryEditResponse {
     private Long summaryId;
     private PublishStatus status;
+    // 기준 스냅샷 URL, 임시 저장은 델타/버퍼로 남으므로 방금 저장한 내용이 아닐 수 있음
     private String markdownUrl;
+    // 방금 저장한 마크다운, 최신 내용은 markdownUrl 대신 이 값을 사용
+    private String markdownContent;
     private LocalDateTime savedAt;
 
     /**
      * 요약본 편집 완료 응답 DTO 생성 팩토리 메서드
      *
-     * @param summaryId   요약본 ID
-     * @param status      발행 상태
-     * @param markdownUrl 마크다운 URL
-     * @param savedAt     저장 시간
+     * @param summaryId       요약본 ID
+     * @param status          발행 상태
+     * @param markdownUrl     기준 스냅샷 마크다운 URL
+     * @param markdownContent 저장한 마크다운
+     * @param savedAt         저장 시간
      * @return 요약본 편집 완료 응답 DTO
      */
     public static SummaryEditResponse of(Long summaryId, PublishStatus status, String markdownUrl,
-                                         LocalDateTime savedAt) {
+                                         String markdownContent, LocalDateTime savedAt) {
         return SummaryEditResponse.builder()
                 .summaryId(summaryId)
                 .status(status)
                 .markdownUrl(markdownUrl)
+                .markdownContent(markdownContent)
                 .savedAt(savedAt)
                 .build();
     }
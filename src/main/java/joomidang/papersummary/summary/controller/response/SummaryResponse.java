@@ -1,6 +1,8 @@
 package joomidang.papersummary.summary.controller.response;
 
 import java.time.LocalDateTime;
+import joomidang.papersummary.member.service.ProfileImageSize;
+import joomidang.papersummary.member.service.ProfileImageUrlResolver;
 import joomidang.papersummary.summary.entity.Summary;
 
 public record SummaryResponse(
@@ -16,13 +18,14 @@ public record SummaryResponse(
         Integer commentCount,
         Double popularityScore
 ) {
-    public static SummaryResponse from(Summary summary, Double popularityScore) {
+    public static SummaryResponse from(Summary summary, Double popularityScore,
+                                       ProfileImageUrlResolver profileImageUrlResolver) {
         return new SummaryResponse(
                 summary.getId(),
                 summary.getTitle(),
                 summary.getBrief(),
                 summary.getMember().getName(),
-                summary.getMember().getProfileImage(),
+                profileImageUrlResolver.resolve(summary.getMember().getProfileImage(), ProfileImageSize.MEDIUM),
                 summary.getCreatedAt(),
                 summary.getUpdatedAt(),
                 summary.getViewCount(),
@@ -0,0 +1,80 @@
+package joomidang.papersummary.summary.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import joomidang.papersummary.common.util.TextDelta;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 임시 저장 델타
+ * <p>
+ * 기준 스냅샷(S3 마크다운)에 seq 순서대로 적용하면 최신 임시 저장 내용이 된다. 스냅샷으로 합쳐지거나 발행되면 삭제된다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "summary_draft_delta", uniqueConstraints =
+        @UniqueConstraint(name = "uk_summary_draft_delta_seq", columnNames = {"summary_id", "seq"}))
+public class SummaryDraftDelta {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "summary_id", nullable = false)
+    private Long summaryId;
+
+    // 이 델타가 이어지는 기준 스냅샷 키
+    @Column(name = "base_s3_key", nullable = false, length = 500)
+    private String baseS3Key;
+
+    @Column(nullable = false)
+    private int seq;
+
+    @Column(name = "start_offset", nullable = false)
+    private int startOffset;
+
+    @Column(name = "delete_length", nullable = false)
+    private int deleteLength;
+
+    @Lob
+    @Column(name = "inserted_text", nullable = false)
+    private String insertedText;
+
+    private String title;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    private SummaryDraftDelta(Long summaryId, String baseS3Key, int seq, TextDelta delta, String title) {
+        this.summaryId = summaryId;
+        this.baseS3Key = baseS3Key;
+        this.seq = seq;
+        this.startOffset = delta.offset();
+        this.deleteLength = delta.deleteLength();
+        this.insertedText = delta.insert();
+        this.title = title;
+    }
+
+    public static SummaryDraftDelta of(Long summaryId, String baseS3Key, int seq, TextDelta delta, String title) {
+        return new SummaryDraftDelta(summaryId, baseS3Key, seq, delta, title);
+    }
+
+    @PrePersist
+    public void prePersist() {
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public String applyTo(String markdown) {
+        return new TextDelta(startOffset, deleteLength, insertedText).applyTo(markdown);
+    }
+}
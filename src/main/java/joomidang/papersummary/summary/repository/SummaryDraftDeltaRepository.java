@@ -0,0 +1,18 @@
+package joomidang.papersummary.summary.repository;
+
+import java.util.List;
+import joomidang.papersummary.summary.entity.SummaryDraftDelta;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SummaryDraftDeltaRepository extends JpaRepository<SummaryDraftDelta, Long> {
+    List<SummaryDraftDelta> findBySummaryIdOrderBySeqAsc(Long summaryId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM SummaryDraftDelta d WHERE d.summaryId = :summaryId")
+    int deleteAllBySummaryId(@Param("summaryId") Long summaryId);
+}
@@ -1,14 +1,20 @@
 package joomidang.papersummary.summary.repository;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 import joomidang.papersummary.paper.entity.Paper;
 import joomidang.papersummary.summary.entity.PublishStatus;
 import joomidang.papersummary.summary.entity.Summary;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -17,6 +23,13 @@ public interface SummaryRepository extends JpaRepository<Summary, Long> {
     @Query("SELECT s FROM Summary s WHERE s.id = :id")
     Optional<Summary> findByIdWithoutStats(@Param("id") Long id);
 
+    /**
+     * 행 잠금 조회 (발행/삭제와 임시 저장 반영을 직렬화)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM Summary s WHERE s.id = :id")
+    Optional<Summary> findByIdForUpdate(@Param("id") Long id);
+
     @Query("SELECT s FROM Summary s JOIN FETCH s.summaryStats WHERE s.id=:id")
     Optional<Summary> findByIdWithStats(@Param("id") Long id);
 
@@ -63,4 +76,8 @@ public interface SummaryRepository extends JpaRepository<Summary, Long> {
             @Param("publishStatus") PublishStatus publishStatus,
             Pageable pageable
     );
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT s.s3KeyMd FROM Summary s")
+    Stream<String> streamAllS3Keys();
 }
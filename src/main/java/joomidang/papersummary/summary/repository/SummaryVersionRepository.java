@@ -1,12 +1,17 @@
 package joomidang.papersummary.summary.repository;
 
+import jakarta.persistence.QueryHint;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 import joomidang.papersummary.summary.entity.Summary;
 import joomidang.papersummary.summary.entity.SummaryVersion;
 import joomidang.papersummary.summary.entity.VersionType;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -21,4 +26,19 @@ public interface SummaryVersionRepository extends JpaRepository<SummaryVersion,
     List<SummaryVersion> findBySummary(Summary summary);
 
     List<SummaryVersion> findBySummaryAndVersionTypeOrderByCreatedAtDesc(Summary summary, VersionType versionType);
+
+    @Query("SELECT v.s3KeyMd FROM SummaryVersion v WHERE v.summary.id = :summaryId")
+    List<String> findS3KeysBySummaryId(@Param("summaryId") Long summaryId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT v.s3KeyMd FROM SummaryVersion v WHERE v.s3KeyMd IS NOT NULL")
+    Stream<String> streamAllS3Keys();
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM SummaryVersion v WHERE v.id IN :ids")
+    int deleteAllByIds(@Param("ids") List<Long> ids);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM SummaryVersion v WHERE v.summary.id = :summaryId")
+    int deleteAllBySummaryId(@Param("summaryId") Long summaryId);
 }
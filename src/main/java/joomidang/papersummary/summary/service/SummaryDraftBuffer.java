@@ -0,0 +1,193 @@
+package joomidang.papersummary.summary.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요약본별 최신 임시 저장 내용을 Redis에 보관 (어느 인스턴스로 저장 요청이 와도 같은 버퍼에 덮어씀)
+ * <p>
+ * 내용은 해시 summary:draft:{id}, 반영 예정 시각은 ZSET summary:draft:dirty에 둔다. 반영 예정 시각은 반영되지 않은 첫 저장
+ * 시점에만 정해지므로(ZADD NX) 저장이 계속 들어와도 창 하나에 한 번만 반영된다. rev는 저장마다 1씩 올라, 반영하는 동안 새 저장이
+ * 들어왔으면 버퍼를 지우지 않고 다음 창으로 넘긴다.
+ * <p>
+ * 해시 TTL은 반영이 계속 실패할 때를 위한 안전장치라 창보다 충분히 길게 둔다.
+ */
+@Component
+@RequiredArgsConstructor
+class SummaryDraftBuffer {
+    private static final String KEY_PREFIX = "summary:draft:";
+    private static final String DIRTY_KEY = "summary:draft:dirty";
+
+    /**
+     * 내용 덮어쓰기, rev 증가, 반영 예정 시각 등록(없을 때만)
+     * <p>
+     * ARGV: [providerUid, title, markdown, 저장 시각(ms), ttlMs, 반영 예정 시각(ms), summaryId] / 반환: 새 rev
+     */
+    private static final RedisScript<Long> BUFFER = new DefaultRedisScript<>("""
+            redis.call('HSET', KEYS[1], 'providerUid', ARGV[1], 'title', ARGV[2], 'markdown', ARGV[3],
+              'savedAt', ARGV[4])
+            local rev = redis.call('HINCRBY', KEYS[1], 'rev', 1)
+            redis.call('PEXPIRE', KEYS[1], ARGV[5])
+            redis.call('ZADD', KEYS[2], 'NX', ARGV[6], ARGV[7])
+            return rev
+            """, Long.class);
+
+    /**
+     * 반영 예정 시각이 지났으면(force면 시각과 관계없이) 다른 인스턴스가 반영 중이 아닐 때 lease를 잡음
+     * <p>
+     * lease 동안은 반영 예정 시각을 lease 만료 시각으로 미뤄 두므로, 반영하던 인스턴스가 죽어도 만료 후 다시 반영된다.
+     * ARGV: [현재 시각(ms), lease 만료 시각(ms), summaryId, force(1/0)] / 반환: 1 잡음, 0 대상 아님
+     */
+    private static final RedisScript<Long> CLAIM = new DefaultRedisScript<>("""
+            local score = redis.call('ZSCORE', KEYS[2], ARGV[3])
+            if not score then
+              return 0
+            end
+            if ARGV[4] ~= '1' and tonumber(score) > tonumber(ARGV[1]) then
+              return 0
+            end
+            local claimedUntil = redis.call('HGET', KEYS[1], 'claimedUntil')
+            if claimedUntil and tonumber(claimedUntil) > tonumber(ARGV[1]) then
+              return 0
+            end
+            redis.call('HSET', KEYS[1], 'claimedUntil', ARGV[2])
+            redis.call('ZADD', KEYS[2], 'XX', ARGV[2], ARGV[3])
+            return 1
+            """, Long.class);
+
+    /**
+     * 반영한 rev 이후 새 저장이 없을 때만 버퍼 삭제, 새 저장이 있으면 lease만 풀어 다음 창에 반영
+     * <p>
+     * ARGV: [반영한 rev, summaryId] / 반환: 1 삭제, 0 그 사이 새 저장 있음
+     */
+    private static final RedisScript<Long> RELEASE = new DefaultRedisScript<>("""
+            if redis.call('HGET', KEYS[1], 'rev') == ARGV[1] then
+              redis.call('DEL', KEYS[1])
+              redis.call('ZREM', KEYS[2], ARGV[2])
+              return 1
+            end
+            redis.call('HDEL', KEYS[1], 'claimedUntil')
+            return 0
+            """, Long.class);
+
+    /**
+     * 내용 없이 lease만 남은 버퍼 정리 (그 사이 새 저장이 들어왔으면 그대로 둠)
+     * <p>
+     * ARGV: [summaryId] / 반환: 1 정리, 0 새 저장 있음
+     */
+    private static final RedisScript<Long> FORGET_IF_EMPTY = new DefaultRedisScript<>("""
+            if redis.call('HEXISTS', KEYS[1], 'rev') == 1 then
+              return 0
+            end
+            redis.call('DEL', KEYS[1])
+            redis.call('ZREM', KEYS[2], ARGV[1])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * @param window 반영되지 않은 첫 저장부터 반영까지 기다리는 시간
+     * @return 저장 후 rev
+     */
+    long buffer(Long summaryId, String providerUid, String title, String markdown, Instant savedAt,
+                Duration window, Duration ttl) {
+        Long rev = redisTemplate.execute(BUFFER, List.of(KEY_PREFIX + summaryId, DIRTY_KEY),
+                providerUid, title == null ? "" : title, markdown == null ? "" : markdown,
+                String.valueOf(savedAt.toEpochMilli()), String.valueOf(ttl.toMillis()),
+                String.valueOf(savedAt.plus(window).toEpochMilli()), String.valueOf(summaryId));
+        return rev == null ? 0 : rev;
+    }
+
+    Optional<BufferedDraft> find(Long summaryId) {
+        Map<Object, Object> fields = redisTemplate.opsForHash().entries(KEY_PREFIX + summaryId);
+        if (fields.isEmpty() || !fields.containsKey("rev")) {
+            return Optional.empty();
+        }
+
+        String title = (String) fields.get("title");
+        return Optional.of(new BufferedDraft(
+                (String) fields.get("providerUid"),
+                title == null || title.isEmpty() ? null : title,
+                (String) fields.get("markdown"),
+                Long.parseLong((String) fields.get("rev")),
+                Instant.ofEpochMilli(Long.parseLong((String) fields.get("savedAt")))
+        ));
+    }
+
+    /**
+     * 반영 예정 시각(또는 lease 만료 시각)이 지난 요약본 ID
+     */
+    List<Long> dueSummaryIds(Instant now, int limit) {
+        Set<String> ids = redisTemplate.opsForZSet()
+                .rangeByScore(DIRTY_KEY, 0, now.toEpochMilli(), 0, limit);
+        if (ids == null) {
+            return List.of();
+        }
+        return ids.stream().map(Long::valueOf).toList();
+    }
+
+    /**
+     * 반영할 권한(lease)을 잡음 (여러 인스턴스 중 잡은 쪽만 반영)
+     *
+     * @param force true면 반영 예정 시각 전이라도 잡음 (편집 화면을 떠날 때)
+     * @return 이 호출이 잡았으면 true
+     */
+    boolean claim(Long summaryId, Instant now, Duration lease, boolean force) {
+        Long claimed = redisTemplate.execute(CLAIM, List.of(KEY_PREFIX + summaryId, DIRTY_KEY),
+                String.valueOf(now.toEpochMilli()), String.valueOf(now.plus(lease).toEpochMilli()),
+                String.valueOf(summaryId), force ? "1" : "0");
+        return claimed != null && claimed == 1;
+    }
+
+    /**
+     * 반영 후 정리, 반영하는 동안 새 저장이 들어왔으면 버퍼를 남겨 다음 창에 반영
+     *
+     * @return 버퍼를 지웠으면 true
+     */
+    boolean release(Long summaryId, long rev) {
+        Long released = redisTemplate.execute(RELEASE, List.of(KEY_PREFIX + summaryId, DIRTY_KEY),
+                String.valueOf(rev), String.valueOf(summaryId));
+        return released != null && released == 1;
+    }
+
+    /**
+     * 반영 실패 시 lease를 풀고 다시 반영 대상에 올림
+     */
+    void reschedule(Long summaryId, Instant flushAt) {
+        redisTemplate.opsForHash().delete(KEY_PREFIX + summaryId, "claimedUntil");
+        redisTemplate.opsForZSet().add(DIRTY_KEY, String.valueOf(summaryId), flushAt.toEpochMilli());
+    }
+
+    /**
+     * 발행/삭제로 내용이 버려진 뒤 반영 대상에 남은 항목 정리
+     */
+    void forgetIfEmpty(Long summaryId) {
+        redisTemplate.execute(FORGET_IF_EMPTY, List.of(KEY_PREFIX + summaryId, DIRTY_KEY), String.valueOf(summaryId));
+    }
+
+    /**
+     * 반영하지 않고 버림 (발행/삭제 시)
+     */
+    void discard(Long summaryId) {
+        redisTemplate.delete(KEY_PREFIX + summaryId);
+        redisTemplate.opsForZSet().remove(DIRTY_KEY, String.valueOf(summaryId));
+    }
+
+    /**
+     * @param title   제목, 없으면 null
+     * @param rev     이 내용을 만든 저장 횟수
+     * @param savedAt 마지막 저장 시각
+     */
+    record BufferedDraft(String providerUid, String title, String markdown, long rev, Instant savedAt) {
+    }
+}
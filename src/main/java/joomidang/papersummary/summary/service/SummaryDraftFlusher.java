@@ -0,0 +1,105 @@
+package joomidang.papersummary.summary.service;
+
+import java.time.Instant;
+import java.util.List;
+import joomidang.papersummary.member.entity.Member;
+import joomidang.papersummary.member.service.MemberService;
+import joomidang.papersummary.summary.entity.Summary;
+import joomidang.papersummary.summary.repository.SummaryRepository;
+import joomidang.papersummary.summary.service.SummaryDraftBuffer.BufferedDraft;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Redis에 모인 임시 저장을 창마다 한 번 S3/summary_version에 반영
+ * <p>
+ * 주기마다 반영 예정 시각이 지난 요약본의 lease를 잡아 버퍼의 최신 내용 하나만 {@link SummaryDraftService#saveDraft}로
+ * 넘긴다. 편집 화면을 떠날 때는 창을 기다리지 않고 바로 반영한다.
+ * <p>
+ * Redis 비활성 시에는 임시 저장이 버퍼를 거치지 않으므로 등록하지 않는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.data.redis.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@EnableConfigurationProperties(SummaryDraftProperties.class)
+public class SummaryDraftFlusher {
+    private final SummaryDraftBuffer summaryDraftBuffer;
+    private final SummaryDraftService summaryDraftService;
+    private final SummaryRepository summaryRepository;
+    private final MemberService memberService;
+    private final TransactionTemplate transactionTemplate;
+    private final SummaryDraftProperties properties;
+
+    @Scheduled(fixedDelayString = "${summary.draft.flush-interval-ms:1000}")
+    public void flushDue() {
+        Instant now = Instant.now();
+        List<Long> summaryIds;
+        try {
+            summaryIds = summaryDraftBuffer.dueSummaryIds(now, properties.getFlushBatchSize());
+        } catch (Exception e) {
+            log.warn("임시 저장 반영 대상 조회 실패: {}", e.getMessage());
+            return;
+        }
+
+        for (Long summaryId : summaryIds) {
+            if (summaryDraftBuffer.claim(summaryId, now, properties.getFlushLease(), false)) {
+                flushClaimed(summaryId);
+            }
+        }
+    }
+
+    /**
+     * 창을 기다리지 않고 바로 반영 (편집 화면을 떠날 때)
+     *
+     * @return 반영했으면 true, 반영할 내용이 없거나 다른 인스턴스가 반영 중이면 false
+     */
+    public boolean flush(Long summaryId) {
+        if (!summaryDraftBuffer.claim(summaryId, Instant.now(), properties.getFlushLease(), true)) {
+            return false;
+        }
+        return flushClaimed(summaryId);
+    }
+
+    private boolean flushClaimed(Long summaryId) {
+        BufferedDraft draft;
+        try {
+            draft = transactionTemplate.execute(status -> {
+                // 발행/삭제도 같은 행을 잠그고 버퍼를 버리므로, 잠근 뒤 버퍼를 다시 읽어 그때의 최신 내용만 반영
+                Summary summary = summaryRepository.findByIdForUpdate(summaryId).orElse(null);
+                if (summary == null || summary.isDeleted()) {
+                    log.warn("임시 저장 반영 대상 요약본 없음, 버림: summaryId={}", summaryId);
+                    summaryDraftBuffer.discard(summaryId);
+                    return null;
+                }
+                BufferedDraft current = summaryDraftBuffer.find(summaryId).orElse(null);
+                if (current == null) {
+                    log.debug("반영 전에 발행/삭제로 버려진 임시 저장: summaryId={}", summaryId);
+                    return null;
+                }
+                Member member = memberService.findByProviderUid(current.providerUid());
+                summaryDraftService.saveDraft(summary, member, current.title(), current.markdown());
+                return current;
+            });
+        } catch (Exception e) {
+            log.error("임시 저장 반영 실패, 재시도 예약: summaryId={}, error={}", summaryId, e.getMessage(), e);
+            summaryDraftBuffer.reschedule(summaryId, Instant.now().plus(properties.getFlushLease()));
+            return false;
+        }
+
+        if (draft == null) {
+            summaryDraftBuffer.forgetIfEmpty(summaryId);
+            return false;
+        }
+        if (!summaryDraftBuffer.release(summaryId, draft.rev())) {
+            log.debug("반영 중 새 임시 저장이 들어와 다음 창에 반영: summaryId={}", summaryId);
+        }
+        log.debug("임시 저장 반영 완료: summaryId={}, rev={}", summaryId, draft.rev());
+        return true;
+    }
+}
@@ -0,0 +1,40 @@
+package joomidang.papersummary.summary.service;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 요약본 임시 저장 설정 (summary.draft.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "summary.draft")
+public class SummaryDraftProperties {
+
+    /**
+     * 델타가 이만큼 쌓이면 새 S3 스냅샷으로 합침 (재구성 시 읽는 델타 수 상한)
+     */
+    private int compactEvery = 20;
+
+    /**
+     * 반영되지 않은 첫 저장부터 S3/DB에 반영하기까지 Redis 버퍼에 모으는 시간 (창 하나에 한 번만 반영)
+     */
+    private Duration flushWindow = Duration.ofSeconds(30);
+
+    /**
+     * 한 번 반영하는 동안 다른 인스턴스가 같은 요약본을 반영하지 않도록 잡아 두는 시간 (실패 시 재시도 간격)
+     */
+    private Duration flushLease = Duration.ofSeconds(30);
+
+    /**
+     * 반영 주기 한 번에 처리할 요약본 수
+     */
+    private int flushBatchSize = 100;
+
+    /**
+     * 버퍼 TTL (반영이 계속 실패할 때의 안전장치)
+     */
+    private Duration bufferTtl = Duration.ofDays(7);
+}
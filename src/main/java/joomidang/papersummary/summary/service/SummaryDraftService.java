@@ -0,0 +1,182 @@
+package joomidang.papersummary.summary.service;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import joomidang.papersummary.common.util.TextDelta;
+import joomidang.papersummary.member.entity.Member;
+import joomidang.papersummary.s3.service.S3Service;
+import joomidang.papersummary.summary.entity.Summary;
+import joomidang.papersummary.summary.entity.SummaryDraftDelta;
+import joomidang.papersummary.summary.entity.SummaryVersion;
+import joomidang.papersummary.summary.repository.SummaryDraftDeltaRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 요약본 임시 저장을 기준 스냅샷(S3) + 델타(DB)로 관리
+ * <p>
+ * 자동 저장마다 전체 마크다운을 S3에 올리고 버전을 만드는 대신, 직전 내용과의 차이만 델타로 남긴다.
+ * 델타가 compactEvery개 쌓이면 최신 내용을 새 DRAFT 스냅샷으로 올리고 델타를 비운다. 발행 시에는 발행 내용이 스냅샷이
+ * 되므로 델타를 버린다.
+ * <p>
+ * 자동 저장 요청은 {@link #bufferDraft}로 Redis 버퍼에 덮어쓰기만 하고, {@link SummaryDraftFlusher}가 창마다 최신 내용 하나만
+ * {@link #saveDraft}로 반영한다. Redis가 비활성이거나 장애이면 버퍼를 거치지 않고 바로 {@link #saveDraft}로 반영한다.
+ */
+@Slf4j
+@Service
+@Transactional
+@EnableConfigurationProperties(SummaryDraftProperties.class)
+public class SummaryDraftService {
+    private final SummaryDraftDeltaRepository summaryDraftDeltaRepository;
+    private final SummaryDraftBuffer summaryDraftBuffer;
+    private final SummaryVersionService summaryVersionService;
+    private final S3Service s3Service;
+    private final SummaryDraftProperties properties;
+    private final boolean bufferEnabled;
+
+    public SummaryDraftService(SummaryDraftDeltaRepository summaryDraftDeltaRepository,
+                               SummaryDraftBuffer summaryDraftBuffer,
+                               SummaryVersionService summaryVersionService,
+                               S3Service s3Service,
+                               SummaryDraftProperties properties,
+                               @Value("${spring.data.redis.enabled:true}") boolean bufferEnabled) {
+        this.summaryDraftDeltaRepository = summaryDraftDeltaRepository;
+        this.summaryDraftBuffer = summaryDraftBuffer;
+        this.summaryVersionService = summaryVersionService;
+        this.s3Service = s3Service;
+        this.properties = properties;
+        this.bufferEnabled = bufferEnabled;
+    }
+
+    /**
+     * 임시 저장 내용을 Redis 버퍼에 덮어씀 (S3/DB 반영은 창마다 한 번)
+     *
+     * @return 버퍼에 저장했으면 true, Redis 비활성/장애로 저장하지 못했으면 false (호출한 쪽에서 바로 반영)
+     */
+    public boolean bufferDraft(Long summaryId, String providerUid, String title, String markdown) {
+        if (!bufferEnabled) {
+            return false;
+        }
+        try {
+            long rev = summaryDraftBuffer.buffer(summaryId, providerUid, title, markdown, Instant.now(),
+                    properties.getFlushWindow(), properties.getBufferTtl());
+            log.debug("임시 저장 버퍼 갱신: summaryId={}, rev={}", summaryId, rev);
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("임시 저장 버퍼 사용 불가, 바로 반영: summaryId={}, error={}", summaryId, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 아직 반영되지 않은 버퍼 내용
+     *
+     * @return 버퍼가 비었으면 empty
+     */
+    @Transactional(readOnly = true)
+    public Optional<String> findBufferedContent(Long summaryId) {
+        if (!bufferEnabled) {
+            return Optional.empty();
+        }
+        try {
+            return summaryDraftBuffer.find(summaryId).map(SummaryDraftBuffer.BufferedDraft::markdown);
+        } catch (RuntimeException e) {
+            log.warn("임시 저장 버퍼 조회 실패, 반영된 내용 사용: summaryId={}, error={}", summaryId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 임시 저장 반영 (델타 기록, 일정 개수마다 스냅샷으로 합침)
+     *
+     * @return 저장 후 기준 스냅샷 키 (합쳐졌으면 새 스냅샷 키)
+     */
+    public String saveDraft(Summary summary, Member member, String title, String markdown) {
+        Long summaryId = summary.getId();
+        String baseKey = summaryVersionService.findLatestDraft(summaryId)
+                .map(SummaryVersion::getS3KeyMd)
+                .orElse(summary.getS3KeyMd());
+
+        List<SummaryDraftDelta> deltas = summaryDraftDeltaRepository.findBySummaryIdOrderBySeqAsc(summaryId);
+        List<SummaryDraftDelta> pending = pendingDeltas(deltas, baseKey);
+        String current = reconstruct(baseKey, pending);
+
+        TextDelta delta = TextDelta.between(current, markdown);
+        if (delta.isEmpty()) {
+            log.debug("변경 없는 임시 저장 건너뜀: summaryId={}", summaryId);
+            return baseKey;
+        }
+
+        if (pending.size() + 1 >= properties.getCompactEvery()) {
+            return compact(summary, member, title, markdown);
+        }
+
+        int seq = deltas.isEmpty() ? 1 : deltas.get(deltas.size() - 1).getSeq() + 1;
+        summaryDraftDeltaRepository.save(SummaryDraftDelta.of(summaryId, baseKey, seq, delta, title));
+        log.debug("임시 저장 델타 기록: summaryId={}, seq={}, offset={}, delete={}, insert={}",
+                summaryId, seq, delta.offset(), delta.deleteLength(), delta.insert().length());
+        return baseKey;
+    }
+
+    /**
+     * 기준 스냅샷 이후 쌓인 델타를 적용한 최신 임시 저장 내용
+     *
+     * @return 적용할 델타가 없으면 empty (스냅샷 URL을 그대로 쓰면 됨)
+     */
+    @Transactional(readOnly = true)
+    public Optional<String> findPendingContent(Long summaryId, String baseKey) {
+        List<SummaryDraftDelta> pending = pendingDeltas(
+                summaryDraftDeltaRepository.findBySummaryIdOrderBySeqAsc(summaryId), baseKey);
+        if (pending.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(reconstruct(baseKey, pending));
+    }
+
+    /**
+     * 반영되지 않은 버퍼와 쌓인 델타 삭제 (발행/삭제 시)
+     */
+    public void discardDrafts(Long summaryId) {
+        if (bufferEnabled) {
+            try {
+                summaryDraftBuffer.discard(summaryId);
+            } catch (RuntimeException e) {
+                log.warn("임시 저장 버퍼 삭제 실패: summaryId={}, error={}", summaryId, e.getMessage());
+            }
+        }
+        int deleted = summaryDraftDeltaRepository.deleteAllBySummaryId(summaryId);
+        if (deleted > 0) {
+            log.debug("임시 저장 델타 삭제: summaryId={}, {}개", summaryId, deleted);
+        }
+    }
+
+    private String compact(Summary summary, Member member, String title, String markdown) {
+        String key = SummaryService.generateS3Key(summary.getId(), "draft");
+        s3Service.saveMarkdownToS3(key, markdown);
+        summaryVersionService.createDraftVersion(summary, key, title, member);
+        summaryDraftDeltaRepository.deleteAllBySummaryId(summary.getId());
+        log.debug("임시 저장 델타를 스냅샷으로 합침: summaryId={}, key={}", summary.getId(), key);
+        return key;
+    }
+
+    /**
+     * 현재 기준 스냅샷에 이어지는 델타만 선택 (스냅샷이 바뀌기 전에 남은 델타는 적용할 수 없음)
+     */
+    private List<SummaryDraftDelta> pendingDeltas(List<SummaryDraftDelta> deltas, String baseKey) {
+        return deltas.stream()
+                .filter(delta -> delta.getBaseS3Key().equals(baseKey))
+                .toList();
+    }
+
+    private String reconstruct(String baseKey, List<SummaryDraftDelta> deltas) {
+        String markdown = s3Service.readMarkdown(baseKey);
+        for (SummaryDraftDelta delta : deltas) {
+            markdown = delta.applyTo(markdown);
+        }
+        return markdown;
+    }
+}
@@ -5,6 +5,7 @@ import joomidang.papersummary.common.config.rabbitmq.StatsEventPublisher;
 import joomidang.papersummary.common.config.rabbitmq.StatsType;
 import joomidang.papersummary.member.entity.Member;
 import joomidang.papersummary.member.service.MemberService;
+import joomidang.papersummary.member.service.ProfileImageUrlResolver;
 import joomidang.papersummary.summary.controller.response.LikedSummaryListResponse;
 import joomidang.papersummary.summary.entity.PublishStatus;
 import joomidang.papersummary.summary.entity.Summary;
@@ -25,6 +26,7 @@ public class SummaryLikeService {
     private final SummaryLikeRepository summaryLikeRepository;
     private final MemberService memberService;
     private final StatsEventPublisher statsEventPublisher;
+    private final ProfileImageUrlResolver profileImageUrlResolver;
 
 
     @Transactional
@@ -70,6 +72,6 @@ public class SummaryLikeService {
         log.debug("좋아요한 요약본 목록 조회 완료: providerUid={}, count={}",
                 providerUid, summaryLikes.getTotalElements());
 
-        return LikedSummaryListResponse.from(summaryLikes);
+        return LikedSummaryListResponse.from(summaryLikes, profileImageUrlResolver);
     }
 }
@@ -8,15 +8,18 @@ import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import joomidang.papersummary.common.config.elasticsearch.service.ElasticsearchSummaryService;
 import joomidang.papersummary.common.config.rabbitmq.StatsEventPublisher;
 import joomidang.papersummary.common.config.rabbitmq.StatsType;
 import joomidang.papersummary.member.entity.Member;
 import joomidang.papersummary.member.service.MemberService;
+import joomidang.papersummary.member.service.ProfileImageUrlResolver;
 import joomidang.papersummary.paper.entity.Paper;
 import joomidang.papersummary.paper.exception.AccessDeniedException;
 import joomidang.papersummary.paper.service.PaperService;
+import joomidang.papersummary.s3.service.S3FileDeleter;
 import joomidang.papersummary.s3.service.S3Service;
 import joomidang.papersummary.summary.controller.request.SummaryEditRequest;
 import joomidang.papersummary.summary.controller.response.LikedSummaryListResponse;
@@ -45,6 +48,7 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
@@ -64,10 +68,15 @@ public class SummaryService {
     private final MemberService memberService;
     private final S3Service s3Service;
     private final SummaryVersionService summaryVersionService;
+    private final SummaryDraftService summaryDraftService;
+    // Redis 비활성 시 없음 (임시 저장을 버퍼 없이 바로 반영하므로 반영할 것도 없음)
+    private final Optional<SummaryDraftFlusher> summaryDraftFlusher;
     private final SummaryLikeService summaryLikeService;
     private final TagService tagService;
     private final ElasticsearchSummaryService elasticsearchSummaryService;
     private final StatsEventPublisher statsEventPublisher;
+    private final S3FileDeleter s3FileDeleter;
+    private final ProfileImageUrlResolver profileImageUrlResolver;
 
     @Transactional
     public Long createSummaryFromS3(Long paperId, String s3Key) {
@@ -88,6 +97,8 @@ public class SummaryService {
 
     /**
      * 요약본 편집 내용 저장
+     * <p>
+     * 임시 저장은 버퍼/델타로 남아 markdownUrl(기준 스냅샷)에 바로 반영되지 않으므로, 저장한 내용은 markdownContent로 돌려준다.
      */
     @Transactional
     public SummaryEditResponse saveSummaryEdit(String providerUid, Long summaryId, SummaryEditRequest request) {
@@ -95,11 +106,12 @@ public class SummaryService {
         Member member = memberService.findByProviderUid(providerUid);
         Summary summary = validateSummaryAccess(summaryId, member);
 
-        // 요약본 정보 업데이트
-        String key = generateS3Key(summaryId, "draft");
-        String markdownUrl = s3Service.saveMarkdownToS3(key, request.markdownContent());
-
-        summaryVersionService.createDraftVersion(summary, key, request.title(), member);
+        // Redis 버퍼에만 덮어쓰고, S3/버전 반영은 창마다 한 번 (SummaryDraftFlusher)
+        // Redis를 쓸 수 없으면 바로 반영
+        if (!summaryDraftService.bufferDraft(summaryId, providerUid, request.title(), request.markdownContent())) {
+            summaryDraftService.saveDraft(summary, member, request.title(), request.markdownContent());
+        }
+        String markdownUrl = getMarkdownUrl(findDraftBaseKey(summary));
 
         // 태그 저장
         tagService.attachTagsToSummary(summary, request.tags());
@@ -109,6 +121,7 @@ public class SummaryService {
                 summaryId,
                 summary.getPublishStatus(),
                 markdownUrl,
+                request.markdownContent(),
                 LocalDateTime.now()
         );
 
@@ -123,14 +136,15 @@ public class SummaryService {
     public SummaryPublishResponse publishSummary(String providerUid, Long summaryId, SummaryEditRequest request) {
         log.debug("요약본 발행 시작: summaryId={}", summaryId);
         Member member = memberService.findByProviderUid(providerUid);
-        Summary summary = validateSummaryAccess(summaryId, member);
+        Summary summary = validateSummaryAccessForUpdate(summaryId, member);
 
         // S3에 마크다운 저장
         String s3Key = generateS3Key(summaryId, "publish");
         String markdownUrl = s3Service.saveMarkdownToS3(s3Key, request.markdownContent());
 
-        // summary version 저장
+        // summary version 저장 (발행 내용이 새 스냅샷이 되므로 반영 전 버퍼와 쌓인 임시 저장 델타는 버림)
         summaryVersionService.createPublishedVersion(summary, s3Key, request.title(), member);
+        summaryDraftService.discardDrafts(summaryId);
 
         // 태그 저장
         tagService.attachTagsToSummary(summary, request.tags());
@@ -157,34 +171,29 @@ public class SummaryService {
 
     /**
      * 요약본 삭제 - Summary는 소프트 삭제 (isDeleted=true, publishStatus=DELETED) - SummaryVersion은 모두 하드 삭제 (DRAFT, PUBLISHED 모두
-     * 삭제) - S3에 저장된 파일도 함께 삭제
+     * 삭제) - S3에 저장된 파일은 커밋 후 일괄 삭제
      */
     @Transactional
     public void deleteSummary(String providerUid, Long summaryId) {
         log.debug("요약본 삭제 시작: summaryId={}", summaryId);
         Member member = memberService.findByProviderUid(providerUid);
-        Summary summary = validateSummaryAccess(summaryId, member);
+        Summary summary = validateSummaryAccessForUpdate(summaryId, member);
 
         //통계 삭제
         summaryStatsRepository.deleteBySummaryId(summaryId);
 
-        // 모든 버전 삭제 (S3에 저장되어있는 파일도 삭제)
+        // 모든 버전과 임시 저장 버퍼/델타 삭제 (S3에 저장되어있는 파일도 삭제)
         summaryVersionService.deleteAllVersionBySummary(summary);
+        summaryDraftService.discardDrafts(summaryId);
 
         //tag 사용 횟수 감소
         tagService.decreaseTagUsageForSummary(summary);
 
-        // Summary의 S3 파일 삭제
+        // Summary의 S3 파일 삭제 (커밋 후 백그라운드에서 삭제, 실패해도 요약본 삭제는 유지)
         String s3KeyMd = summary.getS3KeyMd();
         if (s3KeyMd != null && !s3KeyMd.isBlank()) {
-            try {
-                log.debug("요약본 S3 파일 삭제: {}", s3KeyMd);
-                s3Service.deleteFile(s3KeyMd);
-            } catch (Exception e) {
-                log.error("요약본 S3 파일 삭제 중 오류 발생: summaryId={}, s3KeyMd={}, error={}",
-                        summaryId, s3KeyMd, e.getMessage(), e);
-                // 파일 삭제 실패해도 요약본 삭제는 계속 진행
-            }
+            log.debug("요약본 S3 파일 삭제 예약: {}", s3KeyMd);
+            s3FileDeleter.deleteMarkdownAfterCommit(List.of(s3KeyMd));
         }
         // Elasticsearch에서 삭제
         elasticsearchSummaryService.deleteSummary(summaryId);
@@ -195,6 +204,21 @@ public class SummaryService {
         log.debug("요약본 삭제 완료: summaryId={}", summaryId);
     }
 
+    /**
+     * 편집 화면을 떠날 때 버퍼에 모인 임시 저장을 바로 반영
+     * <p>
+     * 반영은 별도 트랜잭션으로 커밋해야 하므로 읽기 전용 트랜잭션에 참여하지 않음
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void flushSummaryDraft(String providerUid, Long summaryId) {
+        log.debug("요약본 임시 저장 반영 시작: summaryId={}", summaryId);
+        Member member = memberService.findByProviderUid(providerUid);
+        validateSummaryAccess(summaryId, member);
+
+        boolean flushed = summaryDraftFlusher.map(flusher -> flusher.flush(summaryId)).orElse(false);
+        log.debug("요약본 임시 저장 반영 완료: summaryId={}, flushed={}", summaryId, flushed);
+    }
+
     /**
      * 요약본 편집을 위한 상세 정보 조회
      */
@@ -204,12 +228,13 @@ public class SummaryService {
         Summary summary = validateSummaryAccess(summaryId, member);
 
         //최신 DRAFT 버전이 있으면 사용
-        String s3Key = summaryVersionService.findLatestDraft(summaryId)
-                .map(SummaryVersion::getS3KeyMd)
-                .orElse(summary.getS3KeyMd());
+        String s3Key = findDraftBaseKey(summary);
 
-        // S3 키를 URL로 변환
+        // S3 키를 URL로 변환, 반영 전 버퍼나 스냅샷 이후 임시 저장 델타가 있으면 최신 내용을 함께 전달
         String markdownUrl = getMarkdownUrl(s3Key);
+        String markdownContent = summaryDraftService.findBufferedContent(summaryId)
+                .or(() -> summaryDraftService.findPendingContent(summaryId, s3Key))
+                .orElse(null);
 
         // 태그 목록 조회
         List<String> tags = tagService.getTagNamesBySummary(summaryId);
@@ -220,8 +245,8 @@ public class SummaryService {
         log.debug("시각 콘텐츠 조회 완료: summaryId={}, figuresCount={}, tablesCount={}",
                 summaryId, figures.size(), tables.size());
 
-        SummaryEditDetailResponse response = SummaryEditDetailResponse.from(summary, markdownUrl, figures, tables,
-                tags);
+        SummaryEditDetailResponse response = SummaryEditDetailResponse.from(summary, markdownUrl, markdownContent,
+                figures, tables, tags);
         log.debug("요약본 편집을 위한 상세 정보 조회 완료: summaryId={}", summaryId);
 
         return response;
@@ -476,7 +501,7 @@ public class SummaryService {
         List<SummaryResponse> searchResults = summariesPage.getContent().stream()
                 .map(summary -> {
                     Double score = popularityScores.getOrDefault(summary.getId(), 0.0);
-                    return SummaryResponse.from(summary, score);
+                    return SummaryResponse.from(summary, score, profileImageUrlResolver);
                 })
                 .toList();
 
@@ -573,7 +598,7 @@ public class SummaryService {
         return summariesPage.getContent().stream()
                 .map(summary -> {
                     Double score = popularityScores.getOrDefault(summary.getId(), 0.0);
-                    return SummaryResponse.from(summary, score);
+                    return SummaryResponse.from(summary, score, profileImageUrlResolver);
                 })
                 .toList();
     }
@@ -645,12 +670,28 @@ public class SummaryService {
         visualContentService.connectToSummary(summary);
     }
 
+    private String findDraftBaseKey(Summary summary) {
+        return summaryVersionService.findLatestDraft(summary.getId())
+                .map(SummaryVersion::getS3KeyMd)
+                .orElse(summary.getS3KeyMd());
+    }
+
     private Summary validateSummaryAccess(Long summaryId, Member requester) {
         Summary summary = findByIdWithoutStats(summaryId);
         validateAccess(summary, requester);
         return summary;
     }
 
+    /**
+     * 행을 잠그고 접근 권한 확인 (임시 저장 반영이 버퍼를 확인한 뒤 발행/삭제가 끼어들지 않도록)
+     */
+    private Summary validateSummaryAccessForUpdate(Long summaryId, Member requester) {
+        Summary summary = summaryRepository.findByIdForUpdate(summaryId)
+                .orElseThrow(() -> new SummaryNotFoundException(summaryId));
+        validateAccess(summary, requester);
+        return summary;
+    }
+
     private void validateAccess(Summary summary, Member requester) {
         if (summary.isNotSameMemberId(requester.getId())) {
             throw new AccessDeniedException();
@@ -671,7 +712,7 @@ public class SummaryService {
         return S3_BASE_URL + s3Key;
     }
 
-    private String generateS3Key(Long summaryId, String prefix) {
+    static String generateS3Key(Long summaryId, String prefix) {
         return SUMMARIES_PATH + summaryId + "/" + prefix + "-" + System.currentTimeMillis() + ".md";
     }
 
@@ -734,7 +775,7 @@ public class SummaryService {
         List<SummaryResponse> summaries = summariesPage.getContent().stream()
                 .map(summary -> {
                     Double score = popularityScores.getOrDefault(summary.getId(), 0.0);
-                    return SummaryResponse.from(summary, score);
+                    return SummaryResponse.from(summary, score, profileImageUrlResolver);
                 })
                 .toList();
 
@@ -3,7 +3,7 @@ package joomidang.papersummary.summary.service;
 import java.util.List;
 import java.util.Optional;
 import joomidang.papersummary.member.entity.Member;
-import joomidang.papersummary.s3.service.S3Service;
+import joomidang.papersummary.s3.service.S3FileDeleter;
 import joomidang.papersummary.summary.entity.Summary;
 import joomidang.papersummary.summary.entity.SummaryVersion;
 import joomidang.papersummary.summary.entity.VersionType;
@@ -19,7 +19,7 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class SummaryVersionService {
     private final SummaryVersionRepository summaryVersionRepository;
-    private final S3Service s3Service;
+    private final S3FileDeleter s3FileDeleter;
 
     private static final int MAX_DRAFT_VERSIONS = 5;
 
@@ -57,28 +57,16 @@ public class SummaryVersionService {
     }
 
     /**
-     * 요약본의 모든 버전을 삭제합니다. - 요약본 삭제 시: 모든 버전(DRAFT, PUBLISHED) 하드 삭제 - S3에 저장된 파일도 함께 삭제
+     * 요약본의 모든 버전을 삭제합니다. - 요약본 삭제 시: 모든 버전(DRAFT, PUBLISHED) 하드 삭제 - S3에 저장된 파일은 커밋 후 일괄 삭제
      */
     public void deleteAllVersionBySummary(Summary summary) {
         log.debug("요약본 버전 삭제 시작: summaryId={}", summary.getId());
 
-        // 1. DRAFT 버전 처리 - 모두 삭제
-        List<SummaryVersion> draftVersions = summaryVersionRepository.findBySummaryAndVersionTypeOrderByCreatedAtDesc(
-                summary, VersionType.DRAFT);
-        log.debug("DRAFT 버전 삭제 대상: {}개", draftVersions.size());
-
-        // S3 파일 삭제 후 버전 삭제
-        deleteVersionsWithS3Files(draftVersions);
-
-        // 2. PUBLISHED 버전 처리 - 모두 삭제
-        List<SummaryVersion> publishedVersions = summaryVersionRepository.findBySummaryAndVersionTypeOrderByCreatedAtDesc(
-                summary, VersionType.PUBLISHED);
-        log.debug("PUBLISHED 버전 삭제 대상: {}개", publishedVersions.size());
-
-        // S3 파일 삭제 후 버전 삭제
-        deleteVersionsWithS3Files(publishedVersions);
+        List<String> s3Keys = summaryVersionRepository.findS3KeysBySummaryId(summary.getId());
+        int deleted = summaryVersionRepository.deleteAllBySummaryId(summary.getId());
+        s3FileDeleter.deleteMarkdownAfterCommit(s3Keys);
 
-        log.debug("요약본 버전 삭제 완료: summaryId={}", summary.getId());
+        log.debug("요약본 버전 삭제 완료: summaryId={}, 삭제={}개", summary.getId(), deleted);
     }
 
     private SummaryVersion buildSummaryVersion(Summary summary, String s3Key, String title, Member member,
@@ -97,26 +85,15 @@ public class SummaryVersionService {
     }
 
     /**
-     * 버전 목록을 받아 S3 파일을 삭제한 후 버전을 삭제합니다.
+     * 버전 목록을 한 번의 쿼리로 삭제하고, S3 파일은 커밋 후 일괄 삭제합니다.
      */
     private void deleteVersionsWithS3Files(List<SummaryVersion> versions) {
-        for (SummaryVersion version : versions) {
-            try {
-                // S3 파일 삭제
-                String s3KeyMd = version.getS3KeyMd();
-                if (s3KeyMd != null && !s3KeyMd.isBlank()) {
-                    log.debug("S3 파일 삭제: {}", s3KeyMd);
-                    s3Service.deleteFile(s3KeyMd);
-                }
-
-                // 버전 삭제
-                log.debug("버전 삭제: versionId={}, type={}", version.getId(), version.getVersionType());
-                summaryVersionRepository.delete(version);
-            } catch (Exception e) {
-                log.error("버전 삭제 중 오류 발생: versionId={}, error={}", version.getId(), e.getMessage(), e);
-                // 오류가 발생해도 다른 버전 삭제 계속 진행
-            }
-        }
+        List<Long> ids = versions.stream().map(SummaryVersion::getId).toList();
+        List<String> s3Keys = versions.stream().map(SummaryVersion::getS3KeyMd).toList();
+
+        log.debug("버전 일괄 삭제: versionIds={}", ids);
+        summaryVersionRepository.deleteAllByIds(ids);
+        s3FileDeleter.deleteMarkdownAfterCommit(s3Keys);
     }
 
     private void changeOldPublishVersionToDraft(Summary summary) {
@@ -0,0 +1,6 @@
+-- 분석 단계별 대기 시간 측정용 컬럼
+--
+-- prod는 ddl-auto=validate라 새 컬럼을 만들지 않으므로 배포 전에 한 번 실행한다.
+-- 기존 행은 NULL로 남고, 다음 단계 전환부터 기록된다.
+ALTER TABLE analysis_log
+    ADD COLUMN enqueued_at DATETIME(6) NULL;
@@ -0,0 +1,42 @@
+-- 같은 PDF(SHA-256)의 파싱/요약 결과 재사용
+--
+-- prod는 ddl-auto=validate라 새 테이블/컬럼을 만들지 않으므로 배포 전에 한 번 실행한다.
+-- (dev/local은 ddl-auto=update로 생성되지만, 이 스크립트로 미리 만들어도 된다)
+ALTER TABLE paper
+    ADD COLUMN content_hash VARCHAR(64) NULL;
+
+CREATE INDEX idx_paper_content_hash ON paper (content_hash);
+
+CREATE TABLE paper_content
+(
+    id               BIGINT       NOT NULL AUTO_INCREMENT,
+    content_hash     VARCHAR(64)  NOT NULL,
+    source_paper_id  BIGINT       NOT NULL,
+    title            VARCHAR(500) NULL,
+    markdown_url     VARCHAR(500) NOT NULL,
+    content_list_url VARCHAR(500) NULL,
+    summary_s3_key   VARCHAR(500) NULL,
+    created_at       DATETIME(6)  NOT NULL,
+    updated_at       DATETIME(6)  NULL,
+    is_deleted       TINYINT(1)   NOT NULL DEFAULT 0,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_paper_content_hash UNIQUE (content_hash)
+) ENGINE = InnoDB;
+
+CREATE TABLE paper_content_figure
+(
+    paper_content_id BIGINT       NOT NULL,
+    position         INT          NOT NULL,
+    storage_url      VARCHAR(500) NOT NULL,
+    PRIMARY KEY (paper_content_id, position),
+    CONSTRAINT fk_paper_content_figure_content FOREIGN KEY (paper_content_id) REFERENCES paper_content (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE paper_content_table
+(
+    paper_content_id BIGINT       NOT NULL,
+    position         INT          NOT NULL,
+    storage_url      VARCHAR(500) NOT NULL,
+    PRIMARY KEY (paper_content_id, position),
+    CONSTRAINT fk_paper_content_table_content FOREIGN KEY (paper_content_id) REFERENCES paper_content (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,6 @@
+-- paper.status에 UPLOADING 추가 (서명 URL 직접 업로드)
+--
+-- status는 MySQL enum 컬럼이고 ddl-auto(update/validate)는 기존 컬럼의 허용 값을 바꾸지 않으므로,
+-- 배포 전에 각 환경(prod/dev/local)에서 한 번 실행한다. 이미 적용된 환경에서 다시 실행해도 결과는 같다.
+ALTER TABLE paper
+    MODIFY COLUMN status ENUM ('UPLOADING', 'PENDING', 'PROCESSING', 'ANALYZED', 'PUBLISHED', 'FAILED') NOT NULL;
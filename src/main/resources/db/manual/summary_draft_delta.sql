@@ -0,0 +1,17 @@
+-- 임시 저장 델타 (기준 스냅샷 + seq 순서 델타)
+--
+-- prod는 ddl-auto=validate라 새 테이블을 만들지 않으므로 배포 전에 한 번 실행한다.
+CREATE TABLE summary_draft_delta
+(
+    id            BIGINT       NOT NULL AUTO_INCREMENT,
+    summary_id    BIGINT       NOT NULL,
+    base_s3_key   VARCHAR(500) NOT NULL,
+    seq           INT          NOT NULL,
+    start_offset  INT          NOT NULL,
+    delete_length INT          NOT NULL,
+    inserted_text LONGTEXT     NOT NULL,
+    title         VARCHAR(255) NULL,
+    created_at    DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_summary_draft_delta_seq UNIQUE (summary_id, seq)
+) ENGINE = InnoDB;
@@ -0,0 +1,118 @@
+package joomidang.papersummary.common.util;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vector API(jdk.incubator.vector) 기반 벡터 연산 커널
+ * <p>
+ * JVM이 --add-modules jdk.incubator.vector 로 실행된 경우에만 로드된다. 남는 꼬리 원소(차원 % 레인 수)는 스칼라로 처리한다.
+ * <p>
+ * incubator 모듈 옵션이 필요한 유일한 클래스라 별도 소스셋(src/simd/java)에서 컴파일한다. (build.gradle 참고)
+ */
+final class SimdVectorKernels implements VectorKernels {
+    private static final VectorSpecies<Float> SPECIES = FloatVector.SPECIES_PREFERRED;
+    // 레인이 이보다 적으면(64비트 벡터 등) 스칼라 루프가 더 빠르므로 사용하지 않음
+    private static final int MIN_LANES = 4;
+
+    SimdVectorKernels() {
+        if (SPECIES.length() < MIN_LANES) {
+            throw new UnsupportedOperationException("SIMD 레인 수 부족: " + SPECIES.length());
+        }
+    }
+
+    @Override
+    public void add(float[] acc, float[] v) {
+        int i = 0;
+        int upper = SPECIES.loopBound(acc.length);
+        for (; i < upper; i += SPECIES.length()) {
+            FloatVector.fromArray(SPECIES, acc, i)
+                    .add(FloatVector.fromArray(SPECIES, v, i))
+                    .intoArray(acc, i);
+        }
+        for (; i < acc.length; i++) {
+            acc[i] += v[i];
+        }
+    }
+
+    @Override
+    public void scale(float[] v, float factor) {
+        int i = 0;
+        int upper = SPECIES.loopBound(v.length);
+        for (; i < upper; i += SPECIES.length()) {
+            FloatVector.fromArray(SPECIES, v, i).mul(factor).intoArray(v, i);
+        }
+        for (; i < v.length; i++) {
+            v[i] *= factor;
+        }
+    }
+
+    @Override
+    public float dot(float[] a, float[] b) {
+        FloatVector acc = FloatVector.zero(SPECIES);
+        int i = 0;
+        int upper = SPECIES.loopBound(a.length);
+        for (; i < upper; i += SPECIES.length()) {
+            FloatVector va = FloatVector.fromArray(SPECIES, a, i);
+            FloatVector vb = FloatVector.fromArray(SPECIES, b, i);
+            acc = acc.add(va.mul(vb));
+        }
+        float sum = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+
+    @Override
+    public float cosine(float[] a, float[] b) {
+        FloatVector dotAcc = FloatVector.zero(SPECIES);
+        FloatVector normAAcc = FloatVector.zero(SPECIES);
+        FloatVector normBAcc = FloatVector.zero(SPECIES);
+        int i = 0;
+        int upper = SPECIES.loopBound(a.length);
+        for (; i < upper; i += SPECIES.length()) {
+            FloatVector va = FloatVector.fromArray(SPECIES, a, i);
+            FloatVector vb = FloatVector.fromArray(SPECIES, b, i);
+            dotAcc = dotAcc.add(va.mul(vb));
+            normAAcc = normAAcc.add(va.mul(va));
+            normBAcc = normBAcc.add(vb.mul(vb));
+        }
+        float dot = dotAcc.reduceLanes(VectorOperators.ADD);
+        float normA = normAAcc.reduceLanes(VectorOperators.ADD);
+        float normB = normBAcc.reduceLanes(VectorOperators.ADD);
+        for (; i < a.length; i++) {
+            dot += a[i] * b[i];
+            normA += a[i] * a[i];
+            normB += b[i] * b[i];
+        }
+        return VectorUtils.toCosine(dot, normA * normB);
+    }
+
+    @Override
+    public float cosineToUnit(float[] unitQuery, float[] candidate) {
+        FloatVector dotAcc = FloatVector.zero(SPECIES);
+        FloatVector normAcc = FloatVector.zero(SPECIES);
+        int i = 0;
+        int upper = SPECIES.loopBound(candidate.length);
+        for (; i < upper; i += SPECIES.length()) {
+            FloatVector vq = FloatVector.fromArray(SPECIES, unitQuery, i);
+            FloatVector vc = FloatVector.fromArray(SPECIES, candidate, i);
+            dotAcc = dotAcc.add(vq.mul(vc));
+            normAcc = normAcc.add(vc.mul(vc));
+        }
+        float dot = dotAcc.reduceLanes(VectorOperators.ADD);
+        float norm = normAcc.reduceLanes(VectorOperators.ADD);
+        for (; i < candidate.length; i++) {
+            dot += unitQuery[i] * candidate[i];
+            norm += candidate[i] * candidate[i];
+        }
+        return VectorUtils.toCosine(dot, norm);
+    }
+
+    @Override
+    public String name() {
+        return "simd(" + SPECIES.length() + " lanes)";
+    }
+}
@@ -34,6 +34,8 @@ import joomidang.papersummary.member.entity.AuthProvider;
 import joomidang.papersummary.member.entity.Member;
 import joomidang.papersummary.member.entity.Role;
 import joomidang.papersummary.member.service.MemberService;
+import joomidang.papersummary.member.service.ProfileImageUrlResolver;
+import joomidang.papersummary.s3.service.S3Service;
 import joomidang.papersummary.summary.entity.PublishStatus;
 import joomidang.papersummary.summary.entity.Summary;
 import joomidang.papersummary.summary.service.SummaryService;
@@ -73,8 +75,11 @@ class CommentServiceTest {
         commentLikeRepository = mock(CommentLikeRepository.class);
         statsEventPublisher = mock(StatsEventPublisher.class);
 
+        S3Service s3Service = mock(S3Service.class);
+        when(s3Service.fileUrl("")).thenReturn("https://upload-bucket.s3.amazonaws.com/");
+
         commentService = new CommentService(commentRepository, summaryService, memberService, commentLikeRepository,
-                statsEventPublisher);
+                statsEventPublisher, new ProfileImageUrlResolver(s3Service));
 
         // 테스트용 Member 생성
         testMember = Member.builder()
@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -13,17 +14,24 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import joomidang.papersummary.common.config.elasticsearch.entiy.SummaryDocument;
 import joomidang.papersummary.common.config.elasticsearch.repository.SummaryElasticsearchRepository;
+import joomidang.papersummary.common.embedding.ChunkEmbeddingStore;
+import joomidang.papersummary.common.embedding.HeuristicTokenCounter;
 import joomidang.papersummary.common.embedding.HuggingFaceEmbeddingClient;
+import joomidang.papersummary.common.util.MarkdownChunker;
+import joomidang.papersummary.member.service.ProfileImageUrlResolver;
+import joomidang.papersummary.s3.service.S3Service;
 import joomidang.papersummary.summary.controller.response.SummaryListResponse;
 import joomidang.papersummary.summary.controller.response.SummaryResponse;
 import joomidang.papersummary.summary.entity.PublishStatus;
@@ -64,15 +72,32 @@ public class ElasticsearchSummaryServiceTest {
     @Mock
     private ValueOperations<String, Object> valueOperations;
 
+    @Mock
+    private RedisTemplate<String, float[]> vectorRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, float[]> vectorValueOperations;
+
+    @Mock
+    private ChunkEmbeddingStore chunkEmbeddingStore;
+
+    private SimpleMeterRegistry meterRegistry;
+
     @Mock
     private TagService tagService;
 
+    @Mock
+    private S3Service s3Service;
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
 
         // Setup RedisTemplate mock
         when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(vectorRedisTemplate.opsForValue()).thenReturn(vectorValueOperations);
+        when(s3Service.fileUrl("")).thenReturn("https://upload-bucket.s3.amazonaws.com/");
+        meterRegistry = new SimpleMeterRegistry();
 
         elasticsearchSummaryService = new ElasticsearchSummaryService(
                 elasticsearchRepository,
@@ -80,7 +105,12 @@ public class ElasticsearchSummaryServiceTest {
                 embeddingClient,
                 elasticsearchClient,
                 redisTemplate,
-                tagService
+                vectorRedisTemplate,
+                chunkEmbeddingStore,
+                new MarkdownChunker(new HeuristicTokenCounter(), 512, 0),
+                meterRegistry,
+                tagService,
+                new ProfileImageUrlResolver(s3Service)
         );
     }
 
@@ -205,10 +235,10 @@ public class ElasticsearchSummaryServiceTest {
 
         // Verify
         verify(elasticsearchRepository, times(1)).findById(String.valueOf(summaryId));
-        verify(valueOperations, times(2)).get(
-                anyString()); // Cache check (once for recommendations, once for embedding)
-        verify(valueOperations, times(2)).set(anyString(), any(),
-                any()); // Cache set (once for embedding, once for recommendations)
+        verify(valueOperations, times(1)).get(anyString()); // 추천 결과 캐시 조회
+        verify(valueOperations, times(1)).set(anyString(), any(), any()); // 추천 결과 캐시 저장
+        verify(vectorValueOperations, times(1)).get(anyString()); // 임베딩 캐시 조회
+        verify(vectorValueOperations, times(1)).set(anyString(), any(float[].class), any()); // 임베딩 캐시 저장
         verify(summaryRepository, times(1)).findPopularSummariesByPublishStatus(eq(PublishStatus.PUBLISHED),
                 any(Pageable.class));
     }
@@ -231,7 +261,7 @@ public class ElasticsearchSummaryServiceTest {
         when(tagService.getTagNamesBySummary(1L)).thenReturn(tags);
 
         // Mock embedding client
-        List<Float> embeddingResult = Arrays.asList(0.1f, 0.2f, 0.3f);
+        float[] embeddingResult = {0.1f, 0.2f, 0.3f};
         when(embeddingClient.embed(anyString(), anyString())).thenReturn(embeddingResult);
 
         // when
@@ -243,6 +273,41 @@ public class ElasticsearchSummaryServiceTest {
         verify(embeddingClient, times(1)).embed(anyString(), anyString());
     }
 
+    @Test
+    @DisplayName("재발행 시 변경된 청크만 임베딩하고 나머지는 저장된 벡터 재사용")
+    void indexSummaryReusesUnchangedChunks() {
+        // given
+        Summary summary = mock(Summary.class);
+        when(summary.getId()).thenReturn(1L);
+        when(summary.getTitle()).thenReturn("인공지능 논문 요약");
+        when(summary.getBrief()).thenReturn("인공지능 관련 논문 요약입니다.");
+        when(tagService.getTagNamesBySummary(1L)).thenReturn(Collections.emptyList());
+
+        String unchangedChunk = "# 서론\n변경되지 않은 문단";
+        String changedChunk = "# 결론\n오타를 수정한 문단";
+        String markdown = unchangedChunk + "\n" + changedChunk;
+
+        // 청크 내용을 그대로 해시로 사용
+        when(chunkEmbeddingStore.hash(anyString(), anyString()))
+                .thenAnswer(invocation -> invocation.getArgument(1));
+        when(chunkEmbeddingStore.findAll(eq(1L), any()))
+                .thenReturn(Map.of(unchangedChunk, new float[]{1f, 1f}));
+        when(embeddingClient.embed(anyString(), eq("passage: " + changedChunk)))
+                .thenReturn(new float[]{3f, 3f});
+
+        // when
+        elasticsearchSummaryService.indexSummary(summary, markdown);
+
+        // then
+        verify(embeddingClient, times(1)).embed(anyString(), anyString());
+        verify(chunkEmbeddingStore, times(1)).replaceAll(eq(1L), argThat(vectors -> vectors.size() == 2));
+        verify(elasticsearchRepository, times(1)).save(argThat(document ->
+                document.getEmbedding()[0] == 2f && document.getEmbedding()[1] == 2f));
+        assertEquals(1.0, meterRegistry.counter("embedding.chunks", "result", "reused").count());
+        assertEquals(1.0, meterRegistry.counter("embedding.chunks", "result", "embedded").count());
+        assertEquals(0.5, meterRegistry.summary("embedding.chunk.reuse.ratio").mean());
+    }
+
     @Test
     @DisplayName("요약본 삭제 성공 테스트")
     void deleteSummarySuccess() {
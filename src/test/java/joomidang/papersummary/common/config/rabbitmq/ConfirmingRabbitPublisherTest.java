@@ -0,0 +1,182 @@
+package joomidang.papersummary.common.config.rabbitmq;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.core.ReturnedMessage;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+class ConfirmingRabbitPublisherTest {
+    private RabbitTemplate rabbitTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private RabbitPublisherProperties properties;
+    private ConfirmingRabbitPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        rabbitTemplate = mock(RabbitTemplate.class);
+        ConnectionFactory connectionFactory = mock(ConnectionFactory.class);
+        when(connectionFactory.isPublisherConfirms()).thenReturn(true);
+        when(rabbitTemplate.getConnectionFactory()).thenReturn(connectionFactory);
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new RabbitPublisherProperties();
+        properties.setMaxInFlight(2);
+        properties.setAcquireTimeout(Duration.ofMillis(50));
+        properties.setMaxResends(1);
+        properties.setResendDelay(Duration.ZERO);
+        publisher = new ConfirmingRabbitPublisher(rabbitTemplate, properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        publisher.shutdown();
+    }
+
+    @Test
+    @DisplayName("ack를 받으면 future 완료 및 in-flight 해제")
+    void ackCompletesFuture() throws Exception {
+        // given
+        CompletableFuture<Void> result = publisher.send("paper.direct", "PARSING", message());
+        CorrelationData correlationData = sentCorrelations(1).get(0);
+        assertEquals(1, publisher.inFlightCount());
+
+        // when
+        correlationData.getFuture().complete(new CorrelationData.Confirm(true, null));
+
+        // then
+        result.get(1, TimeUnit.SECONDS);
+        assertEquals(0, publisher.inFlightCount());
+        assertEquals(1.0, meterRegistry.counter("rabbitmq.publisher.confirmed").count());
+    }
+
+    @Test
+    @DisplayName("nack를 받으면 다른 스레드에서 재전송")
+    void nackResends() throws Exception {
+        // given
+        CompletableFuture<Void> result = publisher.send("paper.direct", "PARSING", message());
+
+        // when
+        sentCorrelations(1).get(0).getFuture().complete(new CorrelationData.Confirm(false, "nack"));
+
+        // then
+        CorrelationData resent = sentCorrelations(2).get(1);
+        resent.getFuture().complete(new CorrelationData.Confirm(true, null));
+        result.get(1, TimeUnit.SECONDS);
+        assertEquals(1.0, meterRegistry.counter("rabbitmq.publisher.resent").count());
+    }
+
+    @Test
+    @DisplayName("재전송 한도를 넘기면 future 예외 완료")
+    void exhaustedResendsFail() throws Exception {
+        // given
+        CompletableFuture<Void> result = publisher.send("paper.direct", "PARSING", message());
+        sentCorrelations(1).get(0).getFuture().complete(new CorrelationData.Confirm(false, "nack"));
+
+        // when
+        sentCorrelations(2).get(1).getFuture().complete(new CorrelationData.Confirm(false, "nack"));
+
+        // then
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> result.get(1, TimeUnit.SECONDS));
+        assertTrue(exception.getCause() instanceof AmqpException);
+        assertEquals(1.0, meterRegistry.counter("rabbitmq.publisher.failed").count());
+        assertEquals(0, publisher.inFlightCount());
+    }
+
+    @Test
+    @DisplayName("라우팅되지 않은 메시지는 재전송하지 않음")
+    void returnedMessageNotResent() {
+        // given
+        Message message = message();
+        CompletableFuture<Void> result = publisher.send("paper.direct", "UNKNOWN", message);
+        CorrelationData correlationData = sentCorrelations(1).get(0);
+
+        // when
+        correlationData.setReturned(new ReturnedMessage(message, 312, "NO_ROUTE", "paper.direct", "UNKNOWN"));
+        correlationData.getFuture().complete(new CorrelationData.Confirm(true, null));
+
+        // then
+        assertTrue(result.isCompletedExceptionally());
+        assertEquals(1.0, meterRegistry.counter("rabbitmq.publisher.returned").count());
+        assertEquals(0.0, meterRegistry.counter("rabbitmq.publisher.resent").count());
+    }
+
+    @Test
+    @DisplayName("in-flight 한도가 차면 발행 거부")
+    void rejectsWhenWindowFull() {
+        // given
+        publisher.send("paper.direct", "PARSING", message());
+        publisher.send("paper.direct", "PARSING", message());
+
+        // when & then
+        assertThrows(AmqpException.class, () -> publisher.send("paper.direct", "PARSING", message()));
+        assertEquals(1.0, meterRegistry.counter("rabbitmq.publisher.rejected").count());
+    }
+
+    @Test
+    @DisplayName("채널 쓰기 실패 시 예외를 던지고 in-flight 해제")
+    void sendFailureReleasesPermit() {
+        // given
+        doThrow(new AmqpException("connection closed"))
+                .when(rabbitTemplate).send(eq("paper.direct"), eq("PARSING"), any(Message.class),
+                        any(CorrelationData.class));
+
+        // when & then
+        assertThrows(AmqpException.class, () -> publisher.send("paper.direct", "PARSING", message()));
+        assertEquals(0, publisher.inFlightCount());
+    }
+
+    @Test
+    @DisplayName("publisher confirm이 꺼져 있으면 confirm을 기다리지 않고 바로 완료")
+    void sendsWithoutConfirmsWhenDisabled() throws Exception {
+        // given
+        RabbitTemplate plainTemplate = mock(RabbitTemplate.class);
+        when(plainTemplate.getConnectionFactory()).thenReturn(mock(ConnectionFactory.class));
+        ConfirmingRabbitPublisher plainPublisher = new ConfirmingRabbitPublisher(plainTemplate, properties,
+                meterRegistry);
+
+        // when
+        CompletableFuture<Void> result = plainPublisher.send("paper.direct", "PARSING", message());
+
+        // then
+        result.get(1, TimeUnit.SECONDS);
+        verify(plainTemplate).send(eq("paper.direct"), eq("PARSING"), any(Message.class));
+        assertEquals(0, plainPublisher.inFlightCount());
+        plainPublisher.shutdown();
+    }
+
+    private List<CorrelationData> sentCorrelations(int expected) {
+        ArgumentCaptor<CorrelationData> captor = ArgumentCaptor.forClass(CorrelationData.class);
+        verify(rabbitTemplate, timeout(1000).times(expected))
+                .send(eq("paper.direct"), any(), any(Message.class), captor.capture());
+        return captor.getAllValues();
+    }
+
+    private static Message message() {
+        return new Message("{}".getBytes(), new MessageProperties());
+    }
+}
@@ -0,0 +1,44 @@
+package joomidang.papersummary.common.config.rabbitmq;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ConsumerScalingPolicyTest {
+    private final RabbitConsumerProperties.QueueConsumer limits = new RabbitConsumerProperties.QueueConsumer(1, 8, 50);
+    private final RabbitConsumerProperties.Autoscale autoscale = new RabbitConsumerProperties.Autoscale();
+
+    @Test
+    @DisplayName("대기 메시지 수에 비례해 확장하고 최대값을 넘지 않음")
+    void scaleUpByDepth() {
+        assertEquals(3, desired(1, new QueueStats(120, 1, QueueStats.UNKNOWN_RATE), false));
+        assertEquals(8, desired(1, new QueueStats(10_000, 1, QueueStats.UNKNOWN_RATE), false));
+    }
+
+    @Test
+    @DisplayName("예상 소진 시간이 목표보다 길면 한 단계 추가 확장")
+    void scaleUpBySlowDrain() {
+        // 40개를 초당 0.5개로 처리 → 80초 소요 (목표 30초)
+        assertEquals(3, desired(2, new QueueStats(40, 2, 0.5), false));
+    }
+
+    @Test
+    @DisplayName("축소는 쿨다운이 지난 뒤 한 단계씩")
+    void scaleDownGradually() {
+        QueueStats empty = new QueueStats(0, 4, 10.0);
+
+        assertEquals(4, desired(4, empty, false));
+        assertEquals(3, desired(4, empty, true));
+    }
+
+    @Test
+    @DisplayName("큐가 비어 있어도 최소값 유지")
+    void keepMinimum() {
+        assertEquals(1, desired(1, new QueueStats(0, 1, 0.0), true));
+    }
+
+    private int desired(int current, QueueStats stats, boolean cooldownElapsed) {
+        return ConsumerScalingPolicy.desiredConsumers(current, limits, autoscale, stats, cooldownElapsed);
+    }
+}
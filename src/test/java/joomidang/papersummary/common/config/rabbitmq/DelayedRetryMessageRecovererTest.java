@@ -0,0 +1,85 @@
+package joomidang.papersummary.common.config.rabbitmq;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.MessageConversionException;
+
+class DelayedRetryMessageRecovererTest {
+    private RabbitTemplate rabbitTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private DelayedRetryMessageRecoverer recoverer;
+
+    @BeforeEach
+    void setUp() {
+        rabbitTemplate = mock(RabbitTemplate.class);
+        meterRegistry = new SimpleMeterRegistry();
+        recoverer = new DelayedRetryMessageRecoverer(rabbitTemplate, new RabbitRetryProperties(), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("첫 실패는 1단계 재시도 큐로 보내고 시도 횟수 헤더 증가")
+    void firstFailureGoesToRetry() {
+        // given
+        Message message = message(null);
+
+        // when
+        recoverer.recover(message, new RuntimeException("일시적 오류"));
+
+        // then
+        verify(rabbitTemplate).send("paper.complete.retry", "1", message);
+        assertEquals(1, (Integer) message.getMessageProperties().getHeader(RabbitRetryTopology.HEADER_ATTEMPT));
+        assertEquals(1.0, meterRegistry.counter("rabbitmq.retry.published", "queue", "paper.complete").count());
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수에 도달하면 DLQ로 이동")
+    void lastFailureGoesToDeadLetter() {
+        // given (기본 최대 4회, 이미 3번 시도)
+        Message message = message(3);
+
+        // when
+        recoverer.recover(message, new RuntimeException("계속 실패"));
+
+        // then
+        verify(rabbitTemplate).send(RabbitRetryTopology.DEAD_LETTER_EXCHANGE, "paper.complete", message);
+        verify(rabbitTemplate, never()).send(eq("paper.complete.retry"), anyString(), any(Message.class));
+        assertEquals("계속 실패",
+                message.getMessageProperties().getHeader(RabbitRetryTopology.HEADER_EXCEPTION_MESSAGE));
+        assertEquals(1.0, meterRegistry.counter("rabbitmq.deadletter.published", "queue", "paper.complete").count());
+    }
+
+    @Test
+    @DisplayName("메시지 변환 실패는 재시도하지 않고 바로 DLQ로 이동")
+    void conversionFailureGoesToDeadLetter() {
+        // given
+        Message message = message(null);
+
+        // when
+        recoverer.recover(message, new MessageConversionException("잘못된 JSON"));
+
+        // then
+        verify(rabbitTemplate).send(RabbitRetryTopology.DEAD_LETTER_EXCHANGE, "paper.complete", message);
+    }
+
+    private Message message(Integer attempt) {
+        MessageProperties properties = new MessageProperties();
+        properties.setConsumerQueue(RabbitMQConfig.COMPLETE_QUEUE);
+        if (attempt != null) {
+            properties.setHeader(RabbitRetryTopology.HEADER_ATTEMPT, attempt);
+        }
+        return new Message("{}".getBytes(), properties);
+    }
+}
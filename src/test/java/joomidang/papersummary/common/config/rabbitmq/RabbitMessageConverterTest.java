@@ -0,0 +1,78 @@
+package joomidang.papersummary.common.config.rabbitmq;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import java.nio.charset.StandardCharsets;
+import joomidang.papersummary.common.config.rabbitmq.RabbitPublisherProperties.MessageFormat;
+import joomidang.papersummary.common.config.rabbitmq.payload.SummaryCompletedPayload;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+class RabbitMessageConverterTest {
+    private MessageConverter converter;
+
+    @BeforeEach
+    void setUp() {
+        converter = new RabbitMQConfig(new RabbitPublisherProperties()).messageConverter();
+    }
+
+    @Test
+    @DisplayName("Smile 형식으로 설정하면 Smile로 발행하고 리스너 파라미터 타입으로 복원")
+    void smileRoundTrip() {
+        // given
+        RabbitPublisherProperties properties = new RabbitPublisherProperties();
+        properties.setMessageFormat(MessageFormat.SMILE);
+        MessageConverter smileConverter = new RabbitMQConfig(properties).messageConverter();
+        PaperEventEnvelop<SummaryCompletedPayload> event = new PaperEventEnvelop<>(
+                PaperEventType.SUMMARY_COMPLETED, new SummaryCompletedPayload(1L, "summaries/1.md"));
+
+        // when
+        Message message = smileConverter.toMessage(event, new MessageProperties());
+        message.getMessageProperties().setInferredArgumentType(
+                new TypeReference<PaperEventEnvelop<SummaryCompletedPayload>>() {
+                }.getType());
+        // 수신 쪽은 발행 형식 설정과 관계없이 content-type으로 판단
+        Object result = converter.fromMessage(message);
+
+        // then
+        assertEquals(SmileMessageConverter.CONTENT_TYPE, message.getMessageProperties().getContentType());
+        assertEquals(event, result);
+    }
+
+    @Test
+    @DisplayName("기본 발행 형식은 JSON (롤링 배포 중 이전 컨슈머 호환)")
+    void jsonFormatByDefault() {
+        // when
+        Message message = converter.toMessage(new StatsEvent(1L, StatsType.LIKE), new MessageProperties());
+
+        // then
+        assertEquals(MessageProperties.CONTENT_TYPE_JSON, message.getMessageProperties().getContentType());
+    }
+
+    @Test
+    @DisplayName("배포 이전에 발행된 Map 형식 JSON 통계 메시지도 StatsEvent로 복원")
+    void legacyJsonStatsMessage() {
+        // given
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        properties.setHeader("__TypeId__", "java.util.ImmutableCollections$MapN");
+        properties.setInferredArgumentType(StatsEvent.class);
+        Message message = new Message("{\"summaryId\":3,\"type\":\"COMMENT\"}".getBytes(StandardCharsets.UTF_8),
+                properties);
+
+        // when
+        Object result = converter.fromMessage(message);
+
+        // then
+        StatsEvent event = assertInstanceOf(StatsEvent.class, result);
+        assertEquals(0, event.version());
+        assertEquals(3L, event.summaryId());
+        assertEquals(StatsType.COMMENT, event.type());
+    }
+}
@@ -0,0 +1,42 @@
+package joomidang.papersummary.common.config.redis;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.SerializationException;
+
+class FloatArrayRedisSerializerTest {
+    private final FloatArrayRedisSerializer serializer = new FloatArrayRedisSerializer();
+
+    @Test
+    @DisplayName("float[] 직렬화 후 역직렬화하면 동일한 벡터 반환")
+    void roundTrip() {
+        // given
+        float[] vector = {0.1f, -0.25f, 3.5f, Float.MIN_VALUE};
+
+        // when
+        byte[] bytes = serializer.serialize(vector);
+        float[] result = serializer.deserialize(bytes);
+
+        // then
+        assertEquals(vector.length * Float.BYTES, bytes.length);
+        assertArrayEquals(vector, result);
+    }
+
+    @Test
+    @DisplayName("null 값은 null로 처리")
+    void nullValue() {
+        assertNull(serializer.serialize(null));
+        assertNull(serializer.deserialize(null));
+    }
+
+    @Test
+    @DisplayName("4바이트 단위가 아닌 데이터는 예외 발생")
+    void invalidLength() {
+        assertThrows(SerializationException.class, () -> serializer.deserialize(new byte[]{1, 2, 3}));
+    }
+}
@@ -0,0 +1,88 @@
+package joomidang.papersummary.common.embedding;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class EmbeddingResponseParserTest {
+    private EmbeddingResponseParser parser;
+
+    @BeforeEach
+    void setUp() {
+        parser = new EmbeddingResponseParser(new JsonFactory(), 4);
+    }
+
+    @Test
+    @DisplayName("단일 숫자 배열 응답 파싱")
+    void parseFlatArray() throws Exception {
+        float[] result = parse("[0.1, -0.2, 0.3]");
+
+        assertArrayEquals(new float[]{0.1f, -0.2f, 0.3f}, result);
+    }
+
+    @Test
+    @DisplayName("배치 응답은 첫 번째 벡터만 사용")
+    void parseBatchArray() throws Exception {
+        float[] result = parse("[[[0.1, 0.2], [0.9, 0.9]], [[0.5, 0.5]]]");
+
+        assertArrayEquals(new float[]{0.1f, 0.2f}, result);
+    }
+
+    @Test
+    @DisplayName("타입 정보가 포함된 응답 파싱")
+    void parseTypedResponse() throws Exception {
+        float[] result = parse("[\"java.util.ArrayList\", [[\"java.lang.Float\", 0.25], [\"java.lang.Float\", -0.5]]]");
+
+        assertArrayEquals(new float[]{0.25f, -0.5f}, result);
+    }
+
+    @Test
+    @DisplayName("배치 안에 타입 정보가 포함된 응답 파싱")
+    void parseBatchOfTypedResponse() throws Exception {
+        float[] result = parse("[[\"java.util.ArrayList\", [1, 2, 3]], [\"java.util.ArrayList\", [4]]]");
+
+        assertArrayEquals(new float[]{1f, 2f, 3f}, result);
+    }
+
+    @Test
+    @DisplayName("예상 차원보다 긴 벡터도 모두 읽음")
+    void parseLongerThanExpectedDimension() throws Exception {
+        float[] result = parse("[1, 2, 3, 4, 5, 6, 7, 8, 9]");
+
+        assertEquals(9, result.length);
+        assertEquals(9f, result[8]);
+    }
+
+    @Test
+    @DisplayName("스트림 입력 파싱")
+    void parseStream() throws Exception {
+        byte[] body = "[[0.5, 0.25]]".getBytes(StandardCharsets.UTF_8);
+
+        float[] result = parser.parse(new ByteArrayInputStream(body));
+
+        assertArrayEquals(new float[]{0.5f, 0.25f}, result);
+    }
+
+    @Test
+    @DisplayName("빈 배열 응답은 예외 발생")
+    void parseEmptyArray() {
+        assertThrows(IllegalStateException.class, () -> parse("[[]]"));
+    }
+
+    @Test
+    @DisplayName("배열이 아닌 응답은 예외 발생")
+    void parseNonArray() {
+        assertThrows(IllegalStateException.class, () -> parse("{\"error\": \"Model is loading\"}"));
+    }
+
+    private float[] parse(String json) throws Exception {
+        return parser.parse(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,85 @@
+package joomidang.papersummary.common.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SlidingWindowSamplesTest {
+    private static final long MINUTE = SlidingWindowSamples.BUCKET_MILLIS;
+
+    @Test
+    @DisplayName("구간 내 기록으로 분위수 계산")
+    void percentilesWithinWindow() {
+        // given
+        SlidingWindowSamples samples = new SlidingWindowSamples(Duration.ofHours(1), 1024);
+        long now = 100 * MINUTE;
+        for (int i = 1; i <= 100; i++) {
+            samples.record(i, now);
+        }
+
+        // when
+        LatencyPercentiles result = samples.percentiles(Duration.ofMinutes(1), now);
+
+        // then
+        assertEquals(100, result.count());
+        assertEquals(50, result.p50Ms());
+        assertEquals(95, result.p95Ms());
+        assertEquals(99, result.p99Ms());
+        assertEquals(100, result.maxMs());
+    }
+
+    @Test
+    @DisplayName("윈도우 밖의 오래된 기록은 제외")
+    void excludesExpiredBuckets() {
+        // given
+        SlidingWindowSamples samples = new SlidingWindowSamples(Duration.ofHours(1), 1024);
+        long now = 100 * MINUTE;
+        samples.record(5_000, now - 10 * MINUTE);
+        samples.record(10, now);
+
+        // when
+        LatencyPercentiles lastMinute = samples.percentiles(Duration.ofMinutes(1), now);
+        LatencyPercentiles lastFifteen = samples.percentiles(Duration.ofMinutes(15), now);
+
+        // then
+        assertEquals(1, lastMinute.count());
+        assertEquals(10, lastMinute.maxMs());
+        assertEquals(2, lastFifteen.count());
+        assertEquals(5_000, lastFifteen.maxMs());
+    }
+
+    @Test
+    @DisplayName("한 바퀴 돈 버킷은 이전 기록을 지우고 재사용")
+    void reusesWrappedBucket() {
+        // given
+        SlidingWindowSamples samples = new SlidingWindowSamples(Duration.ofMinutes(5), 1024);
+        samples.record(1_000, 0);
+
+        // when (5분 뒤 같은 버킷 위치)
+        samples.record(20, 5 * MINUTE);
+        LatencyPercentiles result = samples.percentiles(Duration.ofMinutes(5), 5 * MINUTE);
+
+        // then
+        assertEquals(1, result.count());
+        assertEquals(20, result.p99Ms());
+    }
+
+    @Test
+    @DisplayName("표본 상한을 넘어도 건수와 최대값은 정확히 유지")
+    void keepsExactCountBeyondReservoir() {
+        // given
+        SlidingWindowSamples samples = new SlidingWindowSamples(Duration.ofHours(1), 16);
+        for (int i = 1; i <= 1_000; i++) {
+            samples.record(i, 0);
+        }
+
+        // when
+        LatencyPercentiles result = samples.percentiles(Duration.ofMinutes(1), 0);
+
+        // then
+        assertEquals(1_000, result.count());
+        assertEquals(1_000, result.maxMs());
+    }
+}
@@ -0,0 +1,69 @@
+package joomidang.papersummary.common.service;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+class SseConnectionTest {
+
+    @Test
+    @DisplayName("재전송 중 도착한 이벤트는 보류했다가 재전송 후 중복 없이 전송")
+    void holdLiveEventsDuringReplay() throws IOException {
+        // given
+        SseEmitter emitter = mock(SseEmitter.class);
+        SseConnection connection = new SseConnection("paper:1", emitter, true);
+        connection.offer(message(5L, false));
+        connection.offer(message(6L, false));
+        verify(emitter, never()).send(any(SseEventBuilder.class));
+
+        // when
+        connection.finishReplay(List.of(message(4L, false), message(5L, false)));
+
+        // then (4, 5 재전송 + 보류한 6)
+        verify(emitter, times(3)).send(any(SseEventBuilder.class));
+    }
+
+    @Test
+    @DisplayName("연결 종료 이벤트를 보내면 이미터를 완료")
+    void completeAfterFinalEvent() throws IOException {
+        // given
+        SseEmitter emitter = mock(SseEmitter.class);
+        SseConnection connection = new SseConnection("paper:1", emitter, false);
+
+        // when
+        connection.offer(message(1L, true));
+
+        // then
+        verify(emitter).send(any(SseEventBuilder.class));
+        verify(emitter).complete();
+    }
+
+    private SseRelayMessage message(long id, boolean complete) {
+        return new SseRelayMessage(id, 1L, null, "parsing_completed", Map.of(), complete, "node", 0L);
+    }
+
+    @Test
+    @DisplayName("이전 핑을 보내는 중이면 다음 핑을 예약하지 않음")
+    void reserveHeartbeatOnlyOnce() {
+        // given
+        SseConnection connection = new SseConnection("paper:1", mock(SseEmitter.class), false);
+
+        // when & then
+        assertTrue(connection.tryReserveHeartbeat());
+        assertFalse(connection.tryReserveHeartbeat());
+        assertTrue(connection.heartbeat());
+        assertTrue(connection.tryReserveHeartbeat());
+    }
+}
@@ -0,0 +1,57 @@
+package joomidang.papersummary.common.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+class SseHeartbeatWheelTest {
+
+    @Test
+    @DisplayName("tick마다 한 칸의 연결만 돌려주고, 한 바퀴 동안 모든 연결을 한 번씩 돌려줌")
+    void returnEachConnectionOncePerRotation() {
+        // given
+        SseHeartbeatWheel wheel = new SseHeartbeatWheel(3);
+        List<SseConnection> connections = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            SseConnection connection = new SseConnection("paper:" + i, mock(SseEmitter.class), false);
+            wheel.add(connection);
+            connections.add(connection);
+        }
+
+        // when
+        List<SseConnection> first = wheel.tick();
+        List<SseConnection> all = new ArrayList<>(first);
+        all.addAll(wheel.tick());
+        all.addAll(wheel.tick());
+
+        // then
+        assertThat(first).hasSize(2);
+        assertThat(all).containsExactlyInAnyOrderElementsOf(connections);
+    }
+
+    @Test
+    @DisplayName("제거한 연결은 핑 대상으로 돌려주지 않음")
+    void skipRemovedConnections() {
+        // given
+        SseHeartbeatWheel wheel = new SseHeartbeatWheel(1);
+        SseConnection alive = mock(SseConnection.class);
+        SseConnection removed = mock(SseConnection.class);
+        when(alive.heartbeatSlot()).thenReturn(0);
+        when(removed.heartbeatSlot()).thenReturn(0);
+        wheel.add(alive);
+        wheel.add(removed);
+        wheel.remove(removed);
+
+        // when
+        List<SseConnection> result = wheel.tick();
+
+        // then
+        assertThat(result).containsExactly(alive);
+    }
+}
@@ -0,0 +1,178 @@
+package joomidang.papersummary.common.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import joomidang.papersummary.common.exception.SseConnectionLimitException;
+import joomidang.papersummary.common.metrics.PipelineLatencyMetrics;
+import joomidang.papersummary.paper.repository.PaperRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SseServiceTest {
+    private SseService sseService;
+    private SseEventRelay relay;
+    private PipelineLatencyMetrics latencyMetrics;
+    private PaperRepository paperRepository;
+    private SseProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        relay = mock(SseEventRelay.class);
+        latencyMetrics = mock(PipelineLatencyMetrics.class);
+        paperRepository = mock(PaperRepository.class);
+        properties = new SseProperties();
+        properties.setMaxConnections(3);
+        when(paperRepository.findMemberIdById(any())).thenReturn(Optional.of(100L));
+        sseService = new SseService(relay, latencyMetrics, paperRepository, properties, new SimpleMeterRegistry());
+        sseService.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        sseService.shutdown();
+    }
+
+    @Test
+    @DisplayName("Redis 채널로 발행하면 연결이 없는 노드에서도 전송 성공으로 처리")
+    void sendPublishesToRelay() {
+        // given
+        Long paperId = 1L;
+        SseRelayMessage message = message(paperId, "other-node");
+        when(relay.createMessage(eq(paperId), eq(100L), eq("parsing_completed"), any(), eq(false))).thenReturn(message);
+        when(relay.publish(message)).thenReturn(true);
+
+        // when
+        boolean sent = sseService.sendParsingCompletedEvent(paperId);
+
+        // then
+        assertThat(sent).isTrue();
+        verify(relay).publish(message);
+    }
+
+    @Test
+    @DisplayName("Redis 발행 실패 시 로컬 연결이 없으면 전송 실패")
+    void sendFallsBackToLocal() {
+        // given
+        Long paperId = 1L;
+        SseRelayMessage message = message(paperId, "this-node");
+        when(relay.createMessage(eq(paperId), eq(100L), eq("parsing_completed"), any(), anyBoolean())).thenReturn(message);
+        when(relay.publish(message)).thenReturn(false);
+
+        // when
+        boolean sent = sseService.sendParsingCompletedEvent(paperId);
+
+        // then
+        assertThat(sent).isFalse();
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 받은 이벤트를 로컬 연결로 전송하고 전달 지연을 기록")
+    void deliverToLocalEmitter() {
+        // given
+        Long paperId = 1L;
+        sseService.createConnection(paperId);
+        SseRelayMessage message = message(paperId, "other-node");
+        when(relay.isRemote(message)).thenReturn(true);
+
+        // when
+        boolean delivered = sseService.deliver(message);
+
+        // then
+        assertThat(delivered).isTrue();
+        verify(latencyMetrics).recordSseDelivery(eq(true), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("이 노드에 연결이 없으면 전송하지 않고 지연도 기록하지 않음")
+    void deliverWithoutLocalEmitter() {
+        // given
+        SseRelayMessage message = message(2L, "other-node");
+
+        // when
+        boolean delivered = sseService.deliver(message);
+
+        // then
+        assertThat(delivered).isFalse();
+        verify(latencyMetrics, never()).recordSseDelivery(anyBoolean(), any());
+    }
+
+    @Test
+    @DisplayName("같은 논문에 두 번째 연결이 생겨도 기존 연결을 유지하고 모두에 전송")
+    void multipleConnectionsPerPaper() {
+        // given
+        Long paperId = 3L;
+        sseService.createConnection(paperId);
+        sseService.createConnection(paperId);
+        SseRelayMessage message = message(paperId, "this-node");
+
+        // when
+        boolean delivered = sseService.deliver(message);
+
+        // then
+        assertThat(delivered).isTrue();
+        verify(latencyMetrics).recordSseDelivery(eq(false), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("Last-Event-ID로 재연결하면 그 이후 이벤트를 버퍼에서 조회")
+    void replayFromLastEventId() {
+        // given
+        Long paperId = 4L;
+        when(relay.replay(paperId, 7L)).thenReturn(List.of(message(paperId, "other-node")));
+
+        // when
+        sseService.createConnection(paperId, 7L);
+
+        // then
+        verify(relay).replay(paperId, 7L);
+    }
+
+    @Test
+    @DisplayName("회원 스트림은 그 회원의 모든 논문 이벤트를 받음")
+    void memberStreamReceivesPaperEvents() {
+        // given
+        sseService.createMemberConnection(100L);
+        SseRelayMessage message = message(5L, "other-node");
+        when(relay.isRemote(message)).thenReturn(true);
+
+        // when
+        boolean delivered = sseService.deliver(message);
+
+        // then
+        assertThat(delivered).isTrue();
+    }
+
+    @Test
+    @DisplayName("노드 연결 수 한도를 넘으면 연결을 거절")
+    void rejectOverConnectionLimit() {
+        // given
+        sseService.createConnection(1L);
+        sseService.createConnection(2L);
+        sseService.createMemberConnection(100L);
+
+        // when & then
+        assertThatThrownBy(() -> sseService.createConnection(3L))
+                .isInstanceOf(SseConnectionLimitException.class);
+        assertThat(sseService.getConnectionCount()).isEqualTo(3);
+    }
+
+    private SseRelayMessage message(Long paperId, String origin) {
+        return new SseRelayMessage(1L, paperId, 100L, "parsing_completed", Map.of("paperId", paperId), false, origin,
+                System.currentTimeMillis());
+    }
+}
@@ -0,0 +1,92 @@
+package joomidang.papersummary.common.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import joomidang.papersummary.common.embedding.HeuristicTokenCounter;
+import joomidang.papersummary.common.embedding.TokenCounter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MarkdownChunkerTest {
+    private final TokenCounter tokenCounter = new HeuristicTokenCounter();
+
+    @Test
+    @DisplayName("헤더 기준으로 청크 분할")
+    void splitByHeading() {
+        // given
+        String markdown = "# 서론\n첫 번째 문단\n\n## 방법\n두 번째 문단\n";
+        MarkdownChunker chunker = new MarkdownChunker(tokenCounter, 512, 0);
+
+        // when
+        List<String> chunks = toStrings(chunker.chunk(markdown));
+
+        // then
+        assertEquals(List.of("# 서론\n첫 번째 문단", "## 방법\n두 번째 문단"), chunks);
+    }
+
+    @Test
+    @DisplayName("코드 블록 안의 # 줄은 헤더로 보지 않음")
+    void headingInsideCodeFence() {
+        // given
+        String markdown = "# 예제\n```bash\n# 주석\necho hi\n```\n본문";
+        MarkdownChunker chunker = new MarkdownChunker(tokenCounter, 512, 0);
+
+        // when
+        List<String> chunks = toStrings(chunker.chunk(markdown));
+
+        // then
+        assertEquals(1, chunks.size());
+        assertEquals(markdown, chunks.get(0));
+    }
+
+    @Test
+    @DisplayName("토큰 한도를 넘지 않도록 자르고 한글은 글자 단위로 셈")
+    void respectMaxTokens() {
+        // given
+        String line = "가나다라마바사아자차"; // 10토큰
+        String markdown = String.join("\n", line, line, line, line, line);
+        MarkdownChunker chunker = new MarkdownChunker(tokenCounter, 25, 0);
+
+        // when
+        List<CharSequence> chunks = chunker.chunk(markdown);
+
+        // then
+        assertEquals(3, chunks.size());
+        chunks.forEach(chunk -> assertTrue(tokenCounter.count(chunk) <= 25));
+    }
+
+    @Test
+    @DisplayName("크기 때문에 잘린 청크는 이전 청크 마지막 줄을 겹쳐서 시작")
+    void overlapBetweenChunks() {
+        // given
+        String markdown = "하나하나하나\n둘둘둘둘둘둘\n셋셋셋셋셋셋\n넷넷넷넷넷넷";
+        MarkdownChunker chunker = new MarkdownChunker(tokenCounter, 12, 6);
+
+        // when
+        List<String> chunks = toStrings(chunker.chunk(markdown));
+
+        // then
+        assertEquals(List.of("하나하나하나\n둘둘둘둘둘둘", "둘둘둘둘둘둘\n셋셋셋셋셋셋", "셋셋셋셋셋셋\n넷넷넷넷넷넷"), chunks);
+    }
+
+    @Test
+    @DisplayName("한도보다 긴 줄은 단어 단위로 나눔")
+    void splitLongLine() {
+        // given
+        String markdown = "가나다 라마바 사아자 차카타";
+        MarkdownChunker chunker = new MarkdownChunker(tokenCounter, 6, 0);
+
+        // when
+        List<String> chunks = toStrings(chunker.chunk(markdown));
+
+        // then
+        assertEquals(List.of("가나다 라마바", "사아자 차카타"), chunks);
+    }
+
+    private static List<String> toStrings(List<CharSequence> chunks) {
+        return chunks.stream().map(CharSequence::toString).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,110 @@
+package joomidang.papersummary.common.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class VectorUtilsTest {
+    private static final float DELTA = 1e-4f;
+
+    @Test
+    @DisplayName("평균 벡터 계산")
+    void average() {
+        // given
+        List<float[]> vectors = List.of(new float[]{1f, 2f, 3f}, new float[]{3f, 4f, 5f});
+
+        // when
+        float[] result = VectorUtils.average(vectors);
+
+        // then
+        assertArrayEquals(new float[]{2f, 3f, 4f}, result, DELTA);
+    }
+
+    @Test
+    @DisplayName("L2 정규화 후 길이는 1, 영벡터는 그대로 반환")
+    void normalize() {
+        float[] normalized = VectorUtils.normalize(new float[]{3f, 4f});
+
+        assertArrayEquals(new float[]{0.6f, 0.8f}, normalized, DELTA);
+        assertArrayEquals(new float[]{0f, 0f}, VectorUtils.normalize(new float[]{0f, 0f}));
+    }
+
+    @Test
+    @DisplayName("내적과 코사인 유사도 계산")
+    void dotAndCosine() {
+        float[] a = {1f, 0f, 1f};
+        float[] b = {1f, 1f, 0f};
+
+        assertEquals(1f, VectorUtils.dot(a, b), DELTA);
+        assertEquals(0.5f, VectorUtils.cosine(a, b), DELTA);
+        assertEquals(0f, VectorUtils.cosine(a, new float[3]), DELTA);
+    }
+
+    @Test
+    @DisplayName("차원이 다른 벡터는 예외 발생")
+    void dimensionMismatch() {
+        assertThrows(IllegalArgumentException.class,
+                () -> VectorUtils.dot(new float[3], new float[4]));
+        assertThrows(IllegalArgumentException.class,
+                () -> VectorUtils.cosineAll(new float[3], List.of(new float[3], new float[2])));
+    }
+
+    @Test
+    @DisplayName("일대다 유사도는 개별 계산 결과와 동일")
+    void batchedSimilarity() {
+        // given
+        Random random = new Random(42);
+        float[] query = randomVector(random, 384);
+        List<float[]> candidates = List.of(randomVector(random, 384), randomVector(random, 384), query);
+
+        // when
+        float[] cosines = VectorUtils.cosineAll(query, candidates);
+        float[] dots = VectorUtils.dotAll(query, candidates);
+
+        // then
+        for (int i = 0; i < candidates.size(); i++) {
+            assertEquals(VectorUtils.cosine(query, candidates.get(i)), cosines[i], DELTA);
+            assertEquals(VectorUtils.dot(query, candidates.get(i)), dots[i], DELTA);
+        }
+        assertEquals(1f, cosines[2], DELTA);
+    }
+
+    @Test
+    @DisplayName("SIMD 커널과 스칼라 커널 결과 일치 (레인 수로 나누어떨어지지 않는 차원 포함)")
+    void kernelsMatchScalar() {
+        // given
+        VectorKernels scalar = new ScalarVectorKernels();
+        VectorKernels kernels = VectorUtils.loadKernels();
+        Random random = new Random(7);
+
+        for (int dim : new int[]{1, 7, 384, 385, 768}) {
+            float[] a = randomVector(random, dim);
+            float[] b = randomVector(random, dim);
+
+            // when & then
+            assertEquals(scalar.dot(a, b), kernels.dot(a, b), DELTA);
+            assertEquals(scalar.cosine(a, b), kernels.cosine(a, b), DELTA);
+
+            float[] expected = a.clone();
+            float[] actual = a.clone();
+            scalar.add(expected, b);
+            kernels.add(actual, b);
+            scalar.scale(expected, 0.5f);
+            kernels.scale(actual, 0.5f);
+            assertArrayEquals(expected, actual, DELTA);
+        }
+    }
+
+    private static float[] randomVector(Random random, int dim) {
+        float[] vector = new float[dim];
+        for (int i = 0; i < dim; i++) {
+            vector[i] = random.nextFloat() * 2 - 1;
+        }
+        return vector;
+    }
+}
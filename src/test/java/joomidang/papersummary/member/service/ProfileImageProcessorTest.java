@@ -0,0 +1,94 @@
+package joomidang.papersummary.member.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import javax.imageio.ImageIO;
+import joomidang.papersummary.s3.service.S3Service;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+
+class ProfileImageProcessorTest {
+    private static final String BASE_URL = "https://upload-bucket.s3.amazonaws.com/";
+    private static final String ORIGINAL_URL = BASE_URL + "profiles/abc/original.png";
+
+    private S3Service s3Service;
+    private ApplicationEventPublisher eventPublisher;
+    private ProfileImageProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        s3Service = mock(S3Service.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        processor = new ProfileImageProcessor(s3Service, eventPublisher);
+        when(s3Service.putFile(anyString(), any(), anyString()))
+                .thenAnswer(invocation -> BASE_URL + invocation.getArgument(0));
+    }
+
+    @Test
+    @DisplayName("원본을 한 번 읽어 48/96/300 변형을 올리고 300 변형 URL로 완료 이벤트 발행")
+    void generateUploadsAllSizes() throws IOException {
+        // given
+        when(s3Service.openFile(ORIGINAL_URL))
+                .thenReturn(new ByteArrayInputStream(image(800, 600, BufferedImage.TYPE_INT_RGB, "png")));
+
+        // when
+        processor.generate("uid", ORIGINAL_URL);
+
+        // then
+        ArgumentCaptor<byte[]> small = ArgumentCaptor.forClass(byte[].class);
+        verify(s3Service).putFile(eq("profiles/abc/48.jpg"), small.capture(), eq("image/jpeg"));
+        verify(s3Service).putFile(eq("profiles/abc/96.jpg"), any(), eq("image/jpeg"));
+        verify(s3Service).putFile(eq("profiles/abc/300.jpg"), any(), eq("image/jpeg"));
+        assertThat(ImageIO.read(new ByteArrayInputStream(small.getValue())).getWidth()).isEqualTo(48);
+        verify(eventPublisher).publishEvent(
+                new ProfileImageVariantsReadyEvent("uid", ORIGINAL_URL, BASE_URL + "profiles/abc/300.jpg"));
+    }
+
+    @Test
+    @DisplayName("투명도가 있는 이미지는 PNG 변형으로 저장")
+    void generateKeepsTransparencyAsPng() throws IOException {
+        // given
+        when(s3Service.openFile(ORIGINAL_URL))
+                .thenReturn(new ByteArrayInputStream(image(400, 400, BufferedImage.TYPE_INT_ARGB, "png")));
+
+        // when
+        processor.generate("uid", ORIGINAL_URL);
+
+        // then
+        verify(s3Service).putFile(eq("profiles/abc/96.png"), any(), eq("image/png"));
+    }
+
+    @Test
+    @DisplayName("이미지로 읽을 수 없으면 변형을 만들지 않고 원본을 그대로 둠")
+    void generateSkipsUndecodableImage() {
+        // given
+        when(s3Service.openFile(ORIGINAL_URL)).thenReturn(new ByteArrayInputStream(new byte[]{1, 2, 3}));
+
+        // when
+        processor.generate("uid", ORIGINAL_URL);
+
+        // then
+        verify(s3Service, never()).putFile(anyString(), any(), anyString());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    private byte[] image(int width, int height, int type, String format) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, type), format, outputStream);
+        return outputStream.toByteArray();
+    }
+}
@@ -0,0 +1,45 @@
+package joomidang.papersummary.member.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import joomidang.papersummary.s3.service.S3Service;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ProfileImageUrlResolverTest {
+    private static final String BASE_URL = "https://upload-bucket.s3.amazonaws.com/";
+
+    private ProfileImageUrlResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        S3Service s3Service = mock(S3Service.class);
+        when(s3Service.fileUrl("")).thenReturn(BASE_URL);
+        resolver = new ProfileImageUrlResolver(s3Service);
+    }
+
+    @Test
+    @DisplayName("업로드 버킷의 변형 URL은 요청한 크기의 변형 URL로 변환")
+    void resolveVariantUrl() {
+        assertThat(resolver.resolve(BASE_URL + "profiles/abc/300.jpg", ProfileImageSize.SMALL))
+                .isEqualTo(BASE_URL + "profiles/abc/48.jpg");
+        assertThat(resolver.resolve(BASE_URL + "profiles/abc/300.png", ProfileImageSize.MEDIUM))
+                .isEqualTo(BASE_URL + "profiles/abc/96.png");
+    }
+
+    @Test
+    @DisplayName("원본/외부 URL은 그대로 반환")
+    void keepOtherUrls() {
+        String original = BASE_URL + "profiles/abc/original.png";
+
+        assertThat(resolver.resolve(original, ProfileImageSize.MEDIUM)).isEqualTo(original);
+        assertThat(resolver.resolve("https://avatars.githubusercontent.com/u/1", ProfileImageSize.MEDIUM))
+                .isEqualTo("https://avatars.githubusercontent.com/u/1");
+        assertThat(resolver.resolve("https://cdn.example.com/profiles/abc/300.jpg", ProfileImageSize.MEDIUM))
+                .isEqualTo("https://cdn.example.com/profiles/abc/300.jpg");
+        assertThat(resolver.resolve(null, ProfileImageSize.MEDIUM)).isNull();
+    }
+}
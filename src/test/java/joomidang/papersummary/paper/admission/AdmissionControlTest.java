@@ -0,0 +1,91 @@
+package joomidang.papersummary.paper.admission;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import joomidang.papersummary.paper.controller.response.PaperErrorCode;
+import joomidang.papersummary.paper.exception.TooManyRequestsException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+class AdmissionControlTest {
+    private RedisAdmissionStore store;
+    private SimpleMeterRegistry meterRegistry;
+    private AdmissionControl admissionControl;
+
+    @BeforeEach
+    void setUp() {
+        store = mock(RedisAdmissionStore.class);
+        meterRegistry = new SimpleMeterRegistry();
+        admissionControl = new AdmissionControl(store, new AdmissionProperties(), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("회원 버킷과 전체 버킷을 함께 확인")
+    void admitUploadChecksMemberAndGlobalBuckets() {
+        // given
+        when(store.takeTokens(anyList(), anyList())).thenReturn(Duration.ZERO);
+
+        // when
+        admissionControl.admitUpload("user-1");
+
+        // then
+        verify(store).takeTokens(eq(List.of("upload:member:user-1", "upload:global")), anyList());
+    }
+
+    @Test
+    @DisplayName("토큰이 부족하면 Retry-After를 담아 429 예외 발생")
+    void rejectsWhenBucketEmpty() {
+        // given
+        when(store.takeTokens(anyList(), anyList())).thenReturn(Duration.ofMillis(1_500));
+
+        // when
+        TooManyRequestsException exception = assertThrows(TooManyRequestsException.class,
+                () -> admissionControl.admitAnalysis("user-1"));
+
+        // then
+        assertEquals(PaperErrorCode.ANALYSIS_RATE_LIMITED, exception.getErrorCode());
+        assertEquals(2, exception.getRetryAfterSeconds());
+        assertEquals(1.0, meterRegistry.counter("admission.rejected", "endpoint", "analysis", "reason", "rate").count());
+    }
+
+    @Test
+    @DisplayName("진행 중 분석이 가득 차면 429 예외 발생")
+    void rejectsWhenInFlightFull() {
+        // given
+        when(store.acquireSlot(eq(10L), anyInt(), any(Duration.class))).thenReturn(false);
+
+        // when
+        TooManyRequestsException exception = assertThrows(TooManyRequestsException.class,
+                () -> admissionControl.acquireAnalysisSlot(10L));
+
+        // then
+        assertEquals(PaperErrorCode.ANALYSIS_CAPACITY_EXCEEDED, exception.getErrorCode());
+        assertEquals(30, exception.getRetryAfterSeconds());
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 제한 없이 허용")
+    void bypassesWhenRedisUnavailable() {
+        // given
+        when(store.takeTokens(anyList(), anyList()))
+                .thenThrow(new RedisConnectionFailureException("connection refused"));
+
+        // when & then
+        assertDoesNotThrow(() -> admissionControl.admitUpload("user-1"));
+        assertEquals(1.0, meterRegistry.counter("admission.bypassed", "endpoint", "upload").count());
+    }
+}
@@ -1,5 +1,6 @@
 package joomidang.papersummary.paper.consumer;
 
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
@@ -13,6 +14,8 @@ import joomidang.papersummary.analysislog.service.AnalysisLogService;
 import joomidang.papersummary.common.config.rabbitmq.PaperEventEnvelop;
 import joomidang.papersummary.common.config.rabbitmq.payload.SummaryCompletedPayload;
 import joomidang.papersummary.common.service.SseService;
+import joomidang.papersummary.paper.service.PaperContentService;
+import joomidang.papersummary.paper.service.PaperService;
 import joomidang.papersummary.summary.exception.AlreadySummarizedException;
 import joomidang.papersummary.summary.service.SummaryService;
 import org.junit.jupiter.api.BeforeEach;
@@ -35,7 +38,9 @@ public class SummaryCompletedConsumerTest {
         summaryCompletedConsumer = new SummaryCompletedConsumer(
                 summaryService,
                 analysisLogService,
-                sseService
+                sseService,
+                mock(PaperService.class),
+                mock(PaperContentService.class)
         );
     }
 
@@ -108,7 +113,7 @@ public class SummaryCompletedConsumerTest {
     }
 
     @Test
-    @DisplayName("예외 발생 테스트")
+    @DisplayName("예외 발생 시 재시도를 위해 예외 전파 테스트")
     void consumeException() {
         // given
         Long paperId = 1L;
@@ -121,7 +126,7 @@ public class SummaryCompletedConsumerTest {
                 .thenThrow(new RuntimeException("테스트 예외"));
 
         // when
-        summaryCompletedConsumer.consume(event);
+        assertThrows(RuntimeException.class, () -> summaryCompletedConsumer.consume(event));
 
         // then
         verify(analysisLogService, times(1)).markSuccess(paperId, AnalysisStage.GPT);
@@ -0,0 +1,128 @@
+package joomidang.papersummary.paper.dispatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.rabbitmq.client.Channel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import joomidang.papersummary.common.config.rabbitmq.DelayedRetryMessageRecoverer;
+import joomidang.papersummary.common.config.rabbitmq.payload.ParsingRequestedPayload;
+import joomidang.papersummary.paper.infra.ParsingClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+
+class FairParsingDispatcherTest {
+    private ParsingClient parsingClient;
+    private ParsingSlotRelay slotRelay;
+    private FairParsingDispatcher dispatcher;
+    private FairParsingDispatcher otherNode;
+
+    @BeforeEach
+    void setUp() {
+        parsingClient = mock(ParsingClient.class);
+        slotRelay = mock(ParsingSlotRelay.class);
+        dispatcher = newDispatcher();
+        otherNode = newDispatcher();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        dispatcher.shutdown();
+        otherNode.shutdown();
+    }
+
+    @Test
+    @DisplayName("디스패처 스레드는 채널을 건드리지 않고, ack는 컨슈머 스레드의 settle에서 처리")
+    void ackIsDeferredToConsumerThread() throws Exception {
+        // given
+        Channel channel = openChannel();
+        ParsingRequestedPayload payload = new ParsingRequestedPayload(1L, 10L, "papers/a.pdf");
+        ParsingRequestedPayload next = new ParsingRequestedPayload(2L, 20L, "papers/b.pdf");
+        // 디스패처 스레드는 요청을 순서대로 처리하므로, 다음 요청이 전달되는 시점에는 첫 요청의 ack가 이미 쌓여 있다
+        CountDownLatch nextDispatched = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            nextDispatched.countDown();
+            return null;
+        }).when(parsingClient).requestParsing(next);
+
+        // when
+        dispatcher.submit(payload, mock(Message.class), channel, 7L);
+        verify(parsingClient, timeout(1000)).requestParsing(payload);
+        dispatcher.submit(next, mock(Message.class), openChannel(), 8L);
+
+        // then
+        assertThat(nextDispatched.await(1, TimeUnit.SECONDS)).isTrue();
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+
+        dispatcher.settle(channel);
+        verify(channel).basicAck(7L, false);
+    }
+
+    @Test
+    @DisplayName("파싱 콜백이 다른 노드에 도착해도 요청을 보낸 노드의 슬롯이 반납됨")
+    void completeOnOtherNodeReleasesSlot() throws Exception {
+        // given: 발행한 반납을 모든 노드가 구독 (Redis 채널 대신)
+        when(slotRelay.publish(anyLong())).thenAnswer(invocation -> {
+            Long paperId = invocation.getArgument(0);
+            dispatcher.releaseSlot(paperId);
+            otherNode.releaseSlot(paperId);
+            return true;
+        });
+        Channel channel = openChannel();
+        ParsingRequestedPayload first = new ParsingRequestedPayload(1L, 10L, "papers/a.pdf");
+        ParsingRequestedPayload second = new ParsingRequestedPayload(2L, 10L, "papers/b.pdf");
+        dispatcher.submit(first, mock(Message.class), channel, 1L);
+        verify(parsingClient, timeout(1000)).requestParsing(first);
+        // 회원별 한도(1)에 걸려 대기
+        dispatcher.submit(second, mock(Message.class), channel, 2L);
+        assertThat(dispatcher.getMemberStates().get(10L).queued()).isEqualTo(1);
+
+        // when
+        otherNode.complete(1L);
+
+        // then
+        verify(parsingClient, timeout(1000)).requestParsing(second);
+    }
+
+    @Test
+    @DisplayName("반납을 발행하지 못하면 이 노드의 슬롯만 반납")
+    void completeFallsBackToLocalRelease() {
+        // given
+        when(slotRelay.publish(anyLong())).thenReturn(false);
+        Channel channel = openChannel();
+        ParsingRequestedPayload first = new ParsingRequestedPayload(1L, 10L, "papers/a.pdf");
+        ParsingRequestedPayload second = new ParsingRequestedPayload(2L, 10L, "papers/b.pdf");
+        dispatcher.submit(first, mock(Message.class), channel, 1L);
+        verify(parsingClient, timeout(1000)).requestParsing(first);
+        dispatcher.submit(second, mock(Message.class), channel, 2L);
+
+        // when
+        dispatcher.complete(1L);
+
+        // then
+        verify(parsingClient, timeout(1000)).requestParsing(second);
+    }
+
+    private FairParsingDispatcher newDispatcher() {
+        return new FairParsingDispatcher(parsingClient, mock(DelayedRetryMessageRecoverer.class), slotRelay,
+                new ParsingDispatchProperties(), new SimpleMeterRegistry());
+    }
+
+    private Channel openChannel() {
+        Channel channel = mock(Channel.class);
+        when(channel.isOpen()).thenReturn(true);
+        return channel;
+    }
+}
@@ -0,0 +1,71 @@
+package joomidang.papersummary.paper.dispatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class FairQueueTest {
+
+    @Test
+    @DisplayName("대량 요청한 회원이 있어도 다른 회원 요청이 번갈아 나옴")
+    void interleavesMembers() {
+        // given (회원 1이 먼저 5건, 회원 2가 나중에 2건)
+        FairQueue<Long, String> queue = new FairQueue<>(1);
+        for (int i = 1; i <= 5; i++) {
+            queue.add(1L, "a" + i);
+        }
+        queue.add(2L, "b1");
+        queue.add(2L, "b2");
+
+        // when
+        List<String> order = drain(queue);
+
+        // then
+        assertEquals(List.of("a1", "b1", "a2", "b2", "a3", "a4", "a5"), order);
+    }
+
+    @Test
+    @DisplayName("quantum만큼 연속으로 꺼낸 뒤 다음 회원으로 넘어감")
+    void quantumPerTurn() {
+        // given
+        FairQueue<Long, String> queue = new FairQueue<>(2);
+        queue.add(1L, "a1");
+        queue.add(1L, "a2");
+        queue.add(1L, "a3");
+        queue.add(2L, "b1");
+
+        // when
+        List<String> order = drain(queue);
+
+        // then
+        assertEquals(List.of("a1", "a2", "b1", "a3"), order);
+    }
+
+    @Test
+    @DisplayName("처리 한도에 걸린 회원은 건너뛰고, 모두 걸리면 null")
+    void skipsIneligibleMembers() {
+        // given
+        FairQueue<Long, String> queue = new FairQueue<>(1);
+        queue.add(1L, "a1");
+        queue.add(2L, "b1");
+
+        // when & then
+        assertEquals("b1", queue.poll(memberId -> memberId != 1L));
+        assertNull(queue.poll(memberId -> memberId != 1L));
+        assertEquals(1, queue.size());
+        assertEquals("a1", queue.poll(memberId -> true));
+    }
+
+    private static List<String> drain(FairQueue<Long, String> queue) {
+        List<String> order = new ArrayList<>();
+        String next;
+        while ((next = queue.poll(memberId -> true)) != null) {
+            order.add(next);
+        }
+        return order;
+    }
+}
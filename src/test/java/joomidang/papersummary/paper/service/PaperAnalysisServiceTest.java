@@ -16,7 +16,9 @@ import joomidang.papersummary.common.config.rabbitmq.PaperEventType;
 import joomidang.papersummary.common.config.rabbitmq.payload.ParsingRequestedPayload;
 import joomidang.papersummary.member.entity.Member;
 import joomidang.papersummary.member.service.MemberService;
+import joomidang.papersummary.paper.admission.AdmissionControl;
 import joomidang.papersummary.paper.entity.Paper;
+import joomidang.papersummary.paper.entity.PaperContent;
 import joomidang.papersummary.paper.exception.AccessDeniedException;
 import joomidang.papersummary.paper.exception.PaperNotFoundException;
 import joomidang.papersummary.paper.repository.PaperRepository;
@@ -31,17 +33,27 @@ public class PaperAnalysisServiceTest {
     private MemberService memberService;
     private PaperRepository paperRepository;
     private PaperEventPublisher paperEventPublisher;
+    private AdmissionControl admissionControl;
+    private PaperContentService paperContentService;
+    private PaperParsingCallbackService paperParsingCallbackService;
 
     @BeforeEach
     void setUp() {
         memberService = mock(MemberService.class);
         paperRepository = mock(PaperRepository.class);
         paperEventPublisher = mock(PaperEventPublisher.class);
+        admissionControl = mock(AdmissionControl.class);
+        paperContentService = mock(PaperContentService.class);
+        paperParsingCallbackService = mock(PaperParsingCallbackService.class);
+        when(paperContentService.findProcessed(any())).thenReturn(Optional.empty());
 
         paperAnalysisService = new PaperAnalysisService(
                 memberService,
                 paperRepository,
-                paperEventPublisher
+                paperEventPublisher,
+                admissionControl,
+                paperContentService,
+                paperParsingCallbackService
         );
     }
 
@@ -133,4 +145,32 @@ public class PaperAnalysisServiceTest {
         verify(memberService, times(1)).findByProviderUid(providerUid);
         verify(paperEventPublisher, never()).publish(any());
     }
+
+    @Test
+    @DisplayName("같은 내용의 논문이 이미 파싱되었으면 파싱 요청 없이 결과 재사용")
+    void requestParsingReusesProcessedContent() {
+        // given
+        Long paperId = 1L;
+        String providerUid = "test-provider-uid";
+
+        Member mockMember = mock(Member.class);
+        when(mockMember.getId()).thenReturn(1L);
+        when(memberService.findByProviderUid(providerUid)).thenReturn(mockMember);
+
+        Paper mockPaper = mock(Paper.class);
+        when(mockPaper.getId()).thenReturn(paperId);
+        when(mockPaper.hasNotPermission(mockMember.getId())).thenReturn(false);
+        when(paperRepository.findById(paperId)).thenReturn(Optional.of(mockPaper));
+
+        PaperContent content = mock(PaperContent.class);
+        when(paperContentService.findProcessed(mockPaper)).thenReturn(Optional.of(content));
+
+        // when
+        paperAnalysisService.requestParsing(paperId, providerUid, "test prompt", "ko");
+
+        // then
+        verify(admissionControl, times(1)).acquireAnalysisSlot(paperId);
+        verify(paperParsingCallbackService, times(1)).reuse(paperId, content);
+        verify(paperEventPublisher, never()).publish(any());
+    }
 }
@@ -18,10 +18,13 @@ import joomidang.papersummary.analysislog.service.AnalysisLogService;
 import joomidang.papersummary.common.config.rabbitmq.PaperEventEnvelop;
 import joomidang.papersummary.common.config.rabbitmq.PaperEventPublisher;
 import joomidang.papersummary.common.config.rabbitmq.PaperEventType;
+import joomidang.papersummary.common.config.rabbitmq.payload.SummaryCompletedPayload;
 import joomidang.papersummary.common.config.rabbitmq.payload.SummaryRequestedPayload;
 import joomidang.papersummary.common.service.SseService;
 import joomidang.papersummary.paper.controller.request.ParsingResultRequest;
+import joomidang.papersummary.paper.dispatch.FairParsingDispatcher;
 import joomidang.papersummary.paper.entity.Paper;
+import joomidang.papersummary.paper.entity.PaperContent;
 import joomidang.papersummary.paper.entity.Status;
 import joomidang.papersummary.paper.exception.PaperNotFoundException;
 import joomidang.papersummary.paper.repository.PaperRepository;
@@ -31,6 +34,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 public class PaperParsingCallbackServiceTest {
 
@@ -40,6 +45,8 @@ public class PaperParsingCallbackServiceTest {
     private VisualContentService visualContentService;
     private PaperEventPublisher paperEventPublisher;
     private SseService sseService;
+    private FairParsingDispatcher fairParsingDispatcher;
+    private PaperContentService paperContentService;
 
     @BeforeEach
     void setUp() {
@@ -48,13 +55,17 @@ public class PaperParsingCallbackServiceTest {
         visualContentService = mock(VisualContentService.class);
         paperEventPublisher = mock(PaperEventPublisher.class);
         sseService = mock(SseService.class);
+        fairParsingDispatcher = mock(FairParsingDispatcher.class);
+        paperContentService = mock(PaperContentService.class);
 
         paperParsingCallbackService = new PaperParsingCallbackService(
                 paperRepository,
                 analysisLogService,
                 visualContentService,
                 paperEventPublisher,
-                sseService
+                sseService,
+                fairParsingDispatcher,
+                paperContentService
         );
     }
 
@@ -98,6 +109,9 @@ public class PaperParsingCallbackServiceTest {
         verify(visualContentService, times(1)).saveAll(eq(mockPaper), eq(figures), eq(VisualContentType.FIGURE));
         verify(visualContentService, times(1)).saveAll(eq(mockPaper), eq(tables), eq(VisualContentType.TABLE));
 
+        // Verify content record for reuse
+        verify(paperContentService, times(1)).recordParsing(mockPaper, request);
+
         // Verify SSE notification
         verify(sseService, times(1)).sendParsingCompletedEvent(paperId);
 
@@ -180,4 +194,71 @@ public class PaperParsingCallbackServiceTest {
         // Verify event publishing still happens
         verify(paperEventPublisher, times(1)).publish(any(PaperEventEnvelop.class));
     }
+
+    @Test
+    @DisplayName("같은 내용의 요약 초안이 있으면 파싱/요약 없이 SUMMARY_COMPLETED 발행")
+    void reuseWithSummaryDraft() {
+        // given
+        Long paperId = 2L;
+        PaperContent content = PaperContent.builder()
+                .contentHash("a".repeat(64))
+                .sourcePaperId(1L)
+                .title("Test Paper Title")
+                .markdownUrl("https://example.com/markdown/test-paper.md")
+                .figures(List.of("https://example.com/figures/fig1.png"))
+                .tables(List.of())
+                .summaryS3Key("summaries/contents/test.md")
+                .build();
+
+        Paper mockPaper = mock(Paper.class);
+        when(paperRepository.findById(paperId)).thenReturn(Optional.of(mockPaper));
+        when(paperContentService.copySummaryDraft(content, paperId)).thenReturn("summaries/reused/2/summary.md");
+
+        // when
+        paperParsingCallbackService.reuse(paperId, content);
+
+        // then
+        verify(mockPaper, times(1)).updateStatus(Status.ANALYZED);
+        verify(visualContentService, times(1)).saveAll(eq(mockPaper), eq(content.getFigures()),
+                eq(VisualContentType.FIGURE));
+        verify(analysisLogService, times(1)).markSuccess(paperId, AnalysisStage.MINERU);
+        verify(analysisLogService, times(1)).markPending(paperId, AnalysisStage.GPT);
+        verify(fairParsingDispatcher, times(0)).complete(anyLong());
+
+        ArgumentCaptor<PaperEventEnvelop> eventCaptor = ArgumentCaptor.forClass(PaperEventEnvelop.class);
+        verify(paperEventPublisher, times(1)).publish(eventCaptor.capture());
+        PaperEventEnvelop<?> capturedEvent = eventCaptor.getValue();
+        assert capturedEvent.type() == PaperEventType.SUMMARY_COMPLETED;
+        SummaryCompletedPayload payload = (SummaryCompletedPayload) capturedEvent.payload();
+        assert payload.s3Key().equals("summaries/reused/2/summary.md");
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 재사용하면 커밋 후에 이벤트 발행")
+    void reusePublishesAfterCommit() {
+        // given
+        Long paperId = 2L;
+        PaperContent content = PaperContent.builder()
+                .contentHash("a".repeat(64))
+                .sourcePaperId(1L)
+                .title("Test Paper Title")
+                .markdownUrl("https://example.com/markdown/test-paper.md")
+                .figures(List.of())
+                .tables(List.of())
+                .build();
+        when(paperRepository.findById(paperId)).thenReturn(Optional.of(mock(Paper.class)));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            paperParsingCallbackService.reuse(paperId, content);
+
+            // then
+            verify(paperEventPublisher, times(0)).publish(any(PaperEventEnvelop.class));
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(paperEventPublisher, times(1)).publish(any(PaperEventEnvelop.class));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
 }
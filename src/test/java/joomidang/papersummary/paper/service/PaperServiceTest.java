@@ -11,6 +11,8 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import joomidang.papersummary.analysislog.entity.AnalysisLog;
 import joomidang.papersummary.analysislog.repository.AnalysisLogRepository;
 import joomidang.papersummary.member.entity.Member;
@@ -18,13 +20,18 @@ import joomidang.papersummary.member.service.MemberService;
 import joomidang.papersummary.paper.entity.Paper;
 import joomidang.papersummary.paper.entity.Status;
 import joomidang.papersummary.paper.exception.InvalidFileTypeException;
+import joomidang.papersummary.paper.exception.UploadVerificationFailedException;
 import joomidang.papersummary.paper.repository.PaperRepository;
 import joomidang.papersummary.s3.service.S3Service;
+import joomidang.papersummary.s3.service.StoredObject;
+import joomidang.papersummary.s3.service.UploadedFile;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 public class PaperServiceTest {
@@ -46,7 +53,9 @@ public class PaperServiceTest {
                 s3Service,
                 memberService,
                 paperRepository,
-                analysisLogRepository
+                analysisLogRepository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                new PaperUploadProperties()
         );
     }
 
@@ -66,7 +75,8 @@ public class PaperServiceTest {
         when(memberService.findByProviderUid(providerUid)).thenReturn(mockMember);
 
         String s3Url = "https://example.com/papers/test-paper.pdf";
-        when(s3Service.uploadFile(any(MultipartFile.class), eq("papers"))).thenReturn(s3Url);
+        when(s3Service.uploadFileAsync(any(MultipartFile.class), eq("papers")))
+                .thenReturn(CompletableFuture.completedFuture(new UploadedFile(s3Url, "a".repeat(64))));
 
         Paper mockPaper = Paper.builder()
                 .id(1L)
@@ -93,7 +103,7 @@ public class PaperServiceTest {
 
         // Verify interactions
         verify(memberService, times(1)).findByProviderUid(providerUid);
-        verify(s3Service, times(1)).uploadFile(any(MultipartFile.class), eq("papers"));
+        verify(s3Service, times(1)).uploadFileAsync(any(MultipartFile.class), eq("papers"));
         verify(paperRepository, times(1)).save(any(Paper.class));
         verify(analysisLogRepository, times(1)).save(any(AnalysisLog.class));
 
@@ -105,6 +115,7 @@ public class PaperServiceTest {
         assertEquals("application/pdf", capturedPaper.getFileType());
         assertEquals(file.getSize(), capturedPaper.getFileSize());
         assertEquals(Status.PENDING, capturedPaper.getStatus());
+        assertEquals("a".repeat(64), capturedPaper.getContentHash());
         assertEquals(mockMember, capturedPaper.getMember());
 
         // Verify AnalysisLog entity creation
@@ -127,17 +138,14 @@ public class PaperServiceTest {
                 "DOCX content".getBytes()
         );
 
-        Member mockMember = mock(Member.class);
-        when(memberService.findByProviderUid(providerUid)).thenReturn(mockMember);
-
         // when & then
         assertThrows(InvalidFileTypeException.class, () -> {
             paperService.uploadPaper(file, providerUid);
         });
 
         // Verify interactions
-        verify(memberService, times(1)).findByProviderUid(providerUid);
-        verify(s3Service, times(0)).uploadFile(any(MultipartFile.class), anyString());
+        verify(memberService, times(0)).findByProviderUid(providerUid);
+        verify(s3Service, times(0)).uploadFileAsync(any(MultipartFile.class), anyString());
         verify(paperRepository, times(0)).save(any(Paper.class));
         verify(analysisLogRepository, times(0)).save(any(AnalysisLog.class));
     }
@@ -154,18 +162,135 @@ public class PaperServiceTest {
                 "Unknown content".getBytes()
         );
 
-        Member mockMember = mock(Member.class);
-        when(memberService.findByProviderUid(providerUid)).thenReturn(mockMember);
-
         // when & then
         assertThrows(InvalidFileTypeException.class, () -> {
             paperService.uploadPaper(file, providerUid);
         });
 
         // Verify interactions
-        verify(memberService, times(1)).findByProviderUid(providerUid);
-        verify(s3Service, times(0)).uploadFile(any(MultipartFile.class), anyString());
+        verify(memberService, times(0)).findByProviderUid(providerUid);
+        verify(s3Service, times(0)).uploadFileAsync(any(MultipartFile.class), anyString());
         verify(paperRepository, times(0)).save(any(Paper.class));
         verify(analysisLogRepository, times(0)).save(any(AnalysisLog.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("DB 저장 실패 시 업로드한 파일 삭제")
+    void uploadPaperCompensatesOnSaveFailure() {
+        // given
+        String providerUid = "test-provider-uid";
+        MockMultipartFile file = new MockMultipartFile(
+                "file",
+                "test-paper.pdf",
+                "application/pdf",
+                "PDF content".getBytes()
+        );
+
+        Member mockMember = mock(Member.class);
+        when(memberService.findByProviderUid(providerUid)).thenReturn(mockMember);
+
+        String s3Url = "https://example.com/papers/test-paper.pdf";
+        when(s3Service.uploadFileAsync(any(MultipartFile.class), eq("papers")))
+                .thenReturn(CompletableFuture.completedFuture(new UploadedFile(s3Url, "a".repeat(64))));
+        when(paperRepository.save(any(Paper.class))).thenThrow(new IllegalStateException("DB 오류"));
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> paperService.uploadPaper(file, providerUid));
+        verify(s3Service, times(1)).deleteFile(s3Url);
+        verify(analysisLogRepository, times(0)).save(any(AnalysisLog.class));
+    }
+
+    @Test
+    @DisplayName("직접 업로드 완료 시 S3 객체 확인 후 PENDING 전환")
+    void completeDirectUploadSuccess() {
+        // given
+        String providerUid = "test-provider-uid";
+        String hash = "a".repeat(64);
+        Member member = uploadingMember(providerUid);
+        Paper paper = uploadingPaper(member, hash);
+        when(paperRepository.findById(1L)).thenReturn(Optional.of(paper));
+        when(paperRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(paper));
+        when(s3Service.findObject(paper.getFilePath()))
+                .thenReturn(Optional.of(new StoredObject(100L, "application/pdf", hash)));
+
+        // when
+        Paper result = paperService.completeDirectUpload(providerUid, 1L);
+
+        // then
+        assertEquals(Status.PENDING, result.getStatus());
+        verify(analysisLogRepository, times(1)).save(any(AnalysisLog.class));
+        verify(s3Service, times(0)).deleteFile(anyString());
+    }
+
+    @Test
+    @DisplayName("직접 업로드 체크섬 불일치 시 파일 삭제 후 FAILED 처리")
+    void completeDirectUploadChecksumMismatch() {
+        // given
+        String providerUid = "test-provider-uid";
+        Member member = uploadingMember(providerUid);
+        Paper paper = uploadingPaper(member, "a".repeat(64));
+        when(paperRepository.findById(1L)).thenReturn(Optional.of(paper));
+        when(paperRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(paper));
+        when(s3Service.findObject(paper.getFilePath()))
+                .thenReturn(Optional.of(new StoredObject(100L, "application/pdf", "b".repeat(64))));
+
+        // when & then
+        assertThrows(UploadVerificationFailedException.class,
+                () -> paperService.completeDirectUpload(providerUid, 1L));
+        assertEquals(Status.FAILED, paper.getStatus());
+        verify(s3Service, times(1)).deleteFile(paper.getFilePath());
+        verify(analysisLogRepository, times(0)).save(any(AnalysisLog.class));
+    }
+
+    @Test
+    @DisplayName("다른 요청이 먼저 완료 처리했으면 분석 로그를 다시 만들지 않음")
+    void completeDirectUploadAlreadyCompletedConcurrently() {
+        // given
+        String providerUid = "test-provider-uid";
+        String hash = "a".repeat(64);
+        Member member = uploadingMember(providerUid);
+        Paper paper = uploadingPaper(member, hash);
+        Paper locked = uploadingPaper(member, hash);
+        locked.updateStatus(Status.PENDING);
+        when(paperRepository.findById(1L)).thenReturn(Optional.of(paper));
+        when(paperRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(locked));
+        when(s3Service.findObject(paper.getFilePath()))
+                .thenReturn(Optional.of(new StoredObject(100L, "application/pdf", hash)));
+
+        // when
+        Paper result = paperService.completeDirectUpload(providerUid, 1L);
+
+        // then
+        assertEquals(Status.PENDING, result.getStatus());
+        verify(analysisLogRepository, times(0)).save(any(AnalysisLog.class));
+    }
+
+    @Test
+    @DisplayName("S3 키에 쓰는 파일 이름은 경로와 특수 문자를 제거")
+    void objectNameOfSanitizesFileName() {
+        assertEquals("evil.pdf", PaperService.objectNameOf("../../profiles/evil.pdf"));
+        assertEquals("a_b_.pdf", PaperService.objectNameOf("a b?.pdf"));
+        assertEquals("file.pdf", PaperService.objectNameOf(".."));
+    }
+
+    private Member uploadingMember(String providerUid) {
+        Member member = mock(Member.class);
+        when(member.getId()).thenReturn(10L);
+        when(member.isNotSame(10L)).thenReturn(false);
+        when(memberService.findByProviderUid(providerUid)).thenReturn(member);
+        return member;
+    }
+
+    private Paper uploadingPaper(Member member, String contentHash) {
+        return Paper.builder()
+                .id(1L)
+                .title("test-paper")
+                .filePath("https://example.com/papers/test-paper.pdf")
+                .fileType("application/pdf")
+                .fileSize(100L)
+                .status(Status.UPLOADING)
+                .contentHash(contentHash)
+                .member(member)
+                .build();
+    }
+}
@@ -0,0 +1,141 @@
+package joomidang.papersummary.paper.upload;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Optional;
+import joomidang.papersummary.paper.controller.response.ResumableUploadResponse;
+import joomidang.papersummary.paper.entity.Paper;
+import joomidang.papersummary.paper.exception.UploadOffsetMismatchException;
+import joomidang.papersummary.paper.service.PaperService;
+import joomidang.papersummary.paper.service.PaperUploadProperties;
+import joomidang.papersummary.s3.service.MultipartUpload;
+import joomidang.papersummary.s3.service.S3Service;
+import joomidang.papersummary.s3.service.StoredObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ResumableUploadServiceTest {
+    private static final String OWNER = "user-1";
+    private static final String UPLOAD_ID = "upload-1";
+    private static final MultipartUpload MULTIPART =
+            new MultipartUpload("https://bucket.s3.amazonaws.com/papers/a.pdf", "papers/a.pdf", "s3-upload");
+
+    private ResumableUploadStore store;
+    private S3Service s3Service;
+    private PaperService paperService;
+    private ResumableUploadService service;
+
+    @BeforeEach
+    void setUp() {
+        store = mock(ResumableUploadStore.class);
+        s3Service = mock(S3Service.class);
+        paperService = mock(PaperService.class);
+        service = new ResumableUploadService(store, s3Service, paperService, new PaperUploadProperties());
+    }
+
+    @Test
+    @DisplayName("저장된 위치와 다른 오프셋의 청크는 S3에 올리지 않고 현재 위치와 함께 거절")
+    void rejectsChunkAtWrongOffset() {
+        // given
+        when(store.find(UPLOAD_ID)).thenReturn(Optional.of(upload(10, 4, List.of("e1"))));
+
+        // when
+        UploadOffsetMismatchException exception = assertThrows(UploadOffsetMismatchException.class,
+                () -> service.appendChunk(OWNER, UPLOAD_ID, 0, chunk(4), 4));
+
+        // then
+        assertEquals(4, exception.getCurrentOffset());
+        verify(s3Service, never()).uploadPart(any(), anyInt(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("마지막 청크가 들어오면 멀티파트를 완료하고 논문 등록")
+    void completesOnLastChunk() {
+        // given
+        ResumableUpload inProgress = upload(10, 8, List.of("e1", "e2"));
+        when(store.find(UPLOAD_ID))
+                .thenReturn(Optional.of(inProgress))
+                .thenReturn(Optional.of(upload(10, 10, List.of("e1", "e2", "e3"))));
+        when(s3Service.uploadPart(eq(MULTIPART), eq(3), any(), eq(2L))).thenReturn("e3");
+        when(store.advance(UPLOAD_ID, 8, 10, 3, "e3", new PaperUploadProperties().getResumable().getTtl()))
+                .thenReturn(Optional.of(new ResumableUploadStore.Advance(true, 10)));
+        when(store.claimCompletion(eq(UPLOAD_ID), any(), any())).thenReturn(true);
+        Paper paper = Paper.builder().id(7L).build();
+        when(paperService.registerUploadedPaper(OWNER, "a.pdf", "application/pdf", 10, MULTIPART.fileUrl()))
+                .thenReturn(paper);
+
+        // when
+        ResumableUploadResponse response = service.appendChunk(OWNER, UPLOAD_ID, 8, chunk(2), 2);
+
+        // then
+        assertEquals(7L, response.paperId());
+        assertEquals(10, response.offset());
+        verify(s3Service).completeMultipartUpload(MULTIPART, List.of("e1", "e2", "e3"));
+        verify(store).complete(eq(UPLOAD_ID), eq(7L), any());
+    }
+
+    @Test
+    @DisplayName("청크는 모두 올라왔지만 완료 전에 중단된 업로드는 HEAD에서 다시 완료")
+    void statusResumesInterruptedCompletion() {
+        // given
+        when(store.find(UPLOAD_ID)).thenReturn(Optional.of(upload(10, 10, List.of("e1", "e2", "e3"))));
+        when(store.claimCompletion(eq(UPLOAD_ID), any(), any())).thenReturn(true);
+        // 이전 시도에서 S3 완료까지는 끝나 멀티파트 업로드가 이미 없음
+        doThrow(new IllegalStateException("NoSuchUpload"))
+                .when(s3Service).completeMultipartUpload(MULTIPART, List.of("e1", "e2", "e3"));
+        when(s3Service.findObject(MULTIPART.fileUrl()))
+                .thenReturn(Optional.of(new StoredObject(10, "application/pdf", null)));
+        when(paperService.registerUploadedPaper(OWNER, "a.pdf", "application/pdf", 10, MULTIPART.fileUrl()))
+                .thenReturn(Paper.builder().id(7L).build());
+
+        // when
+        ResumableUploadResponse response = service.getStatus(OWNER, UPLOAD_ID);
+
+        // then
+        assertEquals(7L, response.paperId());
+        verify(s3Service, never()).abortMultipartUpload(any());
+        verify(store).complete(eq(UPLOAD_ID), eq(7L), any());
+    }
+
+    @Test
+    @DisplayName("다른 요청이 완료 처리 중이면 다시 완료하지 않고 현재 상태만 돌려줌")
+    void retriedChunkDoesNotCompleteTwice() {
+        // given
+        when(store.find(UPLOAD_ID)).thenReturn(Optional.of(upload(10, 10, List.of("e1", "e2", "e3"))));
+        when(store.claimCompletion(eq(UPLOAD_ID), any(), any())).thenReturn(false);
+
+        // when
+        ResumableUploadResponse response = service.appendChunk(OWNER, UPLOAD_ID, 8, chunk(2), 2);
+
+        // then
+        assertEquals(10, response.offset());
+        assertNull(response.paperId());
+        verify(s3Service, never()).uploadPart(any(), anyInt(), any(), anyLong());
+        verify(s3Service, never()).completeMultipartUpload(any(), any());
+    }
+
+    private ResumableUpload upload(long length, long offset, List<String> partETags) {
+        // 테스트에서는 4바이트 청크 사용
+        return new ResumableUpload(OWNER, "a.pdf", "application/pdf", length, 4, MULTIPART, offset, partETags,
+                null);
+    }
+
+    private InputStream chunk(int size) {
+        return new ByteArrayInputStream(new byte[size]);
+    }
+}
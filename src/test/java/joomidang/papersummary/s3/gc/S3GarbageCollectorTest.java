@@ -0,0 +1,118 @@
+package joomidang.papersummary.s3.gc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+import joomidang.papersummary.paper.entity.Status;
+import joomidang.papersummary.paper.repository.PaperContentRepository;
+import joomidang.papersummary.paper.repository.PaperRepository;
+import joomidang.papersummary.s3.gc.S3GarbageCollector.SweepResult;
+import joomidang.papersummary.s3.service.ListedObject;
+import joomidang.papersummary.s3.service.ObjectPage;
+import joomidang.papersummary.s3.service.S3Service;
+import joomidang.papersummary.summary.repository.SummaryRepository;
+import joomidang.papersummary.summary.repository.SummaryVersionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class S3GarbageCollectorTest {
+    private static final String BASE_URL = "https://upload-bucket.s3.amazonaws.com/";
+
+    private S3Service s3Service;
+    private SummaryRepository summaryRepository;
+    private SummaryVersionRepository summaryVersionRepository;
+    private PaperContentRepository paperContentRepository;
+    private PaperRepository paperRepository;
+    private S3GarbageCollector garbageCollector;
+
+    private final Instant old = Instant.now().minus(Duration.ofDays(30));
+    private final Instant recent = Instant.now().minus(Duration.ofHours(1));
+
+    @BeforeEach
+    void setUp() {
+        s3Service = mock(S3Service.class);
+        summaryRepository = mock(SummaryRepository.class);
+        summaryVersionRepository = mock(SummaryVersionRepository.class);
+        paperContentRepository = mock(PaperContentRepository.class);
+        paperRepository = mock(PaperRepository.class);
+
+        S3GcProperties properties = new S3GcProperties();
+        properties.setGracePeriod(Duration.ofDays(7));
+        garbageCollector = new S3GarbageCollector(s3Service, summaryRepository, summaryVersionRepository,
+                paperContentRepository, paperRepository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                mock(StringRedisTemplate.class), new SimpleMeterRegistry(), properties);
+
+        when(summaryRepository.streamAllS3Keys()).thenReturn(Stream.of("summaries/1/publish-1.md"));
+        when(summaryVersionRepository.streamAllS3Keys()).thenReturn(Stream.of("summaries/1/draft-2.md"));
+        when(paperContentRepository.streamSummaryS3Keys()).thenReturn(Stream.of("summaries/contents/abc.md"));
+        when(paperRepository.streamReferencedFilePaths(eq(Status.UPLOADING), any()))
+                .thenReturn(Stream.of(BASE_URL + "papers/kept.pdf"));
+
+        when(s3Service.listMarkdownFiles(eq(S3GarbageCollector.SUMMARIES_PREFIX), isNull()))
+                .thenReturn(new ObjectPage(List.of(
+                        markdown("summaries/1/draft-0.md", old),
+                        markdown("summaries/1/draft-2.md", old),
+                        markdown("summaries/1/publish-1.md", old),
+                        markdown("summaries/1/draft-3.md", recent)), "next"));
+        when(s3Service.listMarkdownFiles(S3GarbageCollector.SUMMARIES_PREFIX, "next"))
+                .thenReturn(new ObjectPage(List.of(
+                        markdown("summaries/contents/abc.md", old),
+                        markdown("summaries/reused/9/summary-1.md", old)), null));
+        when(s3Service.listFiles(eq(S3GarbageCollector.PAPERS_PREFIX), isNull()))
+                .thenReturn(new ObjectPage(List.of(
+                        new ListedObject("papers/kept.pdf", BASE_URL + "papers/kept.pdf", 100, old),
+                        new ListedObject("papers/orphan.pdf", BASE_URL + "papers/orphan.pdf", 100, old)), null));
+        when(s3Service.deleteMarkdownFiles(anyList())).thenReturn(List.of());
+        when(s3Service.deleteFiles(anyList())).thenReturn(List.of());
+    }
+
+    @Test
+    @DisplayName("참조가 없고 유예 기간이 지난 객체만 페이지별로 삭제")
+    void runDeletesUnreferencedObjects() {
+        // when
+        List<SweepResult> results = garbageCollector.run(false);
+
+        // then
+        verify(s3Service).deleteMarkdownFiles(List.of("summaries/1/draft-0.md"));
+        verify(s3Service).deleteMarkdownFiles(List.of("summaries/reused/9/summary-1.md"));
+        verify(s3Service).deleteFiles(List.of(BASE_URL + "papers/orphan.pdf"));
+        assertThat(results).extracting(SweepResult::scanned).containsExactly(6L, 2L);
+        assertThat(results).extracting(SweepResult::deleted).containsExactly(2L, 1L);
+        verify(paperRepository).failAbandonedUploads(eq(Status.UPLOADING), eq(Status.FAILED), any());
+    }
+
+    @Test
+    @DisplayName("dry-run이면 삭제 대상만 집계하고 지우지 않음")
+    void dryRunDoesNotDelete() {
+        // when
+        List<SweepResult> results = garbageCollector.run(true);
+
+        // then
+        verify(s3Service, never()).deleteMarkdownFiles(anyList());
+        verify(s3Service, never()).deleteFiles(anyList());
+        assertThat(results).extracting(SweepResult::garbage).containsExactly(2L, 1L);
+        assertThat(results).extracting(SweepResult::deleted).containsExactly(0L, 0L);
+        verify(paperRepository, never()).failAbandonedUploads(any(), any(), any());
+    }
+
+    private ListedObject markdown(String key, Instant lastModified) {
+        return new ListedObject(key, "https://summary-bucket.s3.amazonaws.com/" + key, 10, lastModified);
+    }
+}
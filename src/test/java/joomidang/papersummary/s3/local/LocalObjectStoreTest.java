@@ -0,0 +1,130 @@
+package joomidang.papersummary.s3.local;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import joomidang.papersummary.common.util.ContentHash;
+import joomidang.papersummary.s3.service.StoredObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LocalObjectStoreTest {
+    private static final String BUCKET = "paper-upload";
+
+    @TempDir
+    Path rootDir;
+
+    private LocalObjectStore store;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        LocalS3Properties properties = new LocalS3Properties();
+        properties.setRootDir(rootDir.toString());
+        properties.setListPageSize(2);
+        store = new LocalObjectStore(properties);
+    }
+
+    @Test
+    @DisplayName("저장한 객체를 HEAD/읽기로 그대로 돌려줌")
+    void putAndRead() throws IOException {
+        // given
+        byte[] content = "hello".getBytes(StandardCharsets.UTF_8);
+
+        // when
+        store.put(BUCKET, "papers/a.pdf", content, "application/pdf");
+
+        // then
+        StoredObject stored = store.head(BUCKET, "papers/a.pdf").orElseThrow();
+        assertThat(stored.contentLength()).isEqualTo(5);
+        assertThat(stored.contentType()).isEqualTo("application/pdf");
+        assertThat(stored.checksumSha256()).isEqualTo(ContentHash.of(content));
+        try (InputStream inputStream = store.open(BUCKET, "papers/a.pdf")) {
+            assertThat(inputStream.readAllBytes()).isEqualTo(content);
+        }
+    }
+
+    @Test
+    @DisplayName("체크섬이 다르면 저장하지 않음")
+    void putRejectsChecksumMismatch() throws IOException {
+        // given
+        byte[] content = "hello".getBytes(StandardCharsets.UTF_8);
+
+        // when & then
+        assertThatThrownBy(() -> store.put(BUCKET, "papers/a.pdf", new ByteArrayInputStream(content),
+                content.length, "application/pdf", ContentHash.of("other".getBytes(StandardCharsets.UTF_8))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(store.head(BUCKET, "papers/a.pdf")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("목록은 키 순서로 페이지를 나누고 다음 토큰으로 이어서 조회")
+    void listPages() throws IOException {
+        // given
+        for (String key : List.of("papers/c", "papers/a", "papers/b", "summaries/x")) {
+            store.put(BUCKET, key, new byte[]{1}, null);
+        }
+
+        // when
+        LocalObjectStore.Page first = store.list(BUCKET, "papers/", null);
+        LocalObjectStore.Page second = store.list(BUCKET, "papers/", first.nextStartAfter());
+
+        // then
+        assertThat(first.entries()).extracting(LocalObjectStore.Entry::key).containsExactly("papers/a", "papers/b");
+        assertThat(second.entries()).extracting(LocalObjectStore.Entry::key).containsExactly("papers/c");
+        assertThat(second.nextStartAfter()).isNull();
+    }
+
+    @Test
+    @DisplayName("멀티파트 업로드는 파트를 번호 순서대로 합쳐 저장")
+    void multipartUpload() throws IOException {
+        // given
+        String uploadId = store.startUpload(BUCKET, "papers/big.pdf", "application/pdf");
+        String second = store.putPart(uploadId, 2, new ByteArrayInputStream(new byte[]{3, 4}), 2);
+        String first = store.putPart(uploadId, 1, new ByteArrayInputStream(new byte[]{1, 2}), 2);
+
+        // when
+        StoredObject stored = store.completeUpload(uploadId, List.of(first, second));
+
+        // then
+        assertThat(stored.contentLength()).isEqualTo(4);
+        try (InputStream inputStream = store.open(BUCKET, "papers/big.pdf")) {
+            assertThat(inputStream.readAllBytes()).isEqualTo(new byte[]{1, 2, 3, 4});
+        }
+    }
+
+    @Test
+    @DisplayName("같은 키에 동시에 써도 본문과 메타데이터가 한 번의 쓰기로 일치")
+    void concurrentPutsOnSameKey() throws Exception {
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 32; i++) {
+            byte[] content = ("content-" + i).repeat(100).getBytes(StandardCharsets.UTF_8);
+            futures.add(executor.submit(() -> store.put(BUCKET, "papers/same.pdf", content, null)));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // then
+        StoredObject stored = store.head(BUCKET, "papers/same.pdf").orElseThrow();
+        try (InputStream inputStream = store.open(BUCKET, "papers/same.pdf")) {
+            assertThat(ContentHash.of(inputStream.readAllBytes())).isEqualTo(stored.checksumSha256());
+        }
+    }
+}
@@ -4,8 +4,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
-import java.util.HashMap;
-import java.util.Map;
+import joomidang.papersummary.common.config.rabbitmq.StatsEvent;
 import joomidang.papersummary.common.config.rabbitmq.StatsType;
 import joomidang.papersummary.summary.service.SummaryStatsService;
 import org.junit.jupiter.api.BeforeEach;
@@ -27,11 +26,9 @@ class SummaryStatsConsumerTest {
     void consumeViewEvent() {
         // given
         Long summaryId = 1L;
-        Map<String, Object> payload = new HashMap<>();
-        payload.put("summaryId", summaryId);
-        payload.put("type", StatsType.VIEW.toString());
+        StatsEvent event = new StatsEvent(summaryId, StatsType.VIEW);
         // when
-        summaryStatsConsumer.consume(payload);
+        summaryStatsConsumer.consume(event);
         // then
         verify(summaryStatsService, times(1)).increaseViewCount(summaryId);
     }
@@ -0,0 +1,119 @@
+package joomidang.papersummary.summary.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import joomidang.papersummary.member.entity.Member;
+import joomidang.papersummary.member.service.MemberService;
+import joomidang.papersummary.summary.entity.Summary;
+import joomidang.papersummary.summary.repository.SummaryRepository;
+import joomidang.papersummary.summary.service.SummaryDraftBuffer.BufferedDraft;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class SummaryDraftFlusherTest {
+    private SummaryDraftBuffer summaryDraftBuffer;
+    private SummaryDraftService summaryDraftService;
+    private SummaryRepository summaryRepository;
+    private SummaryDraftFlusher flusher;
+    private Summary summary;
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        summaryDraftBuffer = mock(SummaryDraftBuffer.class);
+        summaryDraftService = mock(SummaryDraftService.class);
+        summaryRepository = mock(SummaryRepository.class);
+        MemberService memberService = mock(MemberService.class);
+        flusher = new SummaryDraftFlusher(summaryDraftBuffer, summaryDraftService, summaryRepository, memberService,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), new SummaryDraftProperties());
+
+        summary = mock(Summary.class);
+        member = mock(Member.class);
+        when(summaryRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(summary));
+        when(memberService.findByProviderUid("uid")).thenReturn(member);
+    }
+
+    @Test
+    @DisplayName("창이 지난 요약본은 버퍼의 최신 내용 하나만 반영하고 버퍼를 정리")
+    void flushDueSavesLatestOnce() {
+        // given
+        when(summaryDraftBuffer.dueSummaryIds(any(), anyInt())).thenReturn(List.of(1L));
+        when(summaryDraftBuffer.claim(eq(1L), any(), any(), eq(false))).thenReturn(true);
+        when(summaryDraftBuffer.find(1L)).thenReturn(Optional.of(
+                new BufferedDraft("uid", "제목", "# 최신 내용", 7, Instant.now())));
+        when(summaryDraftBuffer.release(1L, 7)).thenReturn(true);
+
+        // when
+        flusher.flushDue();
+
+        // then
+        verify(summaryDraftService, times(1)).saveDraft(summary, member, "제목", "# 최신 내용");
+        verify(summaryDraftBuffer).release(1L, 7);
+        verify(summaryDraftBuffer, never()).reschedule(any(), any());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 lease를 잡은 요약본은 반영하지 않음")
+    void flushDueSkipsWhenNotClaimed() {
+        // given
+        when(summaryDraftBuffer.dueSummaryIds(any(), anyInt())).thenReturn(List.of(1L));
+        when(summaryDraftBuffer.claim(eq(1L), any(), any(), eq(false))).thenReturn(false);
+
+        // when
+        flusher.flushDue();
+
+        // then
+        verify(summaryDraftBuffer, never()).find(any());
+        verify(summaryDraftService, never()).saveDraft(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 버퍼를 남기고 재시도 예약")
+    void flushReschedulesOnFailure() {
+        // given
+        when(summaryDraftBuffer.claim(eq(1L), any(), any(), eq(true))).thenReturn(true);
+        when(summaryDraftBuffer.find(1L)).thenReturn(Optional.of(
+                new BufferedDraft("uid", null, "# 내용", 3, Instant.now())));
+        when(summaryDraftService.saveDraft(summary, member, null, "# 내용"))
+                .thenThrow(new IllegalStateException("S3 오류"));
+
+        // when
+        boolean flushed = flusher.flush(1L);
+
+        // then
+        assertThat(flushed).isFalse();
+        verify(summaryDraftBuffer).reschedule(eq(1L), any());
+        verify(summaryDraftBuffer, never()).release(any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("행을 잠근 뒤 버퍼가 발행/삭제로 버려졌으면 반영하지 않음")
+    void flushSkipsDiscardedBuffer() {
+        // given
+        when(summaryDraftBuffer.claim(eq(1L), any(), any(), eq(true))).thenReturn(true);
+        when(summaryDraftBuffer.find(1L)).thenReturn(Optional.empty());
+
+        // when
+        boolean flushed = flusher.flush(1L);
+
+        // then
+        assertThat(flushed).isFalse();
+        verify(summaryDraftService, never()).saveDraft(any(), any(), any(), any());
+        verify(summaryDraftBuffer).forgetIfEmpty(1L);
+    }
+}
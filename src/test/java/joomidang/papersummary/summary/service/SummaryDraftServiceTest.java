@@ -0,0 +1,128 @@
+package joomidang.papersummary.summary.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import joomidang.papersummary.common.util.TextDelta;
+import joomidang.papersummary.member.entity.Member;
+import joomidang.papersummary.s3.service.S3Service;
+import joomidang.papersummary.summary.entity.Summary;
+import joomidang.papersummary.summary.entity.SummaryDraftDelta;
+import joomidang.papersummary.summary.repository.SummaryDraftDeltaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class SummaryDraftServiceTest {
+    private static final String BASE_KEY = "summaries/1/publish-100.md";
+
+    private SummaryDraftService summaryDraftService;
+    private SummaryDraftDeltaRepository summaryDraftDeltaRepository;
+    private SummaryVersionService summaryVersionService;
+    private S3Service s3Service;
+    private Summary summary;
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        summaryDraftDeltaRepository = mock(SummaryDraftDeltaRepository.class);
+        summaryVersionService = mock(SummaryVersionService.class);
+        s3Service = mock(S3Service.class);
+        SummaryDraftProperties properties = new SummaryDraftProperties();
+        properties.setCompactEvery(3);
+        summaryDraftService = new SummaryDraftService(summaryDraftDeltaRepository, mock(SummaryDraftBuffer.class),
+                summaryVersionService, s3Service, properties, true);
+
+        summary = mock(Summary.class);
+        when(summary.getId()).thenReturn(1L);
+        when(summary.getS3KeyMd()).thenReturn(BASE_KEY);
+        member = mock(Member.class);
+        when(summaryVersionService.findLatestDraft(1L)).thenReturn(Optional.empty());
+        when(s3Service.readMarkdown(BASE_KEY)).thenReturn("# 제목\n\n본문입니다.");
+    }
+
+    @Test
+    @DisplayName("임시 저장은 S3에 올리지 않고 변경 구간만 델타로 기록")
+    void saveDraftRecordsDelta() {
+        // given
+        SummaryDraftDelta previous = SummaryDraftDelta.of(1L, BASE_KEY, 1,
+                TextDelta.between("# 제목\n\n본문입니다.", "# 제목\n\n본문입니다. 추가"), "제목");
+        when(summaryDraftDeltaRepository.findBySummaryIdOrderBySeqAsc(1L)).thenReturn(List.of(previous));
+
+        // when
+        String baseKey = summaryDraftService.saveDraft(summary, member, "제목", "# 제목\n\n본문입니다. 추가 문장");
+
+        // then
+        assertEquals(BASE_KEY, baseKey);
+        ArgumentCaptor<SummaryDraftDelta> captor = ArgumentCaptor.forClass(SummaryDraftDelta.class);
+        verify(summaryDraftDeltaRepository).save(captor.capture());
+        assertEquals(2, captor.getValue().getSeq());
+        assertEquals(" 문장", captor.getValue().getInsertedText());
+        verify(s3Service, never()).saveMarkdownToS3(anyString(), anyString());
+        verify(summaryVersionService, never()).createDraftVersion(any(), anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("델타가 기준 개수에 도달하면 최신 내용을 새 스냅샷으로 합치고 델타 삭제")
+    void saveDraftCompactsDeltas() {
+        // given
+        List<SummaryDraftDelta> deltas = new ArrayList<>();
+        String content = "# 제목\n\n본문입니다.";
+        for (int seq = 1; seq <= 2; seq++) {
+            String next = content + seq;
+            deltas.add(SummaryDraftDelta.of(1L, BASE_KEY, seq, TextDelta.between(content, next), "제목"));
+            content = next;
+        }
+        when(summaryDraftDeltaRepository.findBySummaryIdOrderBySeqAsc(1L)).thenReturn(deltas);
+
+        // when
+        String baseKey = summaryDraftService.saveDraft(summary, member, "제목", content + "3");
+
+        // then
+        verify(s3Service, times(1)).saveMarkdownToS3(eq(baseKey), eq("# 제목\n\n본문입니다.123"));
+        verify(summaryVersionService, times(1)).createDraftVersion(summary, baseKey, "제목", member);
+        verify(summaryDraftDeltaRepository, times(1)).deleteAllBySummaryId(1L);
+        verify(summaryDraftDeltaRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("스냅샷과 내용이 같으면 빈 델타를 기록하지 않음")
+    void saveDraftSkipsEmptyDelta() {
+        // given
+        when(summaryDraftDeltaRepository.findBySummaryIdOrderBySeqAsc(1L)).thenReturn(List.of());
+
+        // when
+        String baseKey = summaryDraftService.saveDraft(summary, member, "제목", "# 제목\n\n본문입니다.");
+
+        // then
+        assertEquals(BASE_KEY, baseKey);
+        verify(summaryDraftDeltaRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("편집 조회 시 스냅샷에 델타를 적용한 내용을 재구성")
+    void findPendingContentReconstructs() {
+        // given
+        String edited = "# 새 제목 😀\n\n본문입니다.";
+        when(summaryDraftDeltaRepository.findBySummaryIdOrderBySeqAsc(1L)).thenReturn(List.of(
+                SummaryDraftDelta.of(1L, BASE_KEY, 1, TextDelta.between("# 제목\n\n본문입니다.", edited), "새 제목")));
+
+        // when
+        Optional<String> content = summaryDraftService.findPendingContent(1L, BASE_KEY);
+
+        // then
+        assertEquals(Optional.of(edited), content);
+        assertEquals(Optional.empty(), summaryDraftService.findPendingContent(1L, "summaries/1/draft-200.md"));
+    }
+}
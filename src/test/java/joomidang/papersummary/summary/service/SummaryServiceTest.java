@@ -10,6 +10,7 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -25,9 +26,11 @@ import joomidang.papersummary.common.config.rabbitmq.StatsEventPublisher;
 import joomidang.papersummary.member.entity.Member;
 import joomidang.papersummary.member.exception.MemberNotFoundException;
 import joomidang.papersummary.member.service.MemberService;
+import joomidang.papersummary.member.service.ProfileImageUrlResolver;
 import joomidang.papersummary.paper.entity.Paper;
 import joomidang.papersummary.paper.exception.AccessDeniedException;
 import joomidang.papersummary.paper.service.PaperService;
+import joomidang.papersummary.s3.service.S3FileDeleter;
 import joomidang.papersummary.s3.service.S3Service;
 import joomidang.papersummary.summary.controller.request.SummaryEditRequest;
 import joomidang.papersummary.summary.controller.response.AuthorResponse;
@@ -70,10 +73,13 @@ public class SummaryServiceTest {
     private MemberService memberService;
     private S3Service s3Service;
     private SummaryVersionService summaryVersionService;
+    private SummaryDraftService summaryDraftService;
+    private SummaryDraftFlusher summaryDraftFlusher;
     private SummaryLikeService summaryLikeService;
     private TagService tagService;
     private ElasticsearchSummaryService elasticsearchSummaryService;
     private StatsEventPublisher statsEventPublisher;
+    private S3FileDeleter s3FileDeleter;
 
     @BeforeEach
     void setUp() {
@@ -84,10 +90,14 @@ public class SummaryServiceTest {
         memberService = mock(MemberService.class);
         s3Service = mock(S3Service.class);
         summaryVersionService = mock(SummaryVersionService.class);
+        summaryDraftService = mock(SummaryDraftService.class);
+        summaryDraftFlusher = mock(SummaryDraftFlusher.class);
         summaryLikeService = mock(SummaryLikeService.class);
         tagService = mock(TagService.class);
         elasticsearchSummaryService = mock(ElasticsearchSummaryService.class);
         statsEventPublisher = mock(StatsEventPublisher.class);
+        s3FileDeleter = mock(S3FileDeleter.class);
+        when(s3Service.fileUrl("")).thenReturn("https://upload-bucket.s3.amazonaws.com/");
 
         summaryService = new SummaryService(
                 paperService,
@@ -97,10 +107,14 @@ public class SummaryServiceTest {
                 memberService,
                 s3Service,
                 summaryVersionService,
+                summaryDraftService,
+                Optional.of(summaryDraftFlusher),
                 summaryLikeService,
                 tagService,
                 elasticsearchSummaryService,
-                statsEventPublisher
+                statsEventPublisher,
+                s3FileDeleter,
+                new ProfileImageUrlResolver(s3Service)
         );
 
     }
@@ -369,8 +383,11 @@ public class SummaryServiceTest {
         when(mockSummary.isNotSameMemberId(1L)).thenReturn(false);
         when(summaryRepository.findByIdWithoutStats(summaryId)).thenReturn(Optional.of(mockSummary));
 
-        String markdownUrl = "https://.../draft-123.md";
-        when(s3Service.saveMarkdownToS3(anyString(), eq(request.markdownContent()))).thenReturn(markdownUrl);
+        SummaryVersion latestDraft = mock(SummaryVersion.class);
+        when(latestDraft.getS3KeyMd()).thenReturn("summaries/1/draft-123.md");
+        when(summaryVersionService.findLatestDraft(summaryId)).thenReturn(Optional.of(latestDraft));
+        when(summaryDraftService.bufferDraft(summaryId, providerUid, request.title(), request.markdownContent()))
+                .thenReturn(true);
 
         SummaryEditResponse response = summaryService.saveSummaryEdit(providerUid, summaryId, request);
 
@@ -378,11 +395,47 @@ public class SummaryServiceTest {
         assertNotNull(response);
         assertEquals(summaryId, response.getSummaryId());
         assertEquals(PublishStatus.DRAFT, response.getStatus());
-        assertEquals(markdownUrl, response.getMarkdownUrl());
+        assertEquals("https://paper-dev-test-magic-pdf-output.s3.ap-northeast-2.amazonaws.com/summaries/1/draft-123.md",
+                response.getMarkdownUrl());
+        assertEquals(request.markdownContent(), response.getMarkdownContent());
 
         verify(summaryRepository, times(1)).findByIdWithoutStats(summaryId);
-        verify(summaryVersionService, times(1)).createDraftVersion(eq(mockSummary), anyString(), eq(request.title()),
-                eq(mockMember));
+        verify(summaryDraftService, times(1)).bufferDraft(summaryId, providerUid, request.title(),
+                request.markdownContent());
+        verify(summaryDraftService, never()).saveDraft(any(), any(), any(), any());
+        verify(s3Service, never()).saveMarkdownToS3(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Redis 버퍼를 쓸 수 없으면 편집 내용을 바로 반영")
+    void saveSummaryEditFallsBackToDirectSave() {
+        //given
+        String providerUid = "test-provider-uid";
+        Long summaryId = 1L;
+        SummaryEditRequest request = new SummaryEditRequest(
+                "Updated Title",
+                "Updated Brief",
+                "Updated markdown content",
+                Collections.emptyList()
+        );
+
+        Member mockMember = mock(Member.class);
+        when(mockMember.getId()).thenReturn(1L);
+        when(memberService.findByProviderUid(providerUid)).thenReturn(mockMember);
+
+        Summary mockSummary = mock(Summary.class);
+        when(mockSummary.getId()).thenReturn(summaryId);
+        when(mockSummary.isNotSameMemberId(1L)).thenReturn(false);
+        when(summaryRepository.findByIdWithoutStats(summaryId)).thenReturn(Optional.of(mockSummary));
+        when(summaryDraftService.bufferDraft(summaryId, providerUid, request.title(), request.markdownContent()))
+                .thenReturn(false);
+
+        //when
+        summaryService.saveSummaryEdit(providerUid, summaryId, request);
+
+        //then
+        verify(summaryDraftService, times(1)).saveDraft(mockSummary, mockMember, request.title(),
+                request.markdownContent());
     }
 
 
@@ -409,7 +462,7 @@ public class SummaryServiceTest {
         when(mockSummary.getTitle()).thenReturn("Published Title");
         when(mockSummary.getUpdatedAt()).thenReturn(LocalDateTime.now());
         when(mockSummary.isNotSameMemberId(1L)).thenReturn(false);
-        when(summaryRepository.findByIdWithoutStats(summaryId)).thenReturn(Optional.of(mockSummary));
+        when(summaryRepository.findByIdForUpdate(summaryId)).thenReturn(Optional.of(mockSummary));
         when(summaryRepository.save(mockSummary)).thenReturn(mockSummary);
 
         String markdownUrl = "https://.../publish-123.md";
@@ -423,11 +476,12 @@ public class SummaryServiceTest {
         assertEquals(markdownUrl, response.markdownUrl());
         assertEquals("Published Title", response.title());
 
-        verify(summaryRepository, times(1)).findByIdWithoutStats(summaryId);
+        verify(summaryRepository, times(1)).findByIdForUpdate(summaryId);
         verify(summaryVersionService, times(1)).createPublishedVersion(eq(mockSummary), anyString(),
                 eq(request.title()), eq(mockMember));
         verify(mockSummary, times(1)).publish(eq(request.title()), eq(request.brief()), anyString());
         verify(summaryRepository, times(1)).save(mockSummary);
+        verify(summaryDraftService, times(1)).discardDrafts(summaryId);
     }
 
     @Test
@@ -485,12 +539,12 @@ public class SummaryServiceTest {
         when(mockSummary.getId()).thenReturn(summaryId);
         when(mockMember.getId()).thenReturn(1L);
         when(mockSummary.isNotSameMemberId(mockMember.getId())).thenReturn(false);
-        when(summaryRepository.findByIdWithoutStats(summaryId)).thenReturn(Optional.of(mockSummary));
+        when(summaryRepository.findByIdForUpdate(summaryId)).thenReturn(Optional.of(mockSummary));
         when(summaryRepository.save(mockSummary)).thenReturn(mockSummary);
 
         summaryService.deleteSummary(providerUid, summaryId);
 
-        verify(summaryRepository, times(1)).findByIdWithoutStats(summaryId);
+        verify(summaryRepository, times(1)).findByIdForUpdate(summaryId);
         verify(summaryVersionService, times(1)).deleteAllVersionBySummary(mockSummary);
         verify(mockSummary, times(1)).softDelete();
         verify(summaryRepository, times(1)).save(mockSummary);
@@ -508,7 +562,7 @@ public class SummaryServiceTest {
 
         Summary summary = mock(Summary.class);
         when(summary.isNotSameMemberId(1L)).thenReturn(false);
-        when(summaryRepository.findByIdWithoutStats(summaryId)).thenReturn(Optional.of(summary));
+        when(summaryRepository.findByIdForUpdate(summaryId)).thenReturn(Optional.of(summary));
 
         // when
         summaryService.deleteSummary(providerUid, summaryId);
@@ -533,11 +587,11 @@ public class SummaryServiceTest {
 
         Summary mockSummary = mock(Summary.class);
         when(mockSummary.isNotSameMemberId(1L)).thenReturn(true);
-        when(summaryRepository.findByIdWithoutStats(summaryId)).thenReturn(Optional.of(mockSummary));
+        when(summaryRepository.findByIdForUpdate(summaryId)).thenReturn(Optional.of(mockSummary));
 
         assertThrows(AccessDeniedException.class, () -> summaryService.deleteSummary(providerUid, summaryId));
         verify(memberService, times(1)).findByProviderUid(providerUid);
-        verify(summaryRepository, times(1)).findByIdWithoutStats(summaryId);
+        verify(summaryRepository, times(1)).findByIdForUpdate(summaryId);
     }
 
     @Test
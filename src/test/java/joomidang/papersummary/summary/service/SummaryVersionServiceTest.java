@@ -4,19 +4,18 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 import joomidang.papersummary.member.entity.Member;
-import joomidang.papersummary.s3.service.S3Service;
+import joomidang.papersummary.s3.service.S3FileDeleter;
 import joomidang.papersummary.summary.entity.Summary;
 import joomidang.papersummary.summary.entity.SummaryVersion;
 import joomidang.papersummary.summary.entity.VersionType;
@@ -30,13 +29,13 @@ public class SummaryVersionServiceTest {
 
     private SummaryVersionService summaryVersionService;
     private SummaryVersionRepository summaryVersionRepository;
-    private S3Service s3Service;
+    private S3FileDeleter s3FileDeleter;
 
     @BeforeEach
     void setUp() {
         summaryVersionRepository = mock(SummaryVersionRepository.class);
-        s3Service = mock(S3Service.class);
-        summaryVersionService = new SummaryVersionService(summaryVersionRepository, s3Service);
+        s3FileDeleter = mock(S3FileDeleter.class);
+        summaryVersionService = new SummaryVersionService(summaryVersionRepository, s3FileDeleter);
     }
 
     @Test
@@ -177,54 +176,43 @@ public class SummaryVersionServiceTest {
         Summary mockSummary = mock(Summary.class);
         when(mockSummary.getId()).thenReturn(1L);
 
-        // Create mock draft versions
-        SummaryVersion draftVersion1 = mock(SummaryVersion.class);
-        when(draftVersion1.getId()).thenReturn(1L);
-        when(draftVersion1.getS3KeyMd()).thenReturn("draft-s3-key-1.md");
-        when(draftVersion1.getVersionType()).thenReturn(VersionType.DRAFT);
+        List<String> s3Keys = List.of("draft-s3-key-1.md", "draft-s3-key-2.md", "published-s3-key.md");
+        when(summaryVersionRepository.findS3KeysBySummaryId(1L)).thenReturn(s3Keys);
+        when(summaryVersionRepository.deleteAllBySummaryId(1L)).thenReturn(3);
 
-        SummaryVersion draftVersion2 = mock(SummaryVersion.class);
-        when(draftVersion2.getId()).thenReturn(2L);
-        when(draftVersion2.getS3KeyMd()).thenReturn("draft-s3-key-2.md");
-        when(draftVersion2.getVersionType()).thenReturn(VersionType.DRAFT);
-
-        List<SummaryVersion> draftVersions = Arrays.asList(draftVersion1, draftVersion2);
-
-        // Create mock published versions
-        SummaryVersion publishedVersion = mock(SummaryVersion.class);
-        when(publishedVersion.getId()).thenReturn(3L);
-        when(publishedVersion.getS3KeyMd()).thenReturn("published-s3-key.md");
-        when(publishedVersion.getVersionType()).thenReturn(VersionType.PUBLISHED);
+        // when
+        summaryVersionService.deleteAllVersionBySummary(mockSummary);
 
-        List<SummaryVersion> publishedVersions = Arrays.asList(publishedVersion);
+        // then
+        verify(summaryVersionRepository, times(1)).deleteAllBySummaryId(1L);
+        verify(summaryVersionRepository, never()).delete(any(SummaryVersion.class));
+        verify(s3FileDeleter, times(1)).deleteMarkdownAfterCommit(s3Keys);
+    }
 
-        // Mock repository responses
-        when(summaryVersionRepository.findBySummaryAndVersionTypeOrderByCreatedAtDesc(
-                mockSummary, VersionType.DRAFT)).thenReturn(draftVersions);
-        when(summaryVersionRepository.findBySummaryAndVersionTypeOrderByCreatedAtDesc(
-                mockSummary, VersionType.PUBLISHED)).thenReturn(publishedVersions);
+    @Test
+    @DisplayName("DRAFT 버전이 5개를 넘으면 오래된 버전을 한 번에 삭제")
+    void createDraftVersionDeletesExcessDraftsInBatch() {
+        // given
+        Summary mockSummary = mock(Summary.class);
+        when(mockSummary.getId()).thenReturn(1L);
+        Member mockMember = mock(Member.class);
 
-        // Mock S3 service
-        doNothing().when(s3Service).deleteFile(anyString());
+        List<SummaryVersion> drafts = new ArrayList<>();
+        for (long id = 7; id >= 1; id--) {
+            SummaryVersion draft = mock(SummaryVersion.class);
+            when(draft.getId()).thenReturn(id);
+            when(draft.getS3KeyMd()).thenReturn("draft-" + id + ".md");
+            drafts.add(draft);
+        }
+        when(summaryVersionRepository.findMaxRevision(1L)).thenReturn(Optional.of(6));
+        when(summaryVersionRepository.findBySummaryAndVersionTypeOrderByCreatedAtDesc(mockSummary, VersionType.DRAFT))
+                .thenReturn(drafts);
 
         // when
-        summaryVersionService.deleteAllVersionBySummary(mockSummary);
+        summaryVersionService.createDraftVersion(mockSummary, "draft-7.md", "Test Title", mockMember);
 
         // then
-        // Verify repository calls
-        verify(summaryVersionRepository, times(1))
-                .findBySummaryAndVersionTypeOrderByCreatedAtDesc(mockSummary, VersionType.DRAFT);
-        verify(summaryVersionRepository, times(1))
-                .findBySummaryAndVersionTypeOrderByCreatedAtDesc(mockSummary, VersionType.PUBLISHED);
-
-        // Verify S3 file deletions
-        verify(s3Service, times(1)).deleteFile("draft-s3-key-1.md");
-        verify(s3Service, times(1)).deleteFile("draft-s3-key-2.md");
-        verify(s3Service, times(1)).deleteFile("published-s3-key.md");
-
-        // Verify version deletions
-        verify(summaryVersionRepository, times(1)).delete(draftVersion1);
-        verify(summaryVersionRepository, times(1)).delete(draftVersion2);
-        verify(summaryVersionRepository, times(1)).delete(publishedVersion);
+        verify(summaryVersionRepository, times(1)).deleteAllByIds(List.of(2L, 1L));
+        verify(s3FileDeleter, times(1)).deleteMarkdownAfterCommit(List.of("draft-2.md", "draft-1.md"));
     }
 }